@@ -0,0 +1,66 @@
+package com.nustconnect.backend.Config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// Wraps the application DataSource in datasource-proxy and hands every executed statement, with its
+// timing and parameters, to the QueryExecutionListener beans (the slow-query log, and SQL capture
+// when sql.capture.enabled). Only the bean named dataSource is wrapped: with a read replica the pools
+// behind it are beans too, and wrapping them as well would report every statement twice.
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyWrapper(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new BeanListeners(listeners))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Looked up on first use: the DataSource is created before most of the beans that listen to it
+    private static class BeanListeners implements QueryExecutionListener {
+
+        private final ObjectProvider<QueryExecutionListener> provider;
+        private volatile List<QueryExecutionListener> listeners;
+
+        private BeanListeners(ObjectProvider<QueryExecutionListener> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<QueryExecutionListener> current = listeners;
+            if (current == null) {
+                current = provider.orderedStream().toList();
+                listeners = current;
+            }
+            for (QueryExecutionListener listener : current) {
+                listener.afterQuery(execInfo, queryInfoList);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nustconnect.backend.Config;
+
+import org.hibernate.SessionEventListener;
+
+// Registered through hibernate.session.events.auto, so Hibernate creates one per session.
+// Times every statement and batch the session executes and adds it to the request's counters.
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+}
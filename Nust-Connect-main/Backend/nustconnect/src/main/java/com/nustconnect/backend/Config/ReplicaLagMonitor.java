@@ -0,0 +1,117 @@
+package com.nustconnect.backend.Config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+// Checks the replica every datasource.replica.check-interval-ms and decides whether reads may go
+// there: it must answer, and on MySQL its replication delay must be within max-lag-ms. A database
+// that isn't replicating from anything (a second local database in development, or H2) counts as
+// having no lag. The replica starts out unusable until the first check passes.
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagMs;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private volatile boolean usable;
+    // -1 while the replica can't be reached or replication is stopped
+    private volatile long lagMs = -1;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("nustconnect.datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .baseUnit("milliseconds")
+                .description("Replication delay of the read replica, -1 when unavailable")
+                .register(meterRegistry);
+        Gauge.builder("nustconnect.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    void setRoutingDataSource(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval-ms:1000}")
+    public void check() {
+        long lag;
+        try {
+            lag = measureLagMs();
+        } catch (SQLException e) {
+            markUnavailable(e);
+            return;
+        } finally {
+            if (routingDataSource != null) {
+                routingDataSource.pruneRecentWriters();
+            }
+        }
+        boolean nowUsable = lag >= 0 && lag <= maxLagMs;
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                log.info("Read replica is usable again (lag {} ms)", lag);
+            } else {
+                log.warn("Read replica is {}; reads go to the primary",
+                        lag < 0 ? "not replicating" : "lagging by " + lag + " ms");
+            }
+        }
+        lagMs = lag;
+        usable = nowUsable;
+    }
+
+    void markUnavailable(SQLException cause) {
+        if (usable) {
+            log.warn("Read replica is unavailable, reads go to the primary: {}", cause.getMessage());
+        }
+        usable = false;
+        lagMs = -1;
+    }
+
+    private long measureLagMs() throws SQLException {
+        try (Connection connection = replica.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            if (!product.contains("mysql")) {
+                if (!connection.isValid(2)) {
+                    throw new SQLException("Replica connection is not valid");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement()) {
+                try {
+                    return readMysqlLag(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+                } catch (SQLException e) {
+                    // Before MySQL 8.0.22
+                    return readMysqlLag(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+                }
+            }
+        }
+    }
+
+    // No row means the server isn't a replica at all; a null delay means replication has stopped
+    private static long readMysqlLag(Statement statement, String sql, String column) throws SQLException {
+        try (ResultSet status = statement.executeQuery(sql)) {
+            if (!status.next()) {
+                return 0;
+            }
+            long seconds = status.getLong(column);
+            return status.wasNull() ? -1 : seconds * 1000;
+        }
+    }
+}
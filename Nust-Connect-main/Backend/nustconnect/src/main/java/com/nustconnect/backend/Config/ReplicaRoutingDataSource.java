@@ -0,0 +1,136 @@
+package com.nustconnect.backend.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Sends read-only transactions to the replica and everything else to the primary. Reads stay on the
+// primary while the replica is down or lagging (see ReplicaLagMonitor), and for a short window after
+// the current user commits a write, so they see their own changes. The routing decision is made when
+// a connection is first used, which needs the LazyConnectionDataSourceProxy in front (see
+// ReplicaRoutingConfig).
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesNanos;
+    private final MeterRegistry meterRegistry;
+
+    // User -> System.nanoTime() until which their reads go to the primary
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    long readYourWritesMs, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Target target = route();
+        if (target == Target.PRIMARY) {
+            return resolvedPrimary().getConnection();
+        }
+        try {
+            return resolvedReplica().getConnection();
+        } catch (SQLException e) {
+            // Don't wait for the next lag check to stop using a replica that just went away
+            lagMonitor.markUnavailable(e);
+            count(Target.PRIMARY, "replica-error");
+            return resolvedPrimary().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return resolvedPrimary().getConnection(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Target route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Lazy loading after the transaction, schema updates and other auto-commit work
+            return count(Target.PRIMARY, "no-transaction");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriter();
+            return count(Target.PRIMARY, "read-write");
+        }
+        if (!lagMonitor.isUsable()) {
+            return count(Target.PRIMARY, "replica-lagging");
+        }
+        String user = currentUser();
+        if (user != null) {
+            Long until = recentWriters.get(user);
+            if (until != null) {
+                if (System.nanoTime() - until < 0) {
+                    return count(Target.PRIMARY, "read-your-writes");
+                }
+                recentWriters.remove(user, until);
+            }
+        }
+        return count(Target.REPLICA, "read-only");
+    }
+
+    // Drops windows that have run out; called from the lag check so the map can't grow unbounded
+    void pruneRecentWriters() {
+        long now = System.nanoTime();
+        recentWriters.values().removeIf(until -> now - until >= 0);
+    }
+
+    private void rememberWriter() {
+        String user = currentUser();
+        if (user == null || readYourWritesNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, System.nanoTime() + readYourWritesNanos);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private Target count(Target target, String reason) {
+        meterRegistry.counter("nustconnect.datasource.routing", "target", target.name().toLowerCase(),
+                "reason", reason).increment();
+        return target;
+    }
+
+    private DataSource resolvedPrimary() {
+        return getResolvedDataSources().get(Target.PRIMARY);
+    }
+
+    private DataSource resolvedReplica() {
+        return getResolvedDataSources().get(Target.REPLICA);
+    }
+}
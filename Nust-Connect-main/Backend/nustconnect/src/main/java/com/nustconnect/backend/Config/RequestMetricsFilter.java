@@ -0,0 +1,98 @@
+package com.nustconnect.backend.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+// Runs ahead of the security chain so the JWT user lookup is counted with the request
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+
+    // Requests at least this slow are logged at INFO and kept in the slow log; the rest are logged at DEBUG
+    @Value("${metrics.request-log.slow-ms:500}")
+    private long slowMs;
+
+    // A statement repeated this often in one request is logged as a likely N+1; needs sql.capture.enabled
+    @Value("${sql.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            RequestQueryStats.clear();
+            record(request, response, stats, elapsedMs);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestQueryStats stats, long elapsedMs) {
+        // Tagged with the route template, not the raw path, to keep the series count bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("nustconnect.http.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("nustconnect.http.sql.time")
+                .description("Time spent executing SQL per HTTP request")
+                .baseUnit("milliseconds")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos() / 1_000_000.0);
+
+        if (nPlusOneThreshold > 0 && !stats.getCapturedSql().isEmpty()) {
+            for (Map.Entry<String, Integer> repeated : stats.getRepeatedStatements(nPlusOneThreshold).entrySet()) {
+                log.warn("Possible N+1 on {} {}: {} executions of {}", request.getMethod(), uri,
+                        repeated.getValue(), repeated.getKey());
+            }
+        }
+
+        if (elapsedMs >= slowMs) {
+            slowQueryLog.recordRequest(request, response.getStatus(), elapsedMs, stats);
+            log.info("{} {} -> {} in {} ms ({} SQL statements, {} ms SQL)", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), elapsedMs, stats.getStatements(), stats.getElapsedMillis());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} -> {} in {} ms ({} SQL statements, {} ms SQL)", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), elapsedMs, stats.getStatements(), stats.getElapsedMillis());
+        }
+    }
+}
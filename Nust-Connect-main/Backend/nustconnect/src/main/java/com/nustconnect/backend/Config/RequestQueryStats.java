@@ -0,0 +1,104 @@
+package com.nustconnect.backend.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// SQL statements run on the current thread while a request is being served. RequestMetricsFilter
+// opens one per request and QueryCountingSessionListener adds to it; outside a request there is none.
+// With sql.capture.enabled the statement text is kept as well (see SqlCaptureConfig).
+public final class RequestQueryStats {
+
+    // Request attribute holding the stats, so tests can read them back from a MockMvc result
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final int MAX_CAPTURED = 1000;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\((?:\\s*\\?\\s*,)*\\s*\\?\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long elapsedNanos;
+    private final List<String> capturedSql = new ArrayList<>();
+    private boolean captureTruncated;
+
+    private RequestQueryStats() {
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void record(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    void capture(String sql) {
+        if (capturedSql.size() < MAX_CAPTURED) {
+            capturedSql.add(sql);
+        } else {
+            captureTruncated = true;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    // Empty unless SQL capture is enabled
+    public List<String> getCapturedSql() {
+        return Collections.unmodifiableList(capturedSql);
+    }
+
+    public boolean isCaptureTruncated() {
+        return captureTruncated;
+    }
+
+    // Statements that ran at least threshold times once literals and IN lists are ignored, most
+    // repeated first. One statement repeating per row of an earlier result is the N+1 signature.
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String sql : capturedSql) {
+            counts.merge(normalize(sql), 1, Integer::sum);
+        }
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+        return IN_LIST.matcher(normalized).replaceAll("in (...)");
+    }
+}
@@ -0,0 +1,207 @@
+package com.nustconnect.backend.Config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nustconnect.backend.Services.JwtService;
+import jakarta.servlet.http.HttpServletRequest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+// Keeps only what was slow: statements over slow-log.sql-threshold-ms (reported by
+// DataSourceProxyConfig) and requests over metrics.request-log.slow-ms (reported by
+// RequestMetricsFilter). Entries go to a bounded in-memory ring, read through /api/admin/slow-log,
+// and as JSON lines to the nustconnect.slow-log logger, which logback-spring.xml writes to a rolling
+// file off the request thread. Parameters are recorded by type and length only, never by value.
+@Component
+public class SlowQueryLog implements QueryExecutionListener {
+
+    private static final Logger FILE_LOG = LoggerFactory.getLogger("nustconnect.slow-log");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SQL_LENGTH = 4000;
+    private static final String APPLICATION_PACKAGE = "com.nustconnect.backend.";
+    private static final String CONFIG_PACKAGE = "com.nustconnect.backend.Config.";
+
+    public enum Type { SQL, REQUEST }
+
+    // Request entries have no sql, parameters or stack; SQL entries have no status or statement count
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Entry(Type type, LocalDateTime at, long durationMs, String method, String endpoint, Long userId,
+                        String sql, List<String> parameters, Integer batchSize, Integer status,
+                        Integer statements, Long sqlMs, List<String> stack) {
+    }
+
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final long sqlThresholdMs;
+    private final int ringSize;
+    private final int stackDepth;
+
+    private final Deque<Entry> ring = new ArrayDeque<>();
+
+    public SlowQueryLog(JwtService jwtService, ObjectMapper objectMapper,
+                        @Value("${slow-log.sql-threshold-ms:100}") long sqlThresholdMs,
+                        @Value("${slow-log.ring-size:500}") int ringSize,
+                        @Value("${slow-log.stack-depth:8}") int stackDepth) {
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.sqlThresholdMs = sqlThresholdMs;
+        this.ringSize = Math.max(1, ringSize);
+        this.stackDepth = stackDepth;
+    }
+
+    // ==================== CAPTURE ====================
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < sqlThresholdMs || queryInfoList.isEmpty()) {
+            return;
+        }
+        HttpServletRequest request = currentRequest();
+        QueryInfo first = queryInfoList.get(0);
+        int batchSize = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), queryInfoList.size()) : 1;
+        add(new Entry(Type.SQL, LocalDateTime.now(), execInfo.getElapsedTime(),
+                request != null ? request.getMethod() : null, endpoint(request), userId(request),
+                abbreviate(first.getQuery()), parameterShapes(first), batchSize, null, null, null, callerStack()));
+    }
+
+    public void recordRequest(HttpServletRequest request, int status, long elapsedMs, RequestQueryStats stats) {
+        add(new Entry(Type.REQUEST, LocalDateTime.now(), elapsedMs, request.getMethod(), endpoint(request),
+                userId(request), null, null, null, status, stats.getStatements(), stats.getElapsedMillis(), null));
+    }
+
+    // ==================== READ ====================
+    // Newest first; type null means both kinds
+    public synchronized List<Entry> getRecent(Type type, int limit) {
+        List<Entry> entries = new ArrayList<>();
+        Iterator<Entry> newestFirst = ring.descendingIterator();
+        while (newestFirst.hasNext() && entries.size() < limit) {
+            Entry entry = newestFirst.next();
+            if (type == null || entry.type() == type) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    public synchronized void clear() {
+        ring.clear();
+    }
+
+    // ==================== HELPER METHODS ====================
+    private void add(Entry entry) {
+        synchronized (this) {
+            if (ring.size() == ringSize) {
+                ring.removeFirst();
+            }
+            ring.addLast(entry);
+        }
+        if (FILE_LOG.isInfoEnabled()) {
+            try {
+                FILE_LOG.info(objectMapper.writeValueAsString(entry));
+            } catch (JsonProcessingException e) {
+                FILE_LOG.warn("Could not serialize slow-log entry: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+
+    // The route template once a handler is chosen, so entries for /api/posts/7 and /api/posts/8 group together
+    private static String endpoint(HttpServletRequest request) {
+        if (request == null) {
+            return null;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    // Read from the token only for slow entries. Parsing checks the signature and expiry, so a forged
+    // token gives no user; this also works after the security context has been cleared
+    private Long userId(HttpServletRequest request) {
+        String header = request != null ? request.getHeader("Authorization") : null;
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtService.extractUserId(header.substring(7));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String collapsed = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        return collapsed.length() <= MAX_SQL_LENGTH ? collapsed : collapsed.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    // "Long", "String(23)", "null" per placeholder, in placeholder order, from the first row of a batch
+    private static List<String> parameterShapes(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, String> shapes = new TreeMap<>();
+        for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+            Object[] args = operation.getArgs();
+            if (args.length < 2 || !(args[0] instanceof Integer index)) {
+                continue;
+            }
+            shapes.put(index, ParameterSetOperation.isSetNullParameterOperation(operation) ? "null" : shape(args[1]));
+        }
+        return new ArrayList<>(shapes.values());
+    }
+
+    private static String shape(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    // Application frames only, innermost first, skipping Spring proxies and this package's plumbing
+    private List<String> callerStack() {
+        if (stackDepth <= 0) {
+            return List.of();
+        }
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .limit(stackDepth)
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+    }
+}
@@ -0,0 +1,40 @@
+package com.nustconnect.backend.Config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Dev and test only: keeps the text of every statement a request runs in its RequestQueryStats,
+// for the N+1 warnings and the tests' query budgets (statements arrive through DataSourceProxyConfig)
+@Configuration
+@ConditionalOnProperty(name = "sql.capture.enabled", havingValue = "true")
+public class SqlCaptureConfig {
+
+    @Bean
+    public QueryExecutionListener sqlCaptureListener() {
+        return new CaptureListener();
+    }
+
+    private static class CaptureListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = RequestQueryStats.current();
+            if (stats == null) {
+                return;
+            }
+            for (QueryInfo query : queryInfoList) {
+                stats.capture(query.getQuery());
+            }
+        }
+    }
+}
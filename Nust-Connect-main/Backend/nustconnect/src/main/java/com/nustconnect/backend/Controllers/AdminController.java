@@ -0,0 +1,165 @@
+package com.nustconnect.backend.Controllers;
+
+import com.nustconnect.backend.Config.SlowQueryLog;
+import com.nustconnect.backend.DTOs.Report.ScreeningStatusDTO;
+import com.nustconnect.backend.DTOs.Stats.AdminStatsResponseDTO;
+import com.nustconnect.backend.DTOs.Stats.DailyStatsDTO;
+import com.nustconnect.backend.DTOs.Stats.DepartmentStatsDTO;
+import com.nustconnect.backend.DTOs.Stats.LifecycleStatsResponseDTO;
+import com.nustconnect.backend.DTOs.Stats.SlowLogEntryDTO;
+import com.nustconnect.backend.DTOs.Stats.SuggestionStatsResponseDTO;
+import com.nustconnect.backend.Enums.LifecycleType;
+import com.nustconnect.backend.Services.ContentScreeningService;
+import com.nustconnect.backend.Services.FriendSuggestionService;
+import com.nustconnect.backend.Services.LifecycleSweeperService;
+import com.nustconnect.backend.Services.StatisticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    private final LifecycleSweeperService lifecycleSweeperService;
+    private final ContentScreeningService contentScreeningService;
+    private final StatisticsService statisticsService;
+    private final FriendSuggestionService friendSuggestionService;
+    private final SlowQueryLog slowQueryLog;
+
+    @GetMapping("/stats")
+    public ResponseEntity<AdminStatsResponseDTO> getAdminStats(@RequestParam(defaultValue = "30") int days) {
+        int window = Math.max(1, Math.min(days, 365));
+        return ResponseEntity.ok(mapToAdminStatsDTO(statisticsService.getAdminStats(window)));
+    }
+
+    @PostMapping("/stats/rollup")
+    public ResponseEntity<Integer> rollupStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(statisticsService.rollup(from, to));
+    }
+
+    @GetMapping("/lifecycle")
+    public ResponseEntity<List<LifecycleStatsResponseDTO>> getLifecycleStats() {
+        return ResponseEntity.ok(lifecycleSweeperService.getStats().stream()
+                .map(this::mapToLifecycleStatsDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @PostMapping("/lifecycle/sweep")
+    public ResponseEntity<LifecycleStatsResponseDTO> runLifecycleSweep(@RequestParam LifecycleType type) {
+        lifecycleSweeperService.sweep(type);
+        return ResponseEntity.ok(mapToLifecycleStatsDTO(lifecycleSweeperService.getStats(type)));
+    }
+
+    @GetMapping("/screening")
+    public ResponseEntity<ScreeningStatusDTO> getScreeningStatus() {
+        return ResponseEntity.ok(mapToScreeningStatusDTO(contentScreeningService.getStatus()));
+    }
+
+    @PostMapping("/screening/reload")
+    public ResponseEntity<ScreeningStatusDTO> reloadScreeningTerms() {
+        return ResponseEntity.ok(mapToScreeningStatusDTO(contentScreeningService.reload()));
+    }
+
+    private LifecycleStatsResponseDTO mapToLifecycleStatsDTO(LifecycleSweeperService.SweepStats stats) {
+        return LifecycleStatsResponseDTO.builder()
+                .type(stats.type())
+                .runs(stats.runs())
+                .totalTransitioned(stats.totalTransitioned())
+                .lastTransitioned(stats.lastTransitioned())
+                .lastDurationMs(stats.lastDurationMs())
+                .lastRunAt(stats.lastRunAt())
+                .failures(stats.failures())
+                .lastError(stats.lastError())
+                .build();
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<SuggestionStatsResponseDTO> getSuggestionStats() {
+        return ResponseEntity.ok(mapToSuggestionStatsDTO(friendSuggestionService.getStats()));
+    }
+
+    @PostMapping("/suggestions/refresh")
+    public ResponseEntity<SuggestionStatsResponseDTO> refreshSuggestions() {
+        friendSuggestionService.refreshSuggestions();
+        return ResponseEntity.ok(mapToSuggestionStatsDTO(friendSuggestionService.getStats()));
+    }
+
+    // Newest first; type is SQL or REQUEST, both when omitted
+    @GetMapping("/slow-log")
+    public ResponseEntity<List<SlowLogEntryDTO>> getSlowLog(
+            @RequestParam(required = false) SlowQueryLog.Type type,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(slowQueryLog.getRecent(type, Math.max(1, Math.min(limit, 1000))).stream()
+                .map(this::mapToSlowLogEntryDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @DeleteMapping("/slow-log")
+    public ResponseEntity<Void> clearSlowLog() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private AdminStatsResponseDTO mapToAdminStatsDTO(StatisticsService.AdminStats stats) {
+        return AdminStatsResponseDTO.builder()
+                .generatedAt(stats.generatedAt())
+                .from(stats.from())
+                .to(stats.to())
+                .totals(stats.totals())
+                .daily(stats.daily().stream()
+                        .map(day -> DailyStatsDTO.builder().date(day.date()).counts(day.counts()).build())
+                        .collect(Collectors.toList()))
+                .departments(stats.departments().stream()
+                        .map(department -> DepartmentStatsDTO.builder()
+                                .department(department.department())
+                                .counts(department.counts())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private SuggestionStatsResponseDTO mapToSuggestionStatsDTO(FriendSuggestionService.SuggestionStats stats) {
+        return SuggestionStatsResponseDTO.builder()
+                .users(stats.users())
+                .suggestions(stats.suggestions())
+                .computedAt(stats.computedAt())
+                .build();
+    }
+
+    private ScreeningStatusDTO mapToScreeningStatusDTO(ContentScreeningService.ScreeningStatus status) {
+        return ScreeningStatusDTO.builder()
+                .source(status.source())
+                .termCount(status.termCount())
+                .automatonStates(status.automatonStates())
+                .loadedAt(status.loadedAt())
+                .build();
+    }
+
+    private SlowLogEntryDTO mapToSlowLogEntryDTO(SlowQueryLog.Entry entry) {
+        return SlowLogEntryDTO.builder()
+                .type(entry.type().name())
+                .at(entry.at())
+                .durationMs(entry.durationMs())
+                .method(entry.method())
+                .endpoint(entry.endpoint())
+                .userId(entry.userId())
+                .sql(entry.sql())
+                .parameters(entry.parameters())
+                .batchSize(entry.batchSize())
+                .status(entry.status())
+                .statements(entry.statements())
+                .sqlMs(entry.sqlMs())
+                .stack(entry.stack())
+                .build();
+    }
+}
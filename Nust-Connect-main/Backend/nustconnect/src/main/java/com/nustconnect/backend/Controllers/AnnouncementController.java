@@ -1,15 +1,21 @@
 package com.nustconnect.backend.Controllers;
 
 import com.nustconnect.backend.DTOs.Announcement.*;
+import com.nustconnect.backend.DTOs.Stats.ViewStatsResponseDTO;
+import com.nustconnect.backend.Enums.ViewTargetType;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
+import com.nustconnect.backend.Repositories.Projections.AnnouncementListVersionView;
 import com.nustconnect.backend.Services.*;
+import com.nustconnect.backend.Utils.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +28,7 @@ public class AnnouncementController {
 
     private final AnnouncementService announcementService;
     private final ProfileService profileService;
+    private final ViewTrackingService viewTrackingService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'FACULTY')")
@@ -43,14 +50,34 @@ public class AnnouncementController {
     }
 
     @GetMapping("/{announcementId}")
-    public ResponseEntity<AnnouncementResponseDTO> getAnnouncementById(@PathVariable Long announcementId) {
+    public ResponseEntity<AnnouncementResponseDTO> getAnnouncementById(@PathVariable Long announcementId,
+                                                                       HttpServletRequest httpRequest) {
         Announcement announcement = announcementService.getAnnouncementById(announcementId);
-        announcementService.incrementViewCount(announcementId);
-        return ResponseEntity.ok(mapToResponseDTO(announcement));
+        viewTrackingService.recordView(ViewTargetType.ANNOUNCEMENT, announcementId, httpRequest);
+
+        AnnouncementResponseDTO response = mapToResponseDTO(announcement);
+        response.setViewCount(viewTrackingService.getCurrentViewCount(ViewTargetType.ANNOUNCEMENT, announcementId, announcement.getViewCount()));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{announcementId}/views")
+    public ResponseEntity<ViewStatsResponseDTO> getAnnouncementViewStats(@PathVariable Long announcementId,
+                                                                         @RequestParam Long userId) {
+        if (!announcementService.isAnnouncementOwner(announcementId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Announcement announcement = announcementService.getAnnouncementById(announcementId);
+        ViewTrackingService.ViewStats stats = viewTrackingService.getStats(ViewTargetType.ANNOUNCEMENT, announcementId, announcement.getViewCount());
+        return ResponseEntity.ok(mapToViewStatsResponseDTO(stats));
     }
 
     @GetMapping
-    public ResponseEntity<List<AnnouncementResponseDTO>> getActiveAnnouncements() {
+    public ResponseEntity<List<AnnouncementResponseDTO>> getActiveAnnouncements(WebRequest webRequest) {
+        AnnouncementListVersionView version = announcementService.getActiveAnnouncementsVersion();
+        if (ResourceVersion.of("announcements", version.getRowCount(), version.getMaxId(), version.getLastModified(),
+                version.getViewCount()).checkNotModified(webRequest)) {
+            return null;
+        }
         List<Announcement> announcements = announcementService.getActiveAnnouncements();
         return ResponseEntity.ok(announcements.stream().map(this::mapToResponseDTO).collect(Collectors.toList()));
     }
@@ -86,6 +113,16 @@ public class AnnouncementController {
                 .build();
     }
 
+    private ViewStatsResponseDTO mapToViewStatsResponseDTO(ViewTrackingService.ViewStats stats) {
+        return ViewStatsResponseDTO.builder()
+                .targetType(stats.targetType())
+                .targetId(stats.targetId())
+                .totalViews(stats.totalViews())
+                .uniqueViewers(stats.uniqueViewers())
+                .pendingViews(stats.pendingViews())
+                .build();
+    }
+
     private UserSummaryDTO mapToUserSummaryDTO(User user) {
         String profilePicture = null;
         try { profilePicture = profileService.getProfileByUserId(user.getUserId()).getProfilePicture(); } catch (Exception e) {}
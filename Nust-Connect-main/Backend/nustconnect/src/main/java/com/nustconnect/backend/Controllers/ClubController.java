@@ -1,16 +1,25 @@
 package com.nustconnect.backend.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nustconnect.backend.DTOs.Club.*;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Enums.ClubCategory;
 import com.nustconnect.backend.Models.*;
+import com.nustconnect.backend.Repositories.Projections.ClubListView;
+import com.nustconnect.backend.Repositories.Projections.ClubMemberView;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import com.nustconnect.backend.Services.*;
+import com.nustconnect.backend.Utils.NdjsonWriter;
+import com.nustconnect.backend.Utils.ResourceVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +34,7 @@ public class ClubController {
     private final ClubMembershipService membershipService;
     private final UserService userService;
     private final ProfileService profileService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -45,17 +55,36 @@ public class ClubController {
     }
 
     @GetMapping("/{clubId}")
-    public ResponseEntity<ClubResponseDTO> getClubById(@PathVariable Long clubId) {
+    public ResponseEntity<ClubResponseDTO> getClubById(@PathVariable Long clubId, WebRequest webRequest) {
         Club club = clubService.getClubById(clubId);
+        if (ResourceVersion.of("club", club.getClubId(), club.getUpdatedAt()).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(mapToClubResponseDTO(club));
     }
 
     @GetMapping
-    public ResponseEntity<List<ClubResponseDTO>> getAllClubs() {
+    public ResponseEntity<List<ClubResponseDTO>> getAllClubs(WebRequest webRequest) {
+        ListVersionView version = clubService.getAllClubsVersion();
+        if (ResourceVersion.of("clubs", version.getRowCount(), version.getMaxId(), version.getLastModified())
+                .checkNotModified(webRequest)) {
+            return null;
+        }
         List<Club> clubs = clubService.getAllClubs();
         return ResponseEntity.ok(clubs.stream().map(this::mapToClubResponseDTO).collect(Collectors.toList()));
     }
 
+    // One club per line, written as rows are read
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllClubs() {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                clubService.streamAllClubs(club -> writer.write(mapToClubResponseDTO(club)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/category/{category}")
     public ResponseEntity<List<ClubResponseDTO>> getClubsByCategory(@PathVariable ClubCategory category) {
         List<Club> clubs = clubService.getClubsByCategory(category);
@@ -128,6 +157,38 @@ public class ClubController {
         return ResponseEntity.ok(members.stream().map(this::mapToMembershipResponseDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping("/{clubId}/members/page")
+    public ResponseEntity<ClubRosterPageDTO> getClubRoster(
+            @PathVariable Long clubId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) Long sharedWithClubId) {
+        ClubMembershipService.RosterPage page = membershipService.getRosterPage(clubId, activeOnly, sharedWithClubId,
+                after, Math.max(1, Math.min(size, 200)));
+        return ResponseEntity.ok(ClubRosterPageDTO.builder()
+                .members(page.members().stream().map(this::mapToClubMemberDTO).collect(Collectors.toList()))
+                .totalMembers(page.totalMembers())
+                .nextCursor(page.nextCursor())
+                .hasMore(page.nextCursor() != null)
+                .build());
+    }
+
+    @GetMapping("/{clubId}/members/friends")
+    public ResponseEntity<List<ClubMemberDTO>> getFriendsInClub(
+            @PathVariable Long clubId,
+            @RequestParam Long userId) {
+        List<ClubMemberView> members = membershipService.getFriendsInClub(clubId, userId);
+        return ResponseEntity.ok(members.stream().map(this::mapToClubMemberDTO).collect(Collectors.toList()));
+    }
+
+    @GetMapping("/{clubId}/members/common-count")
+    public ResponseEntity<Long> getCommonMemberCount(
+            @PathVariable Long clubId,
+            @RequestParam Long otherClubId) {
+        return ResponseEntity.ok(membershipService.getCommonMemberCount(clubId, otherClubId));
+    }
+
     private ClubResponseDTO mapToClubResponseDTO(Club club) {
         return ClubResponseDTO.builder()
                 .clubId(club.getClubId())
@@ -146,6 +207,29 @@ public class ClubController {
                 .build();
     }
 
+    private ClubResponseDTO mapToClubResponseDTO(ClubListView club) {
+        return ClubResponseDTO.builder()
+                .clubId(club.getClubId())
+                .name(club.getName())
+                .description(club.getDescription())
+                .category(club.getCategory())
+                .logoUrl(club.getLogoUrl())
+                .coverImageUrl(club.getCoverImageUrl())
+                .memberCount(club.getMemberCount())
+                .isActive(club.getIsActive())
+                .isApproved(club.getIsApproved())
+                .isRecruitmentOpen(club.getIsRecruitmentOpen())
+                .contactEmail(club.getContactEmail())
+                .createdBy(club.getCreatedById() == null ? null : UserSummaryDTO.builder()
+                        .userId(club.getCreatedById())
+                        .name(club.getCreatedByName())
+                        .profilePicture(club.getCreatedByProfilePicture())
+                        .department(club.getCreatedByDepartment())
+                        .build())
+                .createdAt(club.getCreatedAt())
+                .build();
+    }
+
     private ClubMembershipResponseDTO mapToMembershipResponseDTO(ClubMembership membership) {
         return ClubMembershipResponseDTO.builder()
                 .membershipId(membership.getMembershipId())
@@ -157,6 +241,21 @@ public class ClubController {
                 .build();
     }
 
+    private ClubMemberDTO mapToClubMemberDTO(ClubMemberView member) {
+        return ClubMemberDTO.builder()
+                .membershipId(member.getMembershipId())
+                .user(UserSummaryDTO.builder()
+                        .userId(member.getUserId())
+                        .name(member.getName())
+                        .profilePicture(member.getProfilePicture())
+                        .department(member.getDepartment())
+                        .build())
+                .memberRole(member.getMemberRole())
+                .status(member.getStatus())
+                .joinedAt(member.getJoinedAt())
+                .build();
+    }
+
     private ClubSummaryDTO mapToClubSummaryDTO(Club club) {
         return ClubSummaryDTO.builder()
                 .clubId(club.getClubId())
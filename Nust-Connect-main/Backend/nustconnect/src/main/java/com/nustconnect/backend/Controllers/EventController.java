@@ -4,7 +4,9 @@ import com.nustconnect.backend.DTOs.Event.*;
 import com.nustconnect.backend.DTOs.Club.ClubSummaryDTO;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
+import com.nustconnect.backend.Repositories.Projections.EventListView;
 import com.nustconnect.backend.Services.*;
+import com.nustconnect.backend.Utils.ResourceVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -59,8 +62,14 @@ public class EventController {
     }
 
     @GetMapping("/{eventId}")
-    public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long eventId) {
+    public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long eventId, WebRequest webRequest) {
         Event event = eventService.getEventById(eventId);
+        // The response also shows the club and venue, so their edits count as new versions too
+        if (ResourceVersion.of("event", event.getEventId(), event.getUpdatedAt(),
+                event.getClub() != null ? event.getClub().getUpdatedAt() : null,
+                event.getVenue() != null ? event.getVenue().getUpdatedAt() : null).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(mapToEventResponseDTO(event));
     }
 
@@ -68,20 +77,20 @@ public class EventController {
     public ResponseEntity<Page<EventResponseDTO>> getAllEvents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<Event> events = eventService.getAllActiveEvents(PageRequest.of(page, size));
+        Page<EventListView> events = eventService.getActiveEventViews(PageRequest.of(page, size));
         return ResponseEntity.ok(events.map(this::mapToEventResponseDTO));
     }
 
     @GetMapping("/upcoming")
     public ResponseEntity<List<EventResponseDTO>> getUpcomingEvents() {
-        List<Event> events = eventService.getUpcomingEvents();
+        List<EventListView> events = eventService.getUpcomingEventViews();
         return ResponseEntity.ok(events.stream().map(this::mapToEventResponseDTO).collect(Collectors.toList()));
     }
 
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
     public ResponseEntity<List<EventResponseDTO>> getPendingEvents() {
-        List<Event> events = eventService.getPendingEvents();
+        List<EventListView> events = eventService.getPendingEventViews();
         return ResponseEntity.ok(events.stream().map(this::mapToEventResponseDTO).collect(Collectors.toList()));
     }
 
@@ -145,6 +154,40 @@ public class EventController {
                 .build();
     }
 
+    private EventResponseDTO mapToEventResponseDTO(EventListView event) {
+        return EventResponseDTO.builder()
+                .eventId(event.getEventId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .startTime(event.getStartTime())
+                .endTime(event.getEndTime())
+                .maxAttendees(event.getMaxAttendees())
+                .currentAttendees(event.getCurrentAttendees())
+                .isPublic(event.getIsPublic())
+                .eventImageUrl(event.getEventImageUrl())
+                .approvalStatus(event.getApprovalStatus())
+                .rejectionReason(event.getRejectionReason())
+                .ticketPrice(event.getTicketPrice())
+                .hasTickets(event.getHasTickets())
+                .requiresRegistration(event.getRequiresRegistration())
+                .club(event.getClubId() != null ? ClubSummaryDTO.builder()
+                        .clubId(event.getClubId())
+                        .name(event.getClubName())
+                        .logoUrl(event.getClubLogoUrl())
+                        .category(event.getClubCategory())
+                        .memberCount(event.getClubMemberCount())
+                        .build() : null)
+                .createdBy(event.getCreatorId() != null ? UserSummaryDTO.builder()
+                        .userId(event.getCreatorId())
+                        .name(event.getCreatorName())
+                        .profilePicture(event.getCreatorProfilePicture())
+                        .department(event.getCreatorDepartment())
+                        .build() : null)
+                .venueName(event.getVenueName())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
     private EventRegistrationResponseDTO mapToRegistrationResponseDTO(EventRegistration registration) {
         return EventRegistrationResponseDTO.builder()
                 .registrationId(registration.getRegistrationId())
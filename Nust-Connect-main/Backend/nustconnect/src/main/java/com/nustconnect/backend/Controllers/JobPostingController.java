@@ -1,9 +1,12 @@
 package com.nustconnect.backend.Controllers;
 
 import com.nustconnect.backend.DTOs.Job.*;
+import com.nustconnect.backend.DTOs.Stats.ViewStatsResponseDTO;
+import com.nustconnect.backend.Enums.ViewTargetType;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
 import com.nustconnect.backend.Services.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,8 @@ public class JobPostingController {
 
     private final JobPostingService jobService;
     private final ProfileService profileService;
+    private final UserService userService;
+    private final ViewTrackingService viewTrackingService;
 
     @PostMapping
     public ResponseEntity<JobPostingResponseDTO> createJob(
@@ -43,10 +48,23 @@ public class JobPostingController {
     }
 
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobPostingResponseDTO> getJobById(@PathVariable Long jobId) {
+    public ResponseEntity<JobPostingResponseDTO> getJobById(@PathVariable Long jobId, HttpServletRequest httpRequest) {
         JobPosting job = jobService.getJobById(jobId);
-        jobService.incrementViewCount(jobId);
-        return ResponseEntity.ok(mapToResponseDTO(job));
+        viewTrackingService.recordView(ViewTargetType.JOB_POSTING, jobId, httpRequest);
+
+        JobPostingResponseDTO response = mapToResponseDTO(job);
+        response.setViewCount(viewTrackingService.getCurrentViewCount(ViewTargetType.JOB_POSTING, jobId, job.getViewCount()));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}/views")
+    public ResponseEntity<ViewStatsResponseDTO> getJobViewStats(@PathVariable Long jobId, @RequestParam Long userId) {
+        if (!jobService.isJobOwner(jobId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        JobPosting job = jobService.getJobById(jobId);
+        ViewTrackingService.ViewStats stats = viewTrackingService.getStats(ViewTargetType.JOB_POSTING, jobId, job.getViewCount());
+        return ResponseEntity.ok(mapToViewStatsResponseDTO(stats));
     }
 
     @GetMapping
@@ -61,6 +79,15 @@ public class JobPostingController {
         return ResponseEntity.ok(jobs.stream().map(this::mapToResponseDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping("/recommended")
+    public ResponseEntity<List<JobPostingResponseDTO>> getRecommendedJobs(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        User user = userService.getUserById(userId);
+        List<JobPosting> jobs = jobService.getRecommendedJobs(user, Math.min(Math.max(limit, 1), 50));
+        return ResponseEntity.ok(jobs.stream().map(this::mapToResponseDTO).collect(Collectors.toList()));
+    }
+
     @PatchMapping("/{jobId}/close")
     public ResponseEntity<JobPostingResponseDTO> closeJob(@PathVariable Long jobId) {
         JobPosting job = jobService.closeJob(jobId);
@@ -92,6 +119,16 @@ public class JobPostingController {
                 .build();
     }
 
+    private ViewStatsResponseDTO mapToViewStatsResponseDTO(ViewTrackingService.ViewStats stats) {
+        return ViewStatsResponseDTO.builder()
+                .targetType(stats.targetType())
+                .targetId(stats.targetId())
+                .totalViews(stats.totalViews())
+                .uniqueViewers(stats.uniqueViewers())
+                .pendingViews(stats.pendingViews())
+                .build();
+    }
+
     private UserSummaryDTO mapToUserSummaryDTO(User user) {
         String profilePicture = null;
         try { profilePicture = profileService.getProfileByUserId(user.getUserId()).getProfilePicture(); } catch (Exception e) {}
@@ -64,6 +64,12 @@ public class LostAndFoundController {
         return ResponseEntity.ok(items.stream().map(this::mapToLostItemResponseDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping("/lost/{itemId}/matches")
+    public ResponseEntity<List<FoundItemResponseDTO>> getLostItemMatches(@PathVariable Long itemId) {
+        List<FoundItem> matches = lostAndFoundService.findPotentialMatches(itemId);
+        return ResponseEntity.ok(matches.stream().map(this::mapToFoundItemResponseDTO).collect(Collectors.toList()));
+    }
+
     @PatchMapping("/lost/{itemId}/mark-found")
     public ResponseEntity<LostItemResponseDTO> markLostItemAsFound(@PathVariable Long itemId) {
         LostItem item = lostAndFoundService.markLostItemAsFound(itemId);
@@ -118,6 +124,12 @@ public class LostAndFoundController {
         return ResponseEntity.ok(items.stream().map(this::mapToFoundItemResponseDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping("/found/{itemId}/matches")
+    public ResponseEntity<List<LostItemResponseDTO>> getFoundItemMatches(@PathVariable Long itemId) {
+        List<LostItem> matches = lostAndFoundService.findPotentialMatchesForFound(itemId);
+        return ResponseEntity.ok(matches.stream().map(this::mapToLostItemResponseDTO).collect(Collectors.toList()));
+    }
+
     @PatchMapping("/found/{itemId}/claim")
     public ResponseEntity<FoundItemResponseDTO> claimFoundItem(
             @PathVariable Long itemId,
@@ -1,9 +1,13 @@
 package com.nustconnect.backend.Controllers;
 
 import com.nustconnect.backend.DTOs.Marketplace.*;
+import com.nustconnect.backend.DTOs.Stats.ViewStatsResponseDTO;
+import com.nustconnect.backend.Enums.MarketplaceCondition;
+import com.nustconnect.backend.Enums.ViewTargetType;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
 import com.nustconnect.backend.Services.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,11 +15,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.nustconnect.backend.Repositories.MarketplaceCategoryRepository;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
+import com.nustconnect.backend.Repositories.Projections.MarketplaceItemCardView;
+import com.nustconnect.backend.Utils.ResourceVersion;
 
 @RestController
 @RequestMapping("/api/marketplace")
@@ -26,6 +36,7 @@ public class MarketplaceController {
     private final MarketplaceService marketplaceService;
     private final ProfileService profileService;
     private final MarketplaceCategoryRepository categoryRepository;
+    private final ViewTrackingService viewTrackingService;
 
     // ==================== ITEMS ====================
     @PostMapping("/items")
@@ -52,19 +63,32 @@ public class MarketplaceController {
     }
 
     @GetMapping("/items/{itemId}")
-    public ResponseEntity<MarketplaceItemResponseDTO> getItemById(@PathVariable Long itemId) {
+    public ResponseEntity<MarketplaceItemResponseDTO> getItemById(@PathVariable Long itemId, HttpServletRequest httpRequest) {
         MarketplaceItem item = marketplaceService.getItemById(itemId);
-        marketplaceService.incrementViewCount(itemId);
-        return ResponseEntity.ok(mapToItemResponseDTO(item));
+        viewTrackingService.recordView(ViewTargetType.MARKETPLACE_ITEM, itemId, httpRequest);
+
+        MarketplaceItemResponseDTO response = mapToItemResponseDTO(item);
+        response.setViewCount(viewTrackingService.getCurrentViewCount(ViewTargetType.MARKETPLACE_ITEM, itemId, item.getViewCount()));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/items/{itemId}/views")
+    public ResponseEntity<ViewStatsResponseDTO> getItemViewStats(@PathVariable Long itemId, @RequestParam Long userId) {
+        if (!marketplaceService.isItemOwner(itemId, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        MarketplaceItem item = marketplaceService.getItemById(itemId);
+        ViewTrackingService.ViewStats stats = viewTrackingService.getStats(ViewTargetType.MARKETPLACE_ITEM, itemId, item.getViewCount());
+        return ResponseEntity.ok(mapToViewStatsResponseDTO(stats));
     }
 
     @GetMapping("/items")
-    public ResponseEntity<Page<MarketplaceItemResponseDTO>> getAllItems(
+    public ResponseEntity<Page<MarketplaceItemCardDTO>> getAllItems(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         try {
-            Page<MarketplaceItem> items = marketplaceService.getAllActiveItems(PageRequest.of(page, size));
-            Page<MarketplaceItemResponseDTO> response = items.map(this::mapToItemResponseDTO);
+            Page<MarketplaceItemCardView> items = marketplaceService.getActiveItemCards(PageRequest.of(page, size));
+            Page<MarketplaceItemCardDTO> response = items.map(this::mapToItemCardDTO);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             e.printStackTrace(); // This will show in backend console
@@ -72,16 +96,52 @@ public class MarketplaceController {
         }
     }
 
+    @GetMapping("/items/browse")
+    public ResponseEntity<MarketplaceBrowseResponseDTO> browseItems(
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) List<MarketplaceCondition> condition,
+            @RequestParam(required = false) List<String> priceBucket,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Boolean negotiable,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        MarketplaceFacetService.FacetQuery query = new MarketplaceFacetService.FacetQuery(
+                categoryId, condition, priceBucket, minPrice, maxPrice, negotiable, location);
+        MarketplaceFacetService.FacetResult result = marketplaceService.browseItems(query, page, pageSize);
+        List<MarketplaceItemCardView> items = marketplaceService.getItemCardsByIds(result.itemIds());
+
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        result.facets().forEach((facet, counts) -> facets.put(facet, counts.stream()
+                .map(count -> FacetCountDTO.builder()
+                        .value(count.value())
+                        .label(count.label())
+                        .count(count.count())
+                        .build())
+                .collect(Collectors.toList())));
+
+        return ResponseEntity.ok(MarketplaceBrowseResponseDTO.builder()
+                .items(items.stream().map(this::mapToItemCardDTO).collect(Collectors.toList()))
+                .page(page)
+                .size(pageSize)
+                .totalElements(result.totalElements())
+                .totalPages((int) ((result.totalElements() + pageSize - 1) / pageSize))
+                .facets(facets)
+                .build());
+    }
+
     @GetMapping("/items/search")
-    public ResponseEntity<List<MarketplaceItemResponseDTO>> searchItems(@RequestParam String keyword) {
-        List<MarketplaceItem> items = marketplaceService.searchItems(keyword);
-        return ResponseEntity.ok(items.stream().map(this::mapToItemResponseDTO).collect(Collectors.toList()));
+    public ResponseEntity<List<MarketplaceItemCardDTO>> searchItems(@RequestParam String keyword) {
+        List<MarketplaceItemCardView> items = marketplaceService.searchItemCards(keyword);
+        return ResponseEntity.ok(items.stream().map(this::mapToItemCardDTO).collect(Collectors.toList()));
     }
 
     @GetMapping("/items/seller/{sellerId}")
-    public ResponseEntity<List<MarketplaceItemResponseDTO>> getSellerItems(@PathVariable Long sellerId) {
-        List<MarketplaceItem> items = marketplaceService.getItemsBySeller(sellerId);
-        return ResponseEntity.ok(items.stream().map(this::mapToItemResponseDTO).collect(Collectors.toList()));
+    public ResponseEntity<List<MarketplaceItemCardDTO>> getSellerItems(@PathVariable Long sellerId) {
+        List<MarketplaceItemCardView> items = marketplaceService.getItemCardsBySeller(sellerId);
+        return ResponseEntity.ok(items.stream().map(this::mapToItemCardDTO).collect(Collectors.toList()));
     }
 
     @PatchMapping("/items/{itemId}/mark-sold")
@@ -97,7 +157,12 @@ public class MarketplaceController {
     }
 
     @GetMapping("/categories")
-    public ResponseEntity<List<MarketplaceCategory>> getCategories() {
+    public ResponseEntity<List<MarketplaceCategory>> getCategories(WebRequest webRequest) {
+        ListVersionView version = categoryRepository.findAllVersion();
+        if (ResourceVersion.of("marketplace-categories", version.getRowCount(), version.getMaxId(),
+                version.getLastModified()).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(categoryRepository.findAll());
     }
 
@@ -142,6 +207,29 @@ public class MarketplaceController {
     }
 
     // ==================== MAPPERS ====================
+    private MarketplaceItemCardDTO mapToItemCardDTO(MarketplaceItemCardView item) {
+        return MarketplaceItemCardDTO.builder()
+                .id(item.getId())
+                .title(item.getTitle())
+                .description(item.getDescription())
+                .price(item.getPrice())
+                .conditionStatus(item.getConditionStatus())
+                .status(item.getStatus())
+                .seller(UserSummaryDTO.builder()
+                        .userId(item.getSellerId())
+                        .name(item.getSellerName())
+                        .profilePicture(item.getSellerProfilePicture())
+                        .department(item.getSellerDepartment())
+                        .build())
+                .categoryName(item.getCategoryName())
+                .thumbnailUrl(item.getThumbnailUrl())
+                .location(item.getLocation())
+                .viewCount(item.getViewCount())
+                .isNegotiable(item.getIsNegotiable())
+                .postedAt(item.getCreatedAt())
+                .build();
+    }
+
     private MarketplaceItemResponseDTO mapToItemResponseDTO(MarketplaceItem item) {
         return MarketplaceItemResponseDTO.builder()
                 .id(item.getId())
@@ -160,6 +248,16 @@ public class MarketplaceController {
                 .build();
     }
 
+    private ViewStatsResponseDTO mapToViewStatsResponseDTO(ViewTrackingService.ViewStats stats) {
+        return ViewStatsResponseDTO.builder()
+                .targetType(stats.targetType())
+                .targetId(stats.targetId())
+                .totalViews(stats.totalViews())
+                .uniqueViewers(stats.uniqueViewers())
+                .pendingViews(stats.pendingViews())
+                .build();
+    }
+
     private MarketplaceOrderResponseDTO mapToOrderResponseDTO(MarketplaceOrder order) {
         return MarketplaceOrderResponseDTO.builder()
                 .id(order.getId())
@@ -3,6 +3,8 @@ package com.nustconnect.backend.Controllers;
 import com.nustconnect.backend.DTOs.Post.*;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
+import com.nustconnect.backend.Repositories.Projections.CommentView;
+import com.nustconnect.backend.Repositories.Projections.PostListView;
 import com.nustconnect.backend.Services.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -45,8 +48,8 @@ public class PostController {
 
     // ==================== GET POST BY ID ====================
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable Long postId) {
-        Post post = postService.getPostById(postId);
+    public ResponseEntity<PostResponseDTO> getPostById(@PathVariable Long postId, Authentication authentication) {
+        Post post = postService.getVisiblePostById(postId, viewerEmail(authentication));
         return ResponseEntity.ok(mapToPostResponseDTO(post));
     }
 
@@ -54,17 +57,18 @@ public class PostController {
     @GetMapping
     public ResponseEntity<Page<PostResponseDTO>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postService.getAllActivePosts(pageable);
+        Page<PostListView> posts = postService.getActivePostViews(viewerEmail(authentication), pageable);
         Page<PostResponseDTO> response = posts.map(this::mapToPostResponseDTO);
         return ResponseEntity.ok(response);
     }
 
     // ==================== GET USER POSTS ====================
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostResponseDTO>> getUserPosts(@PathVariable Long userId) {
-        List<Post> posts = postService.getPostsByUser(userId);
+    public ResponseEntity<List<PostResponseDTO>> getUserPosts(@PathVariable Long userId, Authentication authentication) {
+        List<PostListView> posts = postService.getPostViewsByUser(userId, viewerEmail(authentication));
         List<PostResponseDTO> response = posts.stream()
                 .map(this::mapToPostResponseDTO)
                 .collect(Collectors.toList());
@@ -138,14 +142,55 @@ public class PostController {
 
     // ==================== GET POST COMMENTS ====================
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<List<CommentResponseDTO>> getPostComments(@PathVariable Long postId) {
-        List<Comment> comments = commentService.getActiveCommentsByPost(postId);
+    public ResponseEntity<List<CommentResponseDTO>> getPostComments(@PathVariable Long postId,
+                                                                    Authentication authentication) {
+        List<CommentView> comments = commentService.getCommentViewsByPost(postId, viewerEmail(authentication));
         List<CommentResponseDTO> response = comments.stream()
                 .map(this::mapToCommentResponseDTO)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
 
+    // ==================== GET COMMENT THREADS ====================
+    @GetMapping("/{postId}/comments/threads")
+    public ResponseEntity<CommentThreadPageDTO> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies,
+            Authentication authentication) {
+        CommentService.ThreadPage page = commentService.getCommentThreads(postId, before,
+                Math.max(1, Math.min(size, 50)), Math.max(0, Math.min(replies, 10)), viewerEmail(authentication));
+        List<CommentThreadDTO> threads = page.threads().stream()
+                .map(thread -> CommentThreadDTO.builder()
+                        .comment(mapToCommentResponseDTO(thread.comment()))
+                        .replyCount(thread.replyCount())
+                        .replies(thread.replies().stream().map(this::mapToCommentResponseDTO).toList())
+                        .build())
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(CommentThreadPageDTO.builder()
+                .threads(threads)
+                .nextCursor(page.nextCursor())
+                .hasMore(page.nextCursor() != null)
+                .build());
+    }
+
+    // ==================== GET COMMENT REPLIES ====================
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CommentReplyPageDTO> getCommentReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        CommentService.ReplyPage page = commentService.getReplies(commentId, after, Math.max(1, Math.min(size, 50)),
+                viewerEmail(authentication));
+        return ResponseEntity.ok(CommentReplyPageDTO.builder()
+                .replies(page.replies().stream().map(this::mapToCommentResponseDTO).collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .hasMore(page.nextCursor() != null)
+                .build());
+    }
+
     // ==================== UPDATE COMMENT ====================
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponseDTO> updateComment(
@@ -163,6 +208,11 @@ public class PostController {
     }
 
     // ==================== MAPPER METHODS ====================
+    // The JWT subject is the user's email
+    private String viewerEmail(Authentication authentication) {
+        return authentication != null ? authentication.getName() : null;
+    }
+
     private PostResponseDTO mapToPostResponseDTO(Post post) {
         return PostResponseDTO.builder()
                 .postId(post.getPostId())
@@ -178,6 +228,26 @@ public class PostController {
                 .build();
     }
 
+    private PostResponseDTO mapToPostResponseDTO(PostListView post) {
+        return PostResponseDTO.builder()
+                .postId(post.getPostId())
+                .contentText(post.getContentText())
+                .mediaUrl(post.getMediaUrl())
+                .visibility(post.getVisibility())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .isEdited(post.getIsEdited())
+                .author(UserSummaryDTO.builder()
+                        .userId(post.getAuthorId())
+                        .name(post.getAuthorName())
+                        .profilePicture(post.getAuthorProfilePicture())
+                        .department(post.getAuthorDepartment())
+                        .build())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
     private CommentResponseDTO mapToCommentResponseDTO(Comment comment) {
         return CommentResponseDTO.builder()
                 .commentId(comment.getCommentId())
@@ -190,6 +260,23 @@ public class PostController {
                 .build();
     }
 
+    private CommentResponseDTO mapToCommentResponseDTO(CommentView comment) {
+        return CommentResponseDTO.builder()
+                .commentId(comment.getCommentId())
+                .postId(comment.getPostId())
+                .content(comment.getContent())
+                .isEdited(comment.getIsEdited())
+                .parentCommentId(comment.getParentCommentId())
+                .author(UserSummaryDTO.builder()
+                        .userId(comment.getAuthorId())
+                        .name(comment.getAuthorName())
+                        .profilePicture(comment.getAuthorProfilePicture())
+                        .department(comment.getAuthorDepartment())
+                        .build())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+
     private LikeResponseDTO mapToLikeResponseDTO(Like like) {
         return LikeResponseDTO.builder()
                 .likeId(like.getLikeId())
@@ -6,6 +6,8 @@ import com.nustconnect.backend.Models.*;
 import com.nustconnect.backend.Services.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -45,6 +47,16 @@ public class ReportController {
         return ResponseEntity.ok(reports.stream().map(this::mapToResponseDTO).collect(Collectors.toList()));
     }
 
+    // Reported content grouped per target, highest severity first
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<ModerationQueueItemDTO>> getModerationQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<ReportTarget> targets = reportService.getModerationQueue(PageRequest.of(page, Math.min(size, 100)));
+        return ResponseEntity.ok(targets.map(this::mapToQueueItemDTO));
+    }
+
     @PatchMapping("/{reportId}/resolve")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ReportResponseDTO> resolveReport(
@@ -79,6 +91,18 @@ public class ReportController {
                 .build();
     }
 
+    private ModerationQueueItemDTO mapToQueueItemDTO(ReportTarget target) {
+        return ModerationQueueItemDTO.builder()
+                .targetType(target.getTargetType())
+                .targetId(target.getTargetId())
+                .openReports(target.getOpenCount())
+                .totalReports(target.getTotalCount())
+                .severityScore(target.getSeverityScore())
+                .firstReportedAt(target.getFirstReportedAt())
+                .lastReportedAt(target.getLastReportedAt())
+                .build();
+    }
+
     private UserSummaryDTO mapToUserSummaryDTO(User user) {
         String profilePicture = null;
         try { profilePicture = profileService.getProfileByUserId(user.getUserId()).getProfilePicture(); } catch (Exception e) {}
@@ -1,15 +1,22 @@
 package com.nustconnect.backend.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nustconnect.backend.DTOs.RideShare.*;
 import com.nustconnect.backend.DTOs.User.UserSummaryDTO;
 import com.nustconnect.backend.Models.*;
+import com.nustconnect.backend.Repositories.Projections.RideListView;
 import com.nustconnect.backend.Services.*;
+import com.nustconnect.backend.Utils.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,6 +28,7 @@ public class RideShareController {
 
     private final RideShareService rideShareService;
     private final ProfileService profileService;
+    private final ObjectMapper objectMapper;
 
     // ==================== RIDES ====================
     @PostMapping
@@ -30,6 +38,10 @@ public class RideShareController {
         RideShare ride = RideShare.builder()
                 .pickupLocation(request.getPickupLocation())
                 .destination(request.getDestination())
+                .pickupLatitude(request.getPickupLatitude())
+                .pickupLongitude(request.getPickupLongitude())
+                .destinationLatitude(request.getDestinationLatitude())
+                .destinationLongitude(request.getDestinationLongitude())
                 .departureTime(request.getDepartureTime())
                 .availableSeats(request.getAvailableSeats())
                 .pricePerSeat(request.getPricePerSeat())
@@ -53,6 +65,17 @@ public class RideShareController {
         return ResponseEntity.ok(rides.stream().map(this::mapToRideResponseDTO).collect(Collectors.toList()));
     }
 
+    // Active rides, one per line, written as rows are read
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamActiveRides() {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                rideShareService.streamActiveRides(ride -> writer.write(mapToRideResponseDTO(ride)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/upcoming")
     public ResponseEntity<List<RideShareResponseDTO>> getUpcomingRides() {
         List<RideShare> rides = rideShareService.getUpcomingRides();
@@ -65,6 +88,25 @@ public class RideShareController {
         return ResponseEntity.ok(rides.stream().map(this::mapToRideResponseDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping("/match")
+    public ResponseEntity<List<RideMatchResponseDTO>> matchRides(
+            @RequestParam(required = false) String pickup,
+            @RequestParam(required = false) Double pickupLat,
+            @RequestParam(required = false) Double pickupLng,
+            @RequestParam(required = false) String destination,
+            @RequestParam(required = false) Double destinationLat,
+            @RequestParam(required = false) Double destinationLng,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureTime,
+            @RequestParam(defaultValue = "60") int windowMinutes,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(defaultValue = "1") int seats,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<RideMatchingService.RideMatch> matches = rideShareService.matchRides(
+                pickup, pickupLat, pickupLng, destination, destinationLat, destinationLng,
+                departureTime, windowMinutes, radiusKm, seats, limit);
+        return ResponseEntity.ok(matches.stream().map(this::mapToRideMatchResponseDTO).collect(Collectors.toList()));
+    }
+
     @GetMapping("/driver/{driverId}")
     public ResponseEntity<List<RideShareResponseDTO>> getDriverRides(@PathVariable Long driverId) {
         List<RideShare> rides = rideShareService.getRidesByDriver(driverId);
@@ -78,6 +120,10 @@ public class RideShareController {
         RideShare updatedRide = RideShare.builder()
                 .pickupLocation(request.getPickupLocation())
                 .destination(request.getDestination())
+                .pickupLatitude(request.getPickupLatitude())
+                .pickupLongitude(request.getPickupLongitude())
+                .destinationLatitude(request.getDestinationLatitude())
+                .destinationLongitude(request.getDestinationLongitude())
                 .departureTime(request.getDepartureTime())
                 .availableSeats(request.getAvailableSeats())
                 .pricePerSeat(request.getPricePerSeat())
@@ -159,6 +205,10 @@ public class RideShareController {
                 .driver(mapToUserSummaryDTO(ride.getDriver()))
                 .pickupLocation(ride.getPickupLocation())
                 .destination(ride.getDestination())
+                .pickupLatitude(ride.getPickupLatitude())
+                .pickupLongitude(ride.getPickupLongitude())
+                .destinationLatitude(ride.getDestinationLatitude())
+                .destinationLongitude(ride.getDestinationLongitude())
                 .departureTime(ride.getDepartureTime())
                 .availableSeats(ride.getAvailableSeats())
                 .pricePerSeat(ride.getPricePerSeat())
@@ -169,6 +219,41 @@ public class RideShareController {
                 .build();
     }
 
+    private RideShareResponseDTO mapToRideResponseDTO(RideListView ride) {
+        return RideShareResponseDTO.builder()
+                .rideId(ride.getRideId())
+                .driver(UserSummaryDTO.builder()
+                        .userId(ride.getDriverId())
+                        .name(ride.getDriverName())
+                        .profilePicture(ride.getDriverProfilePicture())
+                        .department(ride.getDriverDepartment())
+                        .build())
+                .pickupLocation(ride.getPickupLocation())
+                .destination(ride.getDestination())
+                .pickupLatitude(ride.getPickupLatitude())
+                .pickupLongitude(ride.getPickupLongitude())
+                .destinationLatitude(ride.getDestinationLatitude())
+                .destinationLongitude(ride.getDestinationLongitude())
+                .departureTime(ride.getDepartureTime())
+                .availableSeats(ride.getAvailableSeats())
+                .pricePerSeat(ride.getPricePerSeat())
+                .notes(ride.getNotes())
+                .status(ride.getStatus())
+                .contactNumber(ride.getContactNumber())
+                .createdAt(ride.getCreatedAt())
+                .build();
+    }
+
+    private RideMatchResponseDTO mapToRideMatchResponseDTO(RideMatchingService.RideMatch match) {
+        return RideMatchResponseDTO.builder()
+                .ride(mapToRideResponseDTO(match.ride()))
+                .pickupDistanceKm(match.pickupDistanceKm())
+                .dropoffDistanceKm(match.dropoffDistanceKm())
+                .minutesFromRequested(match.minutesFromRequested())
+                .score(match.score())
+                .build();
+    }
+
     private RideRequestResponseDTO mapToRequestResponseDTO(RideRequest request) {
         return RideRequestResponseDTO.builder()
                 .requestId(request.getRequestId())
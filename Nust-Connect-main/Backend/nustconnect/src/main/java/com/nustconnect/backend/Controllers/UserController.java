@@ -1,15 +1,22 @@
 package com.nustconnect.backend.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nustconnect.backend.DTOs.User.*;
 import com.nustconnect.backend.Models.Profile;
 import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.Projections.UserListView;
+import com.nustconnect.backend.Services.FriendSuggestionService;
+import com.nustconnect.backend.Services.FriendshipService;
 import com.nustconnect.backend.Services.ProfileService;
 import com.nustconnect.backend.Services.UserService;
+import com.nustconnect.backend.Utils.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +29,9 @@ public class UserController {
 
     private final UserService userService;
     private final ProfileService profileService;
+    private final FriendshipService friendshipService;
+    private final FriendSuggestionService friendSuggestionService;
+    private final ObjectMapper objectMapper;
 
     // ==================== GET USER BY ID ====================
     @GetMapping("/{userId}")
@@ -41,6 +51,18 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    // One user per line, written as rows are read, for admin tooling and sync clients
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                userService.streamAllUsers(user -> writer.write(mapToUserResponseDTO(user)));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     // ==================== SEARCH USERS ====================
     @GetMapping("/search")
     public ResponseEntity<List<UserSummaryDTO>> searchUsers(@RequestParam String keyword) {
@@ -51,6 +73,36 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    // ==================== FRIENDS ====================
+    @GetMapping("/{userId}/friends")
+    public ResponseEntity<List<UserSummaryDTO>> getFriends(@PathVariable Long userId) {
+        List<UserSummaryDTO> response = friendshipService.getFriends(userId).stream()
+                .map(this::mapToUserSummaryDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{userId}/mutual-friends")
+    public ResponseEntity<List<UserSummaryDTO>> getMutualFriends(
+            @PathVariable Long userId,
+            @RequestParam Long otherUserId) {
+        List<UserSummaryDTO> response = friendshipService.getMutualFriends(userId, otherUserId).stream()
+                .map(this::mapToUserSummaryDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{userId}/suggestions")
+    public ResponseEntity<List<FriendSuggestionDTO>> getFriendSuggestions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        int size = Math.max(1, Math.min(limit, 20));
+        List<FriendSuggestionDTO> response = friendSuggestionService.getSuggestions(userId, size).stream()
+                .map(this::mapToFriendSuggestionDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== UPDATE USER ====================
     @PutMapping("/{userId}")
     @CrossOrigin(origins = "*") // Ensure CORS allows PUT
@@ -252,6 +304,45 @@ public class UserController {
                 .build();
     }
 
+    // Same fields as the entity mapping, with the profile columns already joined in
+    private UserResponseDTO mapToUserResponseDTO(UserListView user) {
+        boolean hasProfile = user.getProfileId() != null;
+        return UserResponseDTO.builder()
+                .userId(user.getUserId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .studentId(user.getStudentId())
+                .department(user.getDepartment())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole().name())
+                .isActive(user.getIsActive())
+                .isEmailVerified(user.getIsEmailVerified())
+                .cmsId(user.getStudentId())
+                .phone(user.getPhoneNumber())
+                .profilePicture(hasProfile ? user.getProfilePicture() : "")
+                .address(hasProfile ? user.getAddress() : "")
+                .semester(hasProfile ? user.getSemester() : "")
+                .bio(hasProfile ? user.getBio() : "")
+                .dateOfBirth(user.getDateOfBirth())
+                .yearOfStudy(user.getYearOfStudy())
+                .major(hasProfile ? user.getMajor() : "")
+                .interests(hasProfile ? user.getInterests() : "")
+                .build();
+    }
+
+    private FriendSuggestionDTO mapToFriendSuggestionDTO(FriendSuggestionService.SuggestedUser suggested) {
+        FriendSuggestionService.Suggestion suggestion = suggested.suggestion();
+        return FriendSuggestionDTO.builder()
+                .user(mapToUserSummaryDTO(suggested.user()))
+                .score(suggestion.score())
+                .mutualFriends(suggestion.mutualFriends())
+                .sharedClubs(suggestion.sharedClubs())
+                .sharedEvents(suggestion.sharedEvents())
+                .sameDepartment(suggestion.sameDepartment())
+                .sameYear(suggestion.sameYear())
+                .build();
+    }
+
     private UserSummaryDTO mapToUserSummaryDTO(User user) {
         String profilePicture = null;
         try {
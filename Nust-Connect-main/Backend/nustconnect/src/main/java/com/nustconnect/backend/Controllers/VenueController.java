@@ -1,13 +1,16 @@
 package com.nustconnect.backend.Controllers;
 
 import com.nustconnect.backend.Models.Venue;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import com.nustconnect.backend.Services.VenueService;
+import com.nustconnect.backend.Utils.ResourceVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,13 +30,21 @@ public class VenueController {
     }
 
     @GetMapping("/{venueId}")
-    public ResponseEntity<Venue> getVenueById(@PathVariable Long venueId) {
+    public ResponseEntity<Venue> getVenueById(@PathVariable Long venueId, WebRequest webRequest) {
         Venue venue = venueService.getVenueById(venueId);
+        if (ResourceVersion.of("venue", venue.getVenueId(), venue.getUpdatedAt()).checkNotModified(webRequest)) {
+            return null;
+        }
         return ResponseEntity.ok(venue);
     }
 
     @GetMapping
-    public ResponseEntity<List<Venue>> getAllVenues() {
+    public ResponseEntity<List<Venue>> getAllVenues(WebRequest webRequest) {
+        ListVersionView version = venueService.getAllVenuesVersion();
+        if (ResourceVersion.of("venues", version.getRowCount(), version.getMaxId(), version.getLastModified())
+                .checkNotModified(webRequest)) {
+            return null;
+        }
         List<Venue> venues = venueService.getAllVenues();
         return ResponseEntity.ok(venues);
     }
@@ -0,0 +1,19 @@
+package com.nustconnect.backend.DTOs.Club;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubRosterPageDTO {
+    private List<ClubMemberDTO> members;
+    private Long totalMembers;
+    private Long nextCursor;
+    private Boolean hasMore;
+}
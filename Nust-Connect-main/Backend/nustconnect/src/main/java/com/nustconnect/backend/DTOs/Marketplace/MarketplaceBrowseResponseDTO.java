@@ -0,0 +1,22 @@
+package com.nustconnect.backend.DTOs.Marketplace;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketplaceBrowseResponseDTO {
+    private List<MarketplaceItemCardDTO> items;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+    private Map<String, List<FacetCountDTO>> facets; // category, condition, price, negotiable, location
+}
@@ -0,0 +1,18 @@
+package com.nustconnect.backend.DTOs.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentReplyPageDTO {
+    private List<CommentResponseDTO> replies;
+    private Long nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.nustconnect.backend.DTOs.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadDTO {
+    private CommentResponseDTO comment;
+    private Long replyCount;
+    private List<CommentResponseDTO> replies;
+}
@@ -0,0 +1,23 @@
+package com.nustconnect.backend.DTOs.Report;
+
+import com.nustconnect.backend.Enums.ReportTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationQueueItemDTO {
+    private ReportTargetType targetType;
+    private Long targetId;
+    private Integer openReports;
+    private Integer totalReports;
+    private Integer severityScore;
+    private LocalDateTime firstReportedAt;
+    private LocalDateTime lastReportedAt;
+}
@@ -0,0 +1,19 @@
+package com.nustconnect.backend.DTOs.Report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreeningStatusDTO {
+    private String source;
+    private Integer termCount;
+    private Integer automatonStates;
+    private LocalDateTime loadedAt;
+}
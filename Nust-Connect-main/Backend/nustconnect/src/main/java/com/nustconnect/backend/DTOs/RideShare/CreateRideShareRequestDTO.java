@@ -1,5 +1,7 @@
 package com.nustconnect.backend.DTOs.RideShare;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -27,6 +29,23 @@ public class CreateRideShareRequestDTO {
     @Size(max = 200)
     private String destination;
 
+    // Optional; rides without coordinates are geocoded from the location names
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double pickupLatitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double pickupLongitude;
+
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double destinationLatitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double destinationLongitude;
+
     @NotNull
     @Future
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -0,0 +1,18 @@
+package com.nustconnect.backend.DTOs.RideShare;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RideMatchResponseDTO {
+    private RideShareResponseDTO ride;
+    private Double pickupDistanceKm;
+    private Double dropoffDistanceKm;
+    private Long minutesFromRequested;
+    private Double score; // lower is a better fit
+}
@@ -17,6 +17,10 @@ public class RideShareResponseDTO {
     private UserSummaryDTO driver;
     private String pickupLocation;
     private String destination;
+    private Double pickupLatitude;
+    private Double pickupLongitude;
+    private Double destinationLatitude;
+    private Double destinationLongitude;
     private LocalDateTime departureTime;
     private Integer availableSeats;
     private Double pricePerSeat;
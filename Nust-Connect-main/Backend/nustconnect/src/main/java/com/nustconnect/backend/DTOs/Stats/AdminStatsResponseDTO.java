@@ -0,0 +1,24 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminStatsResponseDTO {
+    private LocalDateTime generatedAt;
+    private LocalDate from;
+    private LocalDate to;
+    private Map<String, Long> totals;
+    private List<DailyStatsDTO> daily;
+    private List<DepartmentStatsDTO> departments;
+}
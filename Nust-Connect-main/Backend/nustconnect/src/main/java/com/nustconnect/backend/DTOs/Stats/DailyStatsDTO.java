@@ -0,0 +1,19 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import com.nustconnect.backend.Enums.StatMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatsDTO {
+    private LocalDate date;
+    private Map<StatMetric, Long> counts;
+}
@@ -0,0 +1,18 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import com.nustconnect.backend.Enums.StatMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentStatsDTO {
+    private String department;
+    private Map<StatMetric, Long> counts;
+}
@@ -0,0 +1,24 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import com.nustconnect.backend.Enums.LifecycleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LifecycleStatsResponseDTO {
+    private LifecycleType type;
+    private Long runs;
+    private Long totalTransitioned;
+    private Long lastTransitioned;
+    private Long lastDurationMs;
+    private LocalDateTime lastRunAt;
+    private Long failures;
+    private String lastError;
+}
@@ -0,0 +1,29 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowLogEntryDTO {
+    private String type;
+    private LocalDateTime at;
+    private Long durationMs;
+    private String method;
+    private String endpoint;
+    private Long userId;
+    private String sql;
+    private List<String> parameters;
+    private Integer batchSize;
+    private Integer status;
+    private Integer statements;
+    private Long sqlMs;
+    private List<String> stack;
+}
@@ -0,0 +1,18 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionStatsResponseDTO {
+    private Integer users;
+    private Integer suggestions;
+    private LocalDateTime computedAt;
+}
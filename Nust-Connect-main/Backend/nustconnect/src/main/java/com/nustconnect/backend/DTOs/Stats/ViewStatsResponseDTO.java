@@ -0,0 +1,19 @@
+package com.nustconnect.backend.DTOs.Stats;
+
+import com.nustconnect.backend.Enums.ViewTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewStatsResponseDTO {
+    private ViewTargetType targetType;
+    private Long targetId;
+    private Long totalViews;
+    private Long uniqueViewers; // HyperLogLog estimate, ~2% error
+    private Long pendingViews;  // recorded but not yet flushed to the database
+}
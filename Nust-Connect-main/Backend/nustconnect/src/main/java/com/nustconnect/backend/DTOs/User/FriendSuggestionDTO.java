@@ -0,0 +1,20 @@
+package com.nustconnect.backend.DTOs.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendSuggestionDTO {
+    private UserSummaryDTO user;
+    private Double score;
+    private Integer mutualFriends;
+    private Integer sharedClubs;
+    private Integer sharedEvents;
+    private Boolean sameDepartment;
+    private Boolean sameYear;
+}
@@ -0,0 +1,3 @@
+package com.nustconnect.backend.Enums;
+
+public enum LifecycleType { JOB_POSTING, ANNOUNCEMENT, RIDE_SHARE, EVENT }
@@ -0,0 +1,4 @@
+package com.nustconnect.backend.Enums;
+
+// Ordered from least to most severe; the strongest matched action wins
+public enum ScreeningAction { ALLOW, FLAG, HIDE, BLOCK }
@@ -0,0 +1,3 @@
+package com.nustconnect.backend.Enums;
+
+public enum StatMetric { POSTS, LIKES, MESSAGES, REGISTRATIONS, ORDERS }
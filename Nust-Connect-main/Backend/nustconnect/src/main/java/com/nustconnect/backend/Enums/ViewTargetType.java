@@ -0,0 +1,3 @@
+package com.nustconnect.backend.Enums;
+
+public enum ViewTargetType { MARKETPLACE_ITEM, JOB_POSTING, ANNOUNCEMENT }
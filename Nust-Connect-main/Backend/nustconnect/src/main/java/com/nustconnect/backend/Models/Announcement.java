@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "announcement", indexes = {
         @Index(name = "idx_created_date", columnList = "created_at"),  // ← FIXED from posted_at
-        @Index(name = "idx_priority", columnList = "priority")
+        @Index(name = "idx_priority", columnList = "priority"),
+        @Index(name = "idx_announcement_expiry", columnList = "expiry_date")
 })
 @Getter
 @Setter
@@ -54,7 +55,7 @@ public class Announcement extends BaseEntity {
     @Builder.Default
     private Boolean isPinned = false;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false) // only ViewTrackingService batches write this
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -62,10 +63,6 @@ public class Announcement extends BaseEntity {
     @Column(name = "attachment_url", length = 500)
     private String attachmentUrl;
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public boolean isExpired() {
         return expiryDate != null && LocalDateTime.now().isAfter(expiryDate);
     }
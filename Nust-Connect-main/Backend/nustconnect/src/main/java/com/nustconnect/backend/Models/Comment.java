@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "comments", indexes = {
         @Index(name = "idx_post_created", columnList = "post_id, created_at"),
-        @Index(name = "idx_user_created", columnList = "user_id, created_at")
+        @Index(name = "idx_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_comment_thread", columnList = "post_id, parent_comment_id, comment_id")
 })
 @SQLDelete(sql = "UPDATE comments SET deleted_at = NOW() WHERE comment_id = ?")
 @Where(clause = "deleted_at IS NULL")
@@ -44,6 +45,12 @@ public class Comment extends BaseEntity {
     @Builder.Default
     private Boolean isEdited = false;
 
+    // Set by content screening and cleared only when moderation releases the comment; a held
+    // comment is shown to its author alone and left out of the post's comment count
+    @Column(name = "hidden_pending_review", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    @Builder.Default
+    private Boolean hiddenPendingReview = false;
+
     // For nested comments (replies)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_comment_id")
@@ -94,6 +101,14 @@ public class Comment extends BaseEntity {
         this.isEdited = isEdited;
     }
 
+    public Boolean getHiddenPendingReview() {
+        return hiddenPendingReview;
+    }
+
+    public void setHiddenPendingReview(Boolean hiddenPendingReview) {
+        this.hiddenPendingReview = hiddenPendingReview;
+    }
+
     public Comment getParentComment() {
         return parentComment;
     }
@@ -0,0 +1,84 @@
+package com.nustconnect.backend.Models;
+
+import com.nustconnect.backend.Enums.StatMetric;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// ============== DailyStat.java ==============
+// Activity per day, metric and department, rolled up by StatisticsService so the admin
+// dashboard never counts the source tables row by row
+@Entity
+@Table(name = "daily_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"stat_date", "metric", "department"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStat extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private StatMetric metric;
+
+    // Users without a department are counted under StatisticsService.NO_DEPARTMENT
+    @Column(name = "department", nullable = false, length = 100)
+    private String department;
+
+    @Column(name = "total", nullable = false)
+    @Builder.Default
+    private Long total = 0L;
+
+    // Manual getters and setters to resolve Lombok issues
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public StatMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(StatMetric metric) {
+        this.metric = metric;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
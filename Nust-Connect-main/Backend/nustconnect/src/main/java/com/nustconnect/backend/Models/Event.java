@@ -19,7 +19,8 @@ import java.util.List;
 @Table(name = "events", indexes = {
         @Index(name = "idx_start_time", columnList = "start_time"),
         @Index(name = "idx_club_start", columnList = "club_id, start_time"),
-        @Index(name = "idx_approval", columnList = "approval_status")
+        @Index(name = "idx_approval", columnList = "approval_status"),
+        @Index(name = "idx_event_completed_end", columnList = "is_completed, end_time")
 })
 @SQLDelete(sql = "UPDATE events SET deleted_at = NOW() WHERE event_id = ?")
 @Where(clause = "deleted_at IS NULL")
@@ -102,6 +103,11 @@ public class Event extends BaseEntity {
     @Builder.Default
     private Boolean qrCodeRequired = false;
 
+    // Set by the lifecycle sweeper once endTime has passed
+    @Column(name = "is_completed", nullable = false)
+    @Builder.Default
+    private Boolean isCompleted = false;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     @Builder.Default
@@ -288,6 +294,14 @@ public class Event extends BaseEntity {
         this.qrCodeRequired = qrCodeRequired;
     }
 
+    public Boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+
     public List<EventRegistration> getRegistrations() {
         return registrations;
     }
@@ -59,6 +59,10 @@ public class FoundItem extends BaseEntity {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    // 64-bit dHash of the photo, filled in by ImageMatchingService after upload
+    @Column(name = "image_hash")
+    private Long imageHash;
+
     @Column(name = "is_claimed")
     @Builder.Default
     private Boolean isClaimed = false;
@@ -166,6 +170,14 @@ public class FoundItem extends BaseEntity {
         this.imageUrl = imageUrl;
     }
 
+    public Long getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(Long imageHash) {
+        this.imageHash = imageHash;
+    }
+
     public User getClaimedBy() {
         return claimedBy;
     }
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "job_posting", indexes = {
         @Index(name = "idx_created_date", columnList = "created_at"),  // ← FIXED from posted_at
-        @Index(name = "idx_type_status", columnList = "job_type, status")
+        @Index(name = "idx_type_status", columnList = "job_type, status"),
+        @Index(name = "idx_job_status_deadline", columnList = "status, application_deadline")
 })
 @Getter
 @Setter
@@ -67,14 +68,10 @@ public class JobPosting extends BaseEntity {
     @Builder.Default
     private String status = "ACTIVE"; // ACTIVE, CLOSED, EXPIRED
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false) // only ViewTrackingService batches write this
     @Builder.Default
     private Integer viewCount = 0;
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public void close() {
         this.status = "CLOSED";
     }
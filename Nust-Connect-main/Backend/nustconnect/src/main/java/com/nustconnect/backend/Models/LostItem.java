@@ -59,6 +59,10 @@ public class LostItem extends BaseEntity {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    // 64-bit dHash of the photo, filled in by ImageMatchingService after upload
+    @Column(name = "image_hash")
+    private Long imageHash;
+
     @Column(name = "is_found")
     @Builder.Default
     private Boolean isFound = false;
@@ -156,4 +160,12 @@ public class LostItem extends BaseEntity {
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    public Long getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(Long imageHash) {
+        this.imageHash = imageHash;
+    }
 }
\ No newline at end of file
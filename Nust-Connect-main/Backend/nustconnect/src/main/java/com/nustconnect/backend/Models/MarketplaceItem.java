@@ -80,7 +80,7 @@ public class MarketplaceItem extends BaseEntity {
     @Column(name = "location", length = 200)
     private String location;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false) // only ViewTrackingService batches write this
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -89,10 +89,6 @@ public class MarketplaceItem extends BaseEntity {
     private Boolean isNegotiable = false;
 
     // Helper methods
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public void markAsSold() {
         this.status = MarketplaceItemStatus.SOLD;
     }
@@ -58,6 +58,12 @@ public class Post extends BaseEntity {
     @Builder.Default
     private Boolean isEdited = false;
 
+    // Set by content screening and cleared only when moderation releases the post, so it stays
+    // independent of the visibility the author picks
+    @Column(name = "hidden_pending_review", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    @Builder.Default
+    private Boolean hiddenPendingReview = false;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
@@ -156,6 +162,14 @@ public class Post extends BaseEntity {
         this.isEdited = isEdited;
     }
 
+    public Boolean getHiddenPendingReview() {
+        return hiddenPendingReview;
+    }
+
+    public void setHiddenPendingReview(Boolean hiddenPendingReview) {
+        this.hiddenPendingReview = hiddenPendingReview;
+    }
+
     public List<Comment> getComments() {
         return comments;
     }
@@ -0,0 +1,122 @@
+package com.nustconnect.backend.Models;
+
+import com.nustconnect.backend.Enums.ReportTargetType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// ============== ReportTarget.java ==============
+// One row per reported piece of content, kept in step with its reports by ReportService
+@Entity
+@Table(name = "report_targets",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"target_type", "target_id"})
+        },
+        indexes = {
+                @Index(name = "idx_report_target_queue", columnList = "severity_score, last_reported_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportTarget extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private ReportTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    // PENDING or REVIEWED reports
+    @Column(name = "open_count", nullable = false)
+    @Builder.Default
+    private Integer openCount = 0;
+
+    @Column(name = "total_count", nullable = false)
+    @Builder.Default
+    private Integer totalCount = 0;
+
+    // Sum of the severity points of the open reports; 0 once nothing is open
+    @Column(name = "severity_score", nullable = false)
+    @Builder.Default
+    private Integer severityScore = 0;
+
+    @Column(name = "first_reported_at")
+    private LocalDateTime firstReportedAt;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+
+    // Manual getters and setters to resolve Lombok issues
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ReportTargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(ReportTargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public Integer getOpenCount() {
+        return openCount;
+    }
+
+    public void setOpenCount(Integer openCount) {
+        this.openCount = openCount;
+    }
+
+    public Integer getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(Integer totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public Integer getSeverityScore() {
+        return severityScore;
+    }
+
+    public void setSeverityScore(Integer severityScore) {
+        this.severityScore = severityScore;
+    }
+
+    public LocalDateTime getFirstReportedAt() {
+        return firstReportedAt;
+    }
+
+    public void setFirstReportedAt(LocalDateTime firstReportedAt) {
+        this.firstReportedAt = firstReportedAt;
+    }
+
+    public LocalDateTime getLastReportedAt() {
+        return lastReportedAt;
+    }
+
+    public void setLastReportedAt(LocalDateTime lastReportedAt) {
+        this.lastReportedAt = lastReportedAt;
+    }
+}
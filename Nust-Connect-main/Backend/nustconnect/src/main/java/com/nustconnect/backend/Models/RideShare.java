@@ -13,7 +13,8 @@ import java.util.List;
 @Entity
 @Table(name = "ride_share", indexes = {
         @Index(name = "idx_departure_time", columnList = "departure_time"),
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_status", columnList = "status"),
+        @Index(name = "idx_ride_status_departure", columnList = "status, departure_time")
 })
 @Getter
 @Setter
@@ -40,13 +41,25 @@ public class RideShare extends BaseEntity {
     @Column(name = "destination", nullable = false, length = 200)
     private String destination;
 
+    @Column(name = "pickup_latitude")
+    private Double pickupLatitude;
+
+    @Column(name = "pickup_longitude")
+    private Double pickupLongitude;
+
+    @Column(name = "destination_latitude")
+    private Double destinationLatitude;
+
+    @Column(name = "destination_longitude")
+    private Double destinationLongitude;
+
     @NotNull(message = "Departure time is required")
     @Future(message = "Departure time must be in the future")
     @Column(name = "departure_time", nullable = false)
     private LocalDateTime departureTime;
 
     @NotNull(message = "Available seats required")
-    @Min(value = 1, message = "Must have at least 1 seat")
+    @Min(value = 0, message = "Available seats cannot be negative") // reaches 0 when the ride is FULL
     @Max(value = 8, message = "Cannot exceed 8 seats")
     @Column(name = "available_seats", nullable = false)
     private Integer availableSeats;
@@ -74,6 +87,11 @@ public class RideShare extends BaseEntity {
         return availableSeats <= 0;
     }
 
+    public boolean hasCoordinates() {
+        return pickupLatitude != null && pickupLongitude != null
+                && destinationLatitude != null && destinationLongitude != null;
+    }
+
     public void decrementSeats() {
         if (availableSeats > 0) {
             this.availableSeats--;
@@ -116,6 +134,38 @@ public class RideShare extends BaseEntity {
         this.destination = destination;
     }
 
+    public Double getPickupLatitude() {
+        return pickupLatitude;
+    }
+
+    public void setPickupLatitude(Double pickupLatitude) {
+        this.pickupLatitude = pickupLatitude;
+    }
+
+    public Double getPickupLongitude() {
+        return pickupLongitude;
+    }
+
+    public void setPickupLongitude(Double pickupLongitude) {
+        this.pickupLongitude = pickupLongitude;
+    }
+
+    public Double getDestinationLatitude() {
+        return destinationLatitude;
+    }
+
+    public void setDestinationLatitude(Double destinationLatitude) {
+        this.destinationLatitude = destinationLatitude;
+    }
+
+    public Double getDestinationLongitude() {
+        return destinationLongitude;
+    }
+
+    public void setDestinationLongitude(Double destinationLongitude) {
+        this.destinationLongitude = destinationLongitude;
+    }
+
     public LocalDateTime getDepartureTime() {
         return departureTime;
     }
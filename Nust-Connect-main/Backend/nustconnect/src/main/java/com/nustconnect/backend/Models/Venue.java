@@ -7,6 +7,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "venues", indexes = {
@@ -63,6 +66,11 @@ public class Venue {
     @Builder.Default
     private Boolean hasWhiteboard = false;
 
+    // Venues predate BaseEntity's columns; this one is enough to version them for conditional GETs
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     // Helper methods
     public boolean isAvailableForBooking() {
         return availabilityStatus == VenueAvailability.AVAILABLE;
@@ -148,4 +156,12 @@ public class Venue {
     public void setHasWhiteboard(Boolean hasWhiteboard) {
         this.hasWhiteboard = hasWhiteboard;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,107 @@
+package com.nustconnect.backend.Models;
+
+import com.nustconnect.backend.Enums.ViewTargetType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// ============== ViewStatistic.java ==============
+@Entity
+@Table(name = "view_statistic",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"target_type", "target_id"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewStatistic extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long statisticId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 30)
+    private ViewTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    // Views recorded since view tracking started; the entity's own view_count also includes older views
+    @Column(name = "tracked_views", nullable = false)
+    @Builder.Default
+    private Long trackedViews = 0L;
+
+    @Column(name = "unique_viewers", nullable = false)
+    @Builder.Default
+    private Long uniqueViewers = 0L;
+
+    // Serialized HyperLogLog registers
+    @Lob
+    @Column(name = "viewer_sketch")
+    private byte[] viewerSketch;
+
+    @Column(name = "last_viewed_at")
+    private LocalDateTime lastViewedAt;
+
+    // Manual getters and setters to resolve Lombok issues
+    public Long getStatisticId() {
+        return statisticId;
+    }
+
+    public void setStatisticId(Long statisticId) {
+        this.statisticId = statisticId;
+    }
+
+    public ViewTargetType getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(ViewTargetType targetType) {
+        this.targetType = targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public Long getTrackedViews() {
+        return trackedViews;
+    }
+
+    public void setTrackedViews(Long trackedViews) {
+        this.trackedViews = trackedViews;
+    }
+
+    public Long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(Long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public byte[] getViewerSketch() {
+        return viewerSketch;
+    }
+
+    public void setViewerSketch(byte[] viewerSketch) {
+        this.viewerSketch = viewerSketch;
+    }
+
+    public LocalDateTime getLastViewedAt() {
+        return lastViewedAt;
+    }
+
+    public void setLastViewedAt(LocalDateTime lastViewedAt) {
+        this.lastViewedAt = lastViewedAt;
+    }
+}
@@ -1,24 +1,48 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.Announcement;
+import com.nustconnect.backend.Repositories.Projections.AnnouncementListVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
     List<Announcement> findByPostedByUserId(Long userId);
+    long countByPostedByUserId(Long userId);
     List<Announcement> findByCategory(String category);
     List<Announcement> findByDepartment(String department);
     List<Announcement> findByIsPinned(Boolean isPinned);
+    long countByIsPinned(Boolean isPinned);
     Page<Announcement> findByOrderByCreatedAtDesc(Pageable pageable);
 
     @Query("SELECT a FROM Announcement a WHERE (a.expiryDate IS NULL OR a.expiryDate > :now) AND a.deletedAt IS NULL ORDER BY a.isPinned DESC, a.createdAt DESC")
     List<Announcement> findActiveAnnouncements(@Param("now") LocalDateTime now);
+
+    // Same filter as findActiveAnnouncements, reduced to what tells one version of the list from another
+    @Query("SELECT COUNT(a) AS rowCount, MAX(a.announcementId) AS maxId, MAX(a.updatedAt) AS lastModified, " +
+            "SUM(COALESCE(a.viewCount, 0)) AS viewCount " +
+            "FROM Announcement a WHERE (a.expiryDate IS NULL OR a.expiryDate > :now) AND a.deletedAt IS NULL")
+    AnnouncementListVersionView findActiveAnnouncementsVersion(@Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(a) FROM Announcement a WHERE (a.expiryDate IS NULL OR a.expiryDate > :now) AND a.deletedAt IS NULL")
+    long countActiveAnnouncements(@Param("now") LocalDateTime now);
+
+    // ==================== LIFECYCLE ====================
+    @Query("SELECT a.announcementId FROM Announcement a WHERE a.expiryDate < :now AND a.deletedAt IS NULL ORDER BY a.expiryDate ASC")
+    List<Long> findDueForArchive(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Expired announcements are archived with the regular soft delete so every deletedAt filter hides them
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Announcement a SET a.deletedAt = :now, a.updatedAt = :now " +
+            "WHERE a.announcementId IN :ids AND a.expiryDate < :now AND a.deletedAt IS NULL")
+    int archiveAnnouncements(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
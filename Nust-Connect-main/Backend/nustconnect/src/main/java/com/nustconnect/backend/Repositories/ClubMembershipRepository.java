@@ -1,18 +1,42 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.ClubMembership;
+import com.nustconnect.backend.Repositories.Projections.ClubMemberView;
+import com.nustconnect.backend.Repositories.Projections.GroupMemberView;
+import com.nustconnect.backend.Repositories.Projections.MembershipIndexView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClubMembershipRepository extends JpaRepository<ClubMembership, Long> {
     List<ClubMembership> findByClubClubId(Long clubId);
+    long countByClubClubId(Long clubId);
     List<ClubMembership> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     List<ClubMembership> findByClubClubIdAndStatus(Long clubId, String status);
     Optional<ClubMembership> findByClubClubIdAndUserUserId(Long clubId, Long userId);
     boolean existsByClubClubIdAndUserUserId(Long clubId, Long userId);
     Long countByClubClubIdAndStatus(Long clubId, String status);
+
+    @Query("SELECT m.user.userId AS userId, m.club.clubId AS groupId FROM ClubMembership m WHERE m.status = 'ACTIVE'")
+    List<GroupMemberView> findAllActiveMemberPairs();
+
+    @Query("SELECT m.club.clubId AS clubId, m.user.userId AS userId, m.memberRole AS memberRole, m.status AS status " +
+            "FROM ClubMembership m")
+    List<MembershipIndexView> findAllIndexViews();
+
+    @Query("SELECT m FROM ClubMembership m JOIN FETCH m.user JOIN FETCH m.club WHERE m.club.clubId = :clubId")
+    List<ClubMembership> findByClubIdWithUsers(@Param("clubId") Long clubId);
+
+    @Query("SELECT m.membershipId AS membershipId, u.userId AS userId, u.name AS name, u.department AS department, " +
+            "pr.profilePicture AS profilePicture, m.memberRole AS memberRole, m.status AS status, m.createdAt AS joinedAt " +
+            "FROM ClubMembership m JOIN m.user u LEFT JOIN Profile pr ON pr.user = u " +
+            "WHERE m.club.clubId = :clubId AND u.userId IN :userIds ORDER BY u.userId")
+    List<ClubMemberView> findMemberViews(@Param("clubId") Long clubId, @Param("userIds") Collection<Long> userIds);
 }
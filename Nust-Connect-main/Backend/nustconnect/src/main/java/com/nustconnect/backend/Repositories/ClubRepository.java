@@ -2,21 +2,43 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Enums.ClubCategory;
 import com.nustconnect.backend.Models.Club;
+import com.nustconnect.backend.Repositories.Projections.ClubListView;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Long> {
     List<Club> findByCategory(ClubCategory category);
+    long countByCategory(ClubCategory category);
     List<Club> findByCreatedByUserId(Long userId);
     Optional<Club> findByName(String name);
     List<Club> findByIsApproved(Boolean isApproved);
+    long countByIsApproved(Boolean isApproved);
 
     @Query("SELECT c FROM Club c WHERE c.name LIKE %:keyword% OR c.description LIKE %:keyword%")
     List<Club> searchClubs(@Param("keyword") String keyword);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.clubId) AS maxId, MAX(c.updatedAt) AS lastModified FROM Club c")
+    ListVersionView findAllVersion();
+
+    // ==================== STREAMING ====================
+    // Forward-only scalar rows, 500 per fetch; Club's soft-delete restriction still applies
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.clubId AS clubId, c.name AS name, c.description AS description, c.category AS category, " +
+            "c.logoUrl AS logoUrl, c.coverImageUrl AS coverImageUrl, c.memberCount AS memberCount, " +
+            "c.isActive AS isActive, c.isApproved AS isApproved, c.isRecruitmentOpen AS isRecruitmentOpen, " +
+            "c.contactEmail AS contactEmail, c.createdAt AS createdAt, u.userId AS createdById, " +
+            "u.name AS createdByName, u.department AS createdByDepartment, p.profilePicture AS createdByProfilePicture " +
+            "FROM Club c LEFT JOIN c.createdBy u LEFT JOIN Profile p ON p.user = u ORDER BY c.clubId")
+    Stream<ClubListView> streamClubViews();
 }
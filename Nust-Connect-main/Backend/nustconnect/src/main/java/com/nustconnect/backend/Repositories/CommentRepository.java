@@ -1,19 +1,68 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.Comment;
+import com.nustconnect.backend.Repositories.Projections.CommentView;
+import com.nustconnect.backend.Repositories.Projections.ReplyCountView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    String VIEW_SELECT = "SELECT c.commentId AS commentId, c.post.postId AS postId, c.content AS content, " +
+            "c.isEdited AS isEdited, c.parentComment.commentId AS parentCommentId, c.createdAt AS createdAt, " +
+            "u.userId AS authorId, u.name AS authorName, u.department AS authorDepartment, " +
+            "pr.profilePicture AS authorProfilePicture " +
+            "FROM Comment c JOIN c.user u LEFT JOIN Profile pr ON pr.user = u ";
+
+    String VISIBLE_TO_VIEWER = "(c.hiddenPendingReview = false OR u.email = :viewerEmail) ";
+
     List<Comment> findByPostPostId(Long postId);
     List<Comment> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     Long countByPostPostId(Long postId);
 
-    @Query("SELECT c FROM Comment c WHERE c.post.postId = :postId AND c.deletedAt IS NULL ORDER BY c.createdAt DESC")
-    List<Comment> findActiveCommentsByPost(@Param("postId") Long postId);
+    // Comments held for review are left out for everyone but their author (viewerEmail may be null)
+    @Query("SELECT c FROM Comment c JOIN c.user u WHERE c.post.postId = :postId AND c.deletedAt IS NULL " +
+            "AND " + VISIBLE_TO_VIEWER + "ORDER BY c.createdAt DESC")
+    List<Comment> findActiveCommentsByPost(@Param("postId") Long postId, @Param("viewerEmail") String viewerEmail);
+
+    // ==================== VIEW PROJECTIONS ====================
+    @Query(VIEW_SELECT + "WHERE c.post.postId = :postId AND " + VISIBLE_TO_VIEWER + "ORDER BY c.createdAt DESC")
+    List<CommentView> findCommentViewsByPost(@Param("postId") Long postId, @Param("viewerEmail") String viewerEmail);
+
+    // Keyset pages walk idx_comment_thread newest first; the caller passes the last id it saw
+    @Query(VIEW_SELECT + "WHERE c.post.postId = :postId AND c.parentComment IS NULL AND c.commentId < :before " +
+            "AND " + VISIBLE_TO_VIEWER + "ORDER BY c.commentId DESC")
+    List<CommentView> findTopLevelViews(@Param("postId") Long postId, @Param("before") Long before,
+                                        @Param("viewerEmail") String viewerEmail, Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE c.parentComment.commentId = :parentId AND c.commentId > :after " +
+            "AND " + VISIBLE_TO_VIEWER + "ORDER BY c.commentId ASC")
+    List<CommentView> findReplyViews(@Param("parentId") Long parentId, @Param("after") Long after,
+                                     @Param("viewerEmail") String viewerEmail, Pageable pageable);
+
+    // The first few replies of every thread on a page in one query, oldest first; held replies are
+    // dropped before numbering so they don't take a preview slot
+    @Query(VIEW_SELECT + "WHERE c.commentId IN (" +
+            "SELECT r.id FROM (SELECT c2.commentId AS id, " +
+            "ROW_NUMBER() OVER (PARTITION BY c2.parentComment.commentId ORDER BY c2.commentId) AS rn " +
+            "FROM Comment c2 JOIN c2.user u2 WHERE c2.parentComment.commentId IN :parentIds " +
+            "AND (c2.hiddenPendingReview = false OR u2.email = :viewerEmail)) r WHERE r.rn <= :perThread) " +
+            "ORDER BY c.commentId ASC")
+    List<CommentView> findFirstReplyViews(@Param("parentIds") Collection<Long> parentIds,
+                                          @Param("perThread") int perThread,
+                                          @Param("viewerEmail") String viewerEmail);
+
+    @Query("SELECT c.parentComment.commentId AS parentId, COUNT(c) AS total FROM Comment c JOIN c.user u " +
+            "WHERE c.parentComment.commentId IN :parentIds AND " + VISIBLE_TO_VIEWER +
+            "GROUP BY c.parentComment.commentId")
+    List<ReplyCountView> countRepliesByParent(@Param("parentIds") Collection<Long> parentIds,
+                                              @Param("viewerEmail") String viewerEmail);
 }
@@ -0,0 +1,54 @@
+package com.nustconnect.backend.Repositories;
+
+import com.nustconnect.backend.Models.DailyStat;
+import com.nustconnect.backend.Repositories.Projections.DailyCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyStatRepository extends JpaRepository<DailyStat, Long> {
+    List<DailyStat> findByStatDateBetween(LocalDate from, LocalDate to);
+
+    @Query("SELECT MAX(d.statDate) FROM DailyStat d")
+    Optional<LocalDate> findLatestStatDate();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyStat d WHERE d.statDate BETWEEN :from AND :to")
+    int deleteByStatDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ==================== ROLLUP SOURCES ====================
+    // One grouped scan per metric covers the whole range, however many days it spans
+
+    @Query("SELECT CAST(p.createdAt AS LocalDate) AS day, u.department AS department, COUNT(p) AS total " +
+            "FROM Post p JOIN p.user u WHERE p.createdAt >= :start AND p.createdAt < :end " +
+            "GROUP BY CAST(p.createdAt AS LocalDate), u.department")
+    List<DailyCountView> countPostsPerDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT CAST(l.createdAt AS LocalDate) AS day, u.department AS department, COUNT(l) AS total " +
+            "FROM Like l JOIN l.user u WHERE l.createdAt >= :start AND l.createdAt < :end " +
+            "GROUP BY CAST(l.createdAt AS LocalDate), u.department")
+    List<DailyCountView> countLikesPerDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT CAST(m.sentAt AS LocalDate) AS day, u.department AS department, COUNT(m) AS total " +
+            "FROM Message m JOIN m.sender u WHERE m.sentAt >= :start AND m.sentAt < :end " +
+            "GROUP BY CAST(m.sentAt AS LocalDate), u.department")
+    List<DailyCountView> countMessagesPerDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT CAST(u.createdAt AS LocalDate) AS day, u.department AS department, COUNT(u) AS total " +
+            "FROM User u WHERE u.createdAt >= :start AND u.createdAt < :end " +
+            "GROUP BY CAST(u.createdAt AS LocalDate), u.department")
+    List<DailyCountView> countRegistrationsPerDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT CAST(o.createdAt AS LocalDate) AS day, u.department AS department, COUNT(o) AS total " +
+            "FROM MarketplaceOrder o JOIN o.buyer u WHERE o.createdAt >= :start AND o.createdAt < :end " +
+            "GROUP BY CAST(o.createdAt AS LocalDate), u.department")
+    List<DailyCountView> countOrdersPerDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -2,9 +2,15 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Enums.EventRegistrationStatus;
 import com.nustconnect.backend.Models.EventRegistration;
+import com.nustconnect.backend.Repositories.Projections.GroupMemberView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +18,23 @@ import java.util.Optional;
 public interface EventRegistrationRepository extends JpaRepository<EventRegistration, Long> {
     List<EventRegistration> findByEventEventId(Long eventId);
     List<EventRegistration> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     Optional<EventRegistration> findByEventEventIdAndUserUserId(Long eventId, Long userId);
     boolean existsByEventEventIdAndUserUserId(Long eventId, Long userId);
     Long countByEventEventIdAndStatus(Long eventId, EventRegistrationStatus status);
     List<EventRegistration> findByEventEventIdAndStatus(Long eventId, EventRegistrationStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventRegistration r SET r.status = :newStatus, r.cancellationReason = :reason, r.updatedAt = :now " +
+            "WHERE r.event.eventId IN :eventIds AND r.status = :oldStatus")
+    int updateStatusForEvents(@Param("eventIds") Collection<Long> eventIds,
+                              @Param("oldStatus") EventRegistrationStatus oldStatus,
+                              @Param("newStatus") EventRegistrationStatus newStatus,
+                              @Param("reason") String reason,
+                              @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.user.userId AS userId, r.event.eventId AS groupId FROM EventRegistration r " +
+            "WHERE r.status = :status AND r.event.startTime >= :since")
+    List<GroupMemberView> findMemberPairsByStatusSince(@Param("status") EventRegistrationStatus status,
+                                                       @Param("since") LocalDateTime since);
 }
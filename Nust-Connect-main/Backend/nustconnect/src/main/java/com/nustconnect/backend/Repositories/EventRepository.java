@@ -2,27 +2,67 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Enums.EventApprovalStatus;
 import com.nustconnect.backend.Models.Event;
+import com.nustconnect.backend.Repositories.Projections.EventListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // List rows carry the club, venue and creator columns the response needs instead of
+    // loading each of those entities (and their own eager associations) per event
+    String LIST_SELECT = "SELECT e.eventId AS eventId, e.title AS title, e.description AS description, " +
+            "e.startTime AS startTime, e.endTime AS endTime, e.maxAttendees AS maxAttendees, " +
+            "e.currentAttendees AS currentAttendees, e.isPublic AS isPublic, e.eventImageUrl AS eventImageUrl, " +
+            "e.approvalStatus AS approvalStatus, e.rejectionReason AS rejectionReason, e.ticketPrice AS ticketPrice, " +
+            "e.hasTickets AS hasTickets, e.requiresRegistration AS requiresRegistration, e.createdAt AS createdAt, " +
+            "c.clubId AS clubId, c.name AS clubName, c.logoUrl AS clubLogoUrl, c.category AS clubCategory, " +
+            "c.memberCount AS clubMemberCount, v.name AS venueName, " +
+            "u.userId AS creatorId, u.name AS creatorName, u.department AS creatorDepartment, " +
+            "p.profilePicture AS creatorProfilePicture " +
+            "FROM Event e LEFT JOIN e.club c LEFT JOIN e.venue v LEFT JOIN e.createdBy u " +
+            "LEFT JOIN Profile p ON p.user = u ";
+
     List<Event> findByClubClubId(Long clubId);
+    long countByClubClubId(Long clubId);
     List<Event> findByCreatedByUserId(Long userId);
     List<Event> findByApprovalStatus(EventApprovalStatus status);
+    long countByApprovalStatus(EventApprovalStatus status);
     List<Event> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
     Page<Event> findByApprovalStatusOrderByStartTimeDesc(EventApprovalStatus status, Pageable pageable);
 
     @Query("SELECT e FROM Event e WHERE e.startTime >= :now AND e.approvalStatus = 'APPROVED' AND e.deletedAt IS NULL ORDER BY e.startTime ASC")
     List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
 
-    @Query("SELECT e FROM Event e WHERE e.deletedAt IS NULL AND e.approvalStatus = 'APPROVED'")
+    @Query("SELECT e FROM Event e WHERE e.deletedAt IS NULL AND e.approvalStatus = 'APPROVED' AND e.isCompleted = false")
     Page<Event> findAllActiveEvents(Pageable pageable);
+
+    // ==================== LIST PROJECTIONS ====================
+    @Query(value = LIST_SELECT + "WHERE e.deletedAt IS NULL AND e.approvalStatus = 'APPROVED' AND e.isCompleted = false",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.deletedAt IS NULL AND e.approvalStatus = 'APPROVED' AND e.isCompleted = false")
+    Page<EventListView> findActiveEventViews(Pageable pageable);
+
+    @Query(LIST_SELECT + "WHERE e.startTime >= :now AND e.approvalStatus = 'APPROVED' AND e.deletedAt IS NULL ORDER BY e.startTime ASC")
+    List<EventListView> findUpcomingEventViews(@Param("now") LocalDateTime now);
+
+    @Query(LIST_SELECT + "WHERE e.approvalStatus = :status AND e.deletedAt IS NULL ORDER BY e.startTime ASC")
+    List<EventListView> findEventViewsByApprovalStatus(@Param("status") EventApprovalStatus status);
+
+    // ==================== LIFECYCLE ====================
+    @Query("SELECT e.eventId FROM Event e WHERE e.isCompleted = false AND e.endTime < :now ORDER BY e.endTime ASC")
+    List<Long> findDueForCompletion(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.isCompleted = true, e.updatedAt = :now " +
+            "WHERE e.eventId IN :ids AND e.isCompleted = false AND e.endTime < :now")
+    int completeEvents(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -14,7 +14,9 @@ public interface EventTicketRepository extends JpaRepository<EventTicket, Long>
     Optional<EventTicket> findByQrCode(String qrCode);
     Optional<EventTicket> findByTicketNumber(String ticketNumber);
     List<EventTicket> findByEventEventId(Long eventId);
+    long countByEventEventId(Long eventId);
     List<EventTicket> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     Optional<EventTicket> findByEventEventIdAndUserUserId(Long eventId, Long userId);
 
     // Or better - use custom query
@@ -11,10 +11,12 @@ import java.util.List;
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     List<Feedback> findBySubmittedByUserId(Long userId);
+    long countBySubmittedByUserId(Long userId);
     List<Feedback> findByStatus(String status);
     List<Feedback> findByFeedbackType(String feedbackType);
     List<Feedback> findByCategory(String category);
     List<Feedback> findByAssignedToUserId(Long assignedToId);
+    long countByAssignedToUserId(Long assignedToId);
     Page<Feedback> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
     Long countByStatus(String status);
 }
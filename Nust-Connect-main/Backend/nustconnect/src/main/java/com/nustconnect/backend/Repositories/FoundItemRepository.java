@@ -1,7 +1,9 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.FoundItem;
+import com.nustconnect.backend.Repositories.Projections.ItemImageView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,11 +13,26 @@ import java.util.List;
 @Repository
 public interface FoundItemRepository extends JpaRepository<FoundItem, Long> {
     List<FoundItem> findByFoundByUserId(Long userId);
+    long countByFoundByUserId(Long userId);
     List<FoundItem> findByLocationFoundContaining(String location);
 
     @Query("SELECT f FROM FoundItem f WHERE f.deletedAt IS NULL ORDER BY f.dateFound DESC")
     List<FoundItem> findAllActiveFoundItems();
 
+    @Query("SELECT COUNT(f) FROM FoundItem f WHERE f.deletedAt IS NULL")
+    long countActiveFoundItems();
+
+    @Query("SELECT f FROM FoundItem f WHERE f.status = 'ACTIVE' AND f.deletedAt IS NULL")
+    List<FoundItem> findOpenFoundItems();
+
     @Query("SELECT f FROM FoundItem f WHERE (f.itemName LIKE %:keyword% OR f.description LIKE %:keyword%) AND f.deletedAt IS NULL")
     List<FoundItem> searchFoundItems(@Param("keyword") String keyword);
+
+    @Query("SELECT f.id AS id, f.imageUrl AS imageUrl, f.imageHash AS imageHash FROM FoundItem f " +
+            "WHERE f.status = 'ACTIVE' AND f.imageUrl IS NOT NULL AND f.deletedAt IS NULL")
+    List<ItemImageView> findOpenItemImages();
+
+    @Modifying
+    @Query("UPDATE FoundItem f SET f.imageHash = :hash WHERE f.id = :id AND f.imageUrl = :imageUrl")
+    int updateImageHash(@Param("id") Long id, @Param("imageUrl") String imageUrl, @Param("hash") Long hash);
 }
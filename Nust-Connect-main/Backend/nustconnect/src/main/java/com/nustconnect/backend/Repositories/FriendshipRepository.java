@@ -2,6 +2,7 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Enums.FriendshipStatus;
 import com.nustconnect.backend.Models.Friendship;
+import com.nustconnect.backend.Repositories.Projections.FriendEdgeView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,9 +17,20 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
     List<Friendship> findByFollowingUserId(Long userId);
     List<Friendship> findByFollowerUserIdAndStatus(Long userId, FriendshipStatus status);
     List<Friendship> findByFollowingUserIdAndStatus(Long userId, FriendshipStatus status);
+    long countByFollowingUserIdAndStatus(Long userId, FriendshipStatus status);
     Optional<Friendship> findByFollowerUserIdAndFollowingUserId(Long followerId, Long followingId);
     boolean existsByFollowerUserIdAndFollowingUserId(Long followerId, Long followingId);
 
     @Query("SELECT f FROM Friendship f WHERE (f.follower.userId = :userId OR f.following.userId = :userId) AND f.status = 'ACCEPTED'")
     List<Friendship> findAllFriends(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(f) FROM Friendship f WHERE (f.follower.userId = :userId OR f.following.userId = :userId) AND f.status = 'ACCEPTED'")
+    long countAllFriends(@Param("userId") Long userId);
+
+    // Accepted edges only, as id pairs, for the in-memory social graph
+    @Query("SELECT f.follower.userId AS followerId, f.following.userId AS followingId FROM Friendship f WHERE f.status = 'ACCEPTED'")
+    List<FriendEdgeView> findAllAcceptedEdges();
+
+    @Query("SELECT f.follower.userId AS followerId, f.following.userId AS followingId FROM Friendship f WHERE f.status = 'PENDING'")
+    List<FriendEdgeView> findAllPendingEdges();
 }
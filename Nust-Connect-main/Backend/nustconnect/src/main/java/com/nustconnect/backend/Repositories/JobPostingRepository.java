@@ -4,17 +4,23 @@ import com.nustconnect.backend.Models.JobPosting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     List<JobPosting> findByPostedByUserId(Long userId);
+    long countByPostedByUserId(Long userId);
     List<JobPosting> findByJobType(String jobType);
+    long countByJobType(String jobType);
     List<JobPosting> findByStatus(String status);
+    long countByStatus(String status);
     Page<JobPosting> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
 
     @Query("SELECT j FROM JobPosting j WHERE j.status = 'ACTIVE' AND j.deletedAt IS NULL ORDER BY j.createdAt DESC")
@@ -22,4 +28,16 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
 
     @Query("SELECT j FROM JobPosting j WHERE (j.title LIKE %:keyword% OR j.description LIKE %:keyword% OR j.companyName LIKE %:keyword%) AND j.status = 'ACTIVE' AND j.deletedAt IS NULL")
     List<JobPosting> searchJobs(@Param("keyword") String keyword);
+
+    @Query("SELECT j FROM JobPosting j WHERE j.status = 'ACTIVE' AND j.deletedAt IS NULL AND j.applicationDeadline >= :now AND j.applicationDeadline < :until ORDER BY j.applicationDeadline ASC")
+    List<JobPosting> findExpiringJobs(@Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // ==================== LIFECYCLE ====================
+    @Query("SELECT j.jobId FROM JobPosting j WHERE j.status = 'ACTIVE' AND j.applicationDeadline < :now ORDER BY j.applicationDeadline ASC")
+    List<Long> findDueForExpiry(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobPosting j SET j.status = 'EXPIRED', j.updatedAt = :now " +
+            "WHERE j.jobId IN :ids AND j.status = 'ACTIVE' AND j.applicationDeadline < :now")
+    int expireJobs(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
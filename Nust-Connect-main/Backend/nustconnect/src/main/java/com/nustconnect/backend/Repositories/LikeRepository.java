@@ -12,6 +12,7 @@ import java.util.Optional;
 public interface LikeRepository extends JpaRepository<Like, Long> {
     List<Like> findByPostPostId(Long postId);
     List<Like> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     Optional<Like> findByUserUserIdAndPostPostId(Long userId, Long postId);
     boolean existsByUserUserIdAndPostPostId(Long userId, Long postId);
     Long countByPostPostId(Long postId);
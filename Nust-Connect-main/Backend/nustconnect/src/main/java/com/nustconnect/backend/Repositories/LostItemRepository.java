@@ -1,7 +1,9 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.LostItem;
+import com.nustconnect.backend.Repositories.Projections.ItemImageView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,11 +13,26 @@ import java.util.List;
 @Repository
 public interface LostItemRepository extends JpaRepository<LostItem, Long> {
     List<LostItem> findByReportedByUserId(Long userId);
+    long countByReportedByUserId(Long userId);
     List<LostItem> findByLocationLostContaining(String location);
 
     @Query("SELECT l FROM LostItem l WHERE l.deletedAt IS NULL ORDER BY l.dateLost DESC")
     List<LostItem> findAllActiveLostItems();
 
+    @Query("SELECT COUNT(l) FROM LostItem l WHERE l.deletedAt IS NULL")
+    long countActiveLostItems();
+
+    @Query("SELECT l FROM LostItem l WHERE l.status = 'ACTIVE' AND l.deletedAt IS NULL")
+    List<LostItem> findOpenLostItems();
+
     @Query("SELECT l FROM LostItem l WHERE (l.itemName LIKE %:keyword% OR l.description LIKE %:keyword%) AND l.deletedAt IS NULL")
     List<LostItem> searchLostItems(@Param("keyword") String keyword);
+
+    @Query("SELECT l.id AS id, l.imageUrl AS imageUrl, l.imageHash AS imageHash FROM LostItem l " +
+            "WHERE l.status = 'ACTIVE' AND l.imageUrl IS NOT NULL AND l.deletedAt IS NULL")
+    List<ItemImageView> findOpenItemImages();
+
+    @Modifying
+    @Query("UPDATE LostItem l SET l.imageHash = :hash WHERE l.id = :id AND l.imageUrl = :imageUrl")
+    int updateImageHash(@Param("id") Long id, @Param("imageUrl") String imageUrl, @Param("hash") Long hash);
 }
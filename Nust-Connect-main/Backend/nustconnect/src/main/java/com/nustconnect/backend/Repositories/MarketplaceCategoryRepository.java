@@ -1,7 +1,9 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.MarketplaceCategory;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,8 @@ import java.util.Optional;
 public interface MarketplaceCategoryRepository extends JpaRepository<MarketplaceCategory, Long> {
     Optional<MarketplaceCategory> findByName(String name);
     List<MarketplaceCategory> findByIsActive(Boolean isActive);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.id) AS maxId, MAX(c.updatedAt) AS lastModified " +
+            "FROM MarketplaceCategory c")
+    ListVersionView findAllVersion();
 }
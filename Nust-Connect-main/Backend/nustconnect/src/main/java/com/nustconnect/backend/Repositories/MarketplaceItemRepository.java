@@ -2,6 +2,8 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Enums.MarketplaceCondition;
 import com.nustconnect.backend.Models.MarketplaceItem;
+import com.nustconnect.backend.Repositories.Projections.MarketplaceItemCardView;
+import com.nustconnect.backend.Repositories.Projections.MarketplaceItemFacetView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,11 +11,25 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MarketplaceItemRepository extends JpaRepository<MarketplaceItem, Long> {
+
+    // Card rows for list views: scalar columns only, and a single image instead of joining the whole
+    // imageUrls collection. The collection has no order column, so MIN keeps the thumbnail stable.
+    String CARD_SELECT = "SELECT m.id AS id, m.title AS title, m.description AS description, m.price AS price, " +
+            "m.conditionStatus AS conditionStatus, m.status AS status, m.location AS location, " +
+            "m.viewCount AS viewCount, m.isNegotiable AS isNegotiable, m.createdAt AS createdAt, " +
+            "c.name AS categoryName, " +
+            "(SELECT MIN(img) FROM MarketplaceItem mi JOIN mi.imageUrls img WHERE mi.id = m.id) AS thumbnailUrl, " +
+            "s.userId AS sellerId, s.name AS sellerName, s.department AS sellerDepartment, " +
+            "p.profilePicture AS sellerProfilePicture " +
+            "FROM MarketplaceItem m JOIN m.seller s LEFT JOIN m.category c LEFT JOIN Profile p ON p.user = s ";
+
     List<MarketplaceItem> findBySellerUserId(Long sellerId);
+    long countBySellerUserId(Long sellerId);
     List<MarketplaceItem> findByCategoryId(Long categoryId);
 
     Page<MarketplaceItem> findByConditionStatusOrderByCreatedAtDesc(MarketplaceCondition condition, Pageable pageable);
@@ -29,4 +45,24 @@ public interface MarketplaceItemRepository extends JpaRepository<MarketplaceItem
 
     @Query("SELECT m FROM MarketplaceItem m WHERE m.conditionStatus = :condition AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
     Page<MarketplaceItem> findByConditionStatus(@Param("condition") MarketplaceCondition condition, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT m.id AS id, c.id AS categoryId, m.conditionStatus AS conditionStatus, m.price AS price, " +
+            "m.isNegotiable AS isNegotiable, m.location AS location " +
+            "FROM MarketplaceItem m LEFT JOIN m.category c " +
+            "WHERE m.status = com.nustconnect.backend.Enums.MarketplaceItemStatus.AVAILABLE AND m.deletedAt IS NULL")
+    List<MarketplaceItemFacetView> findAvailableFacetViews();
+
+    // ==================== CARD PROJECTIONS ====================
+    @Query(value = CARD_SELECT + "WHERE m.deletedAt IS NULL ORDER BY m.createdAt DESC",
+            countQuery = "SELECT COUNT(m) FROM MarketplaceItem m WHERE m.deletedAt IS NULL")
+    Page<MarketplaceItemCardView> findActiveItemCards(Pageable pageable);
+
+    @Query(CARD_SELECT + "WHERE s.userId = :sellerId AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
+    List<MarketplaceItemCardView> findItemCardsBySeller(@Param("sellerId") Long sellerId);
+
+    @Query(CARD_SELECT + "WHERE (m.title LIKE %:keyword% OR m.description LIKE %:keyword%) AND m.deletedAt IS NULL")
+    List<MarketplaceItemCardView> searchItemCards(@Param("keyword") String keyword);
+
+    @Query(CARD_SELECT + "WHERE m.id IN :ids AND m.deletedAt IS NULL")
+    List<MarketplaceItemCardView> findItemCardsByIds(@Param("ids") Collection<Long> ids);
+}
@@ -12,6 +12,7 @@ import java.util.List;
 @Repository
 public interface MarketplaceOrderRepository extends JpaRepository<MarketplaceOrder, Long> {
     List<MarketplaceOrder> findByBuyerUserId(Long buyerId);
+    long countByBuyerUserId(Long buyerId);
     List<MarketplaceOrder> findByItemId(Long itemId);
     List<MarketplaceOrder> findByStatus(MarketplaceOrderStatus status);
     Page<MarketplaceOrder> findByBuyerUserIdOrderByCreatedAtDesc(Long buyerId, Pageable pageable);
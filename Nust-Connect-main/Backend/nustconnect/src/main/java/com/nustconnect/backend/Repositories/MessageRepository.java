@@ -16,6 +16,11 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("SELECT m FROM Message m JOIN FETCH m.sender JOIN FETCH m.receiver WHERE m.sender.userId = :senderId AND m.receiver.userId = :receiverId")
     List<Message> findBySenderUserIdAndReceiverUserId(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId);
 
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.sender.userId = :userId OR m.receiver.userId = :userId")
+    long countByParticipant(@Param("userId") Long userId);
+
+    long countBySenderUserId(Long senderId);
+
     @Query("SELECT m FROM Message m JOIN FETCH m.sender JOIN FETCH m.receiver WHERE m.receiver.userId = :receiverId AND m.isRead = :isRead")
     List<Message> findByReceiverUserIdAndIsRead(@Param("receiverId") Long receiverId, @Param("isRead") Boolean isRead);
 
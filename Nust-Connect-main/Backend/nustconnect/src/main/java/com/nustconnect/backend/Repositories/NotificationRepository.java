@@ -11,6 +11,7 @@ import java.util.List;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     List<Notification> findByUserUserIdAndIsRead(Long userId, Boolean isRead);
     List<Notification> findByUserUserIdOrderByCreatedAtDesc(Long userId);
     Long countByUserUserIdAndIsRead(Long userId, Boolean isRead);
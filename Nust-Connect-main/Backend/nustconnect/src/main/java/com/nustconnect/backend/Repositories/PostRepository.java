@@ -2,6 +2,7 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.*;
 import com.nustconnect.backend.Enums.*;
+import com.nustconnect.backend.Repositories.Projections.PostListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,14 +14,37 @@ import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    String LIST_SELECT = "SELECT p.postId AS postId, p.contentText AS contentText, p.mediaUrl AS mediaUrl, " +
+            "p.visibility AS visibility, p.likeCount AS likeCount, p.commentCount AS commentCount, " +
+            "p.isEdited AS isEdited, p.createdAt AS createdAt, p.updatedAt AS updatedAt, " +
+            "u.userId AS authorId, u.name AS authorName, u.department AS authorDepartment, " +
+            "pr.profilePicture AS authorProfilePicture " +
+            "FROM Post p JOIN p.user u LEFT JOIN Profile pr ON pr.user = u ";
+
     List<Post> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     List<Post> findByVisibility(PostVisibility visibility);
+    long countByVisibility(PostVisibility visibility);
     Page<Post> findByUserUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     Page<Post> findByVisibilityOrderByCreatedAtDesc(PostVisibility visibility, Pageable pageable);
+    Page<Post> findByVisibilityAndHiddenPendingReviewFalseOrderByCreatedAtDesc(PostVisibility visibility, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM Post p WHERE p.deletedAt IS NULL AND p.hiddenPendingReview = false ORDER BY p.createdAt DESC")
     Page<Post> findAllActivePosts(Pageable pageable);
 
     @Query("SELECT p FROM Post p WHERE p.user.userId = :userId AND p.deletedAt IS NULL")
     List<Post> findActivePostsByUser(@Param("userId") Long userId);
+
+    // ==================== LIST PROJECTIONS ====================
+    // Posts held for review are left out for everyone but their author (viewerEmail may be null)
+    @Query(value = LIST_SELECT + "WHERE p.deletedAt IS NULL " +
+            "AND (p.hiddenPendingReview = false OR u.email = :viewerEmail) ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p JOIN p.user u WHERE p.deletedAt IS NULL " +
+                    "AND (p.hiddenPendingReview = false OR u.email = :viewerEmail)")
+    Page<PostListView> findActivePostViews(@Param("viewerEmail") String viewerEmail, Pageable pageable);
+
+    @Query(LIST_SELECT + "WHERE u.userId = :userId AND p.deletedAt IS NULL " +
+            "AND (p.hiddenPendingReview = false OR u.email = :viewerEmail) ORDER BY p.createdAt DESC")
+    List<PostListView> findPostViewsByUser(@Param("userId") Long userId, @Param("viewerEmail") String viewerEmail);
 }
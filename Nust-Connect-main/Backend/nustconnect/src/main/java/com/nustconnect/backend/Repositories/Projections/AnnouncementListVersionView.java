@@ -0,0 +1,6 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface AnnouncementListVersionView extends ListVersionView {
+    // View counts are flushed in batches without touching updated_at
+    Long getViewCount();
+}
@@ -0,0 +1,24 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.ClubCategory;
+
+import java.time.LocalDateTime;
+
+public interface ClubListView {
+    Long getClubId();
+    String getName();
+    String getDescription();
+    ClubCategory getCategory();
+    String getLogoUrl();
+    String getCoverImageUrl();
+    Integer getMemberCount();
+    Boolean getIsActive();
+    Boolean getIsApproved();
+    Boolean getIsRecruitmentOpen();
+    String getContactEmail();
+    LocalDateTime getCreatedAt();
+    Long getCreatedById();
+    String getCreatedByName();
+    String getCreatedByDepartment();
+    String getCreatedByProfilePicture();
+}
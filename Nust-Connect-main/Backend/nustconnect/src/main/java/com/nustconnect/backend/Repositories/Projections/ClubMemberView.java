@@ -0,0 +1,14 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import java.time.LocalDateTime;
+
+public interface ClubMemberView {
+    Long getMembershipId();
+    Long getUserId();
+    String getName();
+    String getDepartment();
+    String getProfilePicture();
+    String getMemberRole();
+    String getStatus();
+    LocalDateTime getJoinedAt();
+}
@@ -0,0 +1,16 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import java.time.LocalDateTime;
+
+public interface CommentView {
+    Long getCommentId();
+    Long getPostId();
+    String getContent();
+    Boolean getIsEdited();
+    Long getParentCommentId();
+    LocalDateTime getCreatedAt();
+    Long getAuthorId();
+    String getAuthorName();
+    String getAuthorDepartment();
+    String getAuthorProfilePicture();
+}
@@ -0,0 +1,9 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import java.time.LocalDate;
+
+public interface DailyCountView {
+    LocalDate getDay();
+    String getDepartment();
+    Long getTotal();
+}
@@ -0,0 +1,34 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.ClubCategory;
+import com.nustconnect.backend.Enums.EventApprovalStatus;
+
+import java.time.LocalDateTime;
+
+public interface EventListView {
+    Long getEventId();
+    String getTitle();
+    String getDescription();
+    LocalDateTime getStartTime();
+    LocalDateTime getEndTime();
+    Integer getMaxAttendees();
+    Integer getCurrentAttendees();
+    Boolean getIsPublic();
+    String getEventImageUrl();
+    EventApprovalStatus getApprovalStatus();
+    String getRejectionReason();
+    Double getTicketPrice();
+    Boolean getHasTickets();
+    Boolean getRequiresRegistration();
+    LocalDateTime getCreatedAt();
+    Long getClubId();
+    String getClubName();
+    String getClubLogoUrl();
+    ClubCategory getClubCategory();
+    Integer getClubMemberCount();
+    String getVenueName();
+    Long getCreatorId();
+    String getCreatorName();
+    String getCreatorDepartment();
+    String getCreatorProfilePicture();
+}
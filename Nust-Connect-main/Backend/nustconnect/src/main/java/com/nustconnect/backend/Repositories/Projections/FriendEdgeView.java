@@ -0,0 +1,6 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface FriendEdgeView {
+    Long getFollowerId();
+    Long getFollowingId();
+}
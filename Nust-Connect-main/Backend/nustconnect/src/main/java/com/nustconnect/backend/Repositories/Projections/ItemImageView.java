@@ -0,0 +1,7 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface ItemImageView {
+    Long getId();
+    String getImageUrl();
+    Long getImageHash();
+}
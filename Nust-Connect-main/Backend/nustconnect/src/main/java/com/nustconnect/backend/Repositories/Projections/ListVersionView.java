@@ -0,0 +1,9 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import java.time.LocalDateTime;
+
+public interface ListVersionView {
+    Long getRowCount();
+    Long getMaxId();
+    LocalDateTime getLastModified();
+}
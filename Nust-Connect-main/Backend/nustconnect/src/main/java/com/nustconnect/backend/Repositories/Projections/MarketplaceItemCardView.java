@@ -0,0 +1,25 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.MarketplaceCondition;
+import com.nustconnect.backend.Enums.MarketplaceItemStatus;
+
+import java.time.LocalDateTime;
+
+public interface MarketplaceItemCardView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Double getPrice();
+    MarketplaceCondition getConditionStatus();
+    MarketplaceItemStatus getStatus();
+    String getLocation();
+    Integer getViewCount();
+    Boolean getIsNegotiable();
+    LocalDateTime getCreatedAt();
+    String getCategoryName();
+    String getThumbnailUrl();
+    Long getSellerId();
+    String getSellerName();
+    String getSellerDepartment();
+    String getSellerProfilePicture();
+}
@@ -0,0 +1,12 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.MarketplaceCondition;
+
+public interface MarketplaceItemFacetView {
+    Long getId();
+    Long getCategoryId();
+    MarketplaceCondition getConditionStatus();
+    Double getPrice();
+    Boolean getIsNegotiable();
+    String getLocation();
+}
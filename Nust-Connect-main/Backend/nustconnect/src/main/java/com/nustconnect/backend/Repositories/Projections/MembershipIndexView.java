@@ -0,0 +1,8 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface MembershipIndexView {
+    Long getClubId();
+    Long getUserId();
+    String getMemberRole();
+    String getStatus();
+}
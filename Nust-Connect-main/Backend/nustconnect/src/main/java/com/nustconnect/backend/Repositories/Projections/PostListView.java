@@ -0,0 +1,21 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.PostVisibility;
+
+import java.time.LocalDateTime;
+
+public interface PostListView {
+    Long getPostId();
+    String getContentText();
+    String getMediaUrl();
+    PostVisibility getVisibility();
+    Integer getLikeCount();
+    Integer getCommentCount();
+    Boolean getIsEdited();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Long getAuthorId();
+    String getAuthorName();
+    String getAuthorDepartment();
+    String getAuthorProfilePicture();
+}
@@ -0,0 +1,6 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface ReplyCountView {
+    Long getParentId();
+    Long getTotal();
+}
@@ -0,0 +1,24 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import java.time.LocalDateTime;
+
+public interface RideListView {
+    Long getRideId();
+    String getPickupLocation();
+    String getDestination();
+    Double getPickupLatitude();
+    Double getPickupLongitude();
+    Double getDestinationLatitude();
+    Double getDestinationLongitude();
+    LocalDateTime getDepartureTime();
+    Integer getAvailableSeats();
+    Double getPricePerSeat();
+    String getNotes();
+    String getStatus();
+    String getContactNumber();
+    LocalDateTime getCreatedAt();
+    Long getDriverId();
+    String getDriverName();
+    String getDriverDepartment();
+    String getDriverProfilePicture();
+}
@@ -0,0 +1,7 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+public interface UserCohortView {
+    Long getUserId();
+    String getDepartment();
+    Integer getYearOfStudy();
+}
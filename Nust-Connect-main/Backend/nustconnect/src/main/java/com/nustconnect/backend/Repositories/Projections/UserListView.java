@@ -0,0 +1,27 @@
+package com.nustconnect.backend.Repositories.Projections;
+
+import com.nustconnect.backend.Enums.UserRole;
+
+import java.time.LocalDate;
+
+public interface UserListView {
+    Long getUserId();
+    String getName();
+    String getEmail();
+    String getStudentId();
+    String getDepartment();
+    String getPhoneNumber();
+    UserRole getRole();
+    Boolean getIsActive();
+    Boolean getIsEmailVerified();
+    // Null when the user has no profile
+    Long getProfileId();
+    String getProfilePicture();
+    String getAddress();
+    String getSemester();
+    String getBio();
+    LocalDate getDateOfBirth();
+    Integer getYearOfStudy();
+    String getMajor();
+    String getInterests();
+}
@@ -5,17 +5,34 @@ import com.nustconnect.backend.Models.Report;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
     List<Report> findByReportedByUserId(Long userId);
+    long countByReportedByUserId(Long userId);
     List<Report> findByStatus(String status);
     List<Report> findByTargetType(ReportTargetType targetType);
     List<Report> findByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
     List<Report> findByReviewedByUserId(Long reviewerId);
+    long countByReviewedByUserId(Long reviewerId);
     Long countByStatus(String status);
     Page<Report> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
+    List<Report> findByStatusIn(Collection<String> statuses);
+    long countByStatusIn(Collection<String> statuses);
+    long countByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
+    boolean existsByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
+    boolean existsByReportedByUserIdAndTargetTypeAndTargetIdAndStatusIn(Long userId, ReportTargetType targetType,
+                                                                       Long targetId, Collection<String> statuses);
+    boolean existsByTargetTypeAndTargetIdAndStatusInAndDeletedAtIsNull(ReportTargetType targetType, Long targetId,
+                                                                       Collection<String> statuses);
+
+    @Query("SELECT r FROM Report r JOIN ReportTarget t ON t.targetType = r.targetType AND t.targetId = r.targetId " +
+            "WHERE r.status = 'PENDING' AND t.openCount > :minOpen ORDER BY t.severityScore DESC, r.createdAt ASC")
+    List<Report> findPendingReportsOnTargetsWithMoreThan(@Param("minOpen") int minOpen);
 }
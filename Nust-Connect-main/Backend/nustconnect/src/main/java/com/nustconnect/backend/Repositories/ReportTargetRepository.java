@@ -0,0 +1,50 @@
+package com.nustconnect.backend.Repositories;
+
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Models.ReportTarget;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ReportTargetRepository extends JpaRepository<ReportTarget, Long> {
+    Optional<ReportTarget> findByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
+    boolean existsByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
+
+    // Walks idx_report_target_queue; a target leaves the queue when its score drops back to 0
+    @Query(value = "SELECT t FROM ReportTarget t WHERE t.severityScore > 0 ORDER BY t.severityScore DESC, t.lastReportedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM ReportTarget t WHERE t.severityScore > 0")
+    Page<ReportTarget> findModerationQueue(Pageable pageable);
+
+    // Counters are changed in place so concurrent reports on the same target can't lose updates
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ReportTarget t SET t.openCount = t.openCount + 1, t.totalCount = t.totalCount + :newReports, " +
+            "t.severityScore = t.severityScore + :points, t.firstReportedAt = COALESCE(t.firstReportedAt, :now), " +
+            "t.lastReportedAt = :now, t.updatedAt = :now " +
+            "WHERE t.targetType = :targetType AND t.targetId = :targetId")
+    int recordOpened(@Param("targetType") ReportTargetType targetType, @Param("targetId") Long targetId,
+                     @Param("points") int points, @Param("newReports") int newReports,
+                     @Param("now") LocalDateTime now);
+
+    // severityScore is assigned first so MySQL (left-to-right SET) and standard SQL both see the old open count
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ReportTarget t SET " +
+            "t.severityScore = CASE WHEN t.openCount <= 1 OR t.severityScore <= :points THEN 0 ELSE t.severityScore - :points END, " +
+            "t.openCount = CASE WHEN t.openCount > 0 THEN t.openCount - 1 ELSE 0 END, t.updatedAt = :now " +
+            "WHERE t.targetType = :targetType AND t.targetId = :targetId")
+    int recordClosed(@Param("targetType") ReportTargetType targetType, @Param("targetId") Long targetId,
+                     @Param("points") int points, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ReportTarget t SET t.severityScore = CASE WHEN t.severityScore + :delta < 1 THEN 1 ELSE t.severityScore + :delta END, " +
+            "t.updatedAt = :now WHERE t.targetType = :targetType AND t.targetId = :targetId AND t.openCount > 0")
+    int adjustScore(@Param("targetType") ReportTargetType targetType, @Param("targetId") Long targetId,
+                    @Param("delta") int delta, @Param("now") LocalDateTime now);
+}
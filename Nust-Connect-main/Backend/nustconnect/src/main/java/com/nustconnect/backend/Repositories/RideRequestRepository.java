@@ -2,6 +2,7 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.RideRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,10 +17,18 @@ public interface RideRequestRepository extends JpaRepository<RideRequest, Long>
 
     @Query("SELECT DISTINCT rr FROM RideRequest rr LEFT JOIN FETCH rr.ride r LEFT JOIN FETCH r.driver LEFT JOIN FETCH rr.passenger WHERE rr.passenger.userId = :passengerId")
     List<RideRequest> findByPassengerUserId(@Param("passengerId") Long passengerId);
+    long countByPassengerUserId(Long passengerId);
 
     @Query("SELECT DISTINCT rr FROM RideRequest rr LEFT JOIN FETCH rr.ride r LEFT JOIN FETCH r.driver LEFT JOIN FETCH rr.passenger WHERE rr.ride.rideId = :rideId AND rr.status = :status")
     List<RideRequest> findByRideRideIdAndStatus(@Param("rideId") Long rideId, @Param("status") String status);
 
+    @Query("SELECT rr FROM RideRequest rr LEFT JOIN FETCH rr.ride r LEFT JOIN FETCH r.driver LEFT JOIN FETCH rr.passenger WHERE rr.requestId = :requestId")
+    Optional<RideRequest> findWithDetailsById(@Param("requestId") Long requestId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RideRequest rr SET rr.status = 'ACCEPTED', rr.updatedAt = CURRENT_TIMESTAMP WHERE rr.requestId = :requestId AND rr.status = 'PENDING'")
+    int markAccepted(@Param("requestId") Long requestId);
+
     // Simple query without eager loading for updates/deletes
     @Query("SELECT rr FROM RideRequest rr WHERE rr.ride.rideId = :rideId")
     List<RideRequest> findSimpleByRideId(@Param("rideId") Long rideId);
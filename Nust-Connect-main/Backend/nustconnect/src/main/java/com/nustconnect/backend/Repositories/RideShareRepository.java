@@ -1,13 +1,21 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.RideShare;
+import com.nustconnect.backend.Repositories.Projections.RideListView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RideShareRepository extends JpaRepository<RideShare, Long> {
@@ -17,12 +25,29 @@ public interface RideShareRepository extends JpaRepository<RideShare, Long> {
     @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE r.rideId = :rideId")
     RideShare findByRideId(@Param("rideId") Long rideId);
 
+    @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE r.rideId IN :rideIds")
+    List<RideShare> findAllWithDriverByIds(@Param("rideIds") Collection<Long> rideIds);
+
     @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE r.driver.userId = :driverId")
     List<RideShare> findByDriverUserId(@Param("driverId") Long driverId);
+    long countByDriverUserId(Long driverId);
 
     @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE r.status = :status")
     List<RideShare> findByStatus(@Param("status") String status);
 
+    // Forward-only scalar rows, 500 per fetch, for streaming without loading every ride at once
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.rideId AS rideId, r.pickupLocation AS pickupLocation, r.destination AS destination, " +
+            "r.pickupLatitude AS pickupLatitude, r.pickupLongitude AS pickupLongitude, " +
+            "r.destinationLatitude AS destinationLatitude, r.destinationLongitude AS destinationLongitude, " +
+            "r.departureTime AS departureTime, r.availableSeats AS availableSeats, r.pricePerSeat AS pricePerSeat, " +
+            "r.notes AS notes, r.status AS status, r.contactNumber AS contactNumber, r.createdAt AS createdAt, " +
+            "u.userId AS driverId, u.name AS driverName, u.department AS driverDepartment, " +
+            "p.profilePicture AS driverProfilePicture " +
+            "FROM RideShare r JOIN r.driver u LEFT JOIN Profile p ON p.user = u " +
+            "WHERE r.status = :status ORDER BY r.rideId")
+    Stream<RideListView> streamViewsByStatus(@Param("status") String status);
+
     @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE r.departureTime > :dateTime")
     List<RideShare> findByDepartureTimeAfter(@Param("dateTime") LocalDateTime dateTime);
 
@@ -31,4 +56,21 @@ public interface RideShareRepository extends JpaRepository<RideShare, Long> {
 
     @Query("SELECT r FROM RideShare r LEFT JOIN FETCH r.driver WHERE (r.pickupLocation LIKE %:keyword% OR r.destination LIKE %:keyword%) AND r.status = 'ACTIVE' AND r.deletedAt IS NULL")
     List<RideShare> searchRides(@Param("keyword") String keyword);
+
+    // Claims seats in a single conditional statement; returns 0 when the ride cannot fit them.
+    // status is assigned first so MySQL (left-to-right SET) and standard SQL both see the old seat count.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RideShare r SET r.status = CASE WHEN r.availableSeats = :seats THEN 'FULL' ELSE r.status END, " +
+            "r.availableSeats = r.availableSeats - :seats, r.updatedAt = :now " +
+            "WHERE r.rideId = :rideId AND r.status = 'ACTIVE' AND r.availableSeats >= :seats AND r.deletedAt IS NULL")
+    int reserveSeats(@Param("rideId") Long rideId, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
+    // ==================== LIFECYCLE ====================
+    @Query("SELECT r.rideId FROM RideShare r WHERE r.status IN ('ACTIVE', 'FULL') AND r.departureTime < :now ORDER BY r.departureTime ASC")
+    List<Long> findDueForCompletion(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RideShare r SET r.status = 'COMPLETED', r.updatedAt = :now " +
+            "WHERE r.rideId IN :ids AND r.status IN ('ACTIVE', 'FULL') AND r.departureTime < :now")
+    int completeRides(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
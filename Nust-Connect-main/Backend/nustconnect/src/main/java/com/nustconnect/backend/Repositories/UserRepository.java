@@ -2,13 +2,19 @@ package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.*;
 import com.nustconnect.backend.Enums.*;
+import com.nustconnect.backend.Repositories.Projections.UserCohortView;
+import com.nustconnect.backend.Repositories.Projections.UserListView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 // ==================== USER REPOSITORY ====================
 @Repository
@@ -18,9 +24,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByStudentId(String studentId);
     List<User> findByRole(UserRole role);
+    long countByRole(UserRole role);
+    Optional<User> findFirstByRoleOrderByUserIdAsc(UserRole role);
     List<User> findByDepartment(String department);
     List<User> findByIsActive(Boolean isActive);
+    long countByIsActive(Boolean isActive);
 
     @Query("SELECT u FROM User u WHERE u.name LIKE %:keyword% OR u.email LIKE %:keyword%")
     List<User> searchUsers(@Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    @Query("SELECT u.userId AS userId, u.department AS department, p.yearOfStudy AS yearOfStudy " +
+            "FROM User u LEFT JOIN Profile p ON p.user = u WHERE u.isActive = true")
+    List<UserCohortView> findActiveUserCohorts();
+
+    // ==================== STREAMING ====================
+    // Forward-only: rows are fetched 500 at a time (a server-side cursor on MySQL with useCursorFetch)
+    // and never become entities, so the caller's heap stays flat however many users there are
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u.userId AS userId, u.name AS name, u.email AS email, u.studentId AS studentId, " +
+            "u.department AS department, u.phoneNumber AS phoneNumber, u.role AS role, u.isActive AS isActive, " +
+            "u.isEmailVerified AS isEmailVerified, p.profileId AS profileId, p.profilePicture AS profilePicture, " +
+            "p.address AS address, p.semester AS semester, p.bio AS bio, p.dateOfBirth AS dateOfBirth, " +
+            "p.yearOfStudy AS yearOfStudy, p.major AS major, p.interests AS interests " +
+            "FROM User u LEFT JOIN Profile p ON p.user = u ORDER BY u.userId")
+    Stream<UserListView> streamUserViews();
+}
@@ -13,9 +13,12 @@ import java.util.List;
 @Repository
 public interface VenueBookingRepository extends JpaRepository<VenueBooking, Long> {
     List<VenueBooking> findByVenueVenueId(Long venueId);
+    long countByVenueVenueId(Long venueId);
     List<VenueBooking> findByUserUserId(Long userId);
+    long countByUserUserId(Long userId);
     List<VenueBooking> findByEventEventId(Long eventId);
     List<VenueBooking> findByApprovalStatus(VenueBookingStatus status);
+    long countByApprovalStatus(VenueBookingStatus status);
 
     @Query("SELECT vb FROM VenueBooking vb WHERE vb.venue.venueId = :venueId " +
             "AND vb.approvalStatus = 'APPROVED' " +
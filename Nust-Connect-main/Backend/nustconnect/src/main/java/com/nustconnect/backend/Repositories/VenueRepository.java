@@ -1,6 +1,7 @@
 package com.nustconnect.backend.Repositories;
 
 import com.nustconnect.backend.Models.Venue;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,8 +13,12 @@ import java.util.Optional;
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, Long> {
     List<Venue> findByAvailabilityStatus(String status);
+    long countByAvailabilityStatus(String status);
     Optional<Venue> findByName(String name);
 
     @Query("SELECT v FROM Venue v WHERE v.capacity >= :minCapacity")
     List<Venue> findByMinimumCapacity(@Param("minCapacity") Integer minCapacity);
+
+    @Query("SELECT COUNT(v) AS rowCount, MAX(v.venueId) AS maxId, MAX(v.updatedAt) AS lastModified FROM Venue v")
+    ListVersionView findAllVersion();
 }
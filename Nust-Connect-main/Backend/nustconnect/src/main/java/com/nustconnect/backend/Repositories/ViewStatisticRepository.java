@@ -0,0 +1,16 @@
+package com.nustconnect.backend.Repositories;
+
+import com.nustconnect.backend.Enums.ViewTargetType;
+import com.nustconnect.backend.Models.ViewStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ViewStatisticRepository extends JpaRepository<ViewStatistic, Long> {
+    Optional<ViewStatistic> findByTargetTypeAndTargetId(ViewTargetType targetType, Long targetId);
+    List<ViewStatistic> findByTargetTypeAndTargetIdIn(ViewTargetType targetType, Collection<Long> targetIds);
+}
@@ -3,6 +3,7 @@ package com.nustconnect.backend.Services;
 import com.nustconnect.backend.Models.Announcement;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.AnnouncementRepository;
+import com.nustconnect.backend.Repositories.Projections.AnnouncementListVersionView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -39,35 +40,48 @@ public class AnnouncementService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Announcement getAnnouncementById(Long announcementId) {
         return announcementRepository.findById(announcementId)
                 .orElseThrow(() -> new IllegalArgumentException("Announcement not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncements() {
         return announcementRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Page<Announcement> getAllAnnouncementsPaginated(Pageable pageable) {
         return announcementRepository.findByOrderByCreatedAtDesc(pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getActiveAnnouncements() {
         return announcementRepository.findActiveAnnouncements(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
+    public AnnouncementListVersionView getActiveAnnouncementsVersion() {
+        return announcementRepository.findActiveAnnouncementsVersion(LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
     public List<Announcement> getAnnouncementsByPostedUser(Long userId) {
         return announcementRepository.findByPostedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAnnouncementsByCategory(String category) {
         return announcementRepository.findByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAnnouncementsByDepartment(String department) {
         return announcementRepository.findByDepartment(department);
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getPinnedAnnouncements() {
         return announcementRepository.findByIsPinned(true);
     }
@@ -114,13 +128,6 @@ public class AnnouncementService {
         return announcementRepository.save(announcement);
     }
 
-    // ==================== VIEW COUNT ====================
-    public void incrementViewCount(Long announcementId) {
-        Announcement announcement = getAnnouncementById(announcementId);
-        announcement.incrementViewCount();
-        announcementRepository.save(announcement);
-    }
-
     // ==================== DELETE ====================
     public void deleteAnnouncement(Long announcementId) {
         Announcement announcement = getAnnouncementById(announcementId);
@@ -136,45 +143,54 @@ public class AnnouncementService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isAnnouncementOwner(Long announcementId, Long userId) {
         Announcement announcement = getAnnouncementById(announcementId);
         return announcement.getPostedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isAnnouncementExpired(Long announcementId) {
         Announcement announcement = getAnnouncementById(announcementId);
         return announcement.isExpired();
     }
 
+    @Transactional(readOnly = true)
     public boolean isAnnouncementPinned(Long announcementId) {
         Announcement announcement = getAnnouncementById(announcementId);
         return announcement.getIsPinned();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalAnnouncementCount() {
         return announcementRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveAnnouncementCount() {
-        return getActiveAnnouncements().size();
+        return announcementRepository.countActiveAnnouncements(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public long getUserAnnouncementCount(Long userId) {
-        return announcementRepository.findByPostedByUserId(userId).size();
+        return announcementRepository.countByPostedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getPinnedAnnouncementCount() {
-        return announcementRepository.findByIsPinned(true).size();
+        return announcementRepository.countByIsPinned(true);
     }
 
     // ==================== PRIORITY/CATEGORY ====================
+    @Transactional(readOnly = true)
     public List<Announcement> getHighPriorityAnnouncements() {
         return getAllAnnouncements().stream()
                 .filter(a -> "HIGH".equals(a.getPriority()))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAnnouncementsByPriority(String priority) {
         return getAllAnnouncements().stream()
                 .filter(a -> priority.equals(a.getPriority()))
@@ -192,6 +208,7 @@ public class AnnouncementService {
                 });
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAnnouncementsForUser(User user) {
         // Get announcements relevant to user's department
         List<Announcement> deptAnnouncements = getAnnouncementsByDepartment(user.getDepartment());
@@ -0,0 +1,278 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Repositories.ClubMembershipRepository;
+import com.nustconnect.backend.Repositories.Projections.MembershipIndexView;
+import com.nustconnect.backend.Utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClubMembershipIndexService {
+
+    private static final String ACTIVE = "ACTIVE";
+    private static final String PRESIDENT = "PRESIDENT";
+    private static final String VICE_PRESIDENT = "VICE_PRESIDENT";
+
+    private final ClubMembershipRepository membershipRepository;
+
+    private Map<Long, ClubBitmaps> clubs = new HashMap<>();
+    private volatile boolean loaded;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Bitmaps of user ids; every membership row is in members and the other three are subsets of it
+    private record ClubBitmaps(RoaringBitmap members, RoaringBitmap active,
+                               RoaringBitmap presidents, RoaringBitmap vicePresidents) {
+
+        private ClubBitmaps() {
+            this(new RoaringBitmap(), new RoaringBitmap(), new RoaringBitmap(), new RoaringBitmap());
+        }
+
+        private void runOptimize() {
+            members.runOptimize();
+            active.runOptimize();
+            presidents.runOptimize();
+            vicePresidents.runOptimize();
+        }
+    }
+
+    // nextCursor is the last user id on the page, or null on the last page
+    public record MemberIdPage(List<Long> userIds, long total, Long nextCursor) {
+    }
+
+    public record IndexStats(int clubCount, long membershipCount, long sizeInBytes) {
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        // Built off to the side so permission checks keep using the old bitmaps while rows load
+        List<MembershipIndexView> rows = membershipRepository.findAllIndexViews();
+        Map<Long, ClubBitmaps> rebuilt = new HashMap<>();
+        for (MembershipIndexView row : rows) {
+            add(rebuilt, row.getClubId(), toDocId(row.getUserId()), row.getMemberRole(), row.getStatus());
+        }
+        rebuilt.values().forEach(ClubBitmaps::runOptimize);
+        lock.writeLock().lock();
+        try {
+            clubs = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Club membership index built with {} clubs and {} memberships", rebuilt.size(), rows.size());
+    }
+
+    // Applied after commit, so a rolled-back join or promotion never grants permissions
+    public void indexMembership(Long clubId, Long userId, String memberRole, String status) {
+        int docId = toDocId(userId);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(clubs, clubId, docId);
+                add(clubs, clubId, docId, memberRole, status);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeMembership(Long clubId, Long userId) {
+        int docId = toDocId(userId);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(clubs, clubId, docId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Until the first load finishes callers should fall back to the database
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private static void add(Map<Long, ClubBitmaps> index, Long clubId, int docId, String memberRole, String status) {
+        ClubBitmaps bitmaps = index.computeIfAbsent(clubId, key -> new ClubBitmaps());
+        bitmaps.members().add(docId);
+        if (ACTIVE.equals(status)) {
+            bitmaps.active().add(docId);
+        }
+        if (PRESIDENT.equals(memberRole)) {
+            bitmaps.presidents().add(docId);
+        } else if (VICE_PRESIDENT.equals(memberRole)) {
+            bitmaps.vicePresidents().add(docId);
+        }
+    }
+
+    private static void remove(Map<Long, ClubBitmaps> index, Long clubId, int docId) {
+        ClubBitmaps bitmaps = index.get(clubId);
+        if (bitmaps == null) {
+            return;
+        }
+        bitmaps.members().remove(docId);
+        bitmaps.active().remove(docId);
+        bitmaps.presidents().remove(docId);
+        bitmaps.vicePresidents().remove(docId);
+        if (bitmaps.members().isEmpty()) {
+            index.remove(clubId);
+        }
+    }
+
+    // ==================== PERMISSION CHECKS ====================
+    public boolean isMember(Long clubId, Long userId) {
+        return contains(clubId, userId, ClubBitmaps::members);
+    }
+
+    public boolean isActiveMember(Long clubId, Long userId) {
+        return contains(clubId, userId, ClubBitmaps::active);
+    }
+
+    public boolean isPresident(Long clubId, Long userId) {
+        return contains(clubId, userId, ClubBitmaps::presidents);
+    }
+
+    public boolean isVicePresident(Long clubId, Long userId) {
+        return contains(clubId, userId, ClubBitmaps::vicePresidents);
+    }
+
+    public boolean isClubAdmin(Long clubId, Long userId) {
+        return isPresident(clubId, userId) || isVicePresident(clubId, userId);
+    }
+
+    private boolean contains(Long clubId, Long userId, Function<ClubBitmaps, RoaringBitmap> set) {
+        if (!isDocId(userId)) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            ClubBitmaps bitmaps = clubs.get(clubId);
+            return bitmaps != null && set.apply(bitmaps).contains(userId.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== SET QUERIES ====================
+    // Members in ascending user id order after the cursor. With otherClubId set, only users who
+    // are also active members of that club are returned.
+    public MemberIdPage getMemberIdPage(Long clubId, boolean activeOnly, Long otherClubId, Long afterUserId, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid page size");
+        }
+        lock.readLock().lock();
+        try {
+            ClubBitmaps bitmaps = clubs.get(clubId);
+            if (bitmaps == null) {
+                return new MemberIdPage(List.of(), 0, null);
+            }
+            RoaringBitmap set = activeOnly ? bitmaps.active() : bitmaps.members();
+            if (otherClubId != null) {
+                ClubBitmaps other = clubs.get(otherClubId);
+                set = other != null ? RoaringBitmap.and(set, other.active()) : new RoaringBitmap();
+            }
+
+            List<Long> userIds = new ArrayList<>(size);
+            Long nextCursor = null;
+            PeekableIntIterator iterator = set.getIntIterator();
+            if (afterUserId != null) {
+                if (afterUserId >= Integer.MAX_VALUE) {
+                    return new MemberIdPage(List.of(), set.getLongCardinality(), null);
+                }
+                iterator.advanceIfNeeded((int) Math.max(0, afterUserId + 1));
+            }
+            while (iterator.hasNext()) {
+                int docId = iterator.next();
+                if (userIds.size() == size) {
+                    nextCursor = userIds.get(size - 1);
+                    break;
+                }
+                userIds.add((long) docId);
+            }
+            return new MemberIdPage(userIds, set.getLongCardinality(), nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Which of the given users are active members, e.g. a user's friends in a club
+    public List<Long> getActiveMembersAmong(Long clubId, long[] userIds) {
+        RoaringBitmap candidates = new RoaringBitmap();
+        for (long userId : userIds) {
+            if (userId >= 0 && userId <= Integer.MAX_VALUE) {
+                candidates.add((int) userId);
+            }
+        }
+        lock.readLock().lock();
+        try {
+            ClubBitmaps bitmaps = clubs.get(clubId);
+            if (bitmaps == null) {
+                return List.of();
+            }
+            candidates.and(bitmaps.active());
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> result = new ArrayList<>(candidates.getCardinality());
+        candidates.forEach((int docId) -> result.add((long) docId));
+        return result;
+    }
+
+    public long countCommonActiveMembers(Long clubId, Long otherClubId) {
+        lock.readLock().lock();
+        try {
+            ClubBitmaps bitmaps = clubs.get(clubId);
+            ClubBitmaps other = clubs.get(otherClubId);
+            if (bitmaps == null || other == null) {
+                return 0;
+            }
+            return RoaringBitmap.andCardinality(bitmaps.active(), other.active());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexStats getStats() {
+        lock.readLock().lock();
+        try {
+            long memberships = 0;
+            long bytes = 0;
+            for (ClubBitmaps bitmaps : clubs.values()) {
+                memberships += bitmaps.members().getLongCardinality();
+                bytes += bitmaps.members().getLongSizeInBytes() + bitmaps.active().getLongSizeInBytes()
+                        + bitmaps.presidents().getLongSizeInBytes() + bitmaps.vicePresidents().getLongSizeInBytes();
+            }
+            return new IndexStats(clubs.size(), memberships, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+    private static boolean isDocId(Long userId) {
+        return userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+
+    private static int toDocId(Long userId) {
+        if (!isDocId(userId)) {
+            throw new IllegalArgumentException("User id out of range for membership index: " + userId);
+        }
+        return userId.intValue();
+    }
+}
@@ -5,6 +5,7 @@ import com.nustconnect.backend.Models.ClubMembership;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.ClubMembershipRepository;
 import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.Projections.ClubMemberView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,12 @@ public class ClubMembershipService {
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
     private final ClubService clubService;
+    private final ClubMembershipIndexService membershipIndex;
+    private final SocialGraphService socialGraphService;
+
+    // nextCursor is the last user id on the page, or null on the last page
+    public record RosterPage(List<ClubMemberView> members, long totalMembers, Long nextCursor) {
+    }
 
     // ==================== CREATE ====================
     public ClubMembership joinClub(Long userId, Long clubId) {
@@ -41,7 +48,7 @@ public class ClubMembershipService {
                 .status("ACTIVE")
                 .build();
 
-        ClubMembership savedMembership = membershipRepository.save(membership);
+        ClubMembership savedMembership = saveAndIndex(membership);
 
         // Increment club member count
         clubService.incrementMemberCount(clubId);
@@ -50,28 +57,57 @@ public class ClubMembershipService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public ClubMembership getMembershipById(Long membershipId) {
         return membershipRepository.findById(membershipId)
                 .orElseThrow(() -> new IllegalArgumentException("Membership not found"));
     }
 
+    @Transactional(readOnly = true)
     public ClubMembership getMembership(Long clubId, Long userId) {
         return membershipRepository.findByClubClubIdAndUserUserId(clubId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Membership not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<ClubMembership> getClubMembers(Long clubId) {
-        return membershipRepository.findByClubClubId(clubId);
+        return membershipRepository.findByClubIdWithUsers(clubId);
+    }
+
+    // Ids come from the membership index; the page's rows are then read in one query
+    @Transactional(readOnly = true)
+    public RosterPage getRosterPage(Long clubId, boolean activeOnly, Long otherClubId, Long afterUserId, int size) {
+        ClubMembershipIndexService.MemberIdPage page =
+                membershipIndex.getMemberIdPage(clubId, activeOnly, otherClubId, afterUserId, size);
+        return new RosterPage(getMemberViews(clubId, page.userIds()), page.total(), page.nextCursor());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClubMemberView> getFriendsInClub(Long clubId, Long userId) {
+        long[] friendIds = socialGraphService.getFriendIds(userId);
+        return getMemberViews(clubId, membershipIndex.getActiveMembersAmong(clubId, friendIds));
+    }
+
+    @Transactional(readOnly = true)
+    public long getCommonMemberCount(Long clubId, Long otherClubId) {
+        return membershipIndex.countCommonActiveMembers(clubId, otherClubId);
+    }
+
+    private List<ClubMemberView> getMemberViews(Long clubId, List<Long> userIds) {
+        return userIds.isEmpty() ? List.of() : membershipRepository.findMemberViews(clubId, userIds);
     }
 
+    @Transactional(readOnly = true)
     public List<ClubMembership> getUserMemberships(Long userId) {
         return membershipRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<ClubMembership> getActiveClubMembers(Long clubId) {
         return membershipRepository.findByClubClubIdAndStatus(clubId, "ACTIVE");
     }
 
+    @Transactional(readOnly = true)
     public Long getActiveMemberCount(Long clubId) {
         return membershipRepository.countByClubClubIdAndStatus(clubId, "ACTIVE");
     }
@@ -80,44 +116,45 @@ public class ClubMembershipService {
     public ClubMembership updateMemberRole(Long membershipId, String role) {
         ClubMembership membership = getMembershipById(membershipId);
         membership.setMemberRole(role);
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     public ClubMembership promoteToPresident(Long clubId, Long userId) {
         ClubMembership membership = getMembership(clubId, userId);
         membership.makePresident();
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     public ClubMembership promoteToVicePresident(Long clubId, Long userId) {
         ClubMembership membership = getMembership(clubId, userId);
         membership.makeVicePresident();
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     public ClubMembership demoteToMember(Long clubId, Long userId) {
         ClubMembership membership = getMembership(clubId, userId);
         membership.setMemberRole("MEMBER");
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     // ==================== ACTIVATION ====================
     public ClubMembership activateMembership(Long membershipId) {
         ClubMembership membership = getMembershipById(membershipId);
         membership.setStatus("ACTIVE");
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     public ClubMembership deactivateMembership(Long membershipId) {
         ClubMembership membership = getMembershipById(membershipId);
         membership.setStatus("INACTIVE");
-        return membershipRepository.save(membership);
+        return saveAndIndex(membership);
     }
 
     // ==================== DELETE ====================
     public void leaveClub(Long userId, Long clubId) {
         ClubMembership membership = getMembership(clubId, userId);
         membershipRepository.delete(membership);
+        membershipIndex.removeMembership(clubId, userId);
 
         // Decrement club member count
         clubService.decrementMemberCount(clubId);
@@ -128,35 +165,57 @@ public class ClubMembershipService {
         Long clubId = membership.getClub().getClubId();
 
         membershipRepository.delete(membership);
+        membershipIndex.removeMembership(clubId, membership.getUser().getUserId());
 
         // Decrement club member count
         clubService.decrementMemberCount(clubId);
     }
 
     // ==================== VALIDATION ====================
+    // Answered from the membership index once it is loaded; the queries are the startup fallback
+    @Transactional(readOnly = true)
     public boolean isMember(Long clubId, Long userId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isMember(clubId, userId);
+        }
         return membershipRepository.existsByClubClubIdAndUserUserId(clubId, userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isActiveMember(Long clubId, Long userId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isActiveMember(clubId, userId);
+        }
         return membershipRepository.findByClubClubIdAndUserUserId(clubId, userId)
                 .map(membership -> "ACTIVE".equals(membership.getStatus()))
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean isPresident(Long clubId, Long userId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isPresident(clubId, userId);
+        }
         return membershipRepository.findByClubClubIdAndUserUserId(clubId, userId)
                 .map(membership -> "PRESIDENT".equals(membership.getMemberRole()))
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean isVicePresident(Long clubId, Long userId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isVicePresident(clubId, userId);
+        }
         return membershipRepository.findByClubClubIdAndUserUserId(clubId, userId)
                 .map(membership -> "VICE_PRESIDENT".equals(membership.getMemberRole()))
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean isClubAdmin(Long clubId, Long userId) {
+        if (membershipIndex.isLoaded()) {
+            return membershipIndex.isClubAdmin(clubId, userId);
+        }
         return membershipRepository.findByClubClubIdAndUserUserId(clubId, userId)
                 .map(membership -> "PRESIDENT".equals(membership.getMemberRole()) ||
                         "VICE_PRESIDENT".equals(membership.getMemberRole()))
@@ -164,32 +223,45 @@ public class ClubMembershipService {
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalMembershipCount() {
         return membershipRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getClubMemberCount(Long clubId) {
-        return membershipRepository.findByClubClubId(clubId).size();
+        return membershipRepository.countByClubClubId(clubId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserClubCount(Long userId) {
-        return membershipRepository.findByUserUserId(userId).size();
+        return membershipRepository.countByUserUserId(userId);
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<User> getClubMemberUsers(Long clubId) {
         return membershipRepository.findByClubClubId(clubId).stream()
                 .map(ClubMembership::getUser)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Club> getUserClubs(Long userId) {
         return membershipRepository.findByUserUserId(userId).stream()
                 .map(ClubMembership::getClub)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public String getMemberRole(Long clubId, Long userId) {
         return getMembership(clubId, userId).getMemberRole();
     }
+
+    private ClubMembership saveAndIndex(ClubMembership membership) {
+        ClubMembership savedMembership = membershipRepository.save(membership);
+        membershipIndex.indexMembership(savedMembership.getClub().getClubId(), savedMembership.getUser().getUserId(),
+                savedMembership.getMemberRole(), savedMembership.getStatus());
+        return savedMembership;
+    }
 }
\ No newline at end of file
@@ -4,12 +4,16 @@ import com.nustconnect.backend.Enums.ClubCategory;
 import com.nustconnect.backend.Models.Club;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.Projections.ClubListView;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -38,36 +42,57 @@ public class ClubService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Club getClubById(Long clubId) {
         return clubRepository.findById(clubId)
                 .orElseThrow(() -> new IllegalArgumentException("Club not found with id: " + clubId));
     }
 
+    @Transactional(readOnly = true)
     public Club getClubByName(String name) {
         return clubRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("Club not found with name: " + name));
     }
 
+    @Transactional(readOnly = true)
     public List<Club> getAllClubs() {
         return clubRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public ListVersionView getAllClubsVersion() {
+        return clubRepository.findAllVersion();
+    }
+
+    // Hands each club to the consumer while the cursor is open, in clubId order
+    @Transactional(readOnly = true)
+    public void streamAllClubs(Consumer<ClubListView> consumer) {
+        try (Stream<ClubListView> clubs = clubRepository.streamClubViews()) {
+            clubs.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<Club> getClubsByCategory(ClubCategory category) {
         return clubRepository.findByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public List<Club> getClubsByCreator(Long creatorId) {
         return clubRepository.findByCreatedByUserId(creatorId);
     }
 
+    @Transactional(readOnly = true)
     public List<Club> getApprovedClubs() {
         return clubRepository.findByIsApproved(true);
     }
 
+    @Transactional(readOnly = true)
     public List<Club> getPendingClubs() {
         return clubRepository.findByIsApproved(false);
     }
 
+    @Transactional(readOnly = true)
     public List<Club> searchClubs(String keyword) {
         return clubRepository.searchClubs(keyword);
     }
@@ -170,42 +195,51 @@ public class ClubService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isClubNameAvailable(String name) {
         return clubRepository.findByName(name).isEmpty();
     }
 
+    @Transactional(readOnly = true)
     public boolean isClubActive(Long clubId) {
         Club club = getClubById(clubId);
         return club.getIsActive();
     }
 
+    @Transactional(readOnly = true)
     public boolean isClubApproved(Long clubId) {
         Club club = getClubById(clubId);
         return club.getIsApproved();
     }
 
+    @Transactional(readOnly = true)
     public boolean isClubCreator(Long clubId, Long userId) {
         Club club = getClubById(clubId);
         return club.getCreatedBy().getUserId().equals(userId);
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalClubCount() {
         return clubRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getApprovedClubCount() {
-        return clubRepository.findByIsApproved(true).size();
+        return clubRepository.countByIsApproved(true);
     }
 
+    @Transactional(readOnly = true)
     public long getPendingClubCount() {
-        return clubRepository.findByIsApproved(false).size();
+        return clubRepository.countByIsApproved(false);
     }
 
+    @Transactional(readOnly = true)
     public long getClubCountByCategory(ClubCategory category) {
-        return clubRepository.findByCategory(category).size();
+        return clubRepository.countByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public Integer getClubMemberCount(Long clubId) {
         Club club = getClubById(clubId);
         return club.getMemberCount();
@@ -1,16 +1,24 @@
 package com.nustconnect.backend.Services;
 
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Enums.ScreeningAction;
 import com.nustconnect.backend.Models.Comment;
 import com.nustconnect.backend.Models.Post;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.CommentRepository;
 import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.Projections.CommentView;
+import com.nustconnect.backend.Repositories.Projections.ReplyCountView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +29,17 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostService postService;
+    private final ContentScreeningService contentScreeningService;
+
+    public record CommentThread(CommentView comment, long replyCount, List<CommentView> replies) {
+    }
+
+    // nextCursor is null on the last page
+    public record ThreadPage(List<CommentThread> threads, Long nextCursor) {
+    }
+
+    public record ReplyPage(List<CommentView> replies, Long nextCursor) {
+    }
 
     // ==================== CREATE ====================
     public Comment createComment(Long userId, Long postId, String content) {
@@ -36,10 +55,14 @@ public class CommentService {
                 .isEdited(false)
                 .build();
 
+        ContentScreeningService.ScreeningResult screening = screenContent(comment);
         Comment savedComment = commentRepository.save(comment);
 
-        // Increment post comment count
-        postService.incrementCommentCount(postId);
+        // Increment post comment count; a held comment is counted once moderation releases it
+        if (!savedComment.getHiddenPendingReview()) {
+            postService.incrementCommentCount(postId);
+        }
+        contentScreeningService.flagForReview(ReportTargetType.COMMENT, savedComment.getCommentId(), screening);
 
         return savedComment;
     }
@@ -51,6 +74,13 @@ public class CommentService {
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
         Comment parentComment = commentRepository.findById(parentCommentId)
                 .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
+        if (!parentComment.getPost().getPostId().equals(postId)) {
+            throw new IllegalArgumentException("Parent comment belongs to a different post");
+        }
+        // Threads are one level deep: replying to a reply joins the thread of its top-level comment
+        if (parentComment.getParentComment() != null) {
+            parentComment = parentComment.getParentComment();
+        }
 
         Comment reply = Comment.builder()
                 .user(user)
@@ -60,32 +90,95 @@ public class CommentService {
                 .isEdited(false)
                 .build();
 
+        ContentScreeningService.ScreeningResult screening = screenContent(reply);
         Comment savedReply = commentRepository.save(reply);
 
-        // Increment post comment count
-        postService.incrementCommentCount(postId);
+        // Increment post comment count; a held reply is counted once moderation releases it
+        if (!savedReply.getHiddenPendingReview()) {
+            postService.incrementCommentCount(postId);
+        }
+        contentScreeningService.flagForReview(ReportTargetType.COMMENT, savedReply.getCommentId(), screening);
 
         return savedReply;
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Comment getCommentById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found with id: " + commentId));
     }
 
+    @Transactional(readOnly = true)
     public List<Comment> getCommentsByPost(Long postId) {
         return commentRepository.findByPostPostId(postId);
     }
 
-    public List<Comment> getActiveCommentsByPost(Long postId) {
-        return commentRepository.findActiveCommentsByPost(postId);
+    @Transactional(readOnly = true)
+    public List<Comment> getActiveCommentsByPost(Long postId, String viewerEmail) {
+        return commentRepository.findActiveCommentsByPost(postId, viewerEmail);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommentView> getCommentViewsByPost(Long postId, String viewerEmail) {
+        return commentRepository.findCommentViewsByPost(postId, viewerEmail);
     }
 
+    // Three queries per page however many threads it holds: the top-level comments, their reply
+    // counts, and the first few replies of each thread
+    @Transactional(readOnly = true)
+    public ThreadPage getCommentThreads(Long postId, Long before, int size, int repliesPerThread, String viewerEmail) {
+        List<CommentView> topLevel = commentRepository.findTopLevelViews(postId,
+                before != null ? before : Long.MAX_VALUE, viewerEmail, PageRequest.of(0, size + 1));
+        Long nextCursor = null;
+        if (topLevel.size() > size) {
+            topLevel = topLevel.subList(0, size);
+            nextCursor = topLevel.get(size - 1).getCommentId();
+        }
+        if (topLevel.isEmpty()) {
+            return new ThreadPage(List.of(), null);
+        }
+
+        List<Long> ids = topLevel.stream().map(CommentView::getCommentId).toList();
+        Map<Long, Long> replyCounts = new HashMap<>();
+        for (ReplyCountView count : commentRepository.countRepliesByParent(ids, viewerEmail)) {
+            replyCounts.put(count.getParentId(), count.getTotal());
+        }
+        Map<Long, List<CommentView>> replies = new HashMap<>();
+        if (repliesPerThread > 0 && !replyCounts.isEmpty()) {
+            for (CommentView reply : commentRepository.findFirstReplyViews(replyCounts.keySet(), repliesPerThread,
+                    viewerEmail)) {
+                replies.computeIfAbsent(reply.getParentCommentId(), key -> new ArrayList<>()).add(reply);
+            }
+        }
+
+        List<CommentThread> threads = new ArrayList<>();
+        for (CommentView comment : topLevel) {
+            threads.add(new CommentThread(comment, replyCounts.getOrDefault(comment.getCommentId(), 0L),
+                    replies.getOrDefault(comment.getCommentId(), List.of())));
+        }
+        return new ThreadPage(threads, nextCursor);
+    }
+
+    // Oldest first; pass the last reply id seen to continue a thread past its preview
+    @Transactional(readOnly = true)
+    public ReplyPage getReplies(Long commentId, Long after, int size, String viewerEmail) {
+        List<CommentView> replies = commentRepository.findReplyViews(commentId,
+                after != null ? after : 0L, viewerEmail, PageRequest.of(0, size + 1));
+        Long nextCursor = null;
+        if (replies.size() > size) {
+            replies = replies.subList(0, size);
+            nextCursor = replies.get(size - 1).getCommentId();
+        }
+        return new ReplyPage(replies, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
     public List<Comment> getCommentsByUser(Long userId) {
         return commentRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public Long getCommentCountByPost(Long postId) {
         return commentRepository.countByPostPostId(postId);
     }
@@ -95,7 +188,26 @@ public class CommentService {
         Comment comment = getCommentById(commentId);
         comment.setContent(newContent);
         comment.markAsEdited();
-        return commentRepository.save(comment);
+
+        boolean wasHeld = comment.getHiddenPendingReview();
+        ContentScreeningService.ScreeningResult screening = screenContent(comment);
+        Comment savedComment = commentRepository.save(comment);
+        if (!wasHeld && savedComment.getHiddenPendingReview()) {
+            postService.decrementCommentCount(savedComment.getPost().getPostId());
+        }
+        contentScreeningService.flagForReview(ReportTargetType.COMMENT, commentId, screening);
+        return savedComment;
+    }
+
+    // Blocked text throws; hidden text holds the comment for review, visible to its author only,
+    // until a moderator dismisses the reports on it (see ReportService)
+    private ContentScreeningService.ScreeningResult screenContent(Comment comment) {
+        ContentScreeningService.ScreeningResult screening = contentScreeningService.screen(comment.getContent());
+        contentScreeningService.requireNotBlocked(screening);
+        if (screening.action() == ScreeningAction.HIDE) {
+            comment.setHiddenPendingReview(true);
+        }
+        return screening;
     }
 
     // ==================== DELETE ====================
@@ -106,8 +218,10 @@ public class CommentService {
         comment.softDelete();
         commentRepository.save(comment);
 
-        // Decrement post comment count
-        postService.decrementCommentCount(postId);
+        // Decrement post comment count; a held comment was never counted
+        if (!comment.getHiddenPendingReview()) {
+            postService.decrementCommentCount(postId);
+        }
     }
 
     public void hardDeleteComment(Long commentId) {
@@ -116,33 +230,40 @@ public class CommentService {
 
         commentRepository.deleteById(commentId);
 
-        // Decrement post comment count
-        postService.decrementCommentCount(postId);
+        // Decrement post comment count; a held comment was never counted
+        if (!comment.getHiddenPendingReview()) {
+            postService.decrementCommentCount(postId);
+        }
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isCommentOwner(Long commentId, Long userId) {
         Comment comment = getCommentById(commentId);
         return comment.getUser().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isCommentDeleted(Long commentId) {
         Comment comment = getCommentById(commentId);
         return comment.isDeleted();
     }
 
+    @Transactional(readOnly = true)
     public boolean isCommentEdited(Long commentId) {
         Comment comment = getCommentById(commentId);
         return comment.getIsEdited();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalCommentCount() {
         return commentRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserCommentCount(Long userId) {
-        return commentRepository.findByUserUserId(userId).size();
+        return commentRepository.countByUserUserId(userId);
     }
 
     // ==================== HELPER METHODS ====================
@@ -0,0 +1,233 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Enums.ScreeningAction;
+import com.nustconnect.backend.Enums.UserRole;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Utils.AhoCorasick;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentScreeningService {
+
+    private static final String DEFAULT_TERMS = "screening-terms.txt";
+
+    private final ReportService reportService;
+    private final UserRepository userRepository;
+
+    // A file on disk is re-read whenever it changes; without one the bundled list is used
+    @Value("${screening.terms-file:}")
+    private String termsFile;
+
+    private volatile TermList termList = TermList.empty();
+
+    public record ScreeningResult(ScreeningAction action, List<String> matchedTerms) {
+
+        public boolean isAllowed() {
+            return action == ScreeningAction.ALLOW;
+        }
+    }
+
+    public record ScreeningStatus(String source, int termCount, int automatonStates, LocalDateTime loadedAt) {
+    }
+
+    private record Term(String text, ScreeningAction action, boolean prefix) {
+    }
+
+    private record TermList(AhoCorasick automaton, List<Term> terms, String source, long lastModified,
+                            LocalDateTime loadedAt) {
+
+        private static TermList empty() {
+            return new TermList(AhoCorasick.build(List.of()), List.of(), "none", 0, LocalDateTime.now());
+        }
+    }
+
+    // ==================== TERM LIST ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTerms() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${screening.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        Path file = configuredFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toMillis() != termList.lastModified()) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.warn("Could not check screening terms file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Builds the new automaton off to the side and swaps it in, so screening never sees a half-built list
+    public synchronized ScreeningStatus reload() {
+        Path file = configuredFile();
+        try {
+            TermList loaded;
+            if (file != null && Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    loaded = parse(in, file.toString(), Files.getLastModifiedTime(file).toMillis());
+                }
+            } else {
+                try (InputStream in = new ClassPathResource(DEFAULT_TERMS).getInputStream()) {
+                    loaded = parse(in, "classpath:" + DEFAULT_TERMS, 0);
+                }
+            }
+            termList = loaded;
+            log.info("Loaded {} screening terms from {}", loaded.terms().size(), loaded.source());
+        } catch (IOException | IllegalArgumentException e) {
+            // Keep screening with the previous list rather than with none
+            log.error("Failed to load screening terms, keeping {} terms from {}",
+                    termList.terms().size(), termList.source(), e);
+        }
+        return getStatus();
+    }
+
+    public ScreeningStatus getStatus() {
+        TermList current = termList;
+        return new ScreeningStatus(current.source(), current.terms().size(), current.automaton().stateCount(),
+                current.loadedAt());
+    }
+
+    // ==================== SCREENING ====================
+    public ScreeningResult screen(String text) {
+        if (text == null || text.isEmpty()) {
+            return new ScreeningResult(ScreeningAction.ALLOW, List.of());
+        }
+        TermList current = termList;
+        String normalized = normalize(text);
+        Set<String> matched = new LinkedHashSet<>();
+        ScreeningAction[] strongest = {ScreeningAction.ALLOW};
+
+        current.automaton().scan(normalized, (pattern, start, end) -> {
+            Term term = current.terms().get(pattern);
+            if (isWordStart(normalized, start) && (term.prefix() || isWordEnd(normalized, end))) {
+                matched.add(term.text());
+                if (term.action().compareTo(strongest[0]) > 0) {
+                    strongest[0] = term.action();
+                }
+            }
+            return true;
+        });
+        return new ScreeningResult(strongest[0], List.copyOf(matched));
+    }
+
+    public void requireNotBlocked(ScreeningResult result) {
+        if (result.action() == ScreeningAction.BLOCK) {
+            throw new IllegalArgumentException("This content violates the community guidelines and can't be posted");
+        }
+    }
+
+    // Flagged and hidden content goes to the moderation queue as a report from the first admin account
+    public void flagForReview(ReportTargetType targetType, Long targetId, ScreeningResult result) {
+        if (result.action() != ScreeningAction.FLAG && result.action() != ScreeningAction.HIDE) {
+            return;
+        }
+        User reporter = userRepository.findFirstByRoleOrderByUserIdAsc(UserRole.ADMIN).orElse(null);
+        if (reporter == null) {
+            log.warn("No admin account to file the screening report for {} {}", targetType, targetId);
+            return;
+        }
+        // Checked up front: an exception out of ReportService would mark the caller's transaction rollback-only
+        if (reportService.hasOpenReport(reporter.getUserId(), targetType, targetId)) {
+            return;
+        }
+        String reason = "Automatic screening (" + result.action() + "): " + String.join(", ", result.matchedTerms());
+        reportService.createReport(reporter.getUserId(), targetType, targetId,
+                reason.length() > 1000 ? reason.substring(0, 1000) : reason);
+    }
+
+    // ==================== PARSING ====================
+    // One term per line: "<ACTION> <term>", e.g. "BLOCK kill yourself". A trailing * matches any
+    // word that starts with the term. Blank lines and lines starting with # are ignored.
+    private TermList parse(InputStream in, String source, long lastModified) throws IOException {
+        List<Term> terms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+", 2);
+                if (parts.length < 2) {
+                    throw new IllegalArgumentException("Missing term on line " + lineNumber + " of " + source);
+                }
+                ScreeningAction action = ScreeningAction.valueOf(parts[0].toUpperCase(Locale.ROOT));
+                String term = parts[1].strip();
+                boolean prefix = term.endsWith("*");
+                if (prefix) {
+                    term = term.substring(0, term.length() - 1).strip();
+                }
+                if (!term.isEmpty() && action != ScreeningAction.ALLOW) {
+                    terms.add(new Term(term, action, prefix));
+                }
+            }
+        }
+        List<String> patterns = terms.stream().map(term -> normalize(term.text())).toList();
+        return new TermList(AhoCorasick.build(patterns), List.copyOf(terms), source, lastModified, LocalDateTime.now());
+    }
+
+    // ==================== HELPER METHODS ====================
+    // Lower-cases and undoes common character swaps ("1d10t") without changing the length,
+    // so match offsets still line up with word boundaries in the text
+    static String normalize(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            chars[i] = switch (c) {
+                case '0' -> 'o';
+                case '1' -> 'i';
+                case '3' -> 'e';
+                case '4', '@' -> 'a';
+                case '5', '$' -> 's';
+                case '7' -> 't';
+                default -> c;
+            };
+        }
+        return new String(chars);
+    }
+
+    private static boolean isWordStart(String text, int start) {
+        return start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+    }
+
+    private static boolean isWordEnd(String text, int end) {
+        return end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+    }
+
+    private Path configuredFile() {
+        return termsFile == null || termsFile.isBlank() ? null : Paths.get(termsFile);
+    }
+}
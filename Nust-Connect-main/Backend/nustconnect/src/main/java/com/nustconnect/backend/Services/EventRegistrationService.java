@@ -1,6 +1,7 @@
 package com.nustconnect.backend.Services;
 
 import com.nustconnect.backend.Enums.EventRegistrationStatus;
+import com.nustconnect.backend.Enums.LifecycleType;
 import com.nustconnect.backend.Models.Event;
 import com.nustconnect.backend.Models.EventRegistration;
 import com.nustconnect.backend.Models.User;
@@ -11,12 +12,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class EventRegistrationService {
+public class EventRegistrationService implements LifecycleTransitionHook {
 
     private final EventRegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
@@ -82,40 +84,49 @@ public class EventRegistrationService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public EventRegistration getRegistrationById(Long registrationId) {
         return registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
     }
 
+    @Transactional(readOnly = true)
     public EventRegistration getUserEventRegistration(Long eventId, Long userId) {
         return registrationRepository.findByEventEventIdAndUserUserId(eventId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<EventRegistration> getEventRegistrations(Long eventId) {
         return registrationRepository.findByEventEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
     public List<EventRegistration> getUserRegistrations(Long userId) {
         return registrationRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<EventRegistration> getRegisteredUsers(Long eventId) {
         return registrationRepository.findByEventEventIdAndStatus(eventId, EventRegistrationStatus.REGISTERED);
     }
 
+    @Transactional(readOnly = true)
     public List<EventRegistration> getWaitlistedUsers(Long eventId) {
         return registrationRepository.findByEventEventIdAndStatus(eventId, EventRegistrationStatus.WAITLISTED);
     }
 
+    @Transactional(readOnly = true)
     public List<EventRegistration> getCanceledRegistrations(Long eventId) {
         return registrationRepository.findByEventEventIdAndStatus(eventId, EventRegistrationStatus.CANCELED);
     }
 
+    @Transactional(readOnly = true)
     public Long getRegisteredCount(Long eventId) {
         return registrationRepository.countByEventEventIdAndStatus(eventId, EventRegistrationStatus.REGISTERED);
     }
 
+    @Transactional(readOnly = true)
     public Long getWaitlistCount(Long eventId) {
         return registrationRepository.countByEventEventIdAndStatus(eventId, EventRegistrationStatus.WAITLISTED);
     }
@@ -194,18 +205,21 @@ public class EventRegistrationService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isUserRegistered(Long eventId, Long userId) {
         return registrationRepository.findByEventEventIdAndUserUserId(eventId, userId)
                 .map(reg -> reg.getStatus() == EventRegistrationStatus.REGISTERED)
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean isUserWaitlisted(Long eventId, Long userId) {
         return registrationRepository.findByEventEventIdAndUserUserId(eventId, userId)
                 .map(reg -> reg.getStatus() == EventRegistrationStatus.WAITLISTED)
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasUserAttended(Long eventId, Long userId) {
         return registrationRepository.findByEventEventIdAndUserUserId(eventId, userId)
                 .map(EventRegistration::getAttended)
@@ -213,27 +227,45 @@ public class EventRegistrationService {
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalRegistrationCount() {
         return registrationRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserRegistrationCount(Long userId) {
-        return registrationRepository.findByUserUserId(userId).size();
+        return registrationRepository.countByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getEventAttendedCount(Long eventId) {
         return getEventRegistrations(eventId).stream()
                 .filter(EventRegistration::getAttended)
                 .count();
     }
 
+    // ==================== LIFECYCLE ====================
+    @Override
+    public LifecycleType getLifecycleType() {
+        return LifecycleType.EVENT;
+    }
+
+    // Nobody is going to be promoted off the waitlist of an event that is over
+    @Override
+    public void afterTransition(List<Long> eventIds, LocalDateTime cutoff) {
+        registrationRepository.updateStatusForEvents(eventIds, EventRegistrationStatus.WAITLISTED,
+                EventRegistrationStatus.CANCELED, "Event ended", cutoff);
+    }
+
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<User> getRegisteredUsersList(Long eventId) {
         return getRegisteredUsers(eventId).stream()
                 .map(EventRegistration::getUser)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getUserRegisteredEvents(Long userId) {
         return getUserRegistrations(userId).stream()
                 .filter(reg -> reg.getStatus() == EventRegistrationStatus.REGISTERED)
@@ -7,6 +7,7 @@ import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Models.Venue;
 import com.nustconnect.backend.Repositories.ClubRepository;
 import com.nustconnect.backend.Repositories.EventRepository;
+import com.nustconnect.backend.Repositories.Projections.EventListView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import com.nustconnect.backend.Repositories.VenueRepository;
 import lombok.RequiredArgsConstructor;
@@ -61,47 +62,73 @@ public class EventService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Event getEventById(Long eventId) {
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found with id: " + eventId));
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Page<Event> getAllActiveEvents(Pageable pageable) {
         return eventRepository.findAllActiveEvents(pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getEventsByClub(Long clubId) {
         return eventRepository.findByClubClubId(clubId);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getEventsByCreator(Long creatorId) {
         return eventRepository.findByCreatedByUserId(creatorId);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getEventsByApprovalStatus(EventApprovalStatus status) {
         return eventRepository.findByApprovalStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Page<Event> getApprovedEvents(Pageable pageable) {
         return eventRepository.findByApprovalStatusOrderByStartTimeDesc(EventApprovalStatus.APPROVED, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getPendingEvents() {
         return eventRepository.findByApprovalStatus(EventApprovalStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents() {
         return eventRepository.findUpcomingEvents(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getEventsBetweenDates(LocalDateTime start, LocalDateTime end) {
         return eventRepository.findByStartTimeBetween(start, end);
     }
 
+    // ==================== LIST VIEWS ====================
+    @Transactional(readOnly = true)
+    public Page<EventListView> getActiveEventViews(Pageable pageable) {
+        return eventRepository.findActiveEventViews(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventListView> getUpcomingEventViews() {
+        return eventRepository.findUpcomingEventViews(LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventListView> getPendingEventViews() {
+        return eventRepository.findEventViewsByApprovalStatus(EventApprovalStatus.PENDING);
+    }
+
     // ==================== UPDATE ====================
     public Event updateEvent(Long eventId, Event updatedEvent) {
         Event existingEvent = getEventById(eventId);
@@ -117,6 +144,10 @@ public class EventService {
         }
         if (updatedEvent.getEndTime() != null) {
             existingEvent.setEndTime(updatedEvent.getEndTime());
+            // Rescheduled into the future: the sweeper may already have completed it
+            if (updatedEvent.getEndTime().isAfter(LocalDateTime.now())) {
+                existingEvent.setIsCompleted(false);
+            }
         }
         if (updatedEvent.getMaxAttendees() != null) {
             existingEvent.setMaxAttendees(updatedEvent.getMaxAttendees());
@@ -182,60 +213,72 @@ public class EventService {
         return event.canRegister();
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventFull(Long eventId) {
         Event event = getEventById(eventId);
         return event.isFull();
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventCreator(Long eventId, Long userId) {
         Event event = getEventById(eventId);
         return event.getCreatedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventApproved(Long eventId) {
         Event event = getEventById(eventId);
         return event.getApprovalStatus() == EventApprovalStatus.APPROVED;
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventPending(Long eventId) {
         Event event = getEventById(eventId);
         return event.getApprovalStatus() == EventApprovalStatus.PENDING;
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventDeleted(Long eventId) {
         Event event = getEventById(eventId);
         return event.isDeleted();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalEventCount() {
         return eventRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getApprovedEventCount() {
-        return eventRepository.findByApprovalStatus(EventApprovalStatus.APPROVED).size();
+        return eventRepository.countByApprovalStatus(EventApprovalStatus.APPROVED);
     }
 
+    @Transactional(readOnly = true)
     public long getPendingEventCount() {
-        return eventRepository.findByApprovalStatus(EventApprovalStatus.PENDING).size();
+        return eventRepository.countByApprovalStatus(EventApprovalStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public long getClubEventCount(Long clubId) {
-        return eventRepository.findByClubClubId(clubId).size();
+        return eventRepository.countByClubClubId(clubId);
     }
 
+    @Transactional(readOnly = true)
     public Integer getEventAttendeeCount(Long eventId) {
         Event event = getEventById(eventId);
         return event.getCurrentAttendees();
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<Event> getTodaysEvents() {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
         LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
         return eventRepository.findByStartTimeBetween(startOfDay, endOfDay);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getThisWeeksEvents() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime weekLater = now.plusWeeks(1);
@@ -50,40 +50,48 @@ public class EventTicketService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public EventTicket getTicketById(Long ticketId) {
         return ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found"));
     }
 
+    @Transactional(readOnly = true)
     public EventTicket getTicketByQRCode(String qrCode) {
         return ticketRepository.findByQrCode(qrCode)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found with QR code"));
     }
 
+    @Transactional(readOnly = true)
     public EventTicket getTicketByTicketNumber(String ticketNumber) {
         return ticketRepository.findByTicketNumber(ticketNumber)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ticket number"));
     }
 
+    @Transactional(readOnly = true)
     public EventTicket getUserEventTicket(Long eventId, Long userId) {
         return ticketRepository.findByEventEventIdAndUserUserId(eventId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Ticket not found for user and event"));
     }
 
+    @Transactional(readOnly = true)
     public List<EventTicket> getTicketsByEvent(Long eventId) {
         return ticketRepository.findByEventEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
     public List<EventTicket> getTicketsByUser(Long userId) {
         return ticketRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<EventTicket> getCheckedInTickets(Long eventId) {
         return ticketRepository.findByEventEventId(eventId).stream()
                 .filter(EventTicket::getIsCheckedIn)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<EventTicket> getUncheckedTickets(Long eventId) {
         return ticketRepository.findByEventEventId(eventId).stream()
                 .filter(ticket -> !ticket.getIsCheckedIn())
@@ -138,45 +146,55 @@ public class EventTicketService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean hasUserTicket(Long eventId, Long userId) {
         return ticketRepository.findByEventEventIdAndUserUserId(eventId, userId).isPresent();
     }
 
+    @Transactional(readOnly = true)
     public boolean isTicketValid(String qrCode) {
         return ticketRepository.findByQrCode(qrCode).isPresent();
     }
 
+    @Transactional(readOnly = true)
     public boolean isTicketCheckedIn(Long ticketId) {
         EventTicket ticket = getTicketById(ticketId);
         return ticket.getIsCheckedIn();
     }
 
+    @Transactional(readOnly = true)
     public boolean isTicketOwner(Long ticketId, Long userId) {
         EventTicket ticket = getTicketById(ticketId);
         return ticket.getUser().getUserId().equals(userId);
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalTicketCount() {
         return ticketRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getEventTicketCount(Long eventId) {
-        return ticketRepository.findByEventEventId(eventId).size();
+        return ticketRepository.countByEventEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserTicketCount(Long userId) {
-        return ticketRepository.findByUserUserId(userId).size();
+        return ticketRepository.countByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getCheckedInCount(Long eventId) {
         return ticketRepository.countCheckedInTicketsByEvent(eventId, true);
     }
 
+    @Transactional(readOnly = true)
     public long getUncheckedCount(Long eventId) {
         return ticketRepository.countCheckedInTicketsByEvent(eventId, false);
     }
 
+    @Transactional(readOnly = true)
     public double getCheckInPercentage(Long eventId) {
         long total = getEventTicketCount(eventId);
         if (total == 0) return 0.0;
@@ -196,6 +214,7 @@ public class EventTicketService {
         return "TKT-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAttendees(Long eventId) {
         return getCheckedInTickets(eventId).stream()
                 .map(EventTicket::getUser)
@@ -217,11 +236,13 @@ public class EventTicketService {
     }
 
     // ==================== EXPORT ====================
+    @Transactional(readOnly = true)
     public List<EventTicket> getEventTicketsForExport(Long eventId) {
         // Return all tickets for an event (for admin export/reporting)
         return getTicketsByEvent(eventId);
     }
 
+    @Transactional(readOnly = true)
     public String getTicketDetails(Long ticketId) {
         EventTicket ticket = getTicketById(ticketId);
         return String.format(
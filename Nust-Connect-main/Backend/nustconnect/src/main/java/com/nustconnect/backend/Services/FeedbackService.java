@@ -36,43 +36,53 @@ public class FeedbackService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Feedback getFeedbackById(Long feedbackId) {
         return feedbackRepository.findById(feedbackId)
                 .orElseThrow(() -> new IllegalArgumentException("Feedback not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getAllFeedback() {
         return feedbackRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackByUser(Long userId) {
         return feedbackRepository.findBySubmittedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackByStatus(String status) {
         return feedbackRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Page<Feedback> getFeedbackByStatusPaginated(String status, Pageable pageable) {
         return feedbackRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getPendingFeedback() {
         return feedbackRepository.findByStatus("PENDING");
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getResolvedFeedback() {
         return feedbackRepository.findByStatus("RESOLVED");
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackByType(String feedbackType) {
         return feedbackRepository.findByFeedbackType(feedbackType);
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackByCategory(String category) {
         return feedbackRepository.findByCategory(category);
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackAssignedTo(Long adminId) {
         return feedbackRepository.findByAssignedToUserId(adminId);
     }
@@ -159,49 +169,59 @@ public class FeedbackService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isFeedbackOwner(Long feedbackId, Long userId) {
         Feedback feedback = getFeedbackById(feedbackId);
         return feedback.getSubmittedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isFeedbackAssignedTo(Long feedbackId, Long adminId) {
         Feedback feedback = getFeedbackById(feedbackId);
         return feedback.getAssignedTo() != null &&
                 feedback.getAssignedTo().getUserId().equals(adminId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isFeedbackPending(Long feedbackId) {
         Feedback feedback = getFeedbackById(feedbackId);
         return "PENDING".equals(feedback.getStatus());
     }
 
+    @Transactional(readOnly = true)
     public boolean isFeedbackResolved(Long feedbackId) {
         Feedback feedback = getFeedbackById(feedbackId);
         return "RESOLVED".equals(feedback.getStatus());
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalFeedbackCount() {
         return feedbackRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getPendingFeedbackCount() {
         return feedbackRepository.countByStatus("PENDING");
     }
 
+    @Transactional(readOnly = true)
     public long getResolvedFeedbackCount() {
         return feedbackRepository.countByStatus("RESOLVED");
     }
 
+    @Transactional(readOnly = true)
     public long getUserFeedbackCount(Long userId) {
-        return feedbackRepository.findBySubmittedByUserId(userId).size();
+        return feedbackRepository.countBySubmittedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getAdminFeedbackCount(Long adminId) {
-        return feedbackRepository.findByAssignedToUserId(adminId).size();
+        return feedbackRepository.countByAssignedToUserId(adminId);
     }
 
     // ==================== PRIORITY/CATEGORY ====================
+    @Transactional(readOnly = true)
     public List<Feedback> getHighPriorityFeedback() {
         return getAllFeedback().stream()
                 .filter(f -> "HIGH".equals(f.getPriority()))
@@ -209,6 +229,7 @@ public class FeedbackService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackByPriority(String priority) {
         return getAllFeedback().stream()
                 .filter(f -> priority.equals(f.getPriority()))
@@ -227,6 +248,7 @@ public class FeedbackService {
         });
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getUnassignedFeedback() {
         return getAllFeedback().stream()
                 .filter(f -> f.getAssignedTo() == null)
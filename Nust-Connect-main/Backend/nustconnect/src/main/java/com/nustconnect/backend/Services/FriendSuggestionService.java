@@ -0,0 +1,330 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.EventRegistrationStatus;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.ClubMembershipRepository;
+import com.nustconnect.backend.Repositories.EventRegistrationRepository;
+import com.nustconnect.backend.Repositories.FriendshipRepository;
+import com.nustconnect.backend.Repositories.Projections.FriendEdgeView;
+import com.nustconnect.backend.Repositories.Projections.GroupMemberView;
+import com.nustconnect.backend.Repositories.Projections.UserCohortView;
+import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Utils.LongAdjacencyGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FriendSuggestionService {
+
+    private static final double MUTUAL_FRIEND_WEIGHT = 3.0;
+    private static final double SHARED_CLUB_WEIGHT = 2.0;
+    private static final double SHARED_EVENT_WEIGHT = 1.0;
+    private static final double SAME_DEPARTMENT_WEIGHT = 1.5;
+    private static final double SAME_YEAR_WEIGHT = 1.0;
+
+    // Sharing a 2,000-person event says little about two people, and expanding it is quadratic
+    private static final int MAX_GROUP_SIZE = 300;
+    // New users with no friends, clubs or events are offered a slice of their own cohort
+    private static final int COHORT_SAMPLE = 50;
+    private static final int USERS_PER_TASK = 256;
+
+    private final SocialGraphService socialGraphService;
+    private final UserRepository userRepository;
+    private final ClubMembershipRepository membershipRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${suggestions.top-n:20}")
+    private int topN;
+
+    @Value("${suggestions.event-window-days:180}")
+    private int eventWindowDays;
+
+    // 0 uses one thread per core
+    @Value("${suggestions.parallelism:0}")
+    private int parallelism;
+
+    private volatile Map<Long, Suggestion[]> suggestions = Map.of();
+    private volatile LocalDateTime computedAt;
+
+    public record Suggestion(Long userId, double score, int mutualFriends, int sharedClubs, int sharedEvents,
+                             boolean sameDepartment, boolean sameYear) {
+    }
+
+    public record SuggestedUser(User user, Suggestion suggestion) {
+    }
+
+    public record SuggestionStats(int users, int suggestions, LocalDateTime computedAt) {
+    }
+
+    // ==================== PRECOMPUTE ====================
+    @Scheduled(initialDelayString = "${suggestions.initial-delay-ms:120000}",
+            fixedDelayString = "${suggestions.refresh-interval-ms:3600000}")
+    public void refreshSuggestions() {
+        if (!socialGraphService.isLoaded()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Snapshot snapshot = transactionTemplate.execute(status -> loadSnapshot());
+        if (snapshot == null) {
+            return;
+        }
+
+        // Each user's list depends only on the snapshot and the graph, so partitions share nothing
+        Map<Long, Suggestion[]> computed = new ConcurrentHashMap<>(snapshot.userIds.length * 2);
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(new SuggestionTask(snapshot, computed, 0, snapshot.userIds.length));
+        } finally {
+            pool.shutdown();
+        }
+
+        suggestions = computed;
+        computedAt = LocalDateTime.now();
+        log.info("Computed friend suggestions for {} users in {} ms",
+                computed.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private final class SuggestionTask extends RecursiveAction {
+        private final Snapshot snapshot;
+        private final Map<Long, Suggestion[]> out;
+        private final int from;
+        private final int to;
+
+        private SuggestionTask(Snapshot snapshot, Map<Long, Suggestion[]> out, int from, int to) {
+            this.snapshot = snapshot;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= USERS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    Suggestion[] ranked = suggestFor(snapshot, i);
+                    if (ranked.length > 0) {
+                        out.put(snapshot.userIds[i], ranked);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SuggestionTask(snapshot, out, from, middle), new SuggestionTask(snapshot, out, middle, to));
+        }
+    }
+
+    // ==================== SCORING ====================
+    private Suggestion[] suggestFor(Snapshot snapshot, int position) {
+        long userId = snapshot.userIds[position];
+        Map<Long, Candidate> candidates = new HashMap<>();
+
+        LongAdjacencyGraph.SecondDegree friendsOfFriends = socialGraphService.getFriendsOfFriends(userId);
+        for (int i = 0; i < friendsOfFriends.size(); i++) {
+            candidates.computeIfAbsent(friendsOfFriends.ids()[i], id -> new Candidate()).mutualFriends =
+                    friendsOfFriends.mutualCounts()[i];
+        }
+        for (long clubId : snapshot.userClubs.getOrDefault(userId, Snapshot.NONE)) {
+            long[] members = snapshot.clubMembers.getOrDefault(clubId, Snapshot.NONE);
+            if (members.length <= MAX_GROUP_SIZE) {
+                for (long member : members) {
+                    candidates.computeIfAbsent(member, id -> new Candidate()).sharedClubs++;
+                }
+            }
+        }
+        for (long eventId : snapshot.userEvents.getOrDefault(userId, Snapshot.NONE)) {
+            long[] attendees = snapshot.eventAttendees.getOrDefault(eventId, Snapshot.NONE);
+            if (attendees.length <= MAX_GROUP_SIZE) {
+                for (long attendee : attendees) {
+                    candidates.computeIfAbsent(attendee, id -> new Candidate()).sharedEvents++;
+                }
+            }
+        }
+        String cohort = snapshot.cohortKey(position);
+        if (candidates.size() < topN && cohort != null) {
+            long[] peers = snapshot.cohorts.getOrDefault(cohort, Snapshot.NONE);
+            // Start at a different offset per user so a big cohort isn't all pointed at the same 50 people
+            int offset = peers.length > 0 ? (int) Math.floorMod(userId * 31, (long) peers.length) : 0;
+            for (int i = 0; i < Math.min(peers.length, COHORT_SAMPLE); i++) {
+                candidates.computeIfAbsent(peers[(offset + i) % peers.length], id -> new Candidate());
+            }
+        }
+
+        long[] friends = socialGraphService.getFriendIds(userId);
+        long[] pending = snapshot.pending.getOrDefault(userId, Snapshot.NONE);
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(Comparator.comparingDouble(Suggestion::score));
+        candidates.forEach((candidateId, candidate) -> {
+            int candidatePosition = Arrays.binarySearch(snapshot.userIds, candidateId);
+            if (candidateId == userId || candidatePosition < 0
+                    || Arrays.binarySearch(friends, candidateId) >= 0
+                    || Arrays.binarySearch(pending, candidateId) >= 0) {
+                return;
+            }
+            boolean sameDepartment = snapshot.departments[position] != null
+                    && snapshot.departments[position].equals(snapshot.departments[candidatePosition]);
+            boolean sameYear = snapshot.years[position] != null
+                    && snapshot.years[position].equals(snapshot.years[candidatePosition]);
+            double score = MUTUAL_FRIEND_WEIGHT * candidate.mutualFriends
+                    + SHARED_CLUB_WEIGHT * candidate.sharedClubs
+                    + SHARED_EVENT_WEIGHT * candidate.sharedEvents
+                    + (sameDepartment ? SAME_DEPARTMENT_WEIGHT : 0)
+                    + (sameYear ? SAME_YEAR_WEIGHT : 0);
+            if (score <= 0) {
+                return;
+            }
+            Suggestion suggestion = new Suggestion(candidateId, score, candidate.mutualFriends, candidate.sharedClubs,
+                    candidate.sharedEvents, sameDepartment, sameYear);
+            if (top.size() < topN) {
+                top.add(suggestion);
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(suggestion);
+            }
+        });
+
+        Suggestion[] ranked = top.toArray(new Suggestion[0]);
+        Arrays.sort(ranked, Comparator.comparingDouble(Suggestion::score).reversed());
+        return ranked;
+    }
+
+    private static final class Candidate {
+        private int mutualFriends;
+        private int sharedClubs;
+        private int sharedEvents;
+    }
+
+    // ==================== SERVING ====================
+    // A single map lookup; people who became friends since the last run are skipped
+    public List<SuggestedUser> getSuggestions(Long userId, int limit) {
+        Suggestion[] stored = suggestions.get(userId);
+        if (stored == null) {
+            return List.of();
+        }
+        List<Suggestion> current = Arrays.stream(stored)
+                .filter(suggestion -> !socialGraphService.areFriends(userId, suggestion.userId()))
+                .limit(limit)
+                .toList();
+        Map<Long, User> users = userRepository.findAllById(current.stream().map(Suggestion::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        return current.stream()
+                .filter(suggestion -> users.containsKey(suggestion.userId()))
+                .map(suggestion -> new SuggestedUser(users.get(suggestion.userId()), suggestion))
+                .filter(suggested -> Boolean.TRUE.equals(suggested.user().getIsActive()))
+                .toList();
+    }
+
+    public SuggestionStats getStats() {
+        Map<Long, Suggestion[]> current = suggestions;
+        int total = current.values().stream().mapToInt(ranked -> ranked.length).sum();
+        return new SuggestionStats(current.size(), total, computedAt);
+    }
+
+    // ==================== SNAPSHOT ====================
+    private Snapshot loadSnapshot() {
+        List<UserCohortView> users = userRepository.findActiveUserCohorts();
+        List<GroupMemberView> memberships = membershipRepository.findAllActiveMemberPairs();
+        List<GroupMemberView> registrations = registrationRepository.findMemberPairsByStatusSince(
+                EventRegistrationStatus.REGISTERED, LocalDateTime.now().minusDays(eventWindowDays));
+        List<FriendEdgeView> pendingEdges = friendshipRepository.findAllPendingEdges();
+        return new Snapshot(users, memberships, registrations, pendingEdges);
+    }
+
+    // Everything the scoring reads, loaded once per run and never modified after construction
+    private static final class Snapshot {
+        private static final long[] NONE = new long[0];
+
+        private final long[] userIds;
+        private final String[] departments;
+        private final Integer[] years;
+        private final Map<Long, long[]> userClubs;
+        private final Map<Long, long[]> clubMembers;
+        private final Map<Long, long[]> userEvents;
+        private final Map<Long, long[]> eventAttendees;
+        private final Map<String, long[]> cohorts;
+        private final Map<Long, long[]> pending;
+
+        private Snapshot(List<UserCohortView> users, List<GroupMemberView> memberships,
+                         List<GroupMemberView> registrations, List<FriendEdgeView> pendingEdges) {
+            List<UserCohortView> sorted = new ArrayList<>(users);
+            sorted.sort(Comparator.comparing(UserCohortView::getUserId));
+            userIds = new long[sorted.size()];
+            departments = new String[sorted.size()];
+            years = new Integer[sorted.size()];
+            Map<String, List<Long>> cohortLists = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                UserCohortView user = sorted.get(i);
+                userIds[i] = user.getUserId();
+                departments[i] = user.getDepartment() != null && !user.getDepartment().isBlank()
+                        ? user.getDepartment().trim().toUpperCase(Locale.ROOT)
+                        : null;
+                years[i] = user.getYearOfStudy();
+                String key = cohortKey(i);
+                if (key != null) {
+                    cohortLists.computeIfAbsent(key, k -> new ArrayList<>()).add(user.getUserId());
+                }
+            }
+            cohorts = toArrays(cohortLists);
+            userClubs = group(memberships, GroupMemberView::getUserId, GroupMemberView::getGroupId);
+            clubMembers = group(memberships, GroupMemberView::getGroupId, GroupMemberView::getUserId);
+            userEvents = group(registrations, GroupMemberView::getUserId, GroupMemberView::getGroupId);
+            eventAttendees = group(registrations, GroupMemberView::getGroupId, GroupMemberView::getUserId);
+
+            // A pending request in either direction rules the pair out
+            Map<Long, List<Long>> pendingLists = new HashMap<>();
+            for (FriendEdgeView edge : pendingEdges) {
+                pendingLists.computeIfAbsent(edge.getFollowerId(), k -> new ArrayList<>()).add(edge.getFollowingId());
+                pendingLists.computeIfAbsent(edge.getFollowingId(), k -> new ArrayList<>()).add(edge.getFollowerId());
+            }
+            pending = toArrays(pendingLists);
+        }
+
+        private String cohortKey(int position) {
+            if (departments[position] == null || years[position] == null) {
+                return null;
+            }
+            return departments[position] + "|" + years[position];
+        }
+
+        private static <T> Map<Long, long[]> group(List<T> rows, Function<T, Long> key, Function<T, Long> value) {
+            Map<Long, List<Long>> lists = new HashMap<>();
+            for (T row : rows) {
+                Long k = key.apply(row);
+                Long v = value.apply(row);
+                if (k != null && v != null) {
+                    lists.computeIfAbsent(k, x -> new ArrayList<>()).add(v);
+                }
+            }
+            return toArrays(lists);
+        }
+
+        private static <K> Map<K, long[]> toArrays(Map<K, List<Long>> lists) {
+            Map<K, long[]> arrays = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, values) -> arrays.put(key,
+                    values.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray()));
+            return arrays;
+        }
+    }
+}
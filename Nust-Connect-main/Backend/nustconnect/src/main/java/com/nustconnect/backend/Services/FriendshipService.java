@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,6 +20,7 @@ public class FriendshipService {
 
     private final FriendshipRepository friendshipRepository;
     private final UserRepository userRepository;
+    private final SocialGraphService socialGraphService;
 
     // ==================== SEND FRIEND REQUEST ====================
     public Friendship sendFriendRequest(Long followerId, Long followingId) {
@@ -61,7 +63,9 @@ public class FriendshipService {
         }
 
         friendship.accept();
-        return friendshipRepository.save(friendship);
+        Friendship saved = friendshipRepository.save(friendship);
+        socialGraphService.addFriendship(saved.getFollower().getUserId(), saved.getFollowing().getUserId());
+        return saved;
     }
 
     public Friendship acceptFriendRequestByUsers(Long followerId, Long followingId) {
@@ -73,35 +77,47 @@ public class FriendshipService {
         }
 
         friendship.accept();
-        return friendshipRepository.save(friendship);
+        Friendship saved = friendshipRepository.save(friendship);
+        socialGraphService.addFriendship(saved.getFollower().getUserId(), saved.getFollowing().getUserId());
+        return saved;
     }
 
     // ==================== REJECT/CANCEL FRIEND REQUEST ====================
     public void rejectFriendRequest(Long friendshipId) {
-        if (!friendshipRepository.existsById(friendshipId)) {
-            throw new IllegalArgumentException("Friendship not found");
-        }
-        friendshipRepository.deleteById(friendshipId);
+        Friendship friendship = getFriendshipById(friendshipId);
+        deleteFriendship(friendship);
     }
 
     public void cancelFriendRequest(Long followerId, Long followingId) {
         Friendship friendship = friendshipRepository.findByFollowerUserIdAndFollowingUserId(followerId, followingId)
                 .orElseThrow(() -> new IllegalArgumentException("Friend request not found"));
-        friendshipRepository.delete(friendship);
+        deleteFriendship(friendship);
     }
 
     // ==================== UNFRIEND ====================
     public void unfriend(Long userId, Long friendId) {
         // Remove friendship in both directions
         friendshipRepository.findByFollowerUserIdAndFollowingUserId(userId, friendId)
-                .ifPresent(friendshipRepository::delete);
+                .ifPresent(this::deleteFriendship);
 
         friendshipRepository.findByFollowerUserIdAndFollowingUserId(friendId, userId)
-                .ifPresent(friendshipRepository::delete);
+                .ifPresent(this::deleteFriendship);
+    }
+
+    private void deleteFriendship(Friendship friendship) {
+        if (friendship.isAccepted()) {
+            socialGraphService.removeFriendship(friendship.getFollower().getUserId(), friendship.getFollowing().getUserId());
+        }
+        friendshipRepository.delete(friendship);
     }
 
     // ==================== GET FRIENDS ====================
+    @Transactional(readOnly = true)
     public List<User> getFriends(Long userId) {
+        // One IN query for the ids from the graph instead of a lazy load per friendship
+        if (socialGraphService.isLoaded()) {
+            return userRepository.findAllById(toIdList(socialGraphService.getFriendIds(userId)));
+        }
         List<Friendship> friendships = friendshipRepository.findAllFriends(userId);
 
         return friendships.stream()
@@ -115,20 +131,29 @@ public class FriendshipService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<User> getMutualFriends(Long userId1, Long userId2) {
+        return userRepository.findAllById(toIdList(socialGraphService.getMutualFriendIds(userId1, userId2)));
+    }
+
+    @Transactional(readOnly = true)
     public List<Friendship> getAllFriendships(Long userId) {
         return friendshipRepository.findAllFriends(userId);
     }
 
     // ==================== GET PENDING REQUESTS ====================
+    @Transactional(readOnly = true)
     public List<Friendship> getPendingReceivedRequests(Long userId) {
         return friendshipRepository.findByFollowingUserIdAndStatus(userId, FriendshipStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<Friendship> getPendingSentRequests(Long userId) {
         return friendshipRepository.findByFollowerUserIdAndStatus(userId, FriendshipStatus.PENDING);
     }
 
     // ==================== GET ACCEPTED FRIENDS ====================
+    @Transactional(readOnly = true)
     public List<Friendship> getAcceptedFriendships(Long userId) {
         List<Friendship> sentAccepted = friendshipRepository.findByFollowerUserIdAndStatus(userId, FriendshipStatus.ACCEPTED);
         List<Friendship> receivedAccepted = friendshipRepository.findByFollowingUserIdAndStatus(userId, FriendshipStatus.ACCEPTED);
@@ -138,7 +163,11 @@ public class FriendshipService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean areFriends(Long userId1, Long userId2) {
+        if (socialGraphService.isLoaded()) {
+            return socialGraphService.areFriends(userId1, userId2);
+        }
         return friendshipRepository.findByFollowerUserIdAndFollowingUserId(userId1, userId2)
                 .map(Friendship::isAccepted)
                 .orElse(false) ||
@@ -147,12 +176,14 @@ public class FriendshipService {
                         .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasPendingRequest(Long followerId, Long followingId) {
         return friendshipRepository.findByFollowerUserIdAndFollowingUserId(followerId, followingId)
                 .map(Friendship::isPending)
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
     public FriendshipStatus getFriendshipStatus(Long userId1, Long userId2) {
         return friendshipRepository.findByFollowerUserIdAndFollowingUserId(userId1, userId2)
                 .map(Friendship::getStatus)
@@ -160,24 +191,40 @@ public class FriendshipService {
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getFriendCount(Long userId) {
-        return getFriends(userId).size();
+        if (socialGraphService.isLoaded()) {
+            return socialGraphService.getFriendCount(userId);
+        }
+        return friendshipRepository.countAllFriends(userId);
     }
 
+    @Transactional(readOnly = true)
+    public long getMutualFriendCount(Long userId1, Long userId2) {
+        return socialGraphService.getMutualFriendCount(userId1, userId2);
+    }
+
+    @Transactional(readOnly = true)
     public long getPendingRequestCount(Long userId) {
-        return getPendingReceivedRequests(userId).size();
+        return friendshipRepository.countByFollowingUserIdAndStatus(userId, FriendshipStatus.PENDING);
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public Friendship getFriendshipById(Long friendshipId) {
         return friendshipRepository.findById(friendshipId)
                 .orElseThrow(() -> new IllegalArgumentException("Friendship not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Friendship> getAllFriendRequests(Long userId) {
         List<Friendship> received = getPendingReceivedRequests(userId);
         List<Friendship> sent = getPendingSentRequests(userId);
         received.addAll(sent);
         return received;
     }
-}
\ No newline at end of file
+
+    private static List<Long> toIdList(long[] ids) {
+        return Arrays.stream(ids).boxed().collect(Collectors.toList());
+    }
+}
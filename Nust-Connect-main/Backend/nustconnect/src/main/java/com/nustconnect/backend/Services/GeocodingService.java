@@ -0,0 +1,112 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Utils.GeoPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class GeocodingService {
+
+    private static final String GAZETTEER_FILE = "gazetteer.csv";
+
+    // normalized name/alias -> coordinates
+    private final Map<String, GeoPoint> places = new HashMap<>();
+    // aliases sorted longest first so "nustcampus" wins over "nust"
+    private final List<String> aliasesByLength;
+
+    public GeocodingService() {
+        loadGazetteer();
+        aliasesByLength = places.keySet().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    // ==================== LOOKUP ====================
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String key = normalize(location);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        GeoPoint exact = places.get(key);
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+
+        // "F7 Markaz near Jinnah Super" -> first (longest) known place mentioned in the text
+        for (String alias : aliasesByLength) {
+            if (key.contains(alias)) {
+                return Optional.of(places.get(alias));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int getPlaceCount() {
+        return places.size();
+    }
+
+    // "F-7", "f7" and "F 7" all normalize to "f7"
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // ==================== GAZETTEER ====================
+    private void loadGazetteer() {
+        ClassPathResource resource = new ClassPathResource(GAZETTEER_FILE);
+        if (!resource.exists()) {
+            log.warn("Gazetteer {} not found, ride locations will not be geocoded", GAZETTEER_FILE);
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(";");
+                if (parts.length < 3) {
+                    continue;
+                }
+                GeoPoint point = new GeoPoint(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                places.put(normalize(parts[0]), point);
+                if (parts.length > 3) {
+                    for (String alias : parts[3].split("\\|")) {
+                        String key = normalize(alias);
+                        if (!key.isEmpty()) {
+                            places.putIfAbsent(key, point);
+                        }
+                    }
+                }
+            }
+            log.info("Loaded {} gazetteer entries", places.size());
+        } catch (IOException | NumberFormatException e) {
+            log.error("Failed to load gazetteer {}", GAZETTEER_FILE, e);
+        }
+    }
+}
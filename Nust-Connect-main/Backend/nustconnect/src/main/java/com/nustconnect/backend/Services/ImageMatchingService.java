@@ -0,0 +1,326 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Models.FoundItem;
+import com.nustconnect.backend.Models.LostItem;
+import com.nustconnect.backend.Repositories.FoundItemRepository;
+import com.nustconnect.backend.Repositories.LostItemRepository;
+import com.nustconnect.backend.Repositories.Projections.ItemImageView;
+import com.nustconnect.backend.Utils.AfterCommit;
+import com.nustconnect.backend.Utils.BkTree;
+import com.nustconnect.backend.Utils.PerceptualHash;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageMatchingService {
+
+    // Out of 64 bits: <= 10 is "looks alike", <= 6 is close enough to tell the owner
+    private static final int VISUAL_MATCH_DISTANCE = 10;
+    private static final int STRONG_VISUAL_DISTANCE = 6;
+    private static final int MATCH_LIMIT = 20;
+    private static final int MAX_MATCH_NOTIFICATIONS = 3;
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    private final LostItemRepository lostItemRepository;
+    private final FoundItemRepository foundItemRepository;
+    private final LostAndFoundMatchingService textMatchingService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    private final BkTree lostTree = new BkTree();
+    private final BkTree foundTree = new BkTree();
+    private final Map<Long, Long> lostHashes = new HashMap<>();
+    private final Map<Long, Long> foundHashes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Decoding photos is slow, so it never runs on a request thread
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-hash-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public record VisualMatch(Long itemId, int distance) {
+    }
+
+    private enum Side {
+        LOST, FOUND
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        lock.writeLock().lock();
+        try {
+            lostTree.clear();
+            foundTree.clear();
+            lostHashes.clear();
+            foundHashes.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Items uploaded before hashing existed are backfilled quietly, without notifications
+        int backfill = 0;
+        for (ItemImageView view : lostItemRepository.findOpenItemImages()) {
+            backfill += load(Side.LOST, view);
+        }
+        for (ItemImageView view : foundItemRepository.findOpenItemImages()) {
+            backfill += load(Side.FOUND, view);
+        }
+        log.info("Image index built with {} lost and {} found photos, {} queued for hashing",
+                lostTree.size(), foundTree.size(), backfill);
+    }
+
+    private int load(Side side, ItemImageView view) {
+        if (view.getImageHash() != null) {
+            index(side, view.getId(), view.getImageHash());
+            return 0;
+        }
+        worker.submit(() -> process(side, view.getId(), view.getImageUrl(), false));
+        return 1;
+    }
+
+    public void scheduleLostItem(LostItem item) {
+        schedule(Side.LOST, item.getId(), item.getImageUrl());
+    }
+
+    public void scheduleFoundItem(FoundItem item) {
+        schedule(Side.FOUND, item.getId(), item.getImageUrl());
+    }
+
+    public void removeLostItem(Long itemId) {
+        remove(Side.LOST, itemId);
+    }
+
+    public void removeFoundItem(Long itemId) {
+        remove(Side.FOUND, itemId);
+    }
+
+    private void schedule(Side side, Long itemId, String imageUrl) {
+        remove(side, itemId);
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        // The worker reads the row back, so it must not start before the report is committed
+        AfterCommit.run(() -> worker.submit(() -> process(side, itemId, imageUrl, true)));
+    }
+
+    private void index(Side side, Long itemId, long hash) {
+        lock.writeLock().lock();
+        try {
+            Long previous = hashes(side).put(itemId, hash);
+            if (previous != null) {
+                tree(side).remove(previous, itemId);
+            }
+            tree(side).add(hash, itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Side side, Long itemId) {
+        lock.writeLock().lock();
+        try {
+            Long previous = hashes(side).remove(itemId);
+            if (previous != null) {
+                tree(side).remove(previous, itemId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // ==================== MATCHING ====================
+    public List<VisualMatch> findLostMatches(Long foundItemId) {
+        return search(Side.FOUND, foundItemId, Side.LOST, VISUAL_MATCH_DISTANCE);
+    }
+
+    public List<VisualMatch> findFoundMatches(Long lostItemId) {
+        return search(Side.LOST, lostItemId, Side.FOUND, VISUAL_MATCH_DISTANCE);
+    }
+
+    private List<VisualMatch> search(Side probeSide, Long itemId, Side targetSide, int maxDistance) {
+        lock.readLock().lock();
+        try {
+            Long hash = hashes(probeSide).get(itemId);
+            if (hash == null) {
+                return List.of();
+            }
+            return tree(targetSide).search(hash, maxDistance).stream()
+                    .sorted(Comparator.comparingInt(BkTree.Match::distance))
+                    .limit(MATCH_LIMIT)
+                    .map(match -> new VisualMatch(match.id(), match.distance()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== WORKER ====================
+    private void process(Side side, Long itemId, String imageUrl, boolean notify) {
+        try {
+            Long hash = computeHash(imageUrl);
+            if (hash == null) {
+                return;
+            }
+            // Guarded on the URL so a photo replaced in the meantime doesn't get the old hash
+            Integer updated = transactionTemplate.execute(status -> side == Side.LOST
+                    ? lostItemRepository.updateImageHash(itemId, imageUrl, hash)
+                    : foundItemRepository.updateImageHash(itemId, imageUrl, hash));
+            if (updated == null || updated == 0) {
+                return;
+            }
+            index(side, itemId, hash);
+
+            if (notify) {
+                if (side == Side.FOUND) {
+                    notifyOwnersOfFoundItem(itemId);
+                } else {
+                    notifyOwnerOfLostItem(itemId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to hash image for {} item {}", side, itemId, e);
+        }
+    }
+
+    private Long computeHash(String imageUrl) {
+        Path file = resolveUpload(imageUrl);
+        if (file == null || !Files.isRegularFile(file)) {
+            log.debug("Skipping image {}: not a local upload", imageUrl);
+            return null;
+        }
+        try {
+            BufferedImage image = ImageIO.read(file.toFile());
+            if (image == null) {
+                log.debug("Skipping image {}: unsupported format", imageUrl);
+                return null;
+            }
+            return PerceptualHash.dHash(image);
+        } catch (IOException e) {
+            log.warn("Could not read image {}: {}", imageUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    // Only files in our own upload directory are read; remote URLs are never fetched
+    private Path resolveUpload(String imageUrl) {
+        String path = imageUrl;
+        if (imageUrl.startsWith("http://") || imageUrl.startsWith("https://")) {
+            try {
+                path = URI.create(imageUrl).getPath();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        if (path == null || !path.startsWith(UPLOADS_PREFIX)) {
+            return null;
+        }
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = root.resolve(path.substring(UPLOADS_PREFIX.length())).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    // ==================== NOTIFICATIONS ====================
+    private void notifyOwnersOfFoundItem(Long foundItemId) {
+        FoundItem found = foundItemRepository.findById(foundItemId).orElse(null);
+        if (found == null || !"ACTIVE".equals(found.getStatus())) {
+            return;
+        }
+        // Pairs the text matcher already reported don't need a second notification
+        Set<Long> alreadyNotified = textMatchingService.findLostMatches(found, MATCH_LIMIT).stream()
+                .filter(LostAndFoundMatchingService.ItemMatch::isStrong)
+                .map(LostAndFoundMatchingService.ItemMatch::itemId)
+                .collect(Collectors.toSet());
+        List<Long> lostIds = findLostMatches(foundItemId).stream()
+                .filter(match -> match.distance() <= STRONG_VISUAL_DISTANCE)
+                .map(VisualMatch::itemId)
+                .filter(id -> !alreadyNotified.contains(id))
+                .toList();
+        if (lostIds.isEmpty()) {
+            return;
+        }
+
+        Long finderId = found.getFoundBy().getUserId();
+        lostItemRepository.findAllById(lostIds).stream()
+                .filter(lost -> "ACTIVE".equals(lost.getStatus()))
+                .filter(lost -> !Objects.equals(lost.getReportedBy().getUserId(), finderId))
+                .limit(MAX_MATCH_NOTIFICATIONS)
+                .forEach(lost -> notificationService.notifyLostItemMatch(
+                        lost.getReportedBy().getUserId(),
+                        "A found item looks like the photo of your " + lost.getItemName() + ": " + found.getItemName(),
+                        foundItemId));
+    }
+
+    private void notifyOwnerOfLostItem(Long lostItemId) {
+        LostItem lost = lostItemRepository.findById(lostItemId).orElse(null);
+        if (lost == null || !"ACTIVE".equals(lost.getStatus())) {
+            return;
+        }
+        Set<Long> alreadyNotified = textMatchingService.findFoundMatches(lost, MATCH_LIMIT).stream()
+                .filter(LostAndFoundMatchingService.ItemMatch::isStrong)
+                .map(LostAndFoundMatchingService.ItemMatch::itemId)
+                .collect(Collectors.toSet());
+        List<Long> foundIds = findFoundMatches(lostItemId).stream()
+                .filter(match -> match.distance() <= STRONG_VISUAL_DISTANCE)
+                .map(VisualMatch::itemId)
+                .filter(id -> !alreadyNotified.contains(id))
+                .toList();
+        if (foundIds.isEmpty()) {
+            return;
+        }
+
+        foundItemRepository.findAllById(foundIds).stream()
+                .filter(found -> "ACTIVE".equals(found.getStatus()))
+                .limit(MAX_MATCH_NOTIFICATIONS)
+                .forEach(found -> notificationService.notifyLostItemMatch(
+                        lost.getReportedBy().getUserId(),
+                        "A found item looks like the photo of your " + lost.getItemName() + ": " + found.getItemName(),
+                        found.getId()));
+    }
+
+    // ==================== HELPER METHODS ====================
+    private BkTree tree(Side side) {
+        return side == Side.LOST ? lostTree : foundTree;
+    }
+
+    private Map<Long, Long> hashes(Side side) {
+        return side == Side.LOST ? lostHashes : foundHashes;
+    }
+}
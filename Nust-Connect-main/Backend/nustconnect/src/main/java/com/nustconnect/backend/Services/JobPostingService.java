@@ -1,17 +1,24 @@
 package com.nustconnect.backend.Services;
 
+import com.nustconnect.backend.Enums.LifecycleType;
 import com.nustconnect.backend.Models.JobPosting;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.JobPostingRepository;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +27,8 @@ public class JobPostingService {
 
     private final JobPostingRepository jobRepository;
     private final UserRepository userRepository;
+    private final JobRecommendationService recommendationService;
+    private final LifecycleSweeperService lifecycleSweeperService;
 
     // ==================== CREATE ====================
     public JobPosting createJobPosting(Long posterId, JobPosting job) {
@@ -30,39 +39,49 @@ public class JobPostingService {
         job.setStatus("ACTIVE");
         job.setViewCount(0);
 
-        return jobRepository.save(job);
+        JobPosting saved = jobRepository.save(job);
+        recommendationService.indexJob(saved);
+        return saved;
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public JobPosting getJobById(Long jobId) {
         return jobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getAllJobs() {
         return jobRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getAllActiveJobs() {
         return jobRepository.findAllActiveJobs();
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getJobsByPoster(Long posterId) {
         return jobRepository.findByPostedByUserId(posterId);
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getJobsByType(String jobType) {
         return jobRepository.findByJobType(jobType);
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getJobsByStatus(String status) {
         return jobRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Page<JobPosting> getActiveJobsPaginated(Pageable pageable) {
         return jobRepository.findByStatusOrderByCreatedAtDesc("ACTIVE", pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> searchJobs(String keyword) {
         return jobRepository.searchJobs(keyword);
     }
@@ -99,33 +118,32 @@ public class JobPostingService {
             existingJob.setApplicationDeadline(updatedJob.getApplicationDeadline());
         }
 
-        return jobRepository.save(existingJob);
+        JobPosting saved = jobRepository.save(existingJob);
+        recommendationService.indexJob(saved);
+        return saved;
     }
 
     // ==================== STATUS ====================
     public JobPosting closeJob(Long jobId) {
         JobPosting job = getJobById(jobId);
         job.close();
+        recommendationService.removeJob(jobId);
         return jobRepository.save(job);
     }
 
     public JobPosting markAsExpired(Long jobId) {
         JobPosting job = getJobById(jobId);
         job.setStatus("EXPIRED");
+        recommendationService.removeJob(jobId);
         return jobRepository.save(job);
     }
 
     public JobPosting reactivateJob(Long jobId) {
         JobPosting job = getJobById(jobId);
         job.setStatus("ACTIVE");
-        return jobRepository.save(job);
-    }
-
-    // ==================== VIEW COUNT ====================
-    public void incrementViewCount(Long jobId) {
-        JobPosting job = getJobById(jobId);
-        job.incrementViewCount();
-        jobRepository.save(job);
+        JobPosting saved = jobRepository.save(job);
+        recommendationService.indexJob(saved);
+        return saved;
     }
 
     // ==================== DELETE ====================
@@ -133,6 +151,7 @@ public class JobPostingService {
         JobPosting job = getJobById(jobId);
         job.softDelete();
         jobRepository.save(job);
+        recommendationService.removeJob(jobId);
     }
 
     public void hardDeleteJob(Long jobId) {
@@ -140,19 +159,23 @@ public class JobPostingService {
             throw new IllegalArgumentException("Job not found");
         }
         jobRepository.deleteById(jobId);
+        recommendationService.removeJob(jobId);
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isJobOwner(Long jobId, Long userId) {
         JobPosting job = getJobById(jobId);
         return job.getPostedBy() != null && job.getPostedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isJobActive(Long jobId) {
         JobPosting job = getJobById(jobId);
         return "ACTIVE".equals(job.getStatus());
     }
 
+    @Transactional(readOnly = true)
     public boolean isJobExpired(Long jobId) {
         JobPosting job = getJobById(jobId);
         return job.getApplicationDeadline() != null &&
@@ -160,73 +183,75 @@ public class JobPostingService {
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalJobCount() {
         return jobRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveJobCount() {
-        return jobRepository.findByStatus("ACTIVE").size();
+        return jobRepository.countByStatus("ACTIVE");
     }
 
+    @Transactional(readOnly = true)
     public long getClosedJobCount() {
-        return jobRepository.findByStatus("CLOSED").size();
+        return jobRepository.countByStatus("CLOSED");
     }
 
+    @Transactional(readOnly = true)
     public long getUserJobCount(Long posterId) {
-        return jobRepository.findByPostedByUserId(posterId).size();
+        return jobRepository.countByPostedByUserId(posterId);
     }
 
+    @Transactional(readOnly = true)
     public long getJobTypeCount(String jobType) {
-        return jobRepository.findByJobType(jobType).size();
+        return jobRepository.countByJobType(jobType);
     }
 
     // ==================== JOB TYPES ====================
+    @Transactional(readOnly = true)
     public List<JobPosting> getInternships() {
         return jobRepository.findByJobType("INTERNSHIP");
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getPartTimeJobs() {
         return jobRepository.findByJobType("PART_TIME");
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getFullTimeJobs() {
         return jobRepository.findByJobType("FULL_TIME");
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getFreelanceJobs() {
         return jobRepository.findByJobType("FREELANCE");
     }
 
     // ==================== EXPIRY MANAGEMENT ====================
-    public void markExpiredJobs() {
-        List<JobPosting> allJobs = getAllActiveJobs();
-        LocalDateTime now = LocalDateTime.now();
-
-        allJobs.stream()
-                .filter(job -> job.getApplicationDeadline() != null)
-                .filter(job -> job.getApplicationDeadline().isBefore(now))
-                .forEach(job -> {
-                    job.setStatus("EXPIRED");
-                    jobRepository.save(job);
-                });
+    // The lifecycle sweeper runs this on a schedule; calling it directly just runs a sweep now.
+    // Not transactional so each batch commits on its own.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int markExpiredJobs() {
+        return lifecycleSweeperService.sweep(LifecycleType.JOB_POSTING);
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getExpiringJobs(int daysAhead) {
-        LocalDateTime deadline = LocalDateTime.now().plusDays(daysAhead);
-
-        return getAllActiveJobs().stream()
-                .filter(job -> job.getApplicationDeadline() != null)
-                .filter(job -> job.getApplicationDeadline().isBefore(deadline))
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.findExpiringJobs(now, now.plusDays(daysAhead));
     }
 
     // ==================== SEARCH & FILTER ====================
+    @Transactional(readOnly = true)
     public List<JobPosting> getJobsByCompany(String companyName) {
         return searchJobs(companyName).stream()
                 .filter(job -> job.getCompanyName().equalsIgnoreCase(companyName))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getJobsByLocation(String location) {
         return getAllActiveJobs().stream()
                 .filter(job -> job.getLocation() != null)
@@ -234,6 +259,7 @@ public class JobPostingService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<JobPosting> getRecentJobs(int days) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
 
@@ -243,8 +269,28 @@ public class JobPostingService {
     }
 
     // ==================== RECOMMENDATIONS ====================
+    @Transactional(readOnly = true)
     public List<JobPosting> getRecommendedJobs(User user) {
-        // Basic recommendation based on user's department
-        return searchJobs(user.getDepartment() != null ? user.getDepartment() : "");
+        return getRecommendedJobs(user, 10);
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobPosting> getRecommendedJobs(User user, int limit) {
+        List<Long> ranked = recommendationService.recommend(user, limit).stream()
+                .map(JobRecommendationService.JobScore::jobId)
+                .toList();
+        if (ranked.isEmpty()) {
+            // Nothing in the profile to go on yet, so show the newest openings
+            return jobRepository.findByStatusOrderByCreatedAtDesc("ACTIVE", PageRequest.of(0, limit)).getContent();
+        }
+
+        // The index may lag a just-closed job by a moment, so the database has the final say
+        Map<Long, JobPosting> jobsById = jobRepository.findAllById(ranked).stream()
+                .filter(job -> "ACTIVE".equals(job.getStatus()) && !job.isDeleted())
+                .collect(Collectors.toMap(JobPosting::getJobId, Function.identity()));
+        return ranked.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.LifecycleType;
+import com.nustconnect.backend.Models.JobPosting;
+import com.nustconnect.backend.Models.Profile;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.JobPostingRepository;
+import com.nustconnect.backend.Repositories.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobRecommendationService implements LifecycleTransitionHook {
+
+    // Field weights: a word in the title says more about the job than the same word in the description
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double LOCATION_WEIGHT = 0.5;
+    private static final double TYPE_WEIGHT = 1.0;
+
+    private static final double MAJOR_WEIGHT = 3.0;
+    private static final double INTEREST_WEIGHT = 2.0;
+    private static final double DEPARTMENT_WEIGHT = 2.0;
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final int STEM_LENGTH = 6;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "and", "or", "of", "in", "on", "at", "to", "with", "for", "from", "by", "as",
+            "is", "are", "be", "we", "you", "our", "your", "will", "who", "this", "that", "it", "its", "can",
+            "job", "role", "position", "looking", "candidate", "candidates", "required", "requirements", "apply");
+
+    // NUST school codes as they appear in User.department, expanded to the fields they teach
+    private static final Map<String, String> DEPARTMENT_FIELDS = Map.ofEntries(
+            Map.entry("seecs", "computer science software electrical engineering data"),
+            Map.entry("mcs", "computer science software engineering security"),
+            Map.entry("smme", "mechanical manufacturing engineering robotics"),
+            Map.entry("ceme", "mechanical electrical mechatronics engineering"),
+            Map.entry("scee", "civil environmental engineering construction"),
+            Map.entry("nice", "civil engineering construction structural"),
+            Map.entry("scme", "chemical materials engineering"),
+            Map.entry("cae", "aerospace avionics engineering"),
+            Map.entry("nbs", "business management finance marketing accounting"),
+            Map.entry("s3h", "social sciences economics psychology public policy"),
+            Map.entry("sada", "architecture design"),
+            Map.entry("sns", "mathematics physics chemistry research"),
+            Map.entry("asab", "biotechnology biology bioinformatics research"));
+
+    private final JobPostingRepository jobRepository;
+    private final ProfileRepository profileRepository;
+
+    private final Map<Long, IndexedJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Double>> userVectors = new ConcurrentHashMap<>();
+
+    public record JobScore(Long jobId, double score) {
+    }
+
+    private record IndexedJob(Long jobId, Map<String, Double> termWeights, LocalDateTime deadline) {
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        jobs.clear();
+        postings.clear();
+        userVectors.clear();
+        jobRepository.findAllActiveJobs().forEach(this::indexJob);
+        log.info("Job recommendation index built with {} jobs and {} terms", jobs.size(), postings.size());
+    }
+
+    public void indexJob(JobPosting job) {
+        removeJob(job.getJobId());
+        if (!"ACTIVE".equals(job.getStatus()) || job.isDeleted()) {
+            return;
+        }
+
+        Map<String, Double> counts = new HashMap<>();
+        addTerms(counts, job.getTitle(), TITLE_WEIGHT);
+        addTerms(counts, job.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(counts, job.getLocation(), LOCATION_WEIGHT);
+        if (job.getJobType() != null) {
+            counts.merge(typeFeature(job.getJobType()), TYPE_WEIGHT, Double::sum);
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        // Sublinear tf so a description repeating "java" ten times doesn't dominate
+        Map<String, Double> weights = new HashMap<>();
+        counts.forEach((term, count) -> weights.put(term, 1 + Math.log(count)));
+
+        jobs.put(job.getJobId(), new IndexedJob(job.getJobId(), weights, job.getApplicationDeadline()));
+        for (String term : weights.keySet()) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(job.getJobId());
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        IndexedJob existing = jobs.remove(jobId);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.termWeights().keySet()) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(jobId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    @Override
+    public LifecycleType getLifecycleType() {
+        return LifecycleType.JOB_POSTING;
+    }
+
+    @Override
+    public void afterTransition(List<Long> expiredJobIds, LocalDateTime cutoff) {
+        expiredJobIds.forEach(this::removeJob);
+    }
+
+    public void invalidateUser(Long userId) {
+        userVectors.remove(userId);
+    }
+
+    public int getIndexedJobCount() {
+        return jobs.size();
+    }
+
+    // ==================== RECOMMENDATION ====================
+    public List<JobScore> recommend(User user, int limit) {
+        Map<String, Double> userVector = userVectors.get(user.getUserId());
+        if (userVector == null) {
+            userVector = buildUserVector(user);
+            if (userVectors.size() >= MAX_CACHED_USERS) {
+                userVectors.clear();
+            }
+            userVectors.put(user.getUserId(), userVector);
+        }
+        if (userVector.isEmpty()) {
+            return List.of();
+        }
+
+        // Accumulate dot products over the postings of the user's terms only
+        int documentCount = jobs.size();
+        Map<Long, Double> dots = new HashMap<>();
+        double userNorm = 0;
+        for (Map.Entry<String, Double> entry : userVector.entrySet()) {
+            Set<Long> ids = postings.get(entry.getKey());
+            if (ids == null || ids.isEmpty()) {
+                continue;
+            }
+            double idf = idf(ids.size(), documentCount);
+            double userWeight = entry.getValue() * idf;
+            userNorm += userWeight * userWeight;
+            for (Long jobId : ids) {
+                IndexedJob job = jobs.get(jobId);
+                Double jobWeight = job != null ? job.termWeights().get(entry.getKey()) : null;
+                if (jobWeight != null) {
+                    dots.merge(jobId, userWeight * jobWeight * idf, Double::sum);
+                }
+            }
+        }
+        if (dots.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        double normalizedUser = Math.sqrt(userNorm);
+        PriorityQueue<JobScore> top = new PriorityQueue<>(Comparator.comparingDouble(JobScore::score));
+        dots.forEach((jobId, dot) -> {
+            IndexedJob job = jobs.get(jobId);
+            if (job == null || (job.deadline() != null && job.deadline().isBefore(now))) {
+                return;
+            }
+            double score = dot / (normalizedUser * jobNorm(job, documentCount));
+            if (top.size() < limit) {
+                top.add(new JobScore(jobId, score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new JobScore(jobId, score));
+            }
+        });
+
+        List<JobScore> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(JobScore::score).reversed());
+        return ranked;
+    }
+
+    // ==================== VECTORS ====================
+    private Map<String, Double> buildUserVector(User user) {
+        Map<String, Double> vector = new HashMap<>();
+        Profile profile = profileRepository.findByUserUserId(user.getUserId()).orElse(null);
+        if (profile != null) {
+            addTerms(vector, profile.getMajor(), MAJOR_WEIGHT);
+            addTerms(vector, profile.getInterests(), INTEREST_WEIGHT);
+            addYearPreferences(vector, profile.getYearOfStudy());
+        }
+        String department = user.getDepartment();
+        if (department != null) {
+            addTerms(vector, department, DEPARTMENT_WEIGHT);
+            String fields = DEPARTMENT_FIELDS.get(department.trim().toLowerCase(Locale.ROOT));
+            if (fields != null) {
+                addTerms(vector, fields, DEPARTMENT_WEIGHT / 2);
+            }
+        }
+        return vector;
+    }
+
+    // Early years look for internships and part-time work, final years for full-time roles
+    private void addYearPreferences(Map<String, Double> vector, Integer yearOfStudy) {
+        if (yearOfStudy == null) {
+            return;
+        }
+        if (yearOfStudy <= 2) {
+            vector.merge(typeFeature("INTERNSHIP"), 1.0, Double::sum);
+            vector.merge(typeFeature("PART_TIME"), 1.0, Double::sum);
+        } else if (yearOfStudy == 3) {
+            vector.merge(typeFeature("INTERNSHIP"), 1.5, Double::sum);
+        } else {
+            vector.merge(typeFeature("FULL_TIME"), 1.5, Double::sum);
+            vector.merge(typeFeature("INTERNSHIP"), 0.5, Double::sum);
+        }
+    }
+
+    private double jobNorm(IndexedJob job, int documentCount) {
+        double sum = 0;
+        for (Map.Entry<String, Double> entry : job.termWeights().entrySet()) {
+            Set<Long> ids = postings.get(entry.getKey());
+            double weight = entry.getValue() * idf(ids != null ? ids.size() : 1, documentCount);
+            sum += weight * weight;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double idf(int documentFrequency, int documentCount) {
+        return Math.log(1 + (double) documentCount / Math.max(documentFrequency, 1));
+    }
+
+    // ==================== TOKENIZING ====================
+    private static void addTerms(Map<String, Double> vector, String text, double weight) {
+        if (text == null) {
+            return;
+        }
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}+#]+")) {
+            if (raw.length() < 2 || STOP_WORDS.contains(raw)) {
+                continue;
+            }
+            vector.merge(stem(raw), weight, Double::sum);
+        }
+    }
+
+    // Prefix stemming: "developer"/"development" and "engineer"/"engineering" share a term
+    private static String stem(String token) {
+        String word = token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")
+                ? token.substring(0, token.length() - 1)
+                : token;
+        return word.length() > STEM_LENGTH ? word.substring(0, STEM_LENGTH) : word;
+    }
+
+    private static String typeFeature(String jobType) {
+        return "type:" + jobType.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+    }
+}
@@ -0,0 +1,173 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.LifecycleType;
+import com.nustconnect.backend.Repositories.AnnouncementRepository;
+import com.nustconnect.backend.Repositories.EventRepository;
+import com.nustconnect.backend.Repositories.JobPostingRepository;
+import com.nustconnect.backend.Repositories.RideShareRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LifecycleSweeperService {
+
+    private final JobPostingRepository jobRepository;
+    private final AnnouncementRepository announcementRepository;
+    private final RideShareRepository rideRepository;
+    private final EventRepository eventRepository;
+    private final List<LifecycleTransitionHook> hooks;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${lifecycle.batch-size:500}")
+    private int batchSize;
+
+    // Bounds one run so a large backlog is worked off over several runs instead of one long one
+    @Value("${lifecycle.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private final Map<LifecycleType, SweepMetrics> metrics = createMetrics();
+
+    public record SweepStats(LifecycleType type, long runs, long totalTransitioned, long lastTransitioned,
+                             long lastDurationMs, LocalDateTime lastRunAt, long failures, String lastError) {
+    }
+
+    private record Batch(List<Long> ids, int transitioned) {
+    }
+
+    // ==================== SWEEP ====================
+    @Scheduled(initialDelayString = "${lifecycle.initial-delay-ms:60000}",
+            fixedDelayString = "${lifecycle.sweep-interval-ms:60000}")
+    public void sweepAll() {
+        for (LifecycleType type : LifecycleType.values()) {
+            sweep(type);
+        }
+    }
+
+    public int sweep(LifecycleType type) {
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+        int transitioned = 0;
+        try {
+            for (int round = 0; round < maxBatchesPerRun; round++) {
+                Batch batch = transactionTemplate.execute(status -> runBatch(type, now));
+                if (batch == null || batch.ids().isEmpty()) {
+                    break;
+                }
+                transitioned += batch.transitioned();
+                runHooks(type, batch.ids(), now);
+                if (batch.ids().size() < batchSize) {
+                    break;
+                }
+            }
+            metrics.get(type).recordRun(transitioned, elapsedMs(started), now);
+            if (transitioned > 0) {
+                log.info("Lifecycle sweep moved {} {} rows in {} ms", transitioned, type, elapsedMs(started));
+            }
+        } catch (RuntimeException e) {
+            metrics.get(type).recordFailure(transitioned, elapsedMs(started), now, e);
+            log.error("Lifecycle sweep for {} failed after {} rows", type, transitioned, e);
+        }
+        return transitioned;
+    }
+
+    // Ids come off the (status, deadline) index in deadline order, then a single UPDATE moves them.
+    // The UPDATE repeats the condition so rows changed in between are left alone.
+    private Batch runBatch(LifecycleType type, LocalDateTime now) {
+        PageRequest page = PageRequest.of(0, batchSize);
+        List<Long> ids = switch (type) {
+            case JOB_POSTING -> jobRepository.findDueForExpiry(now, page);
+            case ANNOUNCEMENT -> announcementRepository.findDueForArchive(now, page);
+            case RIDE_SHARE -> rideRepository.findDueForCompletion(now, page);
+            case EVENT -> eventRepository.findDueForCompletion(now, page);
+        };
+        if (ids.isEmpty()) {
+            return new Batch(ids, 0);
+        }
+        int transitioned = switch (type) {
+            case JOB_POSTING -> jobRepository.expireJobs(ids, now);
+            case ANNOUNCEMENT -> announcementRepository.archiveAnnouncements(ids, now);
+            case RIDE_SHARE -> rideRepository.completeRides(ids, now);
+            case EVENT -> eventRepository.completeEvents(ids, now);
+        };
+        return new Batch(ids, transitioned);
+    }
+
+    private void runHooks(LifecycleType type, List<Long> ids, LocalDateTime cutoff) {
+        for (LifecycleTransitionHook hook : hooks) {
+            if (hook.getLifecycleType() != type) {
+                continue;
+            }
+            try {
+                hook.afterTransition(ids, cutoff);
+            } catch (RuntimeException e) {
+                // The rows are already committed; a failing hook must not stop the sweep
+                log.error("Lifecycle hook {} failed for {} {} rows", hook.getClass().getSimpleName(), ids.size(), type, e);
+            }
+        }
+    }
+
+    // ==================== METRICS ====================
+    public List<SweepStats> getStats() {
+        return Arrays.stream(LifecycleType.values())
+                .map(type -> metrics.get(type).snapshot(type))
+                .toList();
+    }
+
+    public SweepStats getStats(LifecycleType type) {
+        return metrics.get(type).snapshot(type);
+    }
+
+    private static Map<LifecycleType, SweepMetrics> createMetrics() {
+        Map<LifecycleType, SweepMetrics> metrics = new EnumMap<>(LifecycleType.class);
+        for (LifecycleType type : LifecycleType.values()) {
+            metrics.put(type, new SweepMetrics());
+        }
+        return metrics;
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    private static final class SweepMetrics {
+        private long runs;
+        private long totalTransitioned;
+        private long lastTransitioned;
+        private long lastDurationMs;
+        private LocalDateTime lastRunAt;
+        private long failures;
+        private String lastError;
+
+        private synchronized void recordRun(int transitioned, long durationMs, LocalDateTime at) {
+            runs++;
+            totalTransitioned += transitioned;
+            lastTransitioned = transitioned;
+            lastDurationMs = durationMs;
+            lastRunAt = at;
+        }
+
+        private synchronized void recordFailure(int transitioned, long durationMs, LocalDateTime at, RuntimeException e) {
+            recordRun(transitioned, durationMs, at);
+            failures++;
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        private synchronized SweepStats snapshot(LifecycleType type) {
+            return new SweepStats(type, runs, totalTransitioned, lastTransitioned, lastDurationMs, lastRunAt,
+                    failures, lastError);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.LifecycleType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Implemented by any bean that has to react when the sweeper expires or completes rows of a type.
+// Called after the batch has committed, outside of any transaction.
+public interface LifecycleTransitionHook {
+
+    LifecycleType getLifecycleType();
+
+    void afterTransition(List<Long> ids, LocalDateTime cutoff);
+}
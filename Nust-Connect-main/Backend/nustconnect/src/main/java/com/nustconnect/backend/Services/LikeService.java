@@ -68,28 +68,34 @@ public class LikeService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Like getLikeById(Long likeId) {
         return likeRepository.findById(likeId)
                 .orElseThrow(() -> new IllegalArgumentException("Like not found with id: " + likeId));
     }
 
+    @Transactional(readOnly = true)
     public Optional<Like> getLikeByUserAndPost(Long userId, Long postId) {
         return likeRepository.findByUserUserIdAndPostPostId(userId, postId);
     }
 
+    @Transactional(readOnly = true)
     public List<Like> getLikesByPost(Long postId) {
         return likeRepository.findByPostPostId(postId);
     }
 
+    @Transactional(readOnly = true)
     public List<Like> getLikesByUser(Long userId) {
         return likeRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public Long getLikeCountByPost(Long postId) {
         return likeRepository.countByPostPostId(postId);
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean hasUserLikedPost(Long userId, Long postId) {
         return likeRepository.existsByUserUserIdAndPostPostId(userId, postId);
     }
@@ -106,21 +112,25 @@ public class LikeService {
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalLikeCount() {
         return likeRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserLikeCount(Long userId) {
-        return likeRepository.findByUserUserId(userId).size();
+        return likeRepository.countByUserUserId(userId);
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<User> getUsersWhoLikedPost(Long postId) {
         return likeRepository.findByPostPostId(postId).stream()
                 .map(Like::getUser)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Post> getPostsLikedByUser(Long userId) {
         return likeRepository.findByUserUserId(userId).stream()
                 .map(Like::getPost)
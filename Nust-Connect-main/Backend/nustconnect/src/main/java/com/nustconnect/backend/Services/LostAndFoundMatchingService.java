@@ -0,0 +1,292 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Models.FoundItem;
+import com.nustconnect.backend.Models.LostItem;
+import com.nustconnect.backend.Repositories.FoundItemRepository;
+import com.nustconnect.backend.Repositories.LostItemRepository;
+import com.nustconnect.backend.Utils.GeoPoint;
+import com.nustconnect.backend.Utils.MinHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LostAndFoundMatchingService {
+
+    // 32 bands of 2 rows: pairs with ~30% shingle overlap become candidates ~95% of the time
+    private static final MinHash MIN_HASH = new MinHash(32, 2, 0x4c6f7374L);
+
+    private static final double TEXT_WEIGHT = 0.6;
+    private static final double LOCATION_WEIGHT = 0.25;
+    private static final double DATE_WEIGHT = 0.15;
+
+    private static final double MIN_TEXT_SIMILARITY = 0.15;
+    private static final double STRONG_MATCH_SCORE = 0.55;
+    private static final double STRONG_MATCH_TEXT = 0.35;
+
+    // Same gazetteer place (e.g. anywhere on campus) is weaker evidence than the same spot
+    private static final double SAME_AREA_LOCATION_SCORE = 0.6;
+    private static final double NEARBY_KM = 0.5;
+    private static final double FAR_KM = 5.0;
+    private static final long DATE_WINDOW_HOURS = 30 * 24;
+    private static final long DATE_SLACK_HOURS = 24;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "and", "or", "of", "in", "on", "at", "to", "with", "for", "my", "its", "it",
+            "is", "was", "near", "from", "by", "lost", "found", "item", "some", "this", "that", "color", "colour");
+
+    private final LostItemRepository lostItemRepository;
+    private final FoundItemRepository foundItemRepository;
+    private final GeocodingService geocodingService;
+
+    private final Side lostSide = new Side();
+    private final Side foundSide = new Side();
+
+    public record ItemMatch(Long itemId, Long ownerId, String itemName, double textSimilarity,
+                            double locationScore, double dateScore, double score) {
+
+        public boolean isStrong() {
+            return score >= STRONG_MATCH_SCORE && textSimilarity >= STRONG_MATCH_TEXT;
+        }
+    }
+
+    private record IndexedItem(Long itemId, Long ownerId, String itemName, long[] signature, long[] bandKeys,
+                               Set<String> locationTokens, GeoPoint location, LocalDateTime date) {
+    }
+
+    private static final class Side {
+        private final Map<Long, IndexedItem> items = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+        private void put(IndexedItem item) {
+            remove(item.itemId());
+            items.put(item.itemId(), item);
+            for (long key : item.bandKeys()) {
+                buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(item.itemId());
+            }
+        }
+
+        private void remove(Long itemId) {
+            IndexedItem existing = items.remove(itemId);
+            if (existing == null) {
+                return;
+            }
+            for (long key : existing.bandKeys()) {
+                buckets.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(itemId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        private void clear() {
+            items.clear();
+            buckets.clear();
+        }
+
+        private Set<Long> candidates(long[] bandKeys) {
+            Set<Long> candidates = new HashSet<>();
+            for (long key : bandKeys) {
+                Set<Long> ids = buckets.get(key);
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+            return candidates;
+        }
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        lostSide.clear();
+        foundSide.clear();
+        lostItemRepository.findOpenLostItems().forEach(this::indexLostItem);
+        foundItemRepository.findOpenFoundItems().forEach(this::indexFoundItem);
+        log.info("Lost and found index built with {} lost and {} found items",
+                lostSide.items.size(), foundSide.items.size());
+    }
+
+    public void indexLostItem(LostItem item) {
+        lostSide.remove(item.getId());
+        if ("ACTIVE".equals(item.getStatus()) && !item.isDeleted()) {
+            IndexedItem indexed = toIndexed(item);
+            if (indexed != null) {
+                lostSide.put(indexed);
+            }
+        }
+    }
+
+    public void indexFoundItem(FoundItem item) {
+        foundSide.remove(item.getId());
+        if ("ACTIVE".equals(item.getStatus()) && !item.isDeleted()) {
+            IndexedItem indexed = toIndexed(item);
+            if (indexed != null) {
+                foundSide.put(indexed);
+            }
+        }
+    }
+
+    public void removeLostItem(Long itemId) {
+        lostSide.remove(itemId);
+    }
+
+    public void removeFoundItem(Long itemId) {
+        foundSide.remove(itemId);
+    }
+
+    // ==================== MATCHING ====================
+    public List<ItemMatch> findFoundMatches(LostItem lostItem, int limit) {
+        IndexedItem probe = toIndexed(lostItem);
+        if (probe == null) {
+            return List.of();
+        }
+        return match(probe, foundSide, limit, (lost, found) -> dateScore(lost.date(), found.date()));
+    }
+
+    public List<ItemMatch> findLostMatches(FoundItem foundItem, int limit) {
+        IndexedItem probe = toIndexed(foundItem);
+        if (probe == null) {
+            return List.of();
+        }
+        return match(probe, lostSide, limit, (found, lost) -> dateScore(lost.date(), found.date()));
+    }
+
+    private List<ItemMatch> match(IndexedItem probe, Side side, int limit, DateScorer dateScorer) {
+        List<ItemMatch> matches = new ArrayList<>();
+        for (Long candidateId : side.candidates(probe.bandKeys())) {
+            IndexedItem candidate = side.items.get(candidateId);
+            if (candidate == null) {
+                continue;
+            }
+            double text = MinHash.similarity(probe.signature(), candidate.signature());
+            if (text < MIN_TEXT_SIMILARITY) {
+                continue;
+            }
+            double location = locationScore(probe, candidate);
+            double date = dateScorer.score(probe, candidate);
+            double score = TEXT_WEIGHT * text + LOCATION_WEIGHT * location + DATE_WEIGHT * date;
+            matches.add(new ItemMatch(candidate.itemId(), candidate.ownerId(), candidate.itemName(),
+                    text, location, date, score));
+        }
+        matches.sort(Comparator.comparingDouble(ItemMatch::score).reversed());
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    @FunctionalInterface
+    private interface DateScorer {
+        double score(IndexedItem probe, IndexedItem candidate);
+    }
+
+    // ==================== SCORING ====================
+    private double locationScore(IndexedItem a, IndexedItem b) {
+        double tokenOverlap = jaccard(a.locationTokens(), b.locationTokens());
+        if (a.location() == null || b.location() == null) {
+            return tokenOverlap;
+        }
+        double km = a.location().distanceKmTo(b.location());
+        double proximity = km <= NEARBY_KM ? 1.0 : Math.max(0, 1 - (km - NEARBY_KM) / (FAR_KM - NEARBY_KM));
+        return Math.max(tokenOverlap, SAME_AREA_LOCATION_SCORE * proximity);
+    }
+
+    // Found on or after the day it was lost scores highest, fading out over a month
+    private double dateScore(LocalDateTime lost, LocalDateTime found) {
+        if (lost == null || found == null) {
+            return 0;
+        }
+        long hours = Duration.between(lost, found).toHours();
+        if (hours < -DATE_SLACK_HOURS) {
+            return 0;
+        }
+        return Math.max(0, 1 - Math.max(0, hours) / (double) DATE_WINDOW_HOURS);
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (String token : a) {
+            if (b.contains(token)) {
+                common++;
+            }
+        }
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+    // ==================== SHINGLING ====================
+    private IndexedItem toIndexed(LostItem item) {
+        return toIndexed(item.getId(), item.getReportedBy() != null ? item.getReportedBy().getUserId() : null,
+                item.getItemName(), item.getDescription(), item.getLocationLost(), item.getDateLost());
+    }
+
+    private IndexedItem toIndexed(FoundItem item) {
+        return toIndexed(item.getId(), item.getFoundBy() != null ? item.getFoundBy().getUserId() : null,
+                item.getItemName(), item.getDescription(), item.getLocationFound(), item.getDateFound());
+    }
+
+    private IndexedItem toIndexed(Long itemId, Long ownerId, String itemName, String description,
+                                  String location, LocalDateTime date) {
+        Set<String> shingles = shingles(itemName, description);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        long[] signature = MIN_HASH.signature(shingles);
+        return new IndexedItem(itemId, ownerId, itemName, signature, MIN_HASH.bandKeys(signature),
+                new HashSet<>(tokenize(location)), geocodingService.geocode(location).orElse(null), date);
+    }
+
+    // Words plus character trigrams, so "wallet (black leather)" still overlaps "black wallets" and
+    // "keychain" overlaps "key chain". Name words are added twice so a long description can't drown them.
+    static Set<String> shingles(String itemName, String description) {
+        Set<String> shingles = new LinkedHashSet<>();
+        for (String token : tokenize(itemName)) {
+            shingles.add("n:" + token);
+            addTokenShingles(shingles, token);
+        }
+        for (String token : tokenize(description)) {
+            addTokenShingles(shingles, token);
+        }
+        return shingles;
+    }
+
+    private static void addTokenShingles(Set<String> shingles, String token) {
+        shingles.add("w:" + token);
+        String padded = "^" + token + "$";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            shingles.add("c:" + padded.substring(i, i + 3));
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (raw.length() < 2 || STOP_WORDS.contains(raw)) {
+                continue;
+            }
+            tokens.add(raw.length() > 3 && raw.endsWith("s") && !raw.endsWith("ss")
+                    ? raw.substring(0, raw.length() - 1)
+                    : raw);
+        }
+        return tokens;
+    }
+}
@@ -10,16 +10,28 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LostAndFoundService {
 
+    private static final int MATCH_LIMIT = 20;
+    private static final int MAX_MATCH_NOTIFICATIONS = 3;
+
     private final LostItemRepository lostItemRepository;
     private final FoundItemRepository foundItemRepository;
     private final UserRepository userRepository;
+    private final LostAndFoundMatchingService matchingService;
+    private final NotificationService notificationService;
+    private final ImageMatchingService imageMatchingService;
 
     // ==================== LOST ITEM CRUD ====================
     public LostItem reportLostItem(Long userId, LostItem lostItem) {
@@ -30,26 +42,35 @@ public class LostAndFoundService {
         lostItem.setIsFound(false);
         lostItem.setStatus("ACTIVE");
 
-        return lostItemRepository.save(lostItem);
+        LostItem savedItem = lostItemRepository.save(lostItem);
+        matchingService.indexLostItem(savedItem);
+        imageMatchingService.scheduleLostItem(savedItem);
+        notifyMatchesForLost(savedItem);
+        return savedItem;
     }
 
+    @Transactional(readOnly = true)
     public LostItem getLostItemById(Long itemId) {
         return lostItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Lost item not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<LostItem> getAllLostItems() {
         return lostItemRepository.findAllActiveLostItems();
     }
 
+    @Transactional(readOnly = true)
     public List<LostItem> getLostItemsByUser(Long userId) {
         return lostItemRepository.findByReportedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<LostItem> getLostItemsByLocation(String location) {
         return lostItemRepository.findByLocationLostContaining(location);
     }
 
+    @Transactional(readOnly = true)
     public List<LostItem> searchLostItems(String keyword) {
         return lostItemRepository.searchLostItems(keyword);
     }
@@ -72,28 +93,42 @@ public class LostAndFoundService {
         if (updatedItem.getContactInfo() != null) {
             existingItem.setContactInfo(updatedItem.getContactInfo());
         }
-        if (updatedItem.getImageUrl() != null) {
+        boolean imageChanged = updatedItem.getImageUrl() != null
+                && !updatedItem.getImageUrl().equals(existingItem.getImageUrl());
+        if (imageChanged) {
             existingItem.setImageUrl(updatedItem.getImageUrl());
+            existingItem.setImageHash(null);
         }
 
-        return lostItemRepository.save(existingItem);
+        LostItem savedItem = lostItemRepository.save(existingItem);
+        matchingService.indexLostItem(savedItem);
+        if (imageChanged) {
+            imageMatchingService.scheduleLostItem(savedItem);
+        }
+        return savedItem;
     }
 
     public LostItem markLostItemAsFound(Long itemId) {
         LostItem item = getLostItemById(itemId);
         item.markAsFound();
+        matchingService.removeLostItem(itemId);
+        imageMatchingService.removeLostItem(itemId);
         return lostItemRepository.save(item);
     }
 
     public LostItem closeLostItem(Long itemId) {
         LostItem item = getLostItemById(itemId);
         item.close();
+        matchingService.removeLostItem(itemId);
+        imageMatchingService.removeLostItem(itemId);
         return lostItemRepository.save(item);
     }
 
     public void deleteLostItem(Long itemId) {
         LostItem item = getLostItemById(itemId);
         item.softDelete();
+        matchingService.removeLostItem(itemId);
+        imageMatchingService.removeLostItem(itemId);
         lostItemRepository.save(item);
     }
 
@@ -102,6 +137,8 @@ public class LostAndFoundService {
             throw new IllegalArgumentException("Lost item not found");
         }
         lostItemRepository.deleteById(itemId);
+        matchingService.removeLostItem(itemId);
+        imageMatchingService.removeLostItem(itemId);
     }
 
     // ==================== FOUND ITEM CRUD ====================
@@ -113,26 +150,35 @@ public class LostAndFoundService {
         foundItem.setIsClaimed(false);
         foundItem.setStatus("ACTIVE");
 
-        return foundItemRepository.save(foundItem);
+        FoundItem savedItem = foundItemRepository.save(foundItem);
+        matchingService.indexFoundItem(savedItem);
+        imageMatchingService.scheduleFoundItem(savedItem);
+        notifyMatchesForFound(savedItem);
+        return savedItem;
     }
 
+    @Transactional(readOnly = true)
     public FoundItem getFoundItemById(Long itemId) {
         return foundItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Found item not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<FoundItem> getAllFoundItems() {
         return foundItemRepository.findAllActiveFoundItems();
     }
 
+    @Transactional(readOnly = true)
     public List<FoundItem> getFoundItemsByUser(Long userId) {
         return foundItemRepository.findByFoundByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<FoundItem> getFoundItemsByLocation(String location) {
         return foundItemRepository.findByLocationFoundContaining(location);
     }
 
+    @Transactional(readOnly = true)
     public List<FoundItem> searchFoundItems(String keyword) {
         return foundItemRepository.searchFoundItems(keyword);
     }
@@ -155,11 +201,19 @@ public class LostAndFoundService {
         if (updatedItem.getContactInfo() != null) {
             existingItem.setContactInfo(updatedItem.getContactInfo());
         }
-        if (updatedItem.getImageUrl() != null) {
+        boolean imageChanged = updatedItem.getImageUrl() != null
+                && !updatedItem.getImageUrl().equals(existingItem.getImageUrl());
+        if (imageChanged) {
             existingItem.setImageUrl(updatedItem.getImageUrl());
+            existingItem.setImageHash(null);
         }
 
-        return foundItemRepository.save(existingItem);
+        FoundItem savedItem = foundItemRepository.save(existingItem);
+        matchingService.indexFoundItem(savedItem);
+        if (imageChanged) {
+            imageMatchingService.scheduleFoundItem(savedItem);
+        }
+        return savedItem;
     }
 
     public FoundItem markFoundItemAsClaimed(Long itemId, Long claimerId) {
@@ -168,18 +222,24 @@ public class LostAndFoundService {
                 .orElseThrow(() -> new IllegalArgumentException("Claimer not found"));
 
         item.markAsClaimed(claimer);
+        matchingService.removeFoundItem(itemId);
+        imageMatchingService.removeFoundItem(itemId);
         return foundItemRepository.save(item);
     }
 
     public FoundItem closeFoundItem(Long itemId) {
         FoundItem item = getFoundItemById(itemId);
         item.close();
+        matchingService.removeFoundItem(itemId);
+        imageMatchingService.removeFoundItem(itemId);
         return foundItemRepository.save(item);
     }
 
     public void deleteFoundItem(Long itemId) {
         FoundItem item = getFoundItemById(itemId);
         item.softDelete();
+        matchingService.removeFoundItem(itemId);
+        imageMatchingService.removeFoundItem(itemId);
         foundItemRepository.save(item);
     }
 
@@ -188,66 +248,124 @@ public class LostAndFoundService {
             throw new IllegalArgumentException("Found item not found");
         }
         foundItemRepository.deleteById(itemId);
+        matchingService.removeFoundItem(itemId);
+        imageMatchingService.removeFoundItem(itemId);
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isLostItemOwner(Long itemId, Long userId) {
         LostItem item = getLostItemById(itemId);
         return item.getReportedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isFoundItemOwner(Long itemId, Long userId) {
         FoundItem item = getFoundItemById(itemId);
         return item.getFoundBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isLostItemFound(Long itemId) {
         LostItem item = getLostItemById(itemId);
         return item.getIsFound();
     }
 
+    @Transactional(readOnly = true)
     public boolean isFoundItemClaimed(Long itemId) {
         FoundItem item = getFoundItemById(itemId);
         return item.getIsClaimed();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalLostItemCount() {
         return lostItemRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getTotalFoundItemCount() {
         return foundItemRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveLostItemCount() {
-        return lostItemRepository.findAllActiveLostItems().size();
+        return lostItemRepository.countActiveLostItems();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveFoundItemCount() {
-        return foundItemRepository.findAllActiveFoundItems().size();
+        return foundItemRepository.countActiveFoundItems();
     }
 
+    @Transactional(readOnly = true)
     public long getUserLostItemCount(Long userId) {
-        return lostItemRepository.findByReportedByUserId(userId).size();
+        return lostItemRepository.countByReportedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserFoundItemCount(Long userId) {
-        return foundItemRepository.findByFoundByUserId(userId).size();
+        return foundItemRepository.countByFoundByUserId(userId);
     }
 
     // ==================== MATCHING ====================
+    @Transactional(readOnly = true)
     public List<FoundItem> findPotentialMatches(Long lostItemId) {
         LostItem lostItem = getLostItemById(lostItemId);
-
-        // Search for found items with similar names/descriptions
-        return searchFoundItems(lostItem.getItemName());
-    }
-
+        // Text matches first, then photos that look alike but were described differently
+        Set<Long> ranked = new LinkedHashSet<>();
+        matchingService.findFoundMatches(lostItem, MATCH_LIMIT)
+                .forEach(match -> ranked.add(match.itemId()));
+        imageMatchingService.findFoundMatches(lostItemId)
+                .forEach(match -> ranked.add(match.itemId()));
+        List<Long> ids = List.copyOf(ranked);
+
+        // Keep the ranking; status may have changed since the item was indexed
+        Map<Long, FoundItem> byId = foundItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(FoundItem::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(item -> item != null && "ACTIVE".equals(item.getStatus()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public List<LostItem> findPotentialMatchesForFound(Long foundItemId) {
         FoundItem foundItem = getFoundItemById(foundItemId);
-
-        // Search for lost items with similar names/descriptions
-        return searchLostItems(foundItem.getItemName());
+        Set<Long> ranked = new LinkedHashSet<>();
+        matchingService.findLostMatches(foundItem, MATCH_LIMIT)
+                .forEach(match -> ranked.add(match.itemId()));
+        imageMatchingService.findLostMatches(foundItemId)
+                .forEach(match -> ranked.add(match.itemId()));
+        List<Long> ids = List.copyOf(ranked);
+
+        Map<Long, LostItem> byId = lostItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(LostItem::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(item -> item != null && "ACTIVE".equals(item.getStatus()))
+                .toList();
+    }
+
+    private void notifyMatchesForLost(LostItem lostItem) {
+        matchingService.findFoundMatches(lostItem, MATCH_LIMIT).stream()
+                .filter(LostAndFoundMatchingService.ItemMatch::isStrong)
+                .limit(MAX_MATCH_NOTIFICATIONS)
+                .forEach(match -> notificationService.notifyLostItemMatch(
+                        lostItem.getReportedBy().getUserId(),
+                        "A found item may be your " + lostItem.getItemName() + ": " + match.itemName(),
+                        match.itemId()));
+    }
+
+    private void notifyMatchesForFound(FoundItem foundItem) {
+        Long finderId = foundItem.getFoundBy().getUserId();
+        matchingService.findLostMatches(foundItem, MATCH_LIMIT).stream()
+                .filter(LostAndFoundMatchingService.ItemMatch::isStrong)
+                .filter(match -> match.ownerId() != null && !Objects.equals(match.ownerId(), finderId))
+                .limit(MAX_MATCH_NOTIFICATIONS)
+                .forEach(match -> notificationService.notifyLostItemMatch(
+                        match.ownerId(),
+                        "Someone found an item that may be your " + match.itemName() + ": " + foundItem.getItemName(),
+                        foundItem.getId()));
     }
 }
\ No newline at end of file
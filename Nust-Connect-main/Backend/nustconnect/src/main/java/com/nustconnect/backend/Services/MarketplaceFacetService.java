@@ -0,0 +1,437 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.MarketplaceCondition;
+import com.nustconnect.backend.Enums.MarketplaceItemStatus;
+import com.nustconnect.backend.Models.MarketplaceCategory;
+import com.nustconnect.backend.Models.MarketplaceItem;
+import com.nustconnect.backend.Repositories.MarketplaceCategoryRepository;
+import com.nustconnect.backend.Repositories.MarketplaceItemRepository;
+import com.nustconnect.backend.Repositories.Projections.MarketplaceItemFacetView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MarketplaceFacetService {
+
+    // Lower bounds in PKR; the last bucket is open-ended
+    private static final double[] PRICE_BUCKETS = {0, 500, 1000, 2500, 5000, 10000, 25000, 50000};
+    private static final long NO_CATEGORY = 0L;
+
+    public static final String CATEGORY = "category";
+    public static final String CONDITION = "condition";
+    public static final String PRICE = "price";
+    public static final String NEGOTIABLE = "negotiable";
+    public static final String LOCATION = "location";
+
+    private final MarketplaceItemRepository itemRepository;
+    private final MarketplaceCategoryRepository categoryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Bitmaps are keyed by item id, so newest-first paging is a reverse iteration
+    private final RoaringBitmap available = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<MarketplaceCondition, RoaringBitmap> byCondition = new EnumMap<>(MarketplaceCondition.class);
+    private final RoaringBitmap[] byPriceBucket = new RoaringBitmap[PRICE_BUCKETS.length];
+    private final RoaringBitmap negotiable = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byLocation = new HashMap<>();
+    private final Map<String, String> locationLabels = new HashMap<>();
+    private final Map<Integer, IndexedItem> items = new HashMap<>();
+
+    private record IndexedItem(long categoryKey, MarketplaceCondition condition, double price,
+                               int priceBucket, boolean negotiable, String locationKey) {
+    }
+
+    public record FacetQuery(List<Long> categoryIds, List<MarketplaceCondition> conditions,
+                             List<String> priceBuckets, Double minPrice, Double maxPrice,
+                             Boolean negotiable, List<String> locations) {
+    }
+
+    public record FacetCount(String value, String label, long count) {
+    }
+
+    public record FacetResult(List<Long> itemIds, long totalElements, Map<String, List<FacetCount>> facets) {
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        List<MarketplaceItemFacetView> rows = itemRepository.findAvailableFacetViews();
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (MarketplaceItemFacetView row : rows) {
+                add(toDocId(row.getId()), row.getCategoryId(), row.getConditionStatus(), row.getPrice(),
+                        Boolean.TRUE.equals(row.getIsNegotiable()), row.getLocation());
+            }
+            runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Marketplace facet index built with {} available items", rows.size());
+    }
+
+    public void indexItem(MarketplaceItem item) {
+        int docId = toDocId(item.getId());
+        lock.writeLock().lock();
+        try {
+            remove(docId);
+            if (item.getStatus() == MarketplaceItemStatus.AVAILABLE && !item.isDeleted()) {
+                add(docId, item.getCategory() != null ? item.getCategory().getId() : null,
+                        item.getConditionStatus(), item.getPrice(),
+                        Boolean.TRUE.equals(item.getIsNegotiable()), item.getLocation());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeItem(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            remove(toDocId(itemId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(int docId, Long categoryId, MarketplaceCondition condition, Double price,
+                     boolean isNegotiable, String location) {
+        long categoryKey = categoryId != null ? categoryId : NO_CATEGORY;
+        double itemPrice = price != null ? price : 0;
+        int bucket = priceBucketOf(itemPrice);
+        String locationKey = normalizeLocation(location);
+
+        available.add(docId);
+        byCategory.computeIfAbsent(categoryKey, key -> new RoaringBitmap()).add(docId);
+        if (condition != null) {
+            byCondition.computeIfAbsent(condition, key -> new RoaringBitmap()).add(docId);
+        }
+        if (byPriceBucket[bucket] == null) {
+            byPriceBucket[bucket] = new RoaringBitmap();
+        }
+        byPriceBucket[bucket].add(docId);
+        if (isNegotiable) {
+            negotiable.add(docId);
+        }
+        if (locationKey != null) {
+            byLocation.computeIfAbsent(locationKey, key -> new RoaringBitmap()).add(docId);
+            locationLabels.putIfAbsent(locationKey, location.trim());
+        }
+
+        items.put(docId, new IndexedItem(categoryKey, condition, itemPrice, bucket, isNegotiable, locationKey));
+    }
+
+    private void remove(int docId) {
+        IndexedItem existing = items.remove(docId);
+        if (existing == null) {
+            return;
+        }
+        available.remove(docId);
+        removeFrom(byCategory, existing.categoryKey(), docId);
+        if (existing.condition() != null) {
+            removeFrom(byCondition, existing.condition(), docId);
+        }
+        byPriceBucket[existing.priceBucket()].remove(docId);
+        negotiable.remove(docId);
+        if (existing.locationKey() != null && removeFrom(byLocation, existing.locationKey(), docId)) {
+            locationLabels.remove(existing.locationKey());
+        }
+    }
+
+    // Returns true when the facet value has no items left and was dropped
+    private <K> boolean removeFrom(Map<K, RoaringBitmap> facet, K key, int docId) {
+        RoaringBitmap bitmap = facet.get(key);
+        if (bitmap == null) {
+            return false;
+        }
+        bitmap.remove(docId);
+        if (bitmap.isEmpty()) {
+            facet.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    private void clear() {
+        available.clear();
+        byCategory.clear();
+        byCondition.clear();
+        for (int i = 0; i < byPriceBucket.length; i++) {
+            byPriceBucket[i] = null;
+        }
+        negotiable.clear();
+        byLocation.clear();
+        locationLabels.clear();
+        items.clear();
+    }
+
+    private void runOptimize() {
+        available.runOptimize();
+        byCategory.values().forEach(RoaringBitmap::runOptimize);
+        byCondition.values().forEach(RoaringBitmap::runOptimize);
+        for (RoaringBitmap bitmap : byPriceBucket) {
+            if (bitmap != null) {
+                bitmap.runOptimize();
+            }
+        }
+        negotiable.runOptimize();
+        byLocation.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    // ==================== SEARCH ====================
+    public FacetResult search(FacetQuery query, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+
+        List<Long> pageIds;
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        long totalElements;
+
+        lock.readLock().lock();
+        try {
+            // One filter per dimension; null means the dimension is not constrained
+            Map<String, RoaringBitmap> filters = new LinkedHashMap<>();
+            filters.put(CATEGORY, isEmpty(query.categoryIds()) ? null
+                    : union(query.categoryIds().stream().map(byCategory::get).toList()));
+            filters.put(CONDITION, isEmpty(query.conditions()) ? null
+                    : union(query.conditions().stream().map(byCondition::get).toList()));
+            filters.put(PRICE, priceFilter(query));
+            filters.put(NEGOTIABLE, query.negotiable() == null ? null
+                    : query.negotiable() ? negotiable : RoaringBitmap.andNot(available, negotiable));
+            filters.put(LOCATION, isEmpty(query.locations()) ? null
+                    : union(query.locations().stream().map(this::normalizeLocation).map(byLocation::get).toList()));
+
+            RoaringBitmap result = filterExcept(filters, null);
+            totalElements = result.getLongCardinality();
+            pageIds = new ArrayList<>((int) Math.min(size, totalElements));
+
+            IntIterator iterator = result.getReverseIntIterator();
+            long skip = (long) page * size;
+            while (iterator.hasNext() && pageIds.size() < size) {
+                int docId = iterator.next();
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                pageIds.add((long) docId);
+            }
+
+            // Each dimension is counted against the other dimensions' filters, so selecting
+            // one category still shows how many items the other categories would add
+            facets.put(CATEGORY, countAll(filterExcept(filters, CATEGORY), byCategory, String::valueOf, key -> null));
+            facets.put(CONDITION, countAll(filterExcept(filters, CONDITION), byCondition, Enum::name, Enum::name));
+            facets.put(PRICE, priceCounts(filterExcept(filters, PRICE)));
+            facets.put(NEGOTIABLE, negotiableCounts(filterExcept(filters, NEGOTIABLE)));
+            facets.put(LOCATION, countAll(filterExcept(filters, LOCATION), byLocation, Function.identity(), locationLabels::get));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        facets.put(CATEGORY, labelCategories(facets.get(CATEGORY)));
+        return new FacetResult(pageIds, totalElements, facets);
+    }
+
+    public int getIndexedItemCount() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap filterExcept(Map<String, RoaringBitmap> filters, String excluded) {
+        RoaringBitmap result = available.clone();
+        for (Map.Entry<String, RoaringBitmap> filter : filters.entrySet()) {
+            if (filter.getValue() != null && !filter.getKey().equals(excluded)) {
+                result.and(filter.getValue());
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap priceFilter(FacetQuery query) {
+        RoaringBitmap filter = null;
+        if (!isEmpty(query.priceBuckets())) {
+            List<RoaringBitmap> selected = new ArrayList<>();
+            for (String label : query.priceBuckets()) {
+                int bucket = priceBucketOf(label);
+                selected.add(byPriceBucket[bucket]);
+            }
+            filter = union(selected);
+        }
+
+        if (query.minPrice() == null && query.maxPrice() == null) {
+            return filter;
+        }
+        double min = query.minPrice() != null ? query.minPrice() : 0;
+        double max = query.maxPrice() != null ? query.maxPrice() : Double.MAX_VALUE;
+        if (min > max) {
+            throw new IllegalArgumentException("minPrice cannot exceed maxPrice");
+        }
+
+        // Whole buckets inside the range are taken as-is; only the edge buckets check prices
+        RoaringBitmap range = new RoaringBitmap();
+        for (int bucket = 0; bucket < PRICE_BUCKETS.length; bucket++) {
+            RoaringBitmap bitmap = byPriceBucket[bucket];
+            if (bitmap == null) {
+                continue;
+            }
+            double lower = PRICE_BUCKETS[bucket];
+            double upper = bucket + 1 < PRICE_BUCKETS.length ? PRICE_BUCKETS[bucket + 1] : Double.MAX_VALUE;
+            if (upper <= min || lower > max) {
+                continue;
+            }
+            if (lower >= min && upper <= max) {
+                range.or(bitmap);
+                continue;
+            }
+            IntIterator iterator = bitmap.getIntIterator();
+            while (iterator.hasNext()) {
+                int docId = iterator.next();
+                double price = items.get(docId).price();
+                if (price >= min && price <= max) {
+                    range.add(docId);
+                }
+            }
+        }
+        if (filter != null) {
+            range.and(filter);
+        }
+        return range;
+    }
+
+    // ==================== FACET COUNTS ====================
+    private List<FacetCount> labelCategories(List<FacetCount> counts) {
+        List<Long> ids = counts.stream()
+                .map(count -> Long.valueOf(count.value()))
+                .filter(id -> id != NO_CATEGORY)
+                .toList();
+        Map<Long, String> names = categoryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(MarketplaceCategory::getId, MarketplaceCategory::getName));
+        return counts.stream()
+                .map(count -> {
+                    long id = Long.parseLong(count.value());
+                    String label = id == NO_CATEGORY ? "Uncategorized" : names.getOrDefault(id, count.value());
+                    return new FacetCount(count.value(), label, count.count());
+                })
+                .toList();
+    }
+
+    private List<FacetCount> priceCounts(RoaringBitmap base) {
+        List<FacetCount> counts = new ArrayList<>();
+        for (int bucket = 0; bucket < PRICE_BUCKETS.length; bucket++) {
+            if (byPriceBucket[bucket] == null) {
+                continue;
+            }
+            long count = RoaringBitmap.andCardinality(base, byPriceBucket[bucket]);
+            if (count > 0) {
+                String label = priceBucketLabel(bucket);
+                counts.add(new FacetCount(label, label, count));
+            }
+        }
+        return counts;
+    }
+
+    private List<FacetCount> negotiableCounts(RoaringBitmap base) {
+        long yes = RoaringBitmap.andCardinality(base, negotiable);
+        long no = base.getLongCardinality() - yes;
+        List<FacetCount> counts = new ArrayList<>();
+        if (yes > 0) {
+            counts.add(new FacetCount("true", "Negotiable", yes));
+        }
+        if (no > 0) {
+            counts.add(new FacetCount("false", "Fixed price", no));
+        }
+        return counts;
+    }
+
+    private <K> List<FacetCount> countAll(RoaringBitmap base, Map<K, RoaringBitmap> facet,
+                                          Function<K, String> value, Function<K, String> label) {
+        List<FacetCount> counts = new ArrayList<>();
+        for (Map.Entry<K, RoaringBitmap> entry : facet.entrySet()) {
+            long count = RoaringBitmap.andCardinality(base, entry.getValue());
+            if (count > 0) {
+                counts.add(new FacetCount(value.apply(entry.getKey()), label.apply(entry.getKey()), count));
+            }
+        }
+        counts.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return counts;
+    }
+
+    // ==================== HELPER METHODS ====================
+    private RoaringBitmap union(Collection<RoaringBitmap> bitmaps) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (RoaringBitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    private int toDocId(Long itemId) {
+        if (itemId == null || itemId < 0 || itemId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Item id out of range for facet index: " + itemId);
+        }
+        return itemId.intValue();
+    }
+
+    private int priceBucketOf(double price) {
+        for (int bucket = PRICE_BUCKETS.length - 1; bucket > 0; bucket--) {
+            if (price >= PRICE_BUCKETS[bucket]) {
+                return bucket;
+            }
+        }
+        return 0;
+    }
+
+    private int priceBucketOf(String label) {
+        for (int bucket = 0; bucket < PRICE_BUCKETS.length; bucket++) {
+            if (priceBucketLabel(bucket).equals(label)) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("Unknown price bucket: " + label);
+    }
+
+    private String priceBucketLabel(int bucket) {
+        long lower = (long) PRICE_BUCKETS[bucket];
+        return bucket + 1 < PRICE_BUCKETS.length
+                ? lower + "-" + (long) PRICE_BUCKETS[bucket + 1]
+                : lower + "+";
+    }
+
+    private String normalizeLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -10,7 +10,9 @@ import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.MarketplaceCategoryRepository;
 import com.nustconnect.backend.Repositories.MarketplaceItemRepository;
 import com.nustconnect.backend.Repositories.MarketplaceOrderRepository;
+import com.nustconnect.backend.Repositories.Projections.MarketplaceItemCardView;
 import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Utils.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +33,7 @@ public class MarketplaceService {
     private final MarketplaceOrderRepository orderRepository;
     private final MarketplaceCategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final MarketplaceFacetService facetService;
 
     // ==================== ITEM CRUD ====================
     public MarketplaceItem createItem(Long sellerId, MarketplaceItem item) {
@@ -44,42 +50,87 @@ public class MarketplaceService {
             item.setCategory(category);
         }
 
-        return itemRepository.save(item);
+        MarketplaceItem savedItem = itemRepository.save(item);
+        // The facet index is shared in memory, so it only sees committed items
+        AfterCommit.run(() -> facetService.indexItem(savedItem));
+        return savedItem;
     }
 
+    @Transactional(readOnly = true)
     public MarketplaceItem getItemById(Long itemId) {
         return itemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Item not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> getAllItems() {
         return itemRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Page<MarketplaceItem> getAllActiveItems(Pageable pageable) {
         return itemRepository.findAllActiveItems(pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> getItemsBySeller(Long sellerId) {
         return itemRepository.findBySellerUserId(sellerId);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> getItemsByCategory(Long categoryId) {
         return itemRepository.findByCategoryId(categoryId);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> searchItems(String keyword) {
         return itemRepository.searchItems(keyword);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> getItemsByPriceRange(Double minPrice, Double maxPrice) {
         return itemRepository.findByPriceRange(minPrice, maxPrice);
     }
 
+    @Transactional(readOnly = true)
     public Page<MarketplaceItem> getItemsByCondition(MarketplaceCondition condition, Pageable pageable) {
         return itemRepository.findByConditionStatus(condition, pageable);
     }
 
+    public MarketplaceFacetService.FacetResult browseItems(MarketplaceFacetService.FacetQuery query, int page, int size) {
+        return facetService.search(query, page, size);
+    }
+
+    // ==================== ITEM CARDS ====================
+    @Transactional(readOnly = true)
+    public Page<MarketplaceItemCardView> getActiveItemCards(Pageable pageable) {
+        return itemRepository.findActiveItemCards(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MarketplaceItemCardView> getItemCardsBySeller(Long sellerId) {
+        return itemRepository.findItemCardsBySeller(sellerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MarketplaceItemCardView> searchItemCards(String keyword) {
+        return itemRepository.searchItemCards(keyword);
+    }
+
+    // Loads cards for ids coming from an index, keeping the index order
+    @Transactional(readOnly = true)
+    public List<MarketplaceItemCardView> getItemCardsByIds(List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, MarketplaceItemCardView> byId = itemRepository.findItemCardsByIds(itemIds).stream()
+                .collect(Collectors.toMap(MarketplaceItemCardView::getId, Function.identity()));
+        return itemIds.stream()
+                .map(byId::get)
+                .filter(item -> item != null)
+                .toList();
+    }
+
     public MarketplaceItem updateItem(Long itemId, MarketplaceItem updatedItem) {
         MarketplaceItem existingItem = getItemById(itemId);
 
@@ -102,13 +153,16 @@ public class MarketplaceService {
             existingItem.setIsNegotiable(updatedItem.getIsNegotiable());
         }
 
-        return itemRepository.save(existingItem);
+        MarketplaceItem savedItem = itemRepository.save(existingItem);
+        AfterCommit.run(() -> facetService.indexItem(savedItem));
+        return savedItem;
     }
 
     public void deleteItem(Long itemId) {
         MarketplaceItem item = getItemById(itemId);
         item.softDelete();
         itemRepository.save(item);
+        AfterCommit.run(() -> facetService.removeItem(itemId));
     }
 
     public void hardDeleteItem(Long itemId) {
@@ -116,31 +170,32 @@ public class MarketplaceService {
             throw new IllegalArgumentException("Item not found");
         }
         itemRepository.deleteById(itemId);
+        AfterCommit.run(() -> facetService.removeItem(itemId));
     }
 
     // ==================== ITEM STATUS ====================
     public MarketplaceItem markAsSold(Long itemId) {
         MarketplaceItem item = getItemById(itemId);
         item.markAsSold();
-        return itemRepository.save(item);
+        MarketplaceItem savedItem = itemRepository.save(item);
+        AfterCommit.run(() -> facetService.indexItem(savedItem));
+        return savedItem;
     }
 
     public MarketplaceItem markAsReserved(Long itemId) {
         MarketplaceItem item = getItemById(itemId);
         item.markAsReserved();
-        return itemRepository.save(item);
+        MarketplaceItem savedItem = itemRepository.save(item);
+        AfterCommit.run(() -> facetService.indexItem(savedItem));
+        return savedItem;
     }
 
     public MarketplaceItem markAsAvailable(Long itemId) {
         MarketplaceItem item = getItemById(itemId);
         item.markAsAvailable();
-        return itemRepository.save(item);
-    }
-
-    public void incrementViewCount(Long itemId) {
-        MarketplaceItem item = getItemById(itemId);
-        item.incrementViewCount();
-        itemRepository.save(item);
+        MarketplaceItem savedItem = itemRepository.save(item);
+        AfterCommit.run(() -> facetService.indexItem(savedItem));
+        return savedItem;
     }
 
     // ==================== ORDER CRUD ====================
@@ -172,27 +227,33 @@ public class MarketplaceService {
         return savedOrder;
     }
 
+    @Transactional(readOnly = true)
     public MarketplaceOrder getOrderById(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceOrder> getAllOrders() {
         return orderRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceOrder> getOrdersByBuyer(Long buyerId) {
         return orderRepository.findByBuyerUserId(buyerId);
     }
 
+    @Transactional(readOnly = true)
     public Page<MarketplaceOrder> getOrdersByBuyerPaginated(Long buyerId, Pageable pageable) {
         return orderRepository.findByBuyerUserIdOrderByCreatedAtDesc(buyerId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceOrder> getOrdersByItem(Long itemId) {
         return orderRepository.findByItemId(itemId);
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceOrder> getOrdersByStatus(MarketplaceOrderStatus status) {
         return orderRepository.findByStatus(status);
     }
@@ -233,20 +294,24 @@ public class MarketplaceService {
         return categoryRepository.save(category);
     }
 
+    @Transactional(readOnly = true)
     public MarketplaceCategory getCategoryById(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
     }
 
+    @Transactional(readOnly = true)
     public MarketplaceCategory getCategoryByName(String name) {
         return categoryRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceCategory> getAllCategories() {
         return categoryRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceCategory> getActiveCategories() {
         return categoryRepository.findByIsActive(true);
     }
@@ -259,50 +324,60 @@ public class MarketplaceService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isItemOwner(Long itemId, Long userId) {
         MarketplaceItem item = getItemById(itemId);
         return item.getSeller().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isOrderBuyer(Long orderId, Long userId) {
         MarketplaceOrder order = getOrderById(orderId);
         return order.getBuyer().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isOrderSeller(Long orderId, Long userId) {
         MarketplaceOrder order = getOrderById(orderId);
         return order.getItem().getSeller().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isItemAvailable(Long itemId) {
         MarketplaceItem item = getItemById(itemId);
         return item.isAvailable();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalItemCount() {
         return itemRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getTotalOrderCount() {
         return orderRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserItemCount(Long sellerId) {
-        return itemRepository.findBySellerUserId(sellerId).size();
+        return itemRepository.countBySellerUserId(sellerId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserOrderCount(Long buyerId) {
-        return orderRepository.findByBuyerUserId(buyerId).size();
+        return orderRepository.countByBuyerUserId(buyerId);
     }
 
     // ==================== SELLER DASHBOARD ====================
+    @Transactional(readOnly = true)
     public List<MarketplaceItem> getSellerActiveItems(Long sellerId) {
         return itemRepository.findBySellerUserId(sellerId).stream()
                 .filter(MarketplaceItem::isAvailable)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<MarketplaceOrder> getSellerOrders(Long sellerId) {
         return itemRepository.findBySellerUserId(sellerId).stream()
                 .flatMap(item -> orderRepository.findByItemId(item.getId()).stream())
@@ -40,27 +40,33 @@ public class MessageService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Message getMessageById(Long messageId) {
         return messageRepository.findById(messageId)
                 .orElseThrow(() -> new IllegalArgumentException("Message not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Message> getConversation(Long userId1, Long userId2) {
         return messageRepository.findConversation(userId1, userId2);
     }
 
+    @Transactional(readOnly = true)
     public List<Message> getMessagesBySender(Long senderId) {
         return messageRepository.findBySenderUserIdOrReceiverUserId(senderId, senderId);
     }
 
+    @Transactional(readOnly = true)
     public List<Message> getMessagesBetweenUsers(Long senderId, Long receiverId) {
         return messageRepository.findBySenderUserIdAndReceiverUserId(senderId, receiverId);
     }
 
+    @Transactional(readOnly = true)
     public List<Message> getUnreadMessages(Long receiverId) {
         return messageRepository.findByReceiverUserIdAndIsRead(receiverId, false);
     }
 
+    @Transactional(readOnly = true)
     public Long getUnreadMessageCount(Long receiverId) {
         return messageRepository.countByReceiverUserIdAndIsRead(receiverId, false);
     }
@@ -104,40 +110,48 @@ public class MessageService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isMessageParticipant(Long messageId, Long userId) {
         Message message = getMessageById(messageId);
         return message.getSender().getUserId().equals(userId) ||
                 message.getReceiver().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isMessageSender(Long messageId, Long userId) {
         Message message = getMessageById(messageId);
         return message.getSender().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isMessageReceiver(Long messageId, Long userId) {
         Message message = getMessageById(messageId);
         return message.getReceiver().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasUnreadMessages(Long receiverId) {
         return getUnreadMessageCount(receiverId) > 0;
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalMessageCount() {
         return messageRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserMessageCount(Long userId) {
-        return messageRepository.findBySenderUserIdOrReceiverUserId(userId, userId).size();
+        return messageRepository.countByParticipant(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getSentMessageCount(Long senderId) {
-        return messageRepository.findBySenderUserIdAndReceiverUserId(senderId, null).size();
+        return messageRepository.countBySenderUserId(senderId);
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<User> getConversationPartners(Long userId) {
         List<Message> messages = messageRepository.findBySenderUserIdOrReceiverUserId(userId, userId);
 
@@ -153,6 +167,7 @@ public class MessageService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public Message getLastMessageInConversation(Long userId1, Long userId2) {
         List<Message> conversation = getConversation(userId1, userId2);
         return conversation.isEmpty() ? null : conversation.get(0);
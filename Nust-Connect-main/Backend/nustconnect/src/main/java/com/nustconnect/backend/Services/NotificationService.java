@@ -72,32 +72,43 @@ public class NotificationService {
                 message, eventId, "/events/" + eventId);
     }
 
+    public Notification notifyLostItemMatch(Long userId, String message, Long foundItemId) {
+        return createNotificationWithEntity(userId, NotificationType.SYSTEM,
+                message, foundItemId, "/lostandfound/found/" + foundItemId);
+    }
+
     public Notification notifySystem(Long userId, String message) {
         return createNotification(userId, NotificationType.SYSTEM, message);
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Notification getNotificationById(Long notificationId) {
         return notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getNotificationsByUser(Long userId) {
         return notificationRepository.findByUserUserIdOrderByCreatedAtDesc(userId);
     }
 
+    @Transactional(readOnly = true)
     public Page<Notification> getNotificationsByUserPaginated(Long userId, Pageable pageable) {
         return notificationRepository.findByUserUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getUnreadNotifications(Long userId) {
         return notificationRepository.findByUserUserIdAndIsRead(userId, false);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getReadNotifications(Long userId) {
         return notificationRepository.findByUserUserIdAndIsRead(userId, true);
     }
 
+    @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long userId) {
         return notificationRepository.countByUserUserIdAndIsRead(userId, false);
     }
@@ -142,20 +153,24 @@ public class NotificationService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isNotificationOwner(Long notificationId, Long userId) {
         Notification notification = getNotificationById(notificationId);
         return notification.getUser().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean hasUnreadNotifications(Long userId) {
         return getUnreadNotificationCount(userId) > 0;
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalNotificationCount(Long userId) {
-        return notificationRepository.findByUserUserId(userId).size();
+        return notificationRepository.countByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getTotalUnreadCount(Long userId) {
         return getUnreadNotificationCount(userId);
     }
@@ -1,9 +1,12 @@
 package com.nustconnect.backend.Services;
 
 import com.nustconnect.backend.Enums.PostVisibility;
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Enums.ScreeningAction;
 import com.nustconnect.backend.Models.Post;
 import com.nustconnect.backend.Models.User;
 import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.Projections.PostListView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +24,7 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final FriendshipService friendshipService;
+    private final ContentScreeningService contentScreeningService;
 
     // ==================== CREATE ====================
     public Post createPost(Long userId, Post post) {
@@ -39,45 +43,77 @@ public class PostService {
         post.setCommentCount(0);
         post.setIsEdited(false);
 
-        return postRepository.save(post);
+        ContentScreeningService.ScreeningResult screening = screenContent(post, post.getContentText());
+        Post savedPost = postRepository.save(post);
+        contentScreeningService.flagForReview(ReportTargetType.POST, savedPost.getPostId(), screening);
+        return savedPost;
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Post getPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found with id: " + postId));
     }
 
+    // Held posts are reported as missing to anyone but their author
+    @Transactional(readOnly = true)
+    public Post getVisiblePostById(Long postId, String viewerEmail) {
+        Post post = getPostById(postId);
+        if (Boolean.TRUE.equals(post.getHiddenPendingReview()) && !post.getUser().getEmail().equals(viewerEmail)) {
+            throw new IllegalArgumentException("Post not found with id: " + postId);
+        }
+        return post;
+    }
+
+    @Transactional(readOnly = true)
     public List<Post> getAllPosts() {
         return postRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getAllActivePosts(Pageable pageable) {
         return postRepository.findAllActivePosts(pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Post> getPostsByUser(Long userId) {
         return postRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<Post> getActivePostsByUser(Long userId) {
         return postRepository.findActivePostsByUser(userId);
     }
 
+    @Transactional(readOnly = true)
+    public Page<PostListView> getActivePostViews(String viewerEmail, Pageable pageable) {
+        return postRepository.findActivePostViews(viewerEmail, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostListView> getPostViewsByUser(Long userId, String viewerEmail) {
+        return postRepository.findPostViewsByUser(userId, viewerEmail);
+    }
+
+    @Transactional(readOnly = true)
     public Page<Post> getPostsByUserPaginated(Long userId, Pageable pageable) {
         return postRepository.findByUserUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Post> getPostsByVisibility(PostVisibility visibility) {
         return postRepository.findByVisibility(visibility);
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getPostsByVisibilityPaginated(PostVisibility visibility, Pageable pageable) {
         return postRepository.findByVisibilityOrderByCreatedAtDesc(visibility, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getPublicPosts(Pageable pageable) {
-        return postRepository.findByVisibilityOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable);
+        return postRepository.findByVisibilityAndHiddenPendingReviewFalseOrderByCreatedAtDesc(PostVisibility.PUBLIC, pageable);
     }
 
     // ==================== UPDATE ====================
@@ -96,14 +132,24 @@ public class PostService {
             existingPost.setVisibility(updatedPost.getVisibility());
         }
 
-        return postRepository.save(existingPost);
+        ContentScreeningService.ScreeningResult screening = updatedPost.getContentText() != null
+                ? screenContent(existingPost, updatedPost.getContentText())
+                : null;
+        Post savedPost = postRepository.save(existingPost);
+        if (screening != null) {
+            contentScreeningService.flagForReview(ReportTargetType.POST, postId, screening);
+        }
+        return savedPost;
     }
 
     public Post updatePostContent(Long postId, String content) {
         Post post = getPostById(postId);
         post.setContentText(content);
         post.markAsEdited();
-        return postRepository.save(post);
+        ContentScreeningService.ScreeningResult screening = screenContent(post, content);
+        Post savedPost = postRepository.save(post);
+        contentScreeningService.flagForReview(ReportTargetType.POST, postId, screening);
+        return savedPost;
     }
 
     public Post updatePostVisibility(Long postId, PostVisibility visibility) {
@@ -119,6 +165,17 @@ public class PostService {
         return postRepository.save(post);
     }
 
+    // Blocked text throws; hidden text holds the post for review, visible to its author only whatever
+    // its visibility, until a moderator dismisses the reports on it (see ReportService)
+    private ContentScreeningService.ScreeningResult screenContent(Post post, String text) {
+        ContentScreeningService.ScreeningResult screening = contentScreeningService.screen(text);
+        contentScreeningService.requireNotBlocked(screening);
+        if (screening.action() == ScreeningAction.HIDE) {
+            post.setHiddenPendingReview(true);
+        }
+        return screening;
+    }
+
     // ==================== DELETE ====================
     public void deletePost(Long postId) {
         Post post = getPostById(postId);
@@ -163,6 +220,7 @@ public class PostService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isPostOwner(Long postId, Long userId) {
         Post post = getPostById(postId);
         return post.getUser().getUserId().equals(userId);
@@ -176,6 +234,11 @@ public class PostService {
             return true;
         }
 
+        // Held for review: the author's visibility setting doesn't apply yet
+        if (Boolean.TRUE.equals(post.getHiddenPendingReview())) {
+            return false;
+        }
+
         // Check visibility
         switch (post.getVisibility()) {
             case PUBLIC:
@@ -190,22 +253,26 @@ public class PostService {
         }
     }
 
+    @Transactional(readOnly = true)
     public boolean isPostDeleted(Long postId) {
         Post post = getPostById(postId);
         return post.isDeleted();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalPostCount() {
         return postRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserPostCount(Long userId) {
-        return postRepository.findByUserUserId(userId).size();
+        return postRepository.countByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getPublicPostCount() {
-        return postRepository.findByVisibility(PostVisibility.PUBLIC).size();
+        return postRepository.countByVisibility(PostVisibility.PUBLIC);
     }
 
     // ==================== HELPER METHODS ====================
@@ -17,6 +17,7 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final JobRecommendationService jobRecommendationService;
 
     // ==================== CREATE ====================
     public Profile createProfile(Long userId, Profile profile) {
@@ -29,24 +30,29 @@ public class ProfileService {
         }
 
         profile.setUser(user);
+        jobRecommendationService.invalidateUser(userId);
         return profileRepository.save(profile);
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Profile getProfileById(Long profileId) {
         return profileRepository.findById(profileId)
                 .orElseThrow(() -> new IllegalArgumentException("Profile not found with id: " + profileId));
     }
 
+    @Transactional(readOnly = true)
     public Profile getProfileByUserId(Long userId) {
         return profileRepository.findByUserUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Profile not found for user id: " + userId));
     }
 
+    @Transactional(readOnly = true)
     public List<Profile> getAllProfiles() {
         return profileRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<Profile> getProfilesByYearOfStudy(Integer year) {
         return profileRepository.findByYearOfStudy(year);
     }
@@ -87,6 +93,7 @@ public class ProfileService {
             existingProfile.setSemester(updatedProfile.getSemester());
         }
 
+        jobRecommendationService.invalidateUser(userId);
         return profileRepository.save(existingProfile);
     }
 
@@ -122,6 +129,7 @@ public class ProfileService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean profileExists(Long userId) {
         return profileRepository.findByUserUserId(userId).isPresent();
     }
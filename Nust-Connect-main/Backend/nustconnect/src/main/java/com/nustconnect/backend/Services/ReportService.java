@@ -1,31 +1,66 @@
 package com.nustconnect.backend.Services;
 
 import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Models.Comment;
+import com.nustconnect.backend.Models.Post;
 import com.nustconnect.backend.Models.Report;
+import com.nustconnect.backend.Models.ReportTarget;
 import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.CommentRepository;
+import com.nustconnect.backend.Repositories.PostRepository;
 import com.nustconnect.backend.Repositories.ReportRepository;
+import com.nustconnect.backend.Repositories.ReportTargetRepository;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class ReportService {
 
+    private static final Set<String> OPEN_STATUSES = Set.of("PENDING", "REVIEWED");
+    private static final int HIGH_PRIORITY_OPEN_REPORTS = 3;
+
+    // Reasons that point at harm to a person weigh three times as much as e.g. spam or off-topic
+    private static final List<String> SEVERE_REASON_TERMS = List.of(
+            "harass", "threat", "violen", "abuse", "bully", "hate", "racis", "nude", "nudity", "sexual",
+            "self-harm", "self harm", "suicid", "blackmail", "dox", "stalk", "scam", "fraud", "impersonat");
+
     private final ReportRepository reportRepository;
+    private final ReportTargetRepository reportTargetRepository;
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
 
     // ==================== CREATE ====================
     public Report createReport(Long reporterId, ReportTargetType targetType, Long targetId, String reason) {
         User reporter = userRepository.findById(reporterId)
                 .orElseThrow(() -> new IllegalArgumentException("Reporter not found"));
 
+        // One open report per person and target, so a single account can't push content up the queue
+        if (hasOpenReport(reporterId, targetType, targetId)) {
+            throw new IllegalArgumentException("You have already reported this content");
+        }
+
         Report report = Report.builder()
                 .reportedBy(reporter)
                 .targetType(targetType)
@@ -34,51 +69,64 @@ public class ReportService {
                 .status("PENDING")
                 .build();
 
-        return reportRepository.save(report);
+        Report savedReport = reportRepository.save(report);
+        openOnTarget(savedReport, 1);
+        return savedReport;
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Report getReportById(Long reportId) {
         return reportRepository.findById(reportId)
                 .orElseThrow(() -> new IllegalArgumentException("Report not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getAllReports() {
         return reportRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getReportsByUser(Long userId) {
         return reportRepository.findByReportedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getReportsByStatus(String status) {
         return reportRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Page<Report> getReportsByStatusPaginated(String status, Pageable pageable) {
         return reportRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getPendingReports() {
         return reportRepository.findByStatus("PENDING");
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getResolvedReports() {
         return reportRepository.findByStatus("RESOLVED");
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getDismissedReports() {
         return reportRepository.findByStatus("DISMISSED");
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getReportsByTargetType(ReportTargetType targetType) {
         return reportRepository.findByTargetType(targetType);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getReportsByTarget(ReportTargetType targetType, Long targetId) {
         return reportRepository.findByTargetTypeAndTargetId(targetType, targetId);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getReportsReviewedBy(Long reviewerId) {
         return reportRepository.findByReviewedByUserId(reviewerId);
     }
@@ -86,7 +134,13 @@ public class ReportService {
     // ==================== UPDATE ====================
     public Report updateReport(Long reportId, String reason) {
         Report report = getReportById(reportId);
+        int previousPoints = severityPoints(report);
         report.setReason(reason);
+
+        int delta = severityPoints(report) - previousPoints;
+        if (delta != 0 && isOpen(report)) {
+            reportTargetRepository.adjustScore(report.getTargetType(), report.getTargetId(), delta, LocalDateTime.now());
+        }
         return reportRepository.save(report);
     }
 
@@ -96,7 +150,9 @@ public class ReportService {
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
+        boolean wasOpen = isOpen(report);
         report.resolve(admin, notes);
+        closeOnTarget(report, wasOpen);
         return reportRepository.save(report);
     }
 
@@ -105,8 +161,12 @@ public class ReportService {
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
+        boolean wasOpen = isOpen(report);
         report.dismiss(admin, notes);
-        return reportRepository.save(report);
+        closeOnTarget(report, wasOpen);
+        Report savedReport = reportRepository.save(report);
+        releaseHeldContent(savedReport);
+        return savedReport;
     }
 
     public Report reviewReport(Long reportId, Long adminId) {
@@ -114,83 +174,109 @@ public class ReportService {
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new IllegalArgumentException("Admin not found"));
 
+        boolean wasOpen = isOpen(report);
         report.setStatus("REVIEWED");
         report.setReviewedBy(admin);
+        if (!wasOpen) {
+            // Reopened after a resolution: it counts as open again but isn't a new report
+            openOnTarget(report, 0);
+        }
         return reportRepository.save(report);
     }
 
     // ==================== DELETE ====================
     public void deleteReport(Long reportId) {
         Report report = getReportById(reportId);
+        boolean wasOpen = isOpen(report);
         report.softDelete();
+        closeOnTarget(report, wasOpen);
         reportRepository.save(report);
     }
 
     public void hardDeleteReport(Long reportId) {
-        if (!reportRepository.existsById(reportId)) {
-            throw new IllegalArgumentException("Report not found");
-        }
-        reportRepository.deleteById(reportId);
+        Report report = getReportById(reportId);
+        closeOnTarget(report, isOpen(report));
+        reportRepository.delete(report);
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isReportOwner(Long reportId, Long userId) {
         Report report = getReportById(reportId);
         return report.getReportedBy().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isReportPending(Long reportId) {
         Report report = getReportById(reportId);
         return "PENDING".equals(report.getStatus());
     }
 
+    @Transactional(readOnly = true)
+    public boolean hasOpenReport(Long reporterId, ReportTargetType targetType, Long targetId) {
+        return reportRepository.existsByReportedByUserIdAndTargetTypeAndTargetIdAndStatusIn(
+                reporterId, targetType, targetId, OPEN_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
     public boolean isReportResolved(Long reportId) {
         Report report = getReportById(reportId);
         return "RESOLVED".equals(report.getStatus());
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalReportCount() {
         return reportRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getPendingReportCount() {
         return reportRepository.countByStatus("PENDING");
     }
 
+    @Transactional(readOnly = true)
     public long getResolvedReportCount() {
         return reportRepository.countByStatus("RESOLVED");
     }
 
+    @Transactional(readOnly = true)
     public long getDismissedReportCount() {
         return reportRepository.countByStatus("DISMISSED");
     }
 
+    @Transactional(readOnly = true)
     public long getUserReportCount(Long userId) {
-        return reportRepository.findByReportedByUserId(userId).size();
+        return reportRepository.countByReportedByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getAdminResolvedCount(Long adminId) {
-        return reportRepository.findByReviewedByUserId(adminId).size();
+        return reportRepository.countByReviewedByUserId(adminId);
     }
 
+    @Transactional(readOnly = true)
     public long getTargetReportCount(ReportTargetType targetType, Long targetId) {
-        return reportRepository.findByTargetTypeAndTargetId(targetType, targetId).size();
+        return reportRepository.countByTargetTypeAndTargetId(targetType, targetId);
     }
 
     // ==================== REPORT TYPES ====================
+    @Transactional(readOnly = true)
     public List<Report> getUserReports() {
         return reportRepository.findByTargetType(ReportTargetType.USER);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getPostReports() {
         return reportRepository.findByTargetType(ReportTargetType.POST);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getCommentReports() {
         return reportRepository.findByTargetType(ReportTargetType.COMMENT);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getEventReports() {
         return reportRepository.findByTargetType(ReportTargetType.EVENT);
     }
@@ -202,7 +288,9 @@ public class ReportService {
 
         reportIds.forEach(reportId -> {
             Report report = getReportById(reportId);
+            boolean wasOpen = isOpen(report);
             report.resolve(admin, notes);
+            closeOnTarget(report, wasOpen);
             reportRepository.save(report);
         });
     }
@@ -213,25 +301,138 @@ public class ReportService {
 
         reportIds.forEach(reportId -> {
             Report report = getReportById(reportId);
+            boolean wasOpen = isOpen(report);
             report.dismiss(admin, notes);
-            reportRepository.save(report);
+            closeOnTarget(report, wasOpen);
+            releaseHeldContent(reportRepository.save(report));
         });
     }
 
     // ==================== FLAGGED CONTENT ====================
+    @Transactional(readOnly = true)
     public List<Report> getHighPriorityReports() {
-        // Reports with multiple reports on same target
-        return getAllReports().stream()
-                .filter(r -> "PENDING".equals(r.getStatus()))
-                .filter(r -> getTargetReportCount(r.getTargetType(), r.getTargetId()) > 3)
-                .toList();
+        // Pending reports on targets with several open reports, worst target first
+        return reportRepository.findPendingReportsOnTargetsWithMoreThan(HIGH_PRIORITY_OPEN_REPORTS);
     }
 
+    @Transactional(readOnly = true)
     public boolean isContentFlagged(ReportTargetType targetType, Long targetId) {
-        return getTargetReportCount(targetType, targetId) > 0;
+        return reportRepository.existsByTargetTypeAndTargetId(targetType, targetId);
     }
 
+    @Transactional(readOnly = true)
     public long getContentFlagCount(ReportTargetType targetType, Long targetId) {
         return getTargetReportCount(targetType, targetId);
     }
-}
\ No newline at end of file
+
+    // ==================== MODERATION QUEUE ====================
+    @Transactional(readOnly = true)
+    public Page<ReportTarget> getModerationQueue(Pageable pageable) {
+        return reportTargetRepository.findModerationQueue(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ReportTarget getReportTarget(ReportTargetType targetType, Long targetId) {
+        return reportTargetRepository.findByTargetTypeAndTargetId(targetType, targetId)
+                .orElseThrow(() -> new IllegalArgumentException("No reports for this content"));
+    }
+
+    // Reports filed before report_targets existed are aggregated once
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReportTargets() {
+        if (reportTargetRepository.count() > 0 || reportRepository.count() == 0) {
+            return;
+        }
+        Map<String, ReportTarget> targets = new HashMap<>();
+        for (Report report : reportRepository.findAll()) {
+            ReportTarget target = targets.computeIfAbsent(report.getTargetType() + ":" + report.getTargetId(),
+                    key -> ReportTarget.builder()
+                            .targetType(report.getTargetType())
+                            .targetId(report.getTargetId())
+                            .build());
+            LocalDateTime reportedAt = report.getCreatedAt();
+            target.setTotalCount(target.getTotalCount() + 1);
+            if (target.getFirstReportedAt() == null || reportedAt.isBefore(target.getFirstReportedAt())) {
+                target.setFirstReportedAt(reportedAt);
+            }
+            if (target.getLastReportedAt() == null || reportedAt.isAfter(target.getLastReportedAt())) {
+                target.setLastReportedAt(reportedAt);
+            }
+            if (isOpen(report)) {
+                target.setOpenCount(target.getOpenCount() + 1);
+                target.setSeverityScore(target.getSeverityScore() + severityPoints(report));
+            }
+        }
+        reportTargetRepository.saveAll(targets.values());
+        log.info("Backfilled {} report targets", targets.size());
+    }
+
+    private void openOnTarget(Report report, int newReports) {
+        LocalDateTime now = LocalDateTime.now();
+        ensureTarget(report.getTargetType(), report.getTargetId());
+        reportTargetRepository.recordOpened(report.getTargetType(), report.getTargetId(), severityPoints(report),
+                newReports, now);
+    }
+
+    private void closeOnTarget(Report report, boolean wasOpen) {
+        if (wasOpen) {
+            reportTargetRepository.recordClosed(report.getTargetType(), report.getTargetId(), severityPoints(report),
+                    LocalDateTime.now());
+        }
+    }
+
+    // A post or comment held by screening is released once every open report on it has been
+    // dismissed; resolving a report upholds it, so the hold stays. A released comment is counted
+    // on its post again.
+    private void releaseHeldContent(Report report) {
+        ReportTargetType targetType = report.getTargetType();
+        if ((targetType != ReportTargetType.POST && targetType != ReportTargetType.COMMENT)
+                || reportRepository.existsByTargetTypeAndTargetIdAndStatusInAndDeletedAtIsNull(
+                        targetType, report.getTargetId(), OPEN_STATUSES)) {
+            return;
+        }
+        if (targetType == ReportTargetType.POST) {
+            postRepository.findById(report.getTargetId()).ifPresent(post -> post.setHiddenPendingReview(false));
+            return;
+        }
+        commentRepository.findById(report.getTargetId())
+                .filter(Comment::getHiddenPendingReview)
+                .ifPresent(comment -> {
+                    comment.setHiddenPendingReview(false);
+                    Post post = comment.getPost();
+                    post.setCommentCount(post.getCommentCount() + 1);
+                });
+    }
+
+    // The row is created in its own transaction so two first reports on the same target can't
+    // both insert it; whoever loses the race just finds the row already there
+    private void ensureTarget(ReportTargetType targetType, Long targetId) {
+        if (reportTargetRepository.existsByTargetTypeAndTargetId(targetType, targetId)) {
+            return;
+        }
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> reportTargetRepository.save(ReportTarget.builder()
+                    .targetType(targetType)
+                    .targetId(targetId)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Report target {}:{} was created concurrently", targetType, targetId);
+        }
+    }
+
+    private boolean isOpen(Report report) {
+        return OPEN_STATUSES.contains(report.getStatus()) && !report.isDeleted();
+    }
+
+    private int severityPoints(Report report) {
+        int base = switch (report.getTargetType()) {
+            case USER, EVENT -> 3;
+            case POST, COMMENT -> 2;
+        };
+        String reason = report.getReason() != null ? report.getReason().toLowerCase(Locale.ROOT) : "";
+        boolean severe = SEVERE_REASON_TERMS.stream().anyMatch(reason::contains);
+        return severe ? base * 3 : base;
+    }
+}
@@ -0,0 +1,187 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.LifecycleType;
+import com.nustconnect.backend.Models.RideShare;
+import com.nustconnect.backend.Repositories.RideShareRepository;
+import com.nustconnect.backend.Utils.GeoHash;
+import com.nustconnect.backend.Utils.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RideMatchingService implements LifecycleTransitionHook {
+
+    // ~1.2km x 0.6km cells; coarser searches use a prefix range over these keys
+    private static final int INDEX_PRECISION = 6;
+
+    private static final double PICKUP_WEIGHT = 0.4;
+    private static final double DROPOFF_WEIGHT = 0.4;
+    private static final double TIME_WEIGHT = 0.2;
+
+    private final RideShareRepository rideRepository;
+    private final GeocodingService geocodingService;
+
+    private final Map<Long, IndexedRide> rides = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> pickupCells = new ConcurrentSkipListMap<>();
+
+    public record RideMatch(RideShare ride, double pickupDistanceKm, double dropoffDistanceKm,
+                            long minutesFromRequested, double score) {
+    }
+
+    private record Candidate(double pickupDistanceKm, double dropoffDistanceKm, long minutesFromRequested, double score) {
+    }
+
+    private record IndexedRide(Long rideId, GeoPoint pickup, GeoPoint destination,
+                               LocalDateTime departureTime, String cell) {
+    }
+
+    // ==================== INDEX MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        rides.clear();
+        pickupCells.clear();
+        for (RideShare ride : rideRepository.findUpcomingRides(LocalDateTime.now())) {
+            indexRide(ride);
+        }
+        log.info("Ride matching index built with {} rides", rides.size());
+    }
+
+    public void indexRide(RideShare ride) {
+        removeRide(ride.getRideId());
+
+        if (!"ACTIVE".equals(ride.getStatus()) || ride.isDeleted() || ride.getDepartureTime() == null) {
+            return;
+        }
+
+        GeoPoint pickup = resolve(ride.getPickupLatitude(), ride.getPickupLongitude(), ride.getPickupLocation());
+        GeoPoint destination = resolve(ride.getDestinationLatitude(), ride.getDestinationLongitude(), ride.getDestination());
+        if (pickup == null || destination == null) {
+            return;
+        }
+
+        String cell = GeoHash.encode(pickup.latitude(), pickup.longitude(), INDEX_PRECISION);
+        rides.put(ride.getRideId(), new IndexedRide(ride.getRideId(), pickup, destination, ride.getDepartureTime(), cell));
+        pickupCells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(ride.getRideId());
+    }
+
+    public void removeRide(Long rideId) {
+        IndexedRide existing = rides.remove(rideId);
+        if (existing != null) {
+            pickupCells.computeIfPresent(existing.cell(), (key, ids) -> {
+                ids.remove(rideId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public int removeDepartedBefore(LocalDateTime cutoff) {
+        List<Long> departed = rides.values().stream()
+                .filter(indexed -> indexed.departureTime().isBefore(cutoff))
+                .map(IndexedRide::rideId)
+                .toList();
+        departed.forEach(this::removeRide);
+        return departed.size();
+    }
+
+    @Override
+    public LifecycleType getLifecycleType() {
+        return LifecycleType.RIDE_SHARE;
+    }
+
+    // Also sweeps by time so any departed ride the batch didn't cover leaves the index too
+    @Override
+    public void afterTransition(List<Long> completedRideIds, LocalDateTime cutoff) {
+        completedRideIds.forEach(this::removeRide);
+        removeDepartedBefore(cutoff);
+    }
+
+    public int getIndexedRideCount() {
+        return rides.size();
+    }
+
+    // ==================== MATCHING ====================
+    public List<RideMatch> findMatches(GeoPoint pickup, GeoPoint destination, LocalDateTime departureTime,
+                                       int windowMinutes, double radiusKm, int seats, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime requested = departureTime != null && departureTime.isAfter(now) ? departureTime : now;
+        LocalDateTime earliest = requested.minusMinutes(windowMinutes).isBefore(now) ? now : requested.minusMinutes(windowMinutes);
+        LocalDateTime latest = requested.plusMinutes(windowMinutes);
+
+        int precision = GeoHash.precisionForRadius(radiusKm, pickup.latitude(), INDEX_PRECISION);
+        Set<Long> candidates = new HashSet<>();
+        for (String prefix : GeoHash.coveringCells(pickup.latitude(), pickup.longitude(), precision)) {
+            ConcurrentNavigableMap<String, Set<Long>> block = pickupCells.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            block.values().forEach(candidates::addAll);
+        }
+
+        Map<Long, Candidate> byId = new HashMap<>();
+        for (Long rideId : candidates) {
+            IndexedRide indexed = rides.get(rideId);
+            if (indexed == null) {
+                continue;
+            }
+            LocalDateTime departs = indexed.departureTime();
+            if (departs.isBefore(earliest) || departs.isAfter(latest)) {
+                continue;
+            }
+            double pickupDistance = pickup.distanceKmTo(indexed.pickup());
+            if (pickupDistance > radiusKm) {
+                continue;
+            }
+            double dropoffDistance = destination == null ? 0 : destination.distanceKmTo(indexed.destination());
+            if (dropoffDistance > radiusKm) {
+                continue;
+            }
+
+            long minutesOff = Duration.between(requested, departs).toMinutes();
+            double score = PICKUP_WEIGHT * (pickupDistance / radiusKm)
+                    + DROPOFF_WEIGHT * (dropoffDistance / radiusKm)
+                    + TIME_WEIGHT * (Math.abs(minutesOff) / (double) Math.max(windowMinutes, 1));
+            byId.put(rideId, new Candidate(pickupDistance, dropoffDistance, minutesOff, score));
+        }
+
+        List<RideMatch> scored = new ArrayList<>();
+        if (byId.isEmpty()) {
+            return scored;
+        }
+
+        // Seats and status change often, so the database stays the source of truth for them
+        for (RideShare ride : rideRepository.findAllWithDriverByIds(byId.keySet())) {
+            if (!"ACTIVE".equals(ride.getStatus()) || ride.isDeleted() || ride.getAvailableSeats() < seats) {
+                continue;
+            }
+            Candidate candidate = byId.get(ride.getRideId());
+            scored.add(new RideMatch(ride, candidate.pickupDistanceKm(), candidate.dropoffDistanceKm(),
+                    candidate.minutesFromRequested(), candidate.score()));
+        }
+
+        scored.sort(Comparator.comparingDouble(RideMatch::score));
+        return scored.size() > limit ? scored.subList(0, limit) : scored;
+    }
+
+    // ==================== HELPER METHODS ====================
+    private GeoPoint resolve(Double latitude, Double longitude, String location) {
+        if (latitude != null && longitude != null) {
+            return new GeoPoint(latitude, longitude);
+        }
+        return geocodingService.geocode(location).orElse(null);
+    }
+}
@@ -3,15 +3,20 @@ package com.nustconnect.backend.Services;
 import com.nustconnect.backend.Models.RideRequest;
 import com.nustconnect.backend.Models.RideShare;
 import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.Projections.RideListView;
 import com.nustconnect.backend.Repositories.RideRequestRepository;
 import com.nustconnect.backend.Repositories.RideShareRepository;
 import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Utils.AfterCommit;
+import com.nustconnect.backend.Utils.GeoPoint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,8 @@ public class RideShareService {
     private final RideRequestRepository requestRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final GeocodingService geocodingService;
+    private final RideMatchingService rideMatchingService;
 
     // ==================== RIDE CRUD ====================
     public RideShare createRide(Long driverId, RideShare ride) {
@@ -34,10 +41,15 @@ public class RideShareService {
 
         ride.setDriver(driver);
         ride.setStatus("ACTIVE");
+        fillMissingCoordinates(ride);
 
-        return rideRepository.save(ride);
+        RideShare savedRide = rideRepository.save(ride);
+        // The matching index lives in memory; removals are deferred too so they stay in order with adds
+        AfterCommit.run(() -> rideMatchingService.indexRide(savedRide));
+        return savedRide;
     }
 
+    @Transactional(readOnly = true)
     public RideShare getRideById(Long rideId) {
         RideShare ride = rideRepository.findByRideId(rideId);
         if (ride == null) {
@@ -46,39 +58,91 @@ public class RideShareService {
         return ride;
     }
 
+    @Transactional(readOnly = true)
     public List<RideShare> getAllRides() {
         return rideRepository.findAllWithDriver();
     }
 
+    @Transactional(readOnly = true)
     public List<RideShare> getRidesByDriver(Long driverId) {
         return rideRepository.findByDriverUserId(driverId);
     }
 
+    @Transactional(readOnly = true)
     public List<RideShare> getRidesByStatus(String status) {
         return rideRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<RideShare> getActiveRides() {
         return rideRepository.findByStatus("ACTIVE");
     }
 
+    // Hands each active ride to the consumer while the cursor is open, in rideId order
+    @Transactional(readOnly = true)
+    public void streamActiveRides(Consumer<RideListView> consumer) {
+        try (Stream<RideListView> rides = rideRepository.streamViewsByStatus("ACTIVE")) {
+            rides.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<RideShare> getUpcomingRides() {
         return rideRepository.findUpcomingRides(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public List<RideShare> searchRides(String keyword) {
         return rideRepository.searchRides(keyword);
     }
 
+    public List<RideMatchingService.RideMatch> matchRides(String pickupLocation, Double pickupLatitude, Double pickupLongitude,
+                                                          String destination, Double destinationLatitude, Double destinationLongitude,
+                                                          LocalDateTime departureTime, int windowMinutes, double radiusKm,
+                                                          int seats, int limit) {
+        GeoPoint pickup = resolveLocation(pickupLatitude, pickupLongitude, pickupLocation);
+        if (pickup == null) {
+            throw new IllegalArgumentException("Unknown pickup location");
+        }
+        GeoPoint dropoff = null;
+        if (destination != null || destinationLatitude != null) {
+            dropoff = resolveLocation(destinationLatitude, destinationLongitude, destination);
+            if (dropoff == null) {
+                throw new IllegalArgumentException("Unknown destination");
+            }
+        }
+        if (windowMinutes <= 0 || radiusKm <= 0 || seats <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Window, radius, seats and limit must be positive");
+        }
+
+        return rideMatchingService.findMatches(pickup, dropoff, departureTime, windowMinutes, radiusKm, seats, limit);
+    }
+
     public RideShare updateRide(Long rideId, RideShare updatedRide) {
         RideShare existingRide = getRideById(rideId);
 
         if (updatedRide.getPickupLocation() != null) {
+            if (!updatedRide.getPickupLocation().equals(existingRide.getPickupLocation())) {
+                existingRide.setPickupLatitude(null);
+                existingRide.setPickupLongitude(null);
+            }
             existingRide.setPickupLocation(updatedRide.getPickupLocation());
         }
         if (updatedRide.getDestination() != null) {
+            if (!updatedRide.getDestination().equals(existingRide.getDestination())) {
+                existingRide.setDestinationLatitude(null);
+                existingRide.setDestinationLongitude(null);
+            }
             existingRide.setDestination(updatedRide.getDestination());
         }
+        if (updatedRide.getPickupLatitude() != null && updatedRide.getPickupLongitude() != null) {
+            existingRide.setPickupLatitude(updatedRide.getPickupLatitude());
+            existingRide.setPickupLongitude(updatedRide.getPickupLongitude());
+        }
+        if (updatedRide.getDestinationLatitude() != null && updatedRide.getDestinationLongitude() != null) {
+            existingRide.setDestinationLatitude(updatedRide.getDestinationLatitude());
+            existingRide.setDestinationLongitude(updatedRide.getDestinationLongitude());
+        }
         if (updatedRide.getDepartureTime() != null) {
             existingRide.setDepartureTime(updatedRide.getDepartureTime());
         }
@@ -94,14 +158,18 @@ public class RideShareService {
         if (updatedRide.getContactNumber() != null) {
             existingRide.setContactNumber(updatedRide.getContactNumber());
         }
+        fillMissingCoordinates(existingRide);
 
-        return rideRepository.save(existingRide);
+        RideShare savedRide = rideRepository.save(existingRide);
+        AfterCommit.run(() -> rideMatchingService.indexRide(savedRide));
+        return savedRide;
     }
 
     public void deleteRide(Long rideId) {
         RideShare ride = getRideById(rideId);
         ride.softDelete();
         rideRepository.save(ride);
+        AfterCommit.run(() -> rideMatchingService.removeRide(rideId));
     }
 
     public void hardDeleteRide(Long rideId) {
@@ -109,12 +177,14 @@ public class RideShareService {
             throw new IllegalArgumentException("Ride not found");
         }
         rideRepository.deleteById(rideId);
+        AfterCommit.run(() -> rideMatchingService.removeRide(rideId));
     }
 
     // ==================== RIDE STATUS ====================
     public RideShare completeRide(Long rideId) {
         RideShare ride = getRideById(rideId);
         ride.setStatus("COMPLETED");
+        AfterCommit.run(() -> rideMatchingService.removeRide(rideId));
         return rideRepository.save(ride);
     }
 
@@ -124,6 +194,7 @@ public class RideShareService {
         // Cancel the ride first
         ride.setStatus("CANCELLED");
         RideShare cancelledRide = rideRepository.save(ride);
+        AfterCommit.run(() -> rideMatchingService.removeRide(rideId));
 
         // Handle ride requests separately (after ride is saved)
         try {
@@ -152,9 +223,16 @@ public class RideShareService {
     }
 
     public void decrementSeats(Long rideId) {
-        RideShare ride = getRideById(rideId);
-        ride.decrementSeats();
-        rideRepository.save(ride);
+        reserveSeats(rideId, 1);
+    }
+
+    public void reserveSeats(Long rideId, int seats) {
+        if (seats <= 0) {
+            throw new IllegalArgumentException("Seats must be positive");
+        }
+        if (rideRepository.reserveSeats(rideId, seats, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("Not enough available seats");
+        }
     }
 
     // ==================== REQUEST CRUD ====================
@@ -190,27 +268,33 @@ public class RideShareService {
         return savedRequest;
     }
 
+    @Transactional(readOnly = true)
     public RideRequest getRequestById(Long requestId) {
         return requestRepository.findById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("Request not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getAllRequests() {
         return requestRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getRequestsByRide(Long rideId) {
         return requestRepository.findByRideRideId(rideId);
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getRequestsByPassenger(Long passengerId) {
         return requestRepository.findByPassengerUserId(passengerId);
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getRequestsByStatus(Long rideId, String status) {
         return requestRepository.findByRideRideIdAndStatus(rideId, status);
     }
 
+    @Transactional(readOnly = true)
     public Long getAcceptedRequestCount(Long rideId) {
         return requestRepository.countByRideRideIdAndStatus(rideId, "ACCEPTED");
     }
@@ -218,17 +302,21 @@ public class RideShareService {
     // ==================== REQUEST STATUS ====================
     public RideRequest acceptRequest(Long requestId) {
         RideRequest request = getRequestById(requestId);
-        RideShare ride = request.getRide();
+        Long rideId = request.getRide().getRideId();
+        int seats = request.getSeatsRequested() != null ? request.getSeatsRequested() : 1;
 
-        if (ride.isFull() || ride.getAvailableSeats() < request.getSeatsRequested()) {
-            throw new IllegalArgumentException("Not enough available seats");
+        // Both claims are conditional updates; if the seats are gone the exception rolls back the request claim
+        if (requestRepository.markAccepted(requestId) == 0) {
+            throw new IllegalArgumentException("Request is no longer pending");
         }
+        reserveSeats(rideId, seats);
 
-        request.accept();
-        requestRepository.save(request);
-
-        for (int i = 0; i < request.getSeatsRequested(); i++) {
-            decrementSeats(ride.getRideId());
+        // The bulk updates cleared the persistence context, so re-read the current state
+        request = requestRepository.findWithDetailsById(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Request not found"));
+        RideShare ride = request.getRide();
+        if (ride.isFull()) {
+            AfterCommit.run(() -> rideMatchingService.removeRide(rideId));
         }
 
         // Notify Passenger
@@ -266,53 +354,86 @@ public class RideShareService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isRideDriver(Long rideId, Long userId) {
         RideShare ride = getRideById(rideId);
         return ride.getDriver().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isRequestPassenger(Long requestId, Long userId) {
         RideRequest request = getRequestById(requestId);
         return request.getPassenger().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isRideFull(Long rideId) {
         RideShare ride = getRideById(rideId);
         return ride.isFull();
     }
 
+    @Transactional(readOnly = true)
     public boolean hasUserRequestedRide(Long rideId, Long userId) {
         return requestRepository.findByRideRideIdAndPassengerUserId(rideId, userId).isPresent();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalRideCount() {
         return rideRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getTotalRequestCount() {
         return requestRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getUserRideCount(Long driverId) {
-        return rideRepository.findByDriverUserId(driverId).size();
+        return rideRepository.countByDriverUserId(driverId);
     }
 
+    @Transactional(readOnly = true)
     public long getUserRequestCount(Long passengerId) {
-        return requestRepository.findByPassengerUserId(passengerId).size();
+        return requestRepository.countByPassengerUserId(passengerId);
     }
 
     // ==================== HELPER METHODS ====================
+    private void fillMissingCoordinates(RideShare ride) {
+        if (ride.getPickupLatitude() == null || ride.getPickupLongitude() == null) {
+            geocodingService.geocode(ride.getPickupLocation()).ifPresent(point -> {
+                ride.setPickupLatitude(point.latitude());
+                ride.setPickupLongitude(point.longitude());
+            });
+        }
+        if (ride.getDestinationLatitude() == null || ride.getDestinationLongitude() == null) {
+            geocodingService.geocode(ride.getDestination()).ifPresent(point -> {
+                ride.setDestinationLatitude(point.latitude());
+                ride.setDestinationLongitude(point.longitude());
+            });
+        }
+    }
+
+    private GeoPoint resolveLocation(Double latitude, Double longitude, String location) {
+        if (latitude != null && longitude != null) {
+            return new GeoPoint(latitude, longitude);
+        }
+        return geocodingService.geocode(location).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
     public List<User> getRidePassengers(Long rideId) {
         return requestRepository.findByRideRideIdAndStatus(rideId, "ACCEPTED").stream()
                 .map(RideRequest::getPassenger)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getPendingRequests(Long rideId) {
         return requestRepository.findByRideRideIdAndStatus(rideId, "PENDING");
     }
 
+    @Transactional(readOnly = true)
     public List<RideRequest> getAcceptedRequests(Long rideId) {
         return requestRepository.findByRideRideIdAndStatus(rideId, "ACCEPTED");
     }
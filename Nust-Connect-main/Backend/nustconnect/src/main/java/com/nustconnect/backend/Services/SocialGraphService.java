@@ -0,0 +1,138 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Repositories.FriendshipRepository;
+import com.nustconnect.backend.Repositories.Projections.FriendEdgeView;
+import com.nustconnect.backend.Utils.AfterCommit;
+import com.nustconnect.backend.Utils.LongAdjacencyGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SocialGraphService {
+
+    private final FriendshipRepository friendshipRepository;
+
+    private LongAdjacencyGraph graph = new LongAdjacencyGraph();
+    private volatile boolean loaded;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ==================== GRAPH MAINTENANCE ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildGraph() {
+        // Built off to the side so readers keep using the old graph while the edges load
+        List<FriendEdgeView> edges = friendshipRepository.findAllAcceptedEdges();
+        LongAdjacencyGraph rebuilt = new LongAdjacencyGraph(edges.size());
+        for (FriendEdgeView edge : edges) {
+            rebuilt.addEdge(edge.getFollowerId(), edge.getFollowingId());
+        }
+        lock.writeLock().lock();
+        try {
+            graph = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Social graph built with {} users and {} friendships", rebuilt.nodeCount(), rebuilt.edgeCount());
+    }
+
+    // Applied after commit, so a rolled-back accept or unfriend never reaches the graph
+    public void addFriendship(Long userId1, Long userId2) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                graph.addEdge(userId1, userId2);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeFriendship(Long userId1, Long userId2) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                graph.removeEdge(userId1, userId2);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Until the first load finishes callers should fall back to the database
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // ==================== QUERIES ====================
+    public boolean areFriends(Long userId1, Long userId2) {
+        lock.readLock().lock();
+        try {
+            return graph.hasEdge(userId1, userId2);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getFriendCount(Long userId) {
+        lock.readLock().lock();
+        try {
+            return graph.degree(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] getFriendIds(Long userId) {
+        lock.readLock().lock();
+        try {
+            return graph.neighbours(userId).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] getMutualFriendIds(Long userId1, Long userId2) {
+        lock.readLock().lock();
+        try {
+            return graph.common(userId1, userId2);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getMutualFriendCount(Long userId1, Long userId2) {
+        lock.readLock().lock();
+        try {
+            return graph.commonCount(userId1, userId2);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LongAdjacencyGraph.SecondDegree getFriendsOfFriends(Long userId) {
+        lock.readLock().lock();
+        try {
+            return graph.secondDegree(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getUserCount() {
+        lock.readLock().lock();
+        try {
+            return graph.nodeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.PostVisibility;
+import com.nustconnect.backend.Enums.StatMetric;
+import com.nustconnect.backend.Models.DailyStat;
+import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.CommentRepository;
+import com.nustconnect.backend.Repositories.DailyStatRepository;
+import com.nustconnect.backend.Repositories.EventRepository;
+import com.nustconnect.backend.Repositories.JobPostingRepository;
+import com.nustconnect.backend.Repositories.LikeRepository;
+import com.nustconnect.backend.Repositories.MarketplaceItemRepository;
+import com.nustconnect.backend.Repositories.MarketplaceOrderRepository;
+import com.nustconnect.backend.Repositories.MessageRepository;
+import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.Projections.DailyCountView;
+import com.nustconnect.backend.Repositories.ReportRepository;
+import com.nustconnect.backend.Repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsService {
+
+    public static final String NO_DEPARTMENT = "UNASSIGNED";
+
+    private static final Set<String> OPEN_REPORT_STATUSES = Set.of("PENDING", "REVIEWED");
+
+    private final DailyStatRepository dailyStatRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final MessageRepository messageRepository;
+    private final EventRepository eventRepository;
+    private final ClubRepository clubRepository;
+    private final MarketplaceItemRepository marketplaceItemRepository;
+    private final MarketplaceOrderRepository marketplaceOrderRepository;
+    private final JobPostingRepository jobRepository;
+    private final ReportRepository reportRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // How far back a fresh database is rolled up on startup
+    @Value("${stats.backfill-days:90}")
+    private int backfillDays;
+
+    @Value("${stats.cache-ttl-ms:60000}")
+    private long cacheTtlMs;
+
+    private final Map<Integer, CachedStats> cache = new ConcurrentHashMap<>();
+
+    public record AdminStats(LocalDateTime generatedAt, LocalDate from, LocalDate to, Map<String, Long> totals,
+                             List<DayStats> daily, List<DepartmentStats> departments) {
+    }
+
+    public record DayStats(LocalDate date, Map<StatMetric, Long> counts) {
+    }
+
+    public record DepartmentStats(String department, Map<StatMetric, Long> counts) {
+    }
+
+    private record CachedStats(AdminStats stats, long expiresAt) {
+    }
+
+    // ==================== ROLLUP ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        rollupPendingDays();
+    }
+
+    // Catches up from the last rolled-up day, so a missed night is filled in by the next run
+    @Scheduled(cron = "${stats.rollup-cron:0 5 0 * * *}")
+    public void rollupPendingDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate earliest = yesterday.minusDays(backfillDays - 1L);
+        LocalDate from = dailyStatRepository.findLatestStatDate()
+                .map(latest -> latest.plusDays(1))
+                .filter(next -> next.isAfter(earliest))
+                .orElse(earliest);
+        if (from.isAfter(yesterday)) {
+            return;
+        }
+        int rows = rollup(from, yesterday);
+        log.info("Rolled up daily statistics for {} to {}: {} rows", from, yesterday, rows);
+    }
+
+    // Replaces the rollup rows of [from, to] with fresh counts from the source tables
+    public int rollup(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Rollup range ends before it starts");
+        }
+        Integer rows = transactionTemplate.execute(status -> {
+            dailyStatRepository.deleteByStatDateBetween(from, to);
+            List<DailyStat> stats = new ArrayList<>();
+            count(from, to).forEach((metric, views) -> views.forEach(view -> stats.add(DailyStat.builder()
+                    .statDate(view.getDay())
+                    .metric(metric)
+                    .department(departmentOf(view))
+                    .total(view.getTotal())
+                    .build())));
+            dailyStatRepository.saveAll(stats);
+            return stats.size();
+        });
+        cache.clear();
+        return rows != null ? rows : 0;
+    }
+
+    private Map<StatMetric, List<DailyCountView>> count(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<StatMetric, List<DailyCountView>> counts = new EnumMap<>(StatMetric.class);
+        counts.put(StatMetric.POSTS, dailyStatRepository.countPostsPerDay(start, end));
+        counts.put(StatMetric.LIKES, dailyStatRepository.countLikesPerDay(start, end));
+        counts.put(StatMetric.MESSAGES, dailyStatRepository.countMessagesPerDay(start, end));
+        counts.put(StatMetric.REGISTRATIONS, dailyStatRepository.countRegistrationsPerDay(start, end));
+        counts.put(StatMetric.ORDERS, dailyStatRepository.countOrdersPerDay(start, end));
+        return counts;
+    }
+
+    // ==================== DASHBOARD ====================
+    public AdminStats getAdminStats(int days) {
+        CachedStats cached = cache.get(days);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.stats();
+        }
+        AdminStats stats = buildAdminStats(days);
+        cache.put(days, new CachedStats(stats, System.currentTimeMillis() + cacheTtlMs));
+        return stats;
+    }
+
+    private AdminStats buildAdminStats(int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1L);
+
+        Map<LocalDate, Map<StatMetric, Long>> byDay = new TreeMap<>();
+        Map<String, Map<StatMetric, Long>> byDepartment = new HashMap<>();
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            byDay.put(day, emptyCounts());
+        }
+
+        // Finished days come from the rollup; today is still moving, so it is counted live
+        for (DailyStat stat : dailyStatRepository.findByStatDateBetween(from, today.minusDays(1))) {
+            add(byDay, byDepartment, stat.getStatDate(), stat.getDepartment(), stat.getMetric(), stat.getTotal());
+        }
+        count(today, today).forEach((metric, views) -> views.forEach(view ->
+                add(byDay, byDepartment, view.getDay(), departmentOf(view), metric, view.getTotal())));
+
+        List<DayStats> daily = new ArrayList<>();
+        byDay.forEach((day, counts) -> daily.add(new DayStats(day, counts)));
+        List<DepartmentStats> departments = new ArrayList<>();
+        byDepartment.forEach((department, counts) -> departments.add(new DepartmentStats(department, counts)));
+        departments.sort(Comparator.comparingLong((DepartmentStats stats) -> sum(stats.counts())).reversed());
+
+        return new AdminStats(LocalDateTime.now(), from, today, getTotals(), daily, departments);
+    }
+
+    private Map<String, Long> getTotals() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        totals.put("users", userRepository.count());
+        totals.put("activeUsers", userRepository.countByIsActive(true));
+        totals.put("posts", postRepository.count());
+        totals.put("publicPosts", postRepository.countByVisibility(PostVisibility.PUBLIC));
+        totals.put("comments", commentRepository.count());
+        totals.put("likes", likeRepository.count());
+        totals.put("messages", messageRepository.count());
+        totals.put("events", eventRepository.count());
+        totals.put("clubs", clubRepository.count());
+        totals.put("marketplaceItems", marketplaceItemRepository.count());
+        totals.put("marketplaceOrders", marketplaceOrderRepository.count());
+        totals.put("activeJobs", jobRepository.countByStatus("ACTIVE"));
+        totals.put("openReports", reportRepository.countByStatusIn(OPEN_REPORT_STATUSES));
+        return totals;
+    }
+
+    // ==================== HELPER METHODS ====================
+    private static void add(Map<LocalDate, Map<StatMetric, Long>> byDay, Map<String, Map<StatMetric, Long>> byDepartment,
+                            LocalDate day, String department, StatMetric metric, long total) {
+        Map<StatMetric, Long> dayCounts = byDay.get(day);
+        if (dayCounts != null) {
+            dayCounts.merge(metric, total, Long::sum);
+        }
+        byDepartment.computeIfAbsent(department, key -> emptyCounts()).merge(metric, total, Long::sum);
+    }
+
+    private static Map<StatMetric, Long> emptyCounts() {
+        Map<StatMetric, Long> counts = new EnumMap<>(StatMetric.class);
+        for (StatMetric metric : StatMetric.values()) {
+            counts.put(metric, 0L);
+        }
+        return counts;
+    }
+
+    private static long sum(Map<StatMetric, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static String departmentOf(DailyCountView view) {
+        String department = view.getDepartment();
+        return department == null || department.isBlank() ? NO_DEPARTMENT : department;
+    }
+}
@@ -2,6 +2,7 @@ package com.nustconnect.backend.Services;
 
 import com.nustconnect.backend.Enums.UserRole;
 import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.Projections.UserListView;
 import com.nustconnect.backend.Repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +20,7 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final JobRecommendationService jobRecommendationService;
 
     // ==================== CREATE ====================
     public User createUser(User user) {
@@ -50,35 +54,51 @@ public class UserService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByStudentId(String studentId) {
         return userRepository.findByStudentId(studentId);
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    // Hands each user to the consumer while the cursor is open, in userId order
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserListView> consumer) {
+        try (Stream<UserListView> users = userRepository.streamUserViews()) {
+            users.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<User> getUsersByRole(UserRole role) {
         return userRepository.findByRole(role);
     }
 
+    @Transactional(readOnly = true)
     public List<User> getUsersByDepartment(String department) {
         return userRepository.findByDepartment(department);
     }
 
+    @Transactional(readOnly = true)
     public List<User> getActiveUsers() {
         return userRepository.findByIsActive(true);
     }
 
+    @Transactional(readOnly = true)
     public List<User> searchUsers(String keyword) {
         return userRepository.searchUsers(keyword);
     }
@@ -93,6 +113,7 @@ public class UserService {
         }
         if (updatedUser.getDepartment() != null) {
             existingUser.setDepartment(updatedUser.getDepartment());
+            jobRecommendationService.invalidateUser(userId);
         }
         if (updatedUser.getPhoneNumber() != null) {
             existingUser.setPhoneNumber(updatedUser.getPhoneNumber());
@@ -184,34 +205,41 @@ public class UserService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isEmailAvailable(String email) {
         return !userRepository.existsByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public boolean isStudentIdAvailable(String studentId) {
         return !userRepository.existsByStudentId(studentId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isUserActive(Long userId) {
         User user = getUserById(userId);
         return user.getIsActive();
     }
 
+    @Transactional(readOnly = true)
     public boolean isEmailVerified(Long userId) {
         User user = getUserById(userId);
         return user.getIsEmailVerified();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalUserCount() {
         return userRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveUserCount() {
-        return userRepository.findByIsActive(true).size();
+        return userRepository.countByIsActive(true);
     }
 
+    @Transactional(readOnly = true)
     public long getUserCountByRole(UserRole role) {
-        return userRepository.findByRole(role).size();
+        return userRepository.countByRole(role);
     }
 }
\ No newline at end of file
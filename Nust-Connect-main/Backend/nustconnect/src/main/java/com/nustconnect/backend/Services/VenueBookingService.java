@@ -57,39 +57,48 @@ public class VenueBookingService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public VenueBooking getBookingById(Long bookingId) {
         return bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getAllBookings() {
         return bookingRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getBookingsByVenue(Long venueId) {
         return bookingRepository.findByVenueVenueId(venueId);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getBookingsByUser(Long userId) {
         return bookingRepository.findByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getBookingsByEvent(Long eventId) {
         return bookingRepository.findByEventEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getBookingsByStatus(VenueBookingStatus status) {
         return bookingRepository.findByApprovalStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getPendingBookings() {
         return bookingRepository.findByApprovalStatus(VenueBookingStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getApprovedBookings() {
         return bookingRepository.findByApprovalStatus(VenueBookingStatus.APPROVED);
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getRejectedBookings() {
         return bookingRepository.findByApprovalStatus(VenueBookingStatus.REJECTED);
     }
@@ -153,48 +162,58 @@ public class VenueBookingService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isVenueAvailable(Long venueId, LocalDateTime start, LocalDateTime end) {
         List<VenueBooking> conflicts = bookingRepository.findConflictingBookings(venueId, start, end);
         return conflicts.isEmpty();
     }
 
+    @Transactional(readOnly = true)
     public boolean isBookingOwner(Long bookingId, Long userId) {
         VenueBooking booking = getBookingById(bookingId);
         return booking.getUser().getUserId().equals(userId);
     }
 
+    @Transactional(readOnly = true)
     public boolean isBookingApproved(Long bookingId) {
         VenueBooking booking = getBookingById(bookingId);
         return booking.isApproved();
     }
 
+    @Transactional(readOnly = true)
     public boolean isBookingPending(Long bookingId) {
         VenueBooking booking = getBookingById(bookingId);
         return booking.isPending();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalBookingCount() {
         return bookingRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getApprovedBookingCount() {
-        return bookingRepository.findByApprovalStatus(VenueBookingStatus.APPROVED).size();
+        return bookingRepository.countByApprovalStatus(VenueBookingStatus.APPROVED);
     }
 
+    @Transactional(readOnly = true)
     public long getPendingBookingCount() {
-        return bookingRepository.findByApprovalStatus(VenueBookingStatus.PENDING).size();
+        return bookingRepository.countByApprovalStatus(VenueBookingStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public long getUserBookingCount(Long userId) {
-        return bookingRepository.findByUserUserId(userId).size();
+        return bookingRepository.countByUserUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getVenueBookingCount(Long venueId) {
-        return bookingRepository.findByVenueVenueId(venueId).size();
+        return bookingRepository.countByVenueVenueId(venueId);
     }
 
     // ==================== HELPER METHODS ====================
+    @Transactional(readOnly = true)
     public List<VenueBooking> getUpcomingBookings(Long venueId) {
         return bookingRepository.findByVenueVenueId(venueId).stream()
                 .filter(booking -> booking.getStartTime().isAfter(LocalDateTime.now()))
@@ -202,12 +221,14 @@ public class VenueBookingService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getPastBookings(Long venueId) {
         return bookingRepository.findByVenueVenueId(venueId).stream()
                 .filter(booking -> booking.getEndTime().isBefore(LocalDateTime.now()))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<VenueBooking> getTodaysBookings(Long venueId) {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
         LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
@@ -219,6 +240,7 @@ public class VenueBookingService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<LocalDateTime[]> getAvailableTimeSlots(Long venueId, LocalDateTime date) {
         // This could return available time slots for a given date
         // Implementation depends on business logic (e.g., 1-hour slots from 8 AM to 6 PM)
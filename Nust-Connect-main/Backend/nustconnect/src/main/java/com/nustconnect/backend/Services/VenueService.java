@@ -2,6 +2,7 @@ package com.nustconnect.backend.Services;
 
 import com.nustconnect.backend.Enums.VenueAvailability;
 import com.nustconnect.backend.Models.Venue;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
 import com.nustconnect.backend.Repositories.VenueRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -31,24 +32,34 @@ public class VenueService {
     }
 
     // ==================== READ ====================
+    @Transactional(readOnly = true)
     public Venue getVenueById(Long venueId) {
         return venueRepository.findById(venueId)
                 .orElseThrow(() -> new IllegalArgumentException("Venue not found with id: " + venueId));
     }
 
+    @Transactional(readOnly = true)
     public Venue getVenueByName(String name) {
         return venueRepository.findByName(name)
                 .orElseThrow(() -> new IllegalArgumentException("Venue not found with name: " + name));
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getAllVenues() {
         return venueRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public ListVersionView getAllVenuesVersion() {
+        return venueRepository.findAllVersion();
+    }
+
+    @Transactional(readOnly = true)
     public List<Venue> getAvailableVenues() {
         return venueRepository.findByAvailabilityStatus("AVAILABLE");
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesByMinCapacity(Integer minCapacity) {
         return venueRepository.findByMinimumCapacity(minCapacity);
     }
@@ -119,63 +130,75 @@ public class VenueService {
     }
 
     // ==================== VALIDATION ====================
+    @Transactional(readOnly = true)
     public boolean isVenueAvailable(Long venueId) {
         Venue venue = getVenueById(venueId);
         return venue.isAvailableForBooking();
     }
 
+    @Transactional(readOnly = true)
     public boolean isVenueNameAvailable(String name) {
         return venueRepository.findByName(name).isEmpty();
     }
 
+    @Transactional(readOnly = true)
     public boolean hasCapacity(Long venueId, Integer requiredCapacity) {
         Venue venue = getVenueById(venueId);
         return venue.getCapacity() >= requiredCapacity;
     }
 
+    @Transactional(readOnly = true)
     public boolean hasProjector(Long venueId) {
         Venue venue = getVenueById(venueId);
         return venue.getHasProjector();
     }
 
+    @Transactional(readOnly = true)
     public boolean hasAudioSystem(Long venueId) {
         Venue venue = getVenueById(venueId);
         return venue.getHasAudioSystem();
     }
 
+    @Transactional(readOnly = true)
     public boolean hasWhiteboard(Long venueId) {
         Venue venue = getVenueById(venueId);
         return venue.getHasWhiteboard();
     }
 
     // ==================== STATISTICS ====================
+    @Transactional(readOnly = true)
     public long getTotalVenueCount() {
         return venueRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getAvailableVenueCount() {
-        return venueRepository.findByAvailabilityStatus("AVAILABLE").size();
+        return venueRepository.countByAvailabilityStatus("AVAILABLE");
     }
 
     // ==================== SEARCH/FILTER ====================
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesWithProjector() {
         return getAllVenues().stream()
                 .filter(Venue::getHasProjector)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesWithAudioSystem() {
         return getAllVenues().stream()
                 .filter(Venue::getHasAudioSystem)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesWithWhiteboard() {
         return getAllVenues().stream()
                 .filter(Venue::getHasWhiteboard)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesWithAllAmenities() {
         return getAllVenues().stream()
                 .filter(v -> v.getHasProjector() && v.getHasAudioSystem() && v.getHasWhiteboard())
@@ -0,0 +1,203 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.ViewTargetType;
+import com.nustconnect.backend.Models.ViewStatistic;
+import com.nustconnect.backend.Repositories.ViewStatisticRepository;
+import com.nustconnect.backend.Utils.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewTrackingService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewStatisticRepository statisticRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<ViewKey, PendingViews> pending = new ConcurrentHashMap<>();
+
+    public record ViewStats(ViewTargetType targetType, Long targetId, long totalViews,
+                            long uniqueViewers, long pendingViews) {
+    }
+
+    private record ViewKey(ViewTargetType type, Long id) {
+    }
+
+    // Only touched inside ConcurrentHashMap.compute/merge, which lock the key
+    private static final class PendingViews {
+        private long count;
+        private final HyperLogLog viewers = new HyperLogLog();
+        private LocalDateTime lastViewedAt;
+
+        private void mergeFrom(PendingViews other) {
+            count += other.count;
+            viewers.merge(other.viewers);
+            if (lastViewedAt == null || (other.lastViewedAt != null && other.lastViewedAt.isAfter(lastViewedAt))) {
+                lastViewedAt = other.lastViewedAt;
+            }
+        }
+    }
+
+    // ==================== RECORD ====================
+    public void recordView(ViewTargetType type, Long targetId, HttpServletRequest request) {
+        recordView(type, targetId, resolveViewerKey(request));
+    }
+
+    public void recordView(ViewTargetType type, Long targetId, String viewerKey) {
+        long viewerHash = HyperLogLog.hash64(viewerKey);
+        LocalDateTime now = LocalDateTime.now();
+        pending.compute(new ViewKey(type, targetId), (key, views) -> {
+            if (views == null) {
+                views = new PendingViews();
+            }
+            views.count++;
+            views.viewers.addHash(viewerHash);
+            views.lastViewedAt = now;
+            return views;
+        });
+    }
+
+    // ==================== READ ====================
+    public long getPendingViews(ViewTargetType type, Long targetId) {
+        long[] count = new long[1];
+        pending.computeIfPresent(new ViewKey(type, targetId), (key, views) -> {
+            count[0] = views.count;
+            return views;
+        });
+        return count[0];
+    }
+
+    public int getCurrentViewCount(ViewTargetType type, Long targetId, Integer persistedViewCount) {
+        long persisted = persistedViewCount != null ? persistedViewCount : 0;
+        return (int) Math.min(Integer.MAX_VALUE, persisted + getPendingViews(type, targetId));
+    }
+
+    public ViewStats getStats(ViewTargetType type, Long targetId, Integer persistedViewCount) {
+        HyperLogLog viewers = statisticRepository.findByTargetTypeAndTargetId(type, targetId)
+                .map(stat -> HyperLogLog.fromBytes(stat.getViewerSketch()))
+                .orElseGet(HyperLogLog::new);
+
+        long[] pendingCount = new long[1];
+        pending.computeIfPresent(new ViewKey(type, targetId), (key, views) -> {
+            pendingCount[0] = views.count;
+            viewers.merge(views.viewers);
+            return views;
+        });
+
+        long persisted = persistedViewCount != null ? persistedViewCount : 0;
+        return new ViewStats(type, targetId, persisted + pendingCount[0], viewers.estimate(), pendingCount[0]);
+    }
+
+    // ==================== FLUSH ====================
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:30000}")
+    public void flush() {
+        Map<ViewKey, PendingViews> drained = new HashMap<>();
+        for (ViewKey key : new ArrayList<>(pending.keySet())) {
+            PendingViews views = pending.remove(key);
+            if (views != null) {
+                drained.put(key, views);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(drained));
+            log.debug("Flushed view counts for {} entities", drained.size());
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them
+            log.error("Failed to flush view counts for {} entities", drained.size(), e);
+            drained.forEach((key, views) -> pending.merge(key, views, (current, failed) -> {
+                current.mergeFrom(failed);
+                return current;
+            }));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void persist(Map<ViewKey, PendingViews> drained) {
+        Map<ViewTargetType, Map<Long, PendingViews>> byType = new EnumMap<>(ViewTargetType.class);
+        drained.forEach((key, views) -> byType.computeIfAbsent(key.type(), type -> new HashMap<>()).put(key.id(), views));
+
+        List<ViewStatistic> statistics = new ArrayList<>();
+        byType.forEach((type, views) -> {
+            List<Object[]> args = new ArrayList<>(views.size());
+            views.forEach((id, pendingViews) -> args.add(new Object[]{pendingViews.count, id}));
+            jdbcTemplate.batchUpdate(
+                    "UPDATE " + tableName(type) + " SET view_count = COALESCE(view_count, 0) + ? WHERE " + idColumn(type) + " = ?",
+                    args);
+
+            Map<Long, ViewStatistic> existing = statisticRepository.findByTargetTypeAndTargetIdIn(type, views.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(ViewStatistic::getTargetId, Function.identity()));
+
+            views.forEach((id, pendingViews) -> {
+                ViewStatistic statistic = existing.getOrDefault(id, ViewStatistic.builder()
+                        .targetType(type)
+                        .targetId(id)
+                        .build());
+                HyperLogLog viewers = HyperLogLog.fromBytes(statistic.getViewerSketch());
+                viewers.merge(pendingViews.viewers);
+
+                statistic.setViewerSketch(viewers.toBytes());
+                statistic.setUniqueViewers(viewers.estimate());
+                statistic.setTrackedViews(statistic.getTrackedViews() + pendingViews.count);
+                statistic.setLastViewedAt(pendingViews.lastViewedAt);
+                statistics.add(statistic);
+            });
+        });
+        statisticRepository.saveAll(statistics);
+    }
+
+    // ==================== HELPER METHODS ====================
+    private String resolveViewerKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private String tableName(ViewTargetType type) {
+        return switch (type) {
+            case MARKETPLACE_ITEM -> "marketplace_item";
+            case JOB_POSTING -> "job_posting";
+            case ANNOUNCEMENT -> "announcement";
+        };
+    }
+
+    private String idColumn(ViewTargetType type) {
+        return switch (type) {
+            case MARKETPLACE_ITEM -> "id";
+            case JOB_POSTING -> "job_id";
+            case ANNOUNCEMENT -> "announcement_id";
+        };
+    }
+}
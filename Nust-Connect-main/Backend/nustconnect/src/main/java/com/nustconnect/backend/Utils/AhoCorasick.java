@@ -0,0 +1,171 @@
+package com.nustconnect.backend.Utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Aho-Corasick automaton: finds every occurrence of every pattern in one pass over the text.
+// Immutable once built, so one instance can be shared by all request threads.
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    // Per state: sorted edge labels and their target states, searched with a binary search
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // Patterns ending in a state, including those reached through failure links
+    private final int[][] outputs;
+    private final int[] patternLengths;
+
+    public record Match(int pattern, int start, int end) {
+    }
+
+    @FunctionalInterface
+    public interface MatchVisitor {
+        // Return false to stop scanning
+        boolean visit(int pattern, int start, int end);
+    }
+
+    private AhoCorasick(char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs, int[] patternLengths) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.patternLengths = patternLengths;
+    }
+
+    // ==================== BUILD ====================
+    public static AhoCorasick build(List<String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        int[] patternLengths = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternLengths[p] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    trie.get(state).put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            ends.get(state).add(p);
+        }
+
+        int states = trie.size();
+        char[][] edgeChars = new char[states][];
+        int[][] edgeTargets = new int[states][];
+        for (int s = 0; s < states; s++) {
+            TreeMap<Character, Integer> edges = trie.get(s);
+            edgeChars[s] = new char[edges.size()];
+            edgeTargets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[s][i] = edge.getKey();
+                edgeTargets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth-first, so a state's failure target always has its outputs merged already
+        int[] failure = new int[states];
+        int[][] outputs = new int[states][];
+        outputs[ROOT] = toArray(ends.get(ROOT));
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[ROOT]) {
+            failure[target] = ROOT;
+            outputs[target] = toArray(ends.get(target));
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && step(edgeChars, edgeTargets, fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = step(edgeChars, edgeTargets, fallback, c);
+                failure[child] = target >= 0 && target != child ? target : ROOT;
+                outputs[child] = merge(toArray(ends.get(child)), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+        return new AhoCorasick(edgeChars, edgeTargets, failure, outputs, patternLengths);
+    }
+
+    // ==================== SEARCH ====================
+    public void scan(CharSequence text, MatchVisitor visitor) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = step(edgeChars, edgeTargets, state, c);
+            while (next < 0 && state != ROOT) {
+                state = failure[state];
+                next = step(edgeChars, edgeTargets, state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int pattern : outputs[state]) {
+                if (!visitor.visit(pattern, i + 1 - patternLengths[pattern], i + 1)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        scan(text, (pattern, start, end) -> matches.add(new Match(pattern, start, end)));
+        return matches;
+    }
+
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    public int stateCount() {
+        return failure.length;
+    }
+
+    // ==================== HELPER METHODS ====================
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        if (own.length == 0) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+        return merged;
+    }
+}
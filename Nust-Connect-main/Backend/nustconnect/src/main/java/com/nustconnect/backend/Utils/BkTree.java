@@ -0,0 +1,105 @@
+package com.nustconnect.backend.Utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Burkhard-Keller tree over 64-bit hashes with Hamming distance. Not thread-safe.
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    public record Match(long id, long hash, int distance) {
+    }
+
+    private static final class Node {
+        private final long hash;
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(long hash) {
+            this.hash = hash;
+        }
+    }
+
+    // ==================== MUTATION ====================
+    public void add(long hash, long id) {
+        if (root == null) {
+            root = new Node(hash);
+        }
+        Node node = root;
+        while (true) {
+            int distance = PerceptualHash.distance(hash, node.hash);
+            if (distance == 0) {
+                if (node.ids.add(id)) {
+                    size++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(hash);
+                node.children.put(distance, child);
+            }
+            node = child;
+        }
+    }
+
+    // Nodes stay in place as routing points even when their last id is removed
+    public boolean remove(long hash, long id) {
+        Node node = root;
+        while (node != null) {
+            int distance = PerceptualHash.distance(hash, node.hash);
+            if (distance == 0) {
+                boolean removed = node.ids.remove(id);
+                if (removed) {
+                    size--;
+                }
+                return removed;
+            }
+            node = node.children.get(distance);
+        }
+        return false;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ==================== SEARCH ====================
+    public List<Match> search(long hash, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = PerceptualHash.distance(hash, node.hash);
+            if (distance <= maxDistance) {
+                for (Long id : node.ids) {
+                    matches.add(new Match(id, node.hash, distance));
+                }
+            }
+            // Triangle inequality: only children whose edge lies within [d - max, d + max] can hold matches
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,8 @@
+package com.nustconnect.backend.Utils;
+
+public record GeoPoint(double latitude, double longitude) {
+
+    public double distanceKmTo(GeoPoint other) {
+        return GeoHash.distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+}
@@ -0,0 +1,193 @@
+package com.nustconnect.backend.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Not thread-safe; callers synchronize around a sketch.
+public class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 11; // 2048 registers, ~2.3% standard error
+
+    private static final int SPARSE_LIMIT = 64;
+
+    private final int precision;
+    private final int registerCount;
+
+    // Few viewers per flush interval is the common case, so start with a short list of
+    // (register << 8 | rank) entries and only allocate the full register array when it fills up
+    private int[] sparse = new int[8];
+    private int sparseSize;
+    private byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("Precision must be between 4 and 16");
+        }
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+    }
+
+    // ==================== ADD ====================
+    public void add(String value) {
+        addHash(hash64(value));
+    }
+
+    public void add(long value) {
+        addHash(mix64(value));
+    }
+
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        update(index, (byte) Math.min(rank, 64 - precision + 1));
+    }
+
+    private void update(int index, byte rank) {
+        if (registers != null) {
+            if (rank > registers[index]) {
+                registers[index] = rank;
+            }
+            return;
+        }
+
+        for (int i = 0; i < sparseSize; i++) {
+            if ((sparse[i] >>> 8) == index) {
+                if (rank > (sparse[i] & 0xFF)) {
+                    sparse[i] = (index << 8) | rank;
+                }
+                return;
+            }
+        }
+
+        if (sparseSize == SPARSE_LIMIT) {
+            densify();
+            update(index, rank);
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, SPARSE_LIMIT));
+        }
+        sparse[sparseSize++] = (index << 8) | rank;
+    }
+
+    private void densify() {
+        registers = new byte[registerCount];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    // ==================== ESTIMATE ====================
+    public long estimate() {
+        if (registers == null) {
+            // Every sparse entry is a distinct non-empty register
+            return linearCount(registerCount - sparseSize);
+        }
+
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha() * registerCount * (double) registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            return linearCount(zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private long linearCount(int zeros) {
+        if (zeros == registerCount) {
+            return 0;
+        }
+        return Math.round(registerCount * Math.log((double) registerCount / zeros));
+    }
+
+    private double alpha() {
+        return switch (registerCount) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / registerCount);
+        };
+    }
+
+    // ==================== MERGE ====================
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of different precision");
+        }
+        if (other.registers == null) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                update(other.sparse[i] >>> 8, (byte) (other.sparse[i] & 0xFF));
+            }
+            return;
+        }
+        if (registers == null) {
+            densify();
+        }
+        for (int i = 0; i < registerCount; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    // ==================== SERIALIZATION ====================
+    // Layout: [precision][registers...]
+    public byte[] toBytes() {
+        byte[] bytes = new byte[registerCount + 1];
+        bytes[0] = (byte) precision;
+        if (registers != null) {
+            System.arraycopy(registers, 0, bytes, 1, registerCount);
+        } else {
+            for (int i = 0; i < sparseSize; i++) {
+                bytes[1 + (sparse[i] >>> 8)] = (byte) (sparse[i] & 0xFF);
+            }
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 2) {
+            return new HyperLogLog();
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[0]);
+        if (bytes.length != sketch.registerCount + 1) {
+            throw new IllegalArgumentException("Corrupt HyperLogLog sketch");
+        }
+        sketch.registers = Arrays.copyOfRange(bytes, 1, bytes.length);
+        sketch.sparse = null;
+        return sketch;
+    }
+
+    // ==================== HASHING ====================
+    public static long hash64(String value) {
+        // FNV-1a over UTF-8 bytes, finished with the murmur3 mixer for good high bits
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    public static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb1a2d5b2c70bL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,263 @@
+package com.nustconnect.backend.Utils;
+
+import java.util.Arrays;
+
+// Undirected graph over long ids with no boxing: an open-addressing table of node ids, each
+// pointing at a sorted long[] of neighbours. Edge lookups are a binary search, intersections a
+// linear merge. Not thread-safe; callers synchronize around a graph.
+public class LongAdjacencyGraph {
+
+    private static final long[] NO_NEIGHBOURS = new long[0];
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[][] neighbours;
+    private boolean[] used;
+    private int nodeCount;
+    private long edgeCount;
+
+    // Friends of friends, with how many of the node's friends each one is connected to
+    public record SecondDegree(long[] ids, int[] mutualCounts) {
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    public LongAdjacencyGraph() {
+        this(1024);
+    }
+
+    public LongAdjacencyGraph(int expectedNodes) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedNodes / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        neighbours = new long[capacity][];
+        used = new boolean[capacity];
+    }
+
+    // ==================== MUTATION ====================
+    public boolean addEdge(long a, long b) {
+        if (a == b) {
+            return false;
+        }
+        boolean added = insert(a, b);
+        insert(b, a);
+        if (added) {
+            edgeCount++;
+        }
+        return added;
+    }
+
+    public boolean removeEdge(long a, long b) {
+        boolean removed = delete(a, b);
+        delete(b, a);
+        if (removed) {
+            edgeCount--;
+        }
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(neighbours, null);
+        nodeCount = 0;
+        edgeCount = 0;
+    }
+
+    // ==================== QUERIES ====================
+    public boolean hasEdge(long a, long b) {
+        return Arrays.binarySearch(neighbours(a), b) >= 0;
+    }
+
+    public int degree(long node) {
+        return neighbours(node).length;
+    }
+
+    // Sorted; callers must not modify the returned array
+    public long[] neighbours(long node) {
+        int slot = find(node);
+        return slot >= 0 ? neighbours[slot] : NO_NEIGHBOURS;
+    }
+
+    public long[] common(long a, long b) {
+        long[] left = neighbours(a);
+        long[] right = neighbours(b);
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    public int commonCount(long a, long b) {
+        long[] left = neighbours(a);
+        long[] right = neighbours(b);
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    // Nodes exactly two hops away, i.e. not the node itself and not already a neighbour.
+    // Concatenates the neighbours' lists and sorts once, so the cost is O(s log s) in the
+    // number of two-hop paths with no per-candidate hashing.
+    public SecondDegree secondDegree(long node) {
+        long[] direct = neighbours(node);
+        int paths = 0;
+        for (long friend : direct) {
+            paths += degree(friend);
+        }
+        long[] all = new long[paths];
+        int offset = 0;
+        for (long friend : direct) {
+            long[] next = neighbours(friend);
+            System.arraycopy(next, 0, all, offset, next.length);
+            offset += next.length;
+        }
+        Arrays.sort(all);
+
+        long[] ids = new long[all.length];
+        int[] counts = new int[all.length];
+        int size = 0;
+        int i = 0;
+        while (i < all.length) {
+            long candidate = all[i];
+            int run = 0;
+            while (i < all.length && all[i] == candidate) {
+                run++;
+                i++;
+            }
+            if (candidate != node && Arrays.binarySearch(direct, candidate) < 0) {
+                ids[size] = candidate;
+                counts[size] = run;
+                size++;
+            }
+        }
+        return new SecondDegree(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    // ==================== HASH TABLE ====================
+    private boolean insert(long node, long neighbour) {
+        int slot = findOrCreate(node);
+        long[] current = neighbours[slot];
+        int index = Arrays.binarySearch(current, neighbour);
+        if (index >= 0) {
+            return false;
+        }
+        int at = -index - 1;
+        long[] updated = new long[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, at);
+        updated[at] = neighbour;
+        System.arraycopy(current, at, updated, at + 1, current.length - at);
+        neighbours[slot] = updated;
+        return true;
+    }
+
+    private boolean delete(long node, long neighbour) {
+        int slot = find(node);
+        if (slot < 0) {
+            return false;
+        }
+        long[] current = neighbours[slot];
+        int at = Arrays.binarySearch(current, neighbour);
+        if (at < 0) {
+            return false;
+        }
+        long[] updated = new long[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, at);
+        System.arraycopy(current, at + 1, updated, at, current.length - at - 1);
+        // Nodes stay in the table with an empty list; removing them would break the probe chains
+        neighbours[slot] = updated.length == 0 ? NO_NEIGHBOURS : updated;
+        return true;
+    }
+
+    private int find(long node) {
+        int mask = keys.length - 1;
+        int slot = mix(node) & mask;
+        while (used[slot]) {
+            if (keys[slot] == node) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findOrCreate(long node) {
+        int slot = find(node);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (nodeCount + 1 > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        slot = mix(node) & mask;
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = node;
+        neighbours[slot] = NO_NEIGHBOURS;
+        nodeCount++;
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[][] oldNeighbours = neighbours;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        neighbours = new long[oldKeys.length * 2][];
+        used = new boolean[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            keys[slot] = oldKeys[i];
+            neighbours[slot] = oldNeighbours[i];
+        }
+    }
+
+    // Sequential database ids would cluster badly in a linear-probing table without mixing
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,78 @@
+package com.nustconnect.backend.Utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Immutable once built, so one instance can be shared across threads.
+public class MinHash {
+
+    private final long[] seeds;
+    private final int bands;
+    private final int rowsPerBand;
+
+    public MinHash(int bands, int rowsPerBand, long seed) {
+        if (bands < 1 || rowsPerBand < 1) {
+            throw new IllegalArgumentException("Bands and rows per band must be positive");
+        }
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.seeds = new long[bands * rowsPerBand];
+        long state = seed;
+        for (int i = 0; i < seeds.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = HyperLogLog.mix64(state);
+        }
+    }
+
+    // ==================== SIGNATURES ====================
+    public long[] signature(Collection<String> shingles) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = HyperLogLog.hash64(shingle);
+            for (int i = 0; i < seeds.length; i++) {
+                long value = HyperLogLog.mix64(hash ^ seeds[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Fraction of agreeing slots, an unbiased estimate of the Jaccard similarity of the shingle sets
+    public static double similarity(long[] a, long[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Signatures have different lengths");
+        }
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i] && a[i] != Long.MAX_VALUE) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // ==================== LSH ====================
+    // One key per band; two sets share a bucket in some band with probability 1 - (1 - J^rows)^bands
+    public long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rowsPerBand; row++) {
+                key = HyperLogLog.mix64(key * 31 + signature[band * rowsPerBand + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    public int getBands() {
+        return bands;
+    }
+
+    public int getSignatureLength() {
+        return seeds.length;
+    }
+}
@@ -0,0 +1,64 @@
+package com.nustconnect.backend.Utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+// Writes one JSON document per line (application/x-ndjson) straight to the response stream. Only the
+// generator's buffer is held, so memory does not grow with the number of rows. The stream is flushed
+// every flushEvery rows so clients see progress; closing flushes the rest but leaves the stream open.
+// Write failures, usually a client that went away, come out as UncheckedIOException so they can
+// escape a Consumer and end the caller's cursor.
+public final class NdjsonWriter implements AutoCloseable {
+
+    private static final int DEFAULT_FLUSH_EVERY = 100;
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final int flushEvery;
+    private int unflushed;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        this(objectMapper, out, DEFAULT_FLUSH_EVERY);
+    }
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out, int flushEvery) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Without a separator between root values; each line ends with its own newline instead
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    public void write(Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (++unflushed >= flushEvery) {
+                generator.flush();
+                unflushed = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.nustconnect.backend.Utils;
+
+import java.awt.image.BufferedImage;
+
+public final class PerceptualHash {
+
+    private static final int HASH_WIDTH = 8;
+    private static final int HASH_HEIGHT = 8;
+
+    private PerceptualHash() {
+    }
+
+    // ==================== HASHING ====================
+    // dHash: shrink to 9x8 grey levels and record whether each cell is darker than its right
+    // neighbour. Survives rescaling, recompression and brightness changes.
+    public static long dHash(BufferedImage image) {
+        double[][] luma = shrink(image, HASH_WIDTH + 1, HASH_HEIGHT);
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH; x++) {
+                hash <<= 1;
+                if (luma[y][x] < luma[y][x + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // ==================== HELPER METHODS ====================
+    // Box-average every source pixel into its target cell; plain interpolation aliases badly on large photos
+    private static double[][] shrink(BufferedImage image, int width, int height) {
+        int sourceWidth = image.getWidth();
+        int sourceHeight = image.getHeight();
+        double[][] sums = new double[height][width];
+        int[][] counts = new int[height][width];
+        int[] row = new int[sourceWidth];
+
+        for (int sy = 0; sy < sourceHeight; sy++) {
+            image.getRGB(0, sy, sourceWidth, 1, row, 0, sourceWidth);
+            int ty = (int) ((long) sy * height / sourceHeight);
+            for (int sx = 0; sx < sourceWidth; sx++) {
+                int tx = (int) ((long) sx * width / sourceWidth);
+                int rgb = row[sx];
+                int r = (rgb >> 16) & 0xFF;
+                int g = (rgb >> 8) & 0xFF;
+                int b = rgb & 0xFF;
+                sums[ty][tx] += 0.299 * r + 0.587 * g + 0.114 * b;
+                counts[ty][tx]++;
+            }
+        }
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (counts[y][x] > 0) {
+                    sums[y][x] /= counts[y][x];
+                }
+            }
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,56 @@
+package com.nustconnect.backend.Utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// ETag and Last-Modified for a conditional GET, built from what identifies a version of the resource:
+// updated_at for one row; row count, highest id and newest updated_at for a list, so deletes and
+// expiries change the tag too. Checked before the response is mapped, so an unchanged poll costs one
+// small query and a 304. Tags are weak: equal tags promise the same content, not the same bytes.
+public final class ResourceVersion {
+
+    // Clients may keep the response but must revalidate it; private because most of these need a login
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final String etag;
+    private final long lastModified;
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // Every part goes into the tag; the newest LocalDateTime among them becomes Last-Modified
+    public static ResourceVersion of(String resource, Object... parts) {
+        StringBuilder key = new StringBuilder(resource);
+        LocalDateTime newest = null;
+        for (Object part : parts) {
+            key.append('|').append(part);
+            if (part instanceof LocalDateTime time && (newest == null || time.isAfter(newest))) {
+                newest = time;
+            }
+        }
+        String hash = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+        long lastModified = newest != null ? newest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        return new ResourceVersion("W/\"" + hash + "\"", lastModified);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    // Sets the validators on the response either way; true means a 304 has been prepared and the
+    // handler should return null without building a body
+    public boolean checkNotModified(WebRequest request) {
+        if (request instanceof ServletWebRequest servlet && servlet.getResponse() != null) {
+            servlet.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,297 @@
+package com.nustconnect.backend.Benchmarks;
+
+import com.nustconnect.backend.Config.JwtAuthenticationFilter;
+import com.nustconnect.backend.Controllers.EventController;
+import com.nustconnect.backend.Controllers.PostController;
+import com.nustconnect.backend.Enums.ClubCategory;
+import com.nustconnect.backend.Enums.EventApprovalStatus;
+import com.nustconnect.backend.Models.Club;
+import com.nustconnect.backend.Models.Event;
+import com.nustconnect.backend.Models.JobPosting;
+import com.nustconnect.backend.Models.Post;
+import com.nustconnect.backend.Models.Profile;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.NustconnectApplication;
+import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.EventRepository;
+import com.nustconnect.backend.Repositories.JobPostingRepository;
+import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.ProfileRepository;
+import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Services.ClubService;
+import com.nustconnect.backend.Services.CustomUserDetailsService;
+import com.nustconnect.backend.Services.EventRegistrationService;
+import com.nustconnect.backend.Services.JobPostingService;
+import com.nustconnect.backend.Services.JwtService;
+import com.nustconnect.backend.Services.LikeService;
+import com.nustconnect.backend.Services.UserService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Hot paths through the real Spring context on the in-memory H2 "test" profile, seeded with a
+// fixed dataset so runs on different commits are comparable. Controller calls run inside a
+// read-only transaction, like a request under open-in-view.
+// Run main() after mvn test-compile, or mvn -P benchmarks test-compile exec:exec
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationBenchmark {
+
+    private static final int USERS = 500;
+    private static final int POSTS = 5000;
+    private static final int CLUBS = 50;
+    private static final int EVENTS = 300;
+    private static final int JOBS = 300;
+
+    private static final String[] DEPARTMENTS = {"SEECS", "SMME", "NBS", "SCME", "S3H", "SADA"};
+    private static final String[] TOPICS = {"robotics", "finals", "hackathon", "football", "internship",
+            "library", "carpool", "calculus", "startup", "photography"};
+
+    // Search terms with many matches and with none; only the search benchmarks take this state
+    @State(Scope.Benchmark)
+    public static class SearchTerm {
+
+        @Param({"robotics", "zzz"})
+        private String keyword;
+    }
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private PostController postController;
+    private EventController eventController;
+    private LikeService likeService;
+    private EventRegistrationService registrationService;
+    private UserService userService;
+    private ClubService clubService;
+    private JobPostingService jobPostingService;
+    private JwtAuthenticationFilter jwtFilter;
+
+    private Long likerId;
+    private Long likedPostId;
+    private Long postId;
+    private Long registrantId;
+    private Long eventId;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(NustconnectApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Command-line style, so they win over application-test.properties
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.nustconnect.backend=WARN",
+                        "--sql.capture.enabled=false",
+                        "--suggestions.initial-delay-ms=3600000",
+                        "--lifecycle.sweep-interval-ms=3600000",
+                        "--views.flush-interval-ms=3600000");
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        postController = context.getBean(PostController.class);
+        eventController = context.getBean(EventController.class);
+        likeService = context.getBean(LikeService.class);
+        registrationService = context.getBean(EventRegistrationService.class);
+        userService = context.getBean(UserService.class);
+        clubService = context.getBean(ClubService.class);
+        jobPostingService = context.getBean(JobPostingService.class);
+        jwtFilter = new JwtAuthenticationFilter(context.getBean(JwtService.class),
+                context.getBean(CustomUserDetailsService.class));
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    // ==================== CONTROLLER MAPPING ====================
+    @Benchmark
+    public Object postFeedPage() {
+        return readOnly.execute(status -> postController.getAllPosts(0, 20, null).getBody());
+    }
+
+    @Benchmark
+    public Object postById() {
+        return readOnly.execute(status -> postController.getPostById(postId, null).getBody());
+    }
+
+    @Benchmark
+    public Object eventPage() {
+        return readOnly.execute(status -> eventController.getAllEvents(0, 20).getBody());
+    }
+
+    @Benchmark
+    public Object upcomingEvents() {
+        return readOnly.execute(status -> eventController.getUpcomingEvents().getBody());
+    }
+
+    // ==================== WRITES ====================
+    // Alternates like and unlike on the same pair, so the like table stays the same size
+    @Benchmark
+    public void toggleLike() {
+        likeService.toggleLike(likerId, likedPostId);
+    }
+
+    // Deleted again right away; registering twice for the same event is rejected
+    @Benchmark
+    public void registerForEvent() {
+        Long registrationId = registrationService.registerForEvent(registrantId, eventId).getRegistrationId();
+        registrationService.deleteRegistration(registrationId);
+    }
+
+    // ==================== SEARCH ====================
+    @Benchmark
+    public int searchUsers(SearchTerm term) {
+        return userService.searchUsers(term.keyword).size();
+    }
+
+    @Benchmark
+    public int searchClubs(SearchTerm term) {
+        return clubService.searchClubs(term.keyword).size();
+    }
+
+    @Benchmark
+    public int searchJobs(SearchTerm term) {
+        return jobPostingService.searchJobs(term.keyword).size();
+    }
+
+    // ==================== AUTHENTICATION ====================
+    // The full filter, including loading the user by email from the database
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.setServletPath("/api/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // ==================== DATASET ====================
+    private void seed() {
+        Random random = new Random(42);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProfileRepository profileRepository = context.getBean(ProfileRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        ClubRepository clubRepository = context.getBean(ClubRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        JobPostingRepository jobRepository = context.getBean(JobPostingRepository.class);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("Student " + i + " " + TOPICS[i % TOPICS.length])
+                    .email("student" + i + "@nust.edu.pk")
+                    .passwordHash("hash")
+                    .department(DEPARTMENTS[i % DEPARTMENTS.length])
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+        List<Profile> profiles = new ArrayList<>();
+        for (User user : users) {
+            profiles.add(Profile.builder().user(user).profilePicture("/uploads/" + user.getUserId() + ".png").build());
+        }
+        profileRepository.saveAll(profiles);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(Post.builder()
+                    .user(users.get(random.nextInt(USERS)))
+                    .contentText("Anyone up for " + TOPICS[random.nextInt(TOPICS.length)] + " this weekend? #" + i)
+                    .build());
+        }
+        posts = postRepository.saveAll(posts);
+
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < CLUBS; i++) {
+            clubs.add(Club.builder()
+                    .name(TOPICS[i % TOPICS.length] + " society " + i)
+                    .description("Weekly meetups about " + TOPICS[(i + 3) % TOPICS.length])
+                    .category(ClubCategory.values()[i % ClubCategory.values().length])
+                    .createdBy(users.get(i))
+                    .build());
+        }
+        clubs = clubRepository.saveAll(clubs);
+
+        List<Event> events = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = now.plusDays(1 + random.nextInt(60)).withNano(0);
+            events.add(Event.builder()
+                    .title(TOPICS[i % TOPICS.length] + " meetup " + i)
+                    .description("Open to all departments")
+                    .startTime(start)
+                    .endTime(start.plusHours(2))
+                    .club(clubs.get(i % CLUBS))
+                    .createdBy(users.get(i % USERS))
+                    .approvalStatus(EventApprovalStatus.APPROVED)
+                    .build());
+        }
+        events = eventRepository.saveAll(events);
+
+        List<JobPosting> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add(JobPosting.builder()
+                    .title(TOPICS[i % TOPICS.length] + " intern " + i)
+                    .description("Summer position, " + DEPARTMENTS[i % DEPARTMENTS.length] + " students preferred")
+                    .companyName("Company " + (i % 40))
+                    .postedBy(users.get(i % USERS))
+                    .build());
+        }
+        jobRepository.saveAll(jobs);
+
+        likerId = users.get(1).getUserId();
+        likedPostId = posts.get(0).getPostId();
+        postId = posts.get(POSTS / 2).getPostId();
+        registrantId = users.get(2).getUserId();
+        eventId = events.get(0).getEventId();
+        UserDetails details = context.getBean(CustomUserDetailsService.class).loadUserByUsername(users.get(3).getEmail());
+        token = context.getBean(JwtService.class).generateToken(details);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApplicationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.nustconnect.backend.Benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compares two JMH JSON result files (-rf json), e.g. the run before and after a change:
+//   java -cp <test classpath> com.nustconnect.backend.Benchmarks.BenchmarkComparison base.json new.json
+// Benchmarks whose change is within the combined error margin are marked "~".
+public class BenchmarkComparison {
+
+    private record Score(double value, double error, String unit) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> candidate = read(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        candidate.forEach((name, score) -> {
+            Score before = baseline.get(name);
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", name, "-", score.value(), "new");
+                return;
+            }
+            double change = (score.value() - before.value()) / before.value() * 100;
+            boolean noise = Math.abs(score.value() - before.value()) <= before.error() + score.error();
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s %s%n", name, before.value(), score.value(), change,
+                    noise ? "~" : " ", score.unit());
+        });
+        baseline.keySet().stream()
+                .filter(name -> !candidate.containsKey(name))
+                .forEach(name -> System.out.printf("%-70s %14.3f %14s %9s%n", name, baseline.get(name).value(),
+                        "-", "removed"));
+    }
+
+    // Keyed by benchmark method plus its @Param values, so each parameter combination is compared on its own
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder name = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.nustconnect.backend.Benchmarks.", ""));
+            JsonNode params = result.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble();
+            scores.put(name.toString(), new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,91 @@
+package com.nustconnect.backend.Benchmarks;
+
+import com.nustconnect.backend.Utils.AhoCorasick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Screening cost per post: one automaton pass vs. a contains() per banned term.
+// Run main() after mvn test-compile, with the test classpath
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentScreeningBenchmark {
+
+    private static final String POST = "Anyone heading to the SEECS career fair on Thursday? I'm looking for people to "
+            + "share a ride from H-12 and maybe grab lunch at C1 afterwards. Also selling my old calculus and "
+            + "physics books, barely used, message me if you want them cheap. The robotics club is recruiting "
+            + "first years for the drone project, no experience needed, just show up at the lab after 4pm. "
+            + "Honestly the last quiz was brutal but the TA said the curve will help. Good luck with finals everyone, "
+            + "see you at the library marathon this weekend!";
+
+    @Param({"100", "1000", "5000"})
+    private int termCount;
+
+    private List<String> terms;
+    private AhoCorasick automaton;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        terms = new ArrayList<>(termCount);
+        for (int i = 0; i < termCount; i++) {
+            StringBuilder term = new StringBuilder();
+            int length = 4 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                term.append((char) ('a' + random.nextInt(26)));
+            }
+            terms.add(term.toString());
+        }
+        terms.set(0, "brutal");
+        automaton = AhoCorasick.build(terms);
+        text = POST.toLowerCase();
+    }
+
+    @Benchmark
+    public int automatonScan() {
+        int[] matches = {0};
+        automaton.scan(text, (pattern, start, end) -> {
+            matches[0]++;
+            return true;
+        });
+        return matches[0];
+    }
+
+    @Benchmark
+    public int naiveContains() {
+        int matches = 0;
+        for (String term : terms) {
+            if (text.contains(term)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContentScreeningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
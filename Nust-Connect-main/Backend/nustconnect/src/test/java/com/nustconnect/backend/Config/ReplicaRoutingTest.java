@@ -0,0 +1,108 @@
+package com.nustconnect.backend.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Primary and replica are two separate in-memory databases, each holding one marker row, so a
+// query's answer shows where it was routed
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.read-your-writes-ms=60000",
+        // Only the check at startup; the tests run the others themselves
+        "datasource.replica.check-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:nustconnect-replica-test;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @BeforeEach
+    void createMarkers() {
+        writeMarker(new JdbcTemplate(primary), "primary");
+        // The replica pool hands out read-only connections
+        writeMarker(new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "")), "replica");
+        lagMonitor.check();
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertEquals("replica", inTransaction(true));
+        assertEquals("primary", inTransaction(false));
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class));
+    }
+
+    @Test
+    void userReadsFromThePrimaryAfterTheirOwnWrite() {
+        signIn("writer@nust.edu.pk");
+        assertEquals("replica", inTransaction(true));
+        assertEquals("primary", inTransaction(false));
+        assertEquals("primary", inTransaction(true));
+
+        signIn("someone-else@nust.edu.pk");
+        assertEquals("replica", inTransaction(true));
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsUnavailable() {
+        lagMonitor.markUnavailable(new SQLException("replica stopped"));
+        assertEquals("primary", inTransaction(true));
+
+        lagMonitor.check();
+        assertEquals("replica", inTransaction(true));
+    }
+
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class));
+    }
+
+    private static void writeMarker(JdbcTemplate target, String name) {
+        target.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        target.update("DELETE FROM routing_marker");
+        target.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, AuthorityUtils.createAuthorityList("ROLE_STUDENT")));
+    }
+}
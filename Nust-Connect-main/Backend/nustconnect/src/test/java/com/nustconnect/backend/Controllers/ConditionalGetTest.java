@@ -0,0 +1,106 @@
+package com.nustconnect.backend.Controllers;
+
+import com.nustconnect.backend.Enums.ClubCategory;
+import com.nustconnect.backend.Models.Club;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.Projections.ListVersionView;
+import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Support.EnableQueryBudgets;
+import com.nustconnect.backend.Support.QueryBudget;
+import com.nustconnect.backend.Utils.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@EnableQueryBudgets
+@WithMockUser
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    private Club club;
+
+    @BeforeEach
+    void createClub() {
+        User owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner-" + UUID.randomUUID() + "@nust.edu.pk")
+                .passwordHash("hash")
+                .build());
+        club = clubRepository.save(Club.builder()
+                .name("Robotics " + UUID.randomUUID())
+                .description("Builds things")
+                .category(ClubCategory.ACADEMIC)
+                .createdBy(owner)
+                .build());
+    }
+
+    @Test
+    void clubIsRevalidatedUntilItChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/clubs/{clubId}", club.getClubId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clubs/{clubId}", club.getClubId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        club.setDescription("Builds robots");
+        clubRepository.save(club);
+
+        String changed = mockMvc.perform(get("/api/clubs/{clubId}", club.getClubId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    // The list is neither loaded nor mapped: only the version query runs
+    @Test
+    @QueryBudget(max = 1)
+    void unchangedClubListIsOneQuery() throws Exception {
+        ListVersionView version = clubRepository.findAllVersion();
+        String etag = ResourceVersion.of("clubs", version.getRowCount(), version.getMaxId(),
+                version.getLastModified()).getEtag();
+
+        mockMvc.perform(get("/api/clubs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void deletingAClubChangesTheListVersion() throws Exception {
+        String etag = mockMvc.perform(get("/api/clubs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        clubRepository.delete(club);
+
+        mockMvc.perform(get("/api/clubs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,118 @@
+package com.nustconnect.backend.Controllers;
+
+import com.nustconnect.backend.Models.Comment;
+import com.nustconnect.backend.Models.Post;
+import com.nustconnect.backend.Models.Profile;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.CommentRepository;
+import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.ProfileRepository;
+import com.nustconnect.backend.Repositories.UserRepository;
+import com.nustconnect.backend.Support.EnableQueryBudgets;
+import com.nustconnect.backend.Support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@EnableQueryBudgets
+@WithMockUser
+class PostControllerQueryBudgetTest {
+
+    private static final int AUTHORS = 10;
+    private static final int REPLIES_PER_THREAD = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Post post;
+
+    // Every comment has its own author with a profile, so a per-row author lookup shows up as N+1
+    @BeforeEach
+    void createThreads() {
+        User owner = userRepository.save(newUser("owner"));
+        post = postRepository.save(Post.builder().user(owner).contentText("Study group for MTH-101?").build());
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(newUser("author" + i));
+            profileRepository.save(Profile.builder().user(author).profilePicture("/uploads/" + i + ".png").build());
+            Comment comment = commentRepository.save(Comment.builder()
+                    .post(post).user(author).content("Count me in " + i).isEdited(false).build());
+            for (int j = 0; j < REPLIES_PER_THREAD; j++) {
+                commentRepository.save(Comment.builder()
+                        .post(post).user(owner).parentComment(comment).content("Reply " + j).isEdited(false).build());
+            }
+        }
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    void threadPageUsesConstantQueries() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments/threads", post.getPostId())
+                        .param("size", String.valueOf(AUTHORS))
+                        .param("replies", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.threads.length()").value(AUTHORS))
+                .andExpect(jsonPath("$.threads[0].replyCount").value(REPLIES_PER_THREAD))
+                .andExpect(jsonPath("$.threads[0].replies.length()").value(3));
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    void replyPageUsesConstantQueries() throws Exception {
+        Long parentId = commentRepository.findTopLevelViews(post.getPostId(), Long.MAX_VALUE, null,
+                PageRequest.of(0, 1)).get(0).getCommentId();
+        mockMvc.perform(get("/api/posts/comments/{commentId}/replies", parentId).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replies.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void flatCommentListIsOneQuery() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments", post.getPostId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(AUTHORS * (1 + REPLIES_PER_THREAD)));
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void feedPageIsPageAndCountQuery() throws Exception {
+        mockMvc.perform(get("/api/posts").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "-" + UUID.randomUUID() + "@nust.edu.pk")
+                .passwordHash("hash")
+                .build();
+    }
+}
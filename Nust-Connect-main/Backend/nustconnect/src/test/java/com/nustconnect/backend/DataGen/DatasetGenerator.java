@@ -0,0 +1,596 @@
+package com.nustconnect.backend.DataGen;
+
+import com.nustconnect.backend.NustconnectApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// Fills a database with a large, referentially consistent campus dataset for performance work.
+// The application starts once (no web server) so Hibernate creates or updates the schema, then
+// every table is written with multi-row INSERTs on a single connection. Ids are assigned here,
+// continuing after the highest existing id, so rows can point at each other without reading
+// anything back.
+//
+// The output depends only on the seed, the scale and the anchor date: each table draws from its
+// own random stream, so changing one table's scale leaves the others unchanged.
+//
+// Settings are system properties (defaults in brackets):
+//   datagen.profile []               Spring profile; empty uses application.properties (local MySQL)
+//   datagen.url / username / password  datasource override, e.g. jdbc:h2:file:./target/perfdb
+//   datagen.users [100000]           everything else scales with this
+//   datagen.seed [42]
+//   datagen.anchor [today]           "now" for timestamps, yyyy-MM-dd
+//   datagen.batch-rows [500]         rows per INSERT statement
+//   datagen.posts-per-user [10], likes-per-post [3], comments-per-post [1], friends-per-user [20],
+//   datagen.messages-per-user [10], notifications-per-user [10], memberships-per-user [2],
+//   datagen.registrations-per-user [3], listings-per-user [0.5], rides-per-user [0.2]
+// mvn -P datagen test-compile exec:exec -Ddatagen.users=100000
+// Every generated user can log in as user<id>@gen.nust.edu.pk with the password below.
+public class DatasetGenerator {
+
+    public static final String PASSWORD = "Generated#2024";
+
+    private static final String[] FIRST_NAMES = {"Ali", "Ayesha", "Hamza", "Fatima", "Usman", "Zainab", "Bilal",
+            "Maryam", "Hassan", "Hira", "Omar", "Sana", "Saad", "Amna", "Taha", "Iqra", "Hadi", "Mahnoor", "Fahad",
+            "Noor", "Danish", "Laiba", "Areeb", "Rida"};
+    private static final String[] LAST_NAMES = {"Khan", "Ahmed", "Malik", "Hussain", "Raza", "Qureshi", "Sheikh",
+            "Butt", "Chaudhry", "Siddiqui", "Mirza", "Abbasi", "Javed", "Iqbal", "Aslam", "Shah"};
+    private static final String[] DEPARTMENTS = {"SEECS", "SMME", "NBS", "SCME", "S3H", "SADA", "NICE", "ASAB",
+            "SNS", "CAE"};
+    private static final String[] MAJORS = {"Computer Science", "Software Engineering", "Electrical Engineering",
+            "Mechanical Engineering", "Business Administration", "Chemical Engineering", "Architecture",
+            "Civil Engineering", "Mathematics", "Economics"};
+    private static final String[] TOPICS = {"robotics", "finals", "hackathon", "football", "internship", "library",
+            "carpool", "calculus", "startup", "photography", "cricket", "debate", "music", "gaming", "volunteering"};
+    private static final String[] ITEMS = {"calculator", "laptop", "bicycle", "textbook", "mattress", "headphones",
+            "lab coat", "drafter", "kettle", "monitor", "keyboard", "study table"};
+    private static final String[] CLUB_CATEGORIES = {"ACADEMIC", "CULTURAL", "SPORTS"};
+    private static final String[] NOTIFICATION_TYPES = {"POST_LIKE", "COMMENT", "EVENT", "SYSTEM"};
+    private static final String[] PLACES = {"F-7 Markaz", "Blue Area", "G-9 Markaz", "Saddar Rawalpindi",
+            "I-8 Markaz", "Bahria Town Phase 4", "F-10 Markaz", "Faizabad", "Islamabad Airport", "G-11 Markaz"};
+    private static final double[][] PLACE_COORDINATES = {{33.7206, 73.0560}, {33.7100, 73.0600}, {33.6880, 73.0300},
+            {33.5960, 73.0500}, {33.6680, 73.0750}, {33.5300, 73.1000}, {33.6950, 73.0130}, {33.6630, 73.0840},
+            {33.5490, 72.8250}, {33.6690, 72.9980}};
+    private static final double[] CAMPUS = {33.6425, 72.9920};
+
+    private final Connection connection;
+    private final long seed;
+    private final LocalDateTime now;
+    private final int batchRows;
+    private final int users;
+    private final long startedAt = System.nanoTime();
+
+    // First id of each table; generated row i gets base + i
+    private long userBase;
+    private long postBase;
+    private long clubBase;
+    private long eventBase;
+    private long commentBase;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private int edgeCount;
+
+    DatasetGenerator(Connection connection, long seed, LocalDateTime now, int batchRows, int users) {
+        this.connection = connection;
+        this.seed = seed;
+        this.now = now;
+        this.batchRows = batchRows;
+        this.users = users;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        List<String> springArgs = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.nustconnect.backend=WARN",
+                "--logging.level.org.hibernate.tool.schema=ERROR",
+                "--sql.capture.enabled=false",
+                // Keep the schema (and the data) after the generator exits
+                "--spring.jpa.hibernate.ddl-auto=update"));
+        addOverride(springArgs, "datagen.url", "spring.datasource.url");
+        addOverride(springArgs, "datagen.username", "spring.datasource.username");
+        addOverride(springArgs, "datagen.password", "spring.datasource.password");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(NustconnectApplication.class)
+                .web(WebApplicationType.NONE);
+        String profile = System.getProperty("datagen.profile", "");
+        if (!profile.isBlank()) {
+            builder.profiles(profile);
+        }
+        int users = Integer.getInteger("datagen.users", 100_000);
+        long seed = Long.getLong("datagen.seed", 42L);
+        String anchor = System.getProperty("datagen.anchor", "");
+        LocalDateTime now = (anchor.isBlank() ? LocalDate.now() : LocalDate.parse(anchor)).atStartOfDay();
+
+        try (ConfigurableApplicationContext context = builder.run(springArgs.toArray(String[]::new));
+             Connection connection = context.getBean(DataSource.class).getConnection()) {
+            System.out.printf("Generating %,d users (seed %d, anchor %s) into %s%n", users, seed, now.toLocalDate(),
+                    connection.getMetaData().getURL());
+            new DatasetGenerator(connection, seed, now, Integer.getInteger("datagen.batch-rows", 500), users).generate();
+        }
+        System.exit(0);
+    }
+
+    void generate() throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        // Rows are consistent by construction; checking every reference would only slow the load down
+        setReferentialIntegrity(false);
+        try {
+            generateUsers();
+            generateFriendships(Math.max(1, (int) Math.round(scale("friends-per-user", 20) / 2)));
+            generateClubs();
+            generateEvents();
+            generatePosts();
+            generateMessages();
+            generateNotifications();
+            generateListings();
+            generateRides();
+            updateCounters();
+        } finally {
+            setReferentialIntegrity(true);
+            connection.commit();
+            connection.setAutoCommit(autoCommit);
+        }
+        restartIdentities();
+        System.out.printf("Done in %.1fs. Log in as user%d@gen.nust.edu.pk with password %s%n",
+                elapsedSeconds(), userBase, PASSWORD);
+    }
+
+    // ==================== USERS ====================
+    private void generateUsers() throws SQLException {
+        SplittableRandom random = random("users");
+        userBase = nextId("users", "user_id");
+        // One hash for everyone; BCrypt per row would take longer than the whole load
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (MultiRowInsert insert = insert("users", "user_id", "name", "email", "password_hash", "role",
+                "department", "is_active", "is_email_verified", "created_at", "updated_at")) {
+            for (int i = 0; i < users; i++) {
+                long id = userBase + i;
+                LocalDateTime joined = pastTime(random, 4 * 365);
+                insert.row(id, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                        "user" + id + "@gen.nust.edu.pk", passwordHash, random.nextInt(50) == 0 ? "FACULTY" : "STUDENT",
+                        DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], random.nextInt(100) != 0, true, joined, joined);
+            }
+            done("users", insert);
+        }
+
+        random = random("profiles");
+        long profileBase = nextId("profiles", "profile_id");
+        try (MultiRowInsert insert = insert("profiles", "profile_id", "user_id", "bio", "major", "year_of_study",
+                "profile_picture", "interests")) {
+            for (int i = 0; i < users; i++) {
+                insert.row(profileBase + i, userBase + i, "Into " + pick(random, TOPICS) + " and " + pick(random, TOPICS),
+                        pick(random, MAJORS), 1 + random.nextInt(4),
+                        random.nextInt(4) == 0 ? null : "/uploads/profiles/" + (userBase + i) + ".jpg",
+                        pick(random, TOPICS) + "," + pick(random, TOPICS));
+            }
+            done("profiles", insert);
+        }
+    }
+
+    // Preferential attachment (Barabasi-Albert): each new user befriends `perUser` existing users,
+    // picked in proportion to how many friends they already have, which gives the heavy-tailed
+    // degree distribution of a real social network. Early users become the hubs.
+    private void generateFriendships(int perUser) throws SQLException {
+        SplittableRandom random = random("friendships");
+        int maxEdges = users * perUser;
+        edgeFrom = new int[maxEdges];
+        edgeTo = new int[maxEdges];
+        // Every endpoint of every edge so far; a uniform pick from it is a degree-weighted pick of a user
+        int[] endpoints = new int[2 * maxEdges];
+        int endpointCount = 0;
+        long friendshipBase = nextId("friendship", "id");
+        try (MultiRowInsert insert = insert("friendship", "id", "follower_id", "following_id", "status", "since_date")) {
+            Set<Integer> chosen = new HashSet<>();
+            for (int user = 1; user < users; user++) {
+                chosen.clear();
+                int wanted = Math.min(perUser, user);
+                while (chosen.size() < wanted) {
+                    int friend = endpointCount == 0 || random.nextInt(10) == 0
+                            ? random.nextInt(user)
+                            : endpoints[random.nextInt(endpointCount)];
+                    if (friend == user || !chosen.add(friend)) {
+                        continue;
+                    }
+                    edgeFrom[edgeCount] = user;
+                    edgeTo[edgeCount] = friend;
+                    // A few requests are still waiting for an answer
+                    boolean pending = random.nextInt(30) == 0;
+                    insert.row(friendshipBase + edgeCount, userBase + user, userBase + friend,
+                            pending ? "PENDING" : "ACCEPTED", pastTime(random, 365));
+                    edgeCount++;
+                }
+                for (int friend : chosen) {
+                    endpoints[endpointCount++] = user;
+                    endpoints[endpointCount++] = friend;
+                }
+            }
+            done("friendships", insert);
+        }
+    }
+
+    // ==================== CLUBS & EVENTS ====================
+    private void generateClubs() throws SQLException {
+        SplittableRandom random = random("clubs");
+        int clubs = Math.max(5, users / 500);
+        clubBase = nextId("clubs", "club_id");
+        try (MultiRowInsert insert = insert("clubs", "club_id", "name", "description", "category", "created_by",
+                "is_active", "is_approved", "is_recruitment_open", "member_count", "created_at", "updated_at")) {
+            for (int i = 0; i < clubs; i++) {
+                String topic = TOPICS[i % TOPICS.length];
+                LocalDateTime founded = pastTime(random, 3 * 365);
+                insert.row(clubBase + i, capitalize(topic) + " Society " + (clubBase + i),
+                        "Weekly meetups about " + topic + " and " + pick(random, TOPICS),
+                        CLUB_CATEGORIES[i % CLUB_CATEGORIES.length], userBase + skewedUser(random), true, true,
+                        random.nextBoolean(), 0, founded, founded);
+            }
+            done("clubs", insert);
+        }
+
+        // Popular clubs get most of the members
+        long membershipBase = nextId("club_membership", "membership_id");
+        int perUser = (int) Math.ceil(scale("memberships-per-user", 2));
+        try (MultiRowInsert insert = insert("club_membership", "membership_id", "club_id", "user_id", "member_role",
+                "status", "created_at", "updated_at")) {
+            Set<Integer> joined = new HashSet<>();
+            long next = membershipBase;
+            for (int user = 0; user < users; user++) {
+                joined.clear();
+                int count = Math.min(clubs, heavyTail(random, scale("memberships-per-user", 2), perUser * 5));
+                while (joined.size() < count) {
+                    int club = (int) (clubs * Math.pow(random.nextDouble(), 2));
+                    if (!joined.add(club)) {
+                        continue;
+                    }
+                    String role = random.nextInt(200) == 0 ? "PRESIDENT" : random.nextInt(100) == 0 ? "VICE_PRESIDENT" : "MEMBER";
+                    LocalDateTime since = pastTime(random, 2 * 365);
+                    insert.row(next++, clubBase + club, userBase + user, role,
+                            random.nextInt(20) == 0 ? "INACTIVE" : "ACTIVE", since, since);
+                }
+            }
+            done("club memberships", insert);
+        }
+    }
+
+    private void generateEvents() throws SQLException {
+        SplittableRandom random = random("events");
+        int clubs = Math.max(5, users / 500);
+        int events = Math.max(10, users / 50);
+        eventBase = nextId("events", "event_id");
+        Integer[] capacity = new Integer[events];
+        try (MultiRowInsert insert = insert("events", "event_id", "title", "description", "start_time", "end_time",
+                "max_attendees", "current_attendees", "is_public", "approval_status", "is_completed", "club_id",
+                "created_by", "requires_registration", "has_tickets", "qr_code_required", "created_at", "updated_at")) {
+            for (int i = 0; i < events; i++) {
+                // Half of the events are in the past, the rest spread over the next two months
+                LocalDateTime start = now.plusDays(random.nextInt(-180, 60)).plusHours(9 + random.nextInt(10));
+                LocalDateTime end = start.plusHours(1 + random.nextInt(4));
+                capacity[i] = random.nextInt(5) == 0 ? 20 + random.nextInt(200) : null;
+                int approval = random.nextInt(20);
+                LocalDateTime created = start.minusDays(7 + random.nextInt(30));
+                insert.row(eventBase + i, capitalize(pick(random, TOPICS)) + " meetup " + (eventBase + i),
+                        "Open to all departments", start, end, capacity[i], 0, random.nextInt(10) != 0,
+                        approval == 0 ? "PENDING" : approval == 1 ? "REJECTED" : "APPROVED", end.isBefore(now),
+                        clubBase + random.nextInt(clubs), userBase + skewedUser(random), true, false, false,
+                        created, created);
+            }
+            done("events", insert);
+        }
+
+        // A few events draw most of the registrations; past capacity, students go on the waitlist
+        long registrationBase = nextId("event_registration", "registration_id");
+        double perEvent = scale("registrations-per-user", 3) * users / events;
+        try (MultiRowInsert insert = insert("event_registration", "registration_id", "event_id", "user_id", "status",
+                "attended", "created_at", "updated_at")) {
+            Set<Integer> registered = new HashSet<>();
+            long next = registrationBase;
+            for (int event = 0; event < events; event++) {
+                registered.clear();
+                int count = heavyTail(random, perEvent, users / 2);
+                while (registered.size() < count) {
+                    int user = random.nextInt(users);
+                    if (!registered.add(user)) {
+                        continue;
+                    }
+                    String status = capacity[event] != null && registered.size() > capacity[event] ? "WAITLISTED"
+                            : random.nextInt(15) == 0 ? "CANCELED" : "REGISTERED";
+                    LocalDateTime at = pastTime(random, 30);
+                    insert.row(next++, eventBase + event, userBase + user, status, random.nextInt(3) == 0, at, at);
+                }
+            }
+            done("event registrations", insert);
+        }
+    }
+
+    // ==================== POSTS, LIKES, COMMENTS ====================
+    // Like and comment counts are decided per post first, so the counters on the post row match
+    // the rows written for it
+    private void generatePosts() throws SQLException {
+        SplittableRandom random = random("posts");
+        SplittableRandom likeRandom = random("likes");
+        SplittableRandom commentRandom = random("comments");
+        long posts = Math.round(scale("posts-per-user", 10) * users);
+        double likesPerPost = scale("likes-per-post", 3);
+        double commentsPerPost = scale("comments-per-post", 1);
+        postBase = nextId("posts", "post_id");
+        long likeBase = nextId("likes", "like_id");
+        commentBase = nextId("comments", "comment_id");
+        long nextLike = likeBase;
+        long nextComment = commentBase;
+
+        try (MultiRowInsert postInsert = insert("posts", "post_id", "user_id", "content_text", "visibility",
+                "like_count", "comment_count", "is_edited", "created_at", "updated_at");
+             MultiRowInsert likeInsert = insert("likes", "like_id", "user_id", "post_id", "created_at");
+             MultiRowInsert commentInsert = insert("comments", "comment_id", "post_id", "user_id",
+                     "parent_comment_id", "content", "is_edited", "created_at", "updated_at")) {
+            Set<Integer> likers = new HashSet<>();
+            List<Long> topLevel = new ArrayList<>();
+            for (long i = 0; i < posts; i++) {
+                long postId = postBase + i;
+                LocalDateTime created = pastTime(random, 365);
+                int visibility = random.nextInt(20);
+                int likes = heavyTail(likeRandom, likesPerPost, users / 2);
+                int comments = heavyTail(commentRandom, commentsPerPost, 500);
+                postInsert.row(postId, userBase + skewedUser(random),
+                        "Anyone up for " + pick(random, TOPICS) + " this weekend? Meet at " + pick(random, PLACES),
+                        visibility < 17 ? "PUBLIC" : visibility < 19 ? "FRIENDS" : "PRIVATE", likes, comments,
+                        random.nextInt(20) == 0, created, created);
+
+                likers.clear();
+                while (likers.size() < likes) {
+                    int user = likeRandom.nextInt(users);
+                    if (likers.add(user)) {
+                        likeInsert.row(nextLike++, userBase + user, postId, later(likeRandom, created));
+                    }
+                }
+
+                // Replies hang off top-level comments only, like the threaded comment API expects
+                topLevel.clear();
+                for (int c = 0; c < comments; c++) {
+                    long commentId = nextComment++;
+                    Long parent = !topLevel.isEmpty() && commentRandom.nextInt(10) < 3
+                            ? topLevel.get(commentRandom.nextInt(topLevel.size())) : null;
+                    if (parent == null) {
+                        topLevel.add(commentId);
+                    }
+                    LocalDateTime at = later(commentRandom, created);
+                    commentInsert.row(commentId, postId, userBase + commentRandom.nextInt(users), parent,
+                            parent == null ? "Count me in for " + pick(commentRandom, TOPICS) : "Same here!",
+                            false, at, at);
+                }
+            }
+            done("posts", postInsert);
+            done("likes", likeInsert);
+            done("comments", commentInsert);
+        }
+    }
+
+    // ==================== MESSAGES & NOTIFICATIONS ====================
+    // Conversations are between friends, so busy users (the hubs) also message the most
+    private void generateMessages() throws SQLException {
+        SplittableRandom random = random("messages");
+        long messages = Math.round(scale("messages-per-user", 10) * users);
+        long messageBase = nextId("messages", "message_id");
+        try (MultiRowInsert insert = insert("messages", "message_id", "sender_id", "receiver_id", "content",
+                "is_read", "sent_at")) {
+            for (long i = 0; i < messages && edgeCount > 0; i++) {
+                int edge = random.nextInt(edgeCount);
+                boolean forward = random.nextBoolean();
+                long sender = userBase + (forward ? edgeFrom[edge] : edgeTo[edge]);
+                long receiver = userBase + (forward ? edgeTo[edge] : edgeFrom[edge]);
+                LocalDateTime sent = pastTime(random, 180);
+                insert.row(messageBase + i, sender, receiver,
+                        "Are you going to the " + pick(random, TOPICS) + " thing later?",
+                        sent.isBefore(now.minusDays(2)) || random.nextBoolean(), sent);
+            }
+            done("messages", insert);
+        }
+    }
+
+    private void generateNotifications() throws SQLException {
+        SplittableRandom random = random("notifications");
+        long notifications = Math.round(scale("notifications-per-user", 10) * users);
+        long posts = Math.round(scale("posts-per-user", 10) * users);
+        long notificationBase = nextId("notifications", "notification_id");
+        try (MultiRowInsert insert = insert("notifications", "notification_id", "user_id", "type", "message",
+                "related_entity_id", "action_url", "is_read", "created_at")) {
+            for (long i = 0; i < notifications; i++) {
+                String type = pick(random, NOTIFICATION_TYPES);
+                long postId = postBase + (posts == 0 ? 0 : random.nextLong(posts));
+                LocalDateTime at = pastTime(random, 90);
+                insert.row(notificationBase + i, userBase + skewedUser(random), type, switch (type) {
+                    case "POST_LIKE" -> "Someone liked your post";
+                    case "COMMENT" -> "Someone commented on your post";
+                    case "EVENT" -> "An event you follow starts soon";
+                    default -> "Welcome to NUST Connect";
+                }, "SYSTEM".equals(type) ? null : postId, "SYSTEM".equals(type) ? null : "/posts/" + postId,
+                        at.isBefore(now.minusDays(7)) || random.nextInt(3) == 0, at);
+            }
+            done("notifications", insert);
+        }
+    }
+
+    // ==================== MARKETPLACE & RIDES ====================
+    private void generateListings() throws SQLException {
+        SplittableRandom random = random("listings");
+        long listings = Math.round(scale("listings-per-user", 0.5) * users);
+        long itemBase = nextId("marketplace_item", "id");
+        try (MultiRowInsert insert = insert("marketplace_item", "id", "title", "description", "price",
+                "condition_status", "status", "seller_id", "view_count", "is_negotiable", "location",
+                "created_at", "updated_at")) {
+            for (long i = 0; i < listings; i++) {
+                String item = pick(random, ITEMS);
+                LocalDateTime listed = pastTime(random, 120);
+                int status = random.nextInt(10);
+                insert.row(itemBase + i, capitalize(item) + " for sale", "Good condition " + item + ", pick up from hostel",
+                        (double) (200 + random.nextInt(50_000)), random.nextInt(3) == 0 ? "NEW" : "USED",
+                        status < 7 ? "AVAILABLE" : status < 9 ? "SOLD" : "RESERVED", userBase + random.nextInt(users),
+                        heavyTail(random, 25, 5000), random.nextBoolean(), pick(random, PLACES), listed, listed);
+            }
+            done("marketplace listings", insert);
+        }
+    }
+
+    private void generateRides() throws SQLException {
+        SplittableRandom random = random("rides");
+        long rides = Math.round(scale("rides-per-user", 0.2) * users);
+        long rideBase = nextId("ride_share", "ride_id");
+        try (MultiRowInsert insert = insert("ride_share", "ride_id", "driver_id", "pickup_location", "pickup_latitude",
+                "pickup_longitude", "destination", "destination_latitude", "destination_longitude", "departure_time",
+                "available_seats", "price_per_seat", "status", "created_at", "updated_at")) {
+            for (long i = 0; i < rides; i++) {
+                int place = random.nextInt(PLACES.length);
+                boolean outbound = random.nextBoolean();
+                LocalDateTime departure = now.plusHours(random.nextInt(-24 * 60, 24 * 7));
+                double[] campus = {CAMPUS[0] + jitter(random), CAMPUS[1] + jitter(random)};
+                double[] other = {PLACE_COORDINATES[place][0] + jitter(random), PLACE_COORDINATES[place][1] + jitter(random)};
+                double[] from = outbound ? campus : other;
+                double[] to = outbound ? other : campus;
+                LocalDateTime created = departure.minusHours(2 + random.nextInt(48));
+                insert.row(rideBase + i, userBase + random.nextInt(users),
+                        outbound ? "NUST H-12 Campus" : PLACES[place], from[0], from[1],
+                        outbound ? PLACES[place] : "NUST H-12 Campus", to[0], to[1], departure,
+                        1 + random.nextInt(4), (double) (100 + random.nextInt(600)),
+                        departure.isBefore(now) ? "COMPLETED" : "ACTIVE", created, created);
+            }
+            done("rides", insert);
+        }
+    }
+
+    // ==================== FINISHING ====================
+    // Counters that depend on rows written after the parent row
+    private void updateCounters() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE clubs SET member_count = (SELECT COUNT(*) FROM club_membership m "
+                    + "WHERE m.club_id = clubs.club_id AND m.status = 'ACTIVE') WHERE club_id >= " + clubBase);
+            statement.executeUpdate("UPDATE events SET current_attendees = (SELECT COUNT(*) FROM event_registration r "
+                    + "WHERE r.event_id = events.event_id AND r.status = 'REGISTERED') WHERE event_id >= " + eventBase);
+        }
+        connection.commit();
+        System.out.printf("%-22s updated after %.1fs%n", "counters", elapsedSeconds());
+    }
+
+    // MySQL moves AUTO_INCREMENT past explicit ids by itself; H2 identity columns have to be told
+    private void restartIdentities() throws SQLException {
+        if (!isH2()) {
+            return;
+        }
+        String[][] identities = {{"users", "user_id"}, {"profiles", "profile_id"}, {"friendship", "id"},
+                {"clubs", "club_id"}, {"club_membership", "membership_id"}, {"events", "event_id"},
+                {"event_registration", "registration_id"}, {"posts", "post_id"}, {"likes", "like_id"},
+                {"comments", "comment_id"}, {"messages", "message_id"}, {"notifications", "notification_id"},
+                {"marketplace_item", "id"}, {"ride_share", "ride_id"}};
+        try (Statement statement = connection.createStatement()) {
+            for (String[] identity : identities) {
+                statement.execute("ALTER TABLE " + identity[0] + " ALTER COLUMN " + identity[1]
+                        + " RESTART WITH " + nextId(identity[0], identity[1]));
+            }
+        }
+        connection.commit();
+    }
+
+    // ==================== HELPER METHODS ====================
+    private MultiRowInsert insert(String table, String... columns) {
+        return new MultiRowInsert(connection, table, batchRows, columns);
+    }
+
+    private void done(String label, MultiRowInsert insert) throws SQLException {
+        insert.close();
+        connection.commit();
+        System.out.printf("%-22s %,12d rows after %.1fs%n", label, insert.rows(), elapsedSeconds());
+    }
+
+    private long nextId(String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1) + 1;
+        }
+    }
+
+    private void setReferentialIntegrity(boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(isH2() ? "SET REFERENTIAL_INTEGRITY " + (enabled ? "TRUE" : "FALSE")
+                    : "SET FOREIGN_KEY_CHECKS = " + (enabled ? 1 : 0));
+        }
+    }
+
+    private boolean isH2() throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toUpperCase(Locale.ROOT).contains("H2");
+    }
+
+    private SplittableRandom random(String table) {
+        return new SplittableRandom(seed * 1_000_003L + table.hashCode());
+    }
+
+    // Pareto-distributed count (shape 2) with the given mean: most values are small, a few are huge
+    private static int heavyTail(SplittableRandom random, double mean, int cap) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double value = mean / 2 * Math.pow(1 - random.nextDouble(), -0.5);
+        int whole = (int) value;
+        if (random.nextDouble() < value - whole) {
+            whole++;
+        }
+        return Math.min(cap, whole);
+    }
+
+    // Low indices are the early users, who are also the friendship hubs; they post and host more
+    private int skewedUser(SplittableRandom random) {
+        return (int) (users * Math.pow(random.nextDouble(), 2));
+    }
+
+    private LocalDateTime pastTime(SplittableRandom random, int days) {
+        return now.minusSeconds(random.nextLong(days * 86_400L));
+    }
+
+    private LocalDateTime later(SplittableRandom random, LocalDateTime after) {
+        LocalDateTime time = after.plusSeconds(random.nextLong(3 * 86_400L));
+        return time.isAfter(now) ? now : time;
+    }
+
+    private static double jitter(SplittableRandom random) {
+        return (random.nextDouble() - 0.5) * 0.015;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static double scale(String name, double fallback) {
+        String value = System.getProperty("datagen." + name);
+        return value == null || value.isBlank() ? fallback : Double.parseDouble(value);
+    }
+
+    private static void addOverride(List<String> args, String property, String springProperty) {
+        String value = System.getProperty(property);
+        if (value != null && !value.isBlank()) {
+            args.add("--" + springProperty + "=" + value);
+        }
+    }
+
+    private double elapsedSeconds() {
+        return (System.nanoTime() - startedAt) / 1e9;
+    }
+}
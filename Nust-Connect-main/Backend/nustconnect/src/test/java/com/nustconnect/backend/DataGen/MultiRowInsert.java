@@ -0,0 +1,99 @@
+package com.nustconnect.backend.DataGen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Buffers rows and writes them as one INSERT ... VALUES (...), (...), ... per batch. A single
+// statement per few hundred rows is what makes bulk loading fast on both MySQL and H2, without
+// needing LOAD DATA and the local-infile setting on client and server.
+class MultiRowInsert implements AutoCloseable {
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final List<Object[]> buffer = new ArrayList<>();
+    private PreparedStatement fullStatement;
+    private long rows;
+
+    MultiRowInsert(Connection connection, String table, int rowsPerStatement, String... columns) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        // Stays under the 65,535 placeholder limit of MySQL prepared statements
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, 60_000 / columns.length));
+    }
+
+    void row(Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(table + " expects " + columns.length + " values, got " + values.length);
+        }
+        buffer.add(values);
+        if (buffer.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            write(fullStatement);
+        }
+    }
+
+    long rows() {
+        return rows + buffer.size();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!buffer.isEmpty()) {
+                try (PreparedStatement partial = connection.prepareStatement(sql(buffer.size()))) {
+                    write(partial);
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+
+    private void write(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object[] values : buffer) {
+            for (Object value : values) {
+                statement.setObject(index++, jdbcValue(value));
+            }
+        }
+        statement.executeUpdate();
+        rows += buffer.size();
+        buffer.clear();
+    }
+
+    private String sql(int rowCount) {
+        String placeholders = "(" + "?,".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ",").append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    private static Object jdbcValue(Object value) {
+        if (value instanceof LocalDateTime time) {
+            return Timestamp.valueOf(time);
+        }
+        if (value instanceof LocalDate date) {
+            return java.sql.Date.valueOf(date);
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+package com.nustconnect.backend.LoadTest;
+
+import com.nustconnect.backend.LoadTest.OpenModelLoadGenerator.Scenario;
+import com.nustconnect.backend.LoadTest.OpenModelLoadGenerator.Session;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+// The traffic mix of a weekday evening: mostly feed reading, then likes and messages, with
+// searches and the occasional rush on a popular event. Weights are relative.
+public class CampusScenarios {
+
+    private final LoadTestDataset dataset;
+    private final int burstSize;
+    // Walks (event, user) pairs in order; a user can register for an event only once
+    private final AtomicLong registrationCursor = new AtomicLong();
+
+    public CampusScenarios(LoadTestDataset dataset, int burstSize) {
+        this.dataset = dataset;
+        this.burstSize = burstSize;
+    }
+
+    public List<Scenario> all() {
+        return List.of(
+                new Scenario("feed-scroll", 35, this::feedScroll),
+                new Scenario("like-unlike", 20, this::likeUnlike),
+                new Scenario("messaging", 15, this::messaging),
+                new Scenario("marketplace-search", 12, this::marketplaceSearch),
+                new Scenario("ride-search", 8, this::rideSearch),
+                new Scenario("event-registration-burst", 10, this::registrationBurst));
+    }
+
+    // ==================== SCENARIOS ====================
+    // Three pages in a row, each one requested after the previous one arrives
+    private CompletableFuture<?> feedScroll(Session session) {
+        return session.get("GET /api/posts", "/api/posts?page=0&size=10")
+                .thenCompose(page -> session.get("GET /api/posts", "/api/posts?page=1&size=10"))
+                .thenCompose(page -> session.get("GET /api/posts", "/api/posts?page=2&size=10"));
+    }
+
+    private CompletableFuture<?> likeUnlike(Session session) {
+        long postId = pick(session, dataset.postIds());
+        String user = "?userId=" + session.userId();
+        return session.post("POST /api/posts/{postId}/like", "/api/posts/" + postId + "/like" + user, null)
+                .thenCompose(liked -> session.delete("DELETE /api/posts/{postId}/unlike",
+                        "/api/posts/" + postId + "/unlike" + user));
+    }
+
+    private CompletableFuture<?> messaging(Session session) {
+        long receiverId = pick(session, dataset.userIds());
+        if (receiverId == session.userId()) {
+            receiverId = dataset.userIds().get(0);
+        }
+        long otherId = receiverId;
+        String body = "{\"content\":\"Are you going to the " + pick(session, LoadTestDataset.TOPICS) + " thing later?\"}";
+        return session.post("POST /api/messages/send/{receiverId}",
+                        "/api/messages/send/" + otherId + "?senderId=" + session.userId(), body)
+                .thenCompose(sent -> session.get("GET /api/messages/conversation/{userId1}/{userId2}",
+                        "/api/messages/conversation/" + session.userId() + "/" + otherId));
+    }
+
+    private CompletableFuture<?> marketplaceSearch(Session session) {
+        return session.get("GET /api/marketplace/items/search",
+                "/api/marketplace/items/search?keyword=" + encode(pick(session, LoadTestDataset.ITEMS)));
+    }
+
+    private CompletableFuture<?> rideSearch(Session session) {
+        return session.get("GET /api/rides/match",
+                "/api/rides/match?pickup=nust&destination=" + encode(pick(session, LoadTestDataset.PLACES)));
+    }
+
+    // Several students registering for the same event at the same moment
+    private CompletableFuture<?> registrationBurst(Session session) {
+        List<Long> users = dataset.userIds();
+        List<Long> events = dataset.eventIds();
+        long first = registrationCursor.getAndAdd(burstSize);
+        List<CompletableFuture<?>> registrations = new ArrayList<>();
+        for (long k = first; k < first + burstSize; k++) {
+            long eventId = events.get((int) ((k / users.size()) % events.size()));
+            long userId = users.get((int) (k % users.size()));
+            registrations.add(session.post("POST /api/events/{eventId}/register",
+                    "/api/events/" + eventId + "/register?userId=" + userId, null));
+        }
+        return CompletableFuture.allOf(registrations.toArray(CompletableFuture[]::new));
+    }
+
+    // ==================== HELPER METHODS ====================
+    private static long pick(Session session, List<Long> ids) {
+        return ids.get(session.random().nextInt(ids.size()));
+    }
+
+    private static String pick(Session session, String[] values) {
+        return values[session.random().nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
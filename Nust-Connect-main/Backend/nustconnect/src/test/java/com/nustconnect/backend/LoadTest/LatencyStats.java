@@ -0,0 +1,86 @@
+package com.nustconnect.backend.LoadTest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency and error counts per label (an endpoint template or a scenario name). Recording is
+// lock-free; a Recorder per label hands out its histogram once at the end of the run.
+public class LatencyStats {
+
+    private static final long MAX_TRACKABLE = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public record Row(String label, long count, long errors, double throughput, double p50Ms, double p95Ms,
+                      double p99Ms, double maxMs) {
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    private static final class Series {
+
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    public void record(String label, long latencyNanos, boolean error) {
+        Series target = series.computeIfAbsent(label, key -> new Series());
+        target.recorder.recordValue(Math.min(MAX_TRACKABLE, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        if (error) {
+            target.errors.increment();
+        }
+    }
+
+    // Busiest label first
+    public List<Row> snapshot(double measuredSeconds) {
+        List<Row> rows = new ArrayList<>();
+        series.forEach((label, target) -> {
+            Histogram histogram = target.recorder.getIntervalHistogram();
+            long count = histogram.getTotalCount();
+            rows.add(new Row(label, count, target.errors.sum(), count / measuredSeconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue())));
+        });
+        rows.sort(Comparator.comparingLong(Row::count).reversed());
+        return rows;
+    }
+
+    public static String format(String title, List<Row> rows) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n%-52s %8s %8s %7s %9s %9s %9s %9s%n", title, "count", "req/s", "err%",
+                "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Row row : rows) {
+            out.append(String.format("%-52s %8d %8.1f %6.2f%% %9.1f %9.1f %9.1f %9.1f%n", row.label(), row.count(),
+                    row.throughput(), row.errorRate() * 100, row.p50Ms(), row.p95Ms(), row.p99Ms(), row.maxMs()));
+        }
+        return out.toString();
+    }
+
+    public static Map<String, Object> toJson(Row row) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("label", row.label());
+        json.put("count", row.count());
+        json.put("errors", row.errors());
+        json.put("throughput", row.throughput());
+        json.put("p50Ms", row.p50Ms());
+        json.put("p95Ms", row.p95Ms());
+        json.put("p99Ms", row.p99Ms());
+        json.put("maxMs", row.maxMs());
+        return json;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.nustconnect.backend.LoadTest;
+
+import com.nustconnect.backend.Enums.ClubCategory;
+import com.nustconnect.backend.Enums.EventApprovalStatus;
+import com.nustconnect.backend.Enums.MarketplaceCondition;
+import com.nustconnect.backend.Models.Club;
+import com.nustconnect.backend.Models.Event;
+import com.nustconnect.backend.Models.MarketplaceItem;
+import com.nustconnect.backend.Models.Post;
+import com.nustconnect.backend.Models.Profile;
+import com.nustconnect.backend.Models.RideShare;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.ClubRepository;
+import com.nustconnect.backend.Repositories.EventRepository;
+import com.nustconnect.backend.Repositories.MarketplaceItemRepository;
+import com.nustconnect.backend.Repositories.PostRepository;
+import com.nustconnect.backend.Repositories.ProfileRepository;
+import com.nustconnect.backend.Repositories.RideShareRepository;
+import com.nustconnect.backend.Repositories.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// A campus-shaped dataset written straight through the repositories. Emails carry a run id, so
+// repeated runs against the same MySQL database don't collide.
+public record LoadTestDataset(String password, List<String> emails, List<Long> userIds, List<Long> postIds,
+                              List<Long> eventIds) {
+
+    public static final String PASSWORD = "LoadTest#2024";
+
+    static final String[] TOPICS = {"robotics", "finals", "hackathon", "football", "internship", "library",
+            "carpool", "calculus", "startup", "photography", "cricket", "debate"};
+    static final String[] ITEMS = {"calculator", "laptop", "bicycle", "textbook", "mattress", "headphones",
+            "lab coat", "drafter", "kettle", "monitor"};
+    static final String[] PLACES = {"F-7 Markaz", "Blue Area", "G-9 Markaz", "Saddar Rawalpindi", "I-8 Markaz",
+            "Bahria Town Phase 4", "F-10 Markaz", "Faizabad"};
+    private static final double[][] PLACE_COORDINATES = {{33.7206, 73.0560}, {33.7100, 73.0600}, {33.6880, 73.0300},
+            {33.5960, 73.0500}, {33.6680, 73.0750}, {33.5300, 73.1000}, {33.6950, 73.0130}, {33.6630, 73.0840}};
+    private static final double[] CAMPUS = {33.6425, 72.9920};
+    private static final String[] DEPARTMENTS = {"SEECS", "SMME", "NBS", "SCME", "S3H", "SADA", "NICE", "ASAB"};
+
+    public static LoadTestDataset seed(ApplicationContext context, int users, long seed) {
+        Random random = new Random(seed);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        // One hash for everyone; BCrypt per row would dominate the seeding time
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<User> userRows = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            userRows.add(User.builder()
+                    .name("Load User " + i)
+                    .email("load-" + runId + "-" + i + "@nust.edu.pk")
+                    .passwordHash(passwordHash)
+                    .department(DEPARTMENTS[i % DEPARTMENTS.length])
+                    .isEmailVerified(true)
+                    .build());
+        }
+        userRows = context.getBean(UserRepository.class).saveAll(userRows);
+        List<Profile> profiles = new ArrayList<>();
+        for (User user : userRows) {
+            profiles.add(Profile.builder().user(user).profilePicture("/uploads/" + user.getUserId() + ".png").build());
+        }
+        context.getBean(ProfileRepository.class).saveAll(profiles);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < users * 10; i++) {
+            posts.add(Post.builder()
+                    .user(userRows.get(random.nextInt(users)))
+                    .contentText("Anyone up for " + TOPICS[random.nextInt(TOPICS.length)] + " this weekend? #" + i)
+                    .build());
+        }
+        posts = context.getBean(PostRepository.class).saveAll(posts);
+
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < Math.max(10, users / 40); i++) {
+            clubs.add(Club.builder()
+                    .name(TOPICS[i % TOPICS.length] + " society " + runId + "-" + i)
+                    .description("Weekly meetups about " + TOPICS[(i + 3) % TOPICS.length])
+                    .category(ClubCategory.values()[i % ClubCategory.values().length])
+                    .createdBy(userRows.get(i % users))
+                    .build());
+        }
+        clubs = context.getBean(ClubRepository.class).saveAll(clubs);
+
+        List<Event> events = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < Math.max(20, users / 10); i++) {
+            LocalDateTime start = now.plusDays(1 + random.nextInt(60)).withNano(0);
+            events.add(Event.builder()
+                    .title(TOPICS[i % TOPICS.length] + " meetup " + i)
+                    .description("Open to all departments")
+                    .startTime(start)
+                    .endTime(start.plusHours(2))
+                    .club(clubs.get(i % clubs.size()))
+                    .createdBy(userRows.get(i % users))
+                    .approvalStatus(EventApprovalStatus.APPROVED)
+                    .build());
+        }
+        events = context.getBean(EventRepository.class).saveAll(events);
+
+        List<MarketplaceItem> items = new ArrayList<>();
+        for (int i = 0; i < users * 2; i++) {
+            String item = ITEMS[random.nextInt(ITEMS.length)];
+            items.add(MarketplaceItem.builder()
+                    .title("Used " + item + " for sale")
+                    .description("Good condition " + item + ", pick up from hostel")
+                    .price(500.0 + random.nextInt(20_000))
+                    .conditionStatus(random.nextBoolean() ? MarketplaceCondition.USED : MarketplaceCondition.NEW)
+                    .seller(userRows.get(random.nextInt(users)))
+                    .build());
+        }
+        context.getBean(MarketplaceItemRepository.class).saveAll(items);
+
+        List<RideShare> rides = new ArrayList<>();
+        for (int i = 0; i < users / 2; i++) {
+            int place = random.nextInt(PLACES.length);
+            rides.add(RideShare.builder()
+                    .driver(userRows.get(random.nextInt(users)))
+                    .pickupLocation("NUST H-12 Campus")
+                    .pickupLatitude(CAMPUS[0] + jitter(random))
+                    .pickupLongitude(CAMPUS[1] + jitter(random))
+                    .destination(PLACES[place])
+                    .destinationLatitude(PLACE_COORDINATES[place][0] + jitter(random))
+                    .destinationLongitude(PLACE_COORDINATES[place][1] + jitter(random))
+                    .departureTime(now.plusHours(1 + random.nextInt(72)).withNano(0))
+                    .availableSeats(1 + random.nextInt(4))
+                    .pricePerSeat(100.0 + random.nextInt(400))
+                    .build());
+        }
+        context.getBean(RideShareRepository.class).saveAll(rides);
+
+        return new LoadTestDataset(PASSWORD,
+                userRows.stream().map(User::getEmail).toList(),
+                userRows.stream().map(User::getUserId).toList(),
+                posts.stream().map(Post::getPostId).toList(),
+                events.stream().map(Event::getEventId).toList());
+    }
+
+    // Within about a kilometre
+    private static double jitter(Random random) {
+        return (random.nextDouble() - 0.5) * 0.015;
+    }
+}
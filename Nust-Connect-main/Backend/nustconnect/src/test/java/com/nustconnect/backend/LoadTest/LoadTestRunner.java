@@ -0,0 +1,123 @@
+package com.nustconnect.backend.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nustconnect.backend.LoadTest.OpenModelLoadGenerator.Session;
+import com.nustconnect.backend.NustconnectApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Boots the application on a random port, seeds a campus dataset, logs a pool of users in
+// through /api/auth/login and drives CampusScenarios against the REST API at a fixed arrival rate.
+// Settings are system properties (defaults in brackets):
+//   load.profile [test]        Spring profile; "test" is in-memory H2, empty uses application.properties (MySQL)
+//   load.users [500]           seeded users; posts, listings, rides and events scale with it
+//   load.sessions [50]         users logged in to generate traffic
+//   load.rate [30]             scenario arrivals per second
+//   load.warmup-seconds [10]   run but not recorded
+//   load.duration-seconds [60] recorded
+//   load.max-in-flight [500]   arrivals beyond this many running scenarios are dropped and reported
+//   load.burst-size [10]       simultaneous registrations per event burst
+//   load.report [target/load-test-report.json]
+// mvn -P load-test test-compile exec:exec -Dload.rate=100
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String profile = System.getProperty("load.profile", "test");
+        int users = Integer.getInteger("load.users", 500);
+        int sessions = Integer.getInteger("load.sessions", 50);
+        double rate = Double.parseDouble(System.getProperty("load.rate", "30"));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 60));
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 500);
+        int burstSize = Integer.getInteger("load.burst-size", 10);
+        File report = new File(System.getProperty("load.report", "target/load-test-report.json"));
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(NustconnectApplication.class);
+        if (!profile.isBlank()) {
+            builder.profiles(profile);
+        }
+        ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.nustconnect.backend=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.tool.schema=ERROR",
+                "--sql.capture.enabled=false");
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("Seeding %d users into %s%n", users, profile.isBlank() ? "the default profile" : profile);
+            LoadTestDataset dataset = LoadTestDataset.seed(context, users, 42);
+            // The in-memory indexes were built at startup, before the seed data existed
+            SpringApplication application = builder.application();
+            context.publishEvent(new ApplicationReadyEvent(application, args, context, Duration.ZERO));
+
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(baseUrl);
+            List<Session> pool = login(generator, baseUrl, dataset, Math.min(sessions, users));
+            System.out.printf("Running %.1f arrivals/s for %ds after %ds warmup with %d sessions%n",
+                    rate, duration.toSeconds(), warmup.toSeconds(), pool.size());
+
+            OpenModelLoadGenerator.Result result = generator.run(new CampusScenarios(dataset, burstSize).all(), pool,
+                    rate, warmup, duration, maxInFlight);
+
+            System.out.print(LatencyStats.format("Endpoint", result.endpoints()));
+            System.out.print(LatencyStats.format("Scenario (from scheduled arrival)", result.scenarios()));
+            System.out.printf("%nDropped arrivals: %d%n", result.dropped());
+            write(report, rate, result);
+            System.out.println("Report written to " + report.getPath());
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    // One at a time: logins are setup, not load, and a burst of BCrypt checks would only slow startup
+    private static List<Session> login(OpenModelLoadGenerator generator, String baseUrl, LoadTestDataset dataset,
+                                       int count) throws IOException, InterruptedException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String body = "{\"email\":\"" + dataset.emails().get(i) + "\",\"password\":\"" + dataset.password() + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = generator.client().send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed with " + response.statusCode() + ": " + response.body());
+            }
+            JsonNode auth = mapper.readTree(response.body());
+            sessions.add(generator.session(auth.get("userId").asLong(), auth.get("token").asText()));
+        }
+        return sessions;
+    }
+
+    private static void write(File report, double rate, OpenModelLoadGenerator.Result result) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("arrivalsPerSecond", rate);
+        json.put("measuredSeconds", result.measuredSeconds());
+        json.put("dropped", result.dropped());
+        json.put("endpoints", result.endpoints().stream().map(LatencyStats::toJson).toList());
+        json.put("scenarios", result.scenarios().stream().map(LatencyStats::toJson).toList());
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, json);
+    }
+}
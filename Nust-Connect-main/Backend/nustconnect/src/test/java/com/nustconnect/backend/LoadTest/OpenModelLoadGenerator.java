@@ -0,0 +1,179 @@
+package com.nustconnect.backend.LoadTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+// Open workload model: scenarios start on a Poisson arrival schedule at a fixed rate, whether or
+// not earlier ones have finished, so a slow server builds a queue instead of slowing the clients
+// down. Scenario latency is measured from the scheduled arrival, which keeps that queueing time in
+// the numbers (no coordinated omission).
+public class OpenModelLoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final LatencyStats endpointStats = new LatencyStats();
+    private final LatencyStats scenarioStats = new LatencyStats();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long recordFrom = Long.MAX_VALUE;
+
+    public record Scenario(String name, int weight, Function<Session, CompletableFuture<?>> run) {
+    }
+
+    public record Result(double measuredSeconds, long dropped, List<LatencyStats.Row> endpoints,
+                         List<LatencyStats.Row> scenarios) {
+    }
+
+    // One logged-in client; scenarios issue their requests through it
+    public final class Session {
+
+        private final long userId;
+        private final String token;
+
+        public Session(long userId, String token) {
+            this.userId = userId;
+            this.token = token;
+        }
+
+        public long userId() {
+            return userId;
+        }
+
+        public Random random() {
+            return ThreadLocalRandom.current();
+        }
+
+        public CompletableFuture<HttpResponse<String>> get(String label, String path) {
+            return send(label, HttpRequest.newBuilder(uri(path)).GET());
+        }
+
+        public CompletableFuture<HttpResponse<String>> post(String label, String path, String json) {
+            return send(label, HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json)));
+        }
+
+        public CompletableFuture<HttpResponse<String>> delete(String label, String path) {
+            return send(label, HttpRequest.newBuilder(uri(path)).DELETE());
+        }
+
+        // Completes exceptionally on a transport failure or an error status, which ends the scenario
+        // there, the way a user stops at an error page
+        private CompletableFuture<HttpResponse<String>> send(String label, HttpRequest.Builder request) {
+            long start = System.nanoTime();
+            request.header("Authorization", "Bearer " + token).timeout(Duration.ofSeconds(30));
+            return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                    .handle((response, failure) -> {
+                        boolean error = failure != null || response.statusCode() >= 400;
+                        if (start >= recordFrom) {
+                            endpointStats.record(label, System.nanoTime() - start, error);
+                        }
+                        if (failure != null) {
+                            throw new CompletionException(failure);
+                        }
+                        if (error) {
+                            throw new CompletionException(new IllegalStateException(
+                                    label + " returned " + response.statusCode() + ": " + response.body()));
+                        }
+                        return response;
+                    });
+        }
+    }
+
+    public OpenModelLoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Session session(long userId, String token) {
+        return new Session(userId, token);
+    }
+
+    public HttpClient client() {
+        return client;
+    }
+
+    public Result run(List<Scenario> scenarios, List<Session> sessions, double arrivalsPerSecond,
+                      Duration warmup, Duration duration, int maxInFlight) {
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        long end = start + warmup.toNanos() + duration.toNanos();
+        recordFrom = start + warmup.toNanos();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond;
+
+        long next = start;
+        while (true) {
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (next >= end) {
+                break;
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.get() >= maxInFlight) {
+                // The client gave up on keeping the schedule; counted so an overloaded run can't look healthy
+                if (next >= recordFrom) {
+                    dropped.increment();
+                }
+                continue;
+            }
+            Scenario scenario = pick(scenarios, totalWeight, random);
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long scheduled = next;
+            inFlight.incrementAndGet();
+            CompletableFuture<?> running;
+            try {
+                running = scenario.run().apply(session);
+            } catch (RuntimeException e) {
+                running = CompletableFuture.failedFuture(e);
+            }
+            running.whenComplete((ignored, failure) -> {
+                inFlight.decrementAndGet();
+                if (scheduled >= recordFrom) {
+                    scenarioStats.record(scenario.name(), System.nanoTime() - scheduled, failure != null);
+                }
+            });
+        }
+
+        // Let the last arrivals finish so their latencies count
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        double measured = duration.toNanos() / 1e9;
+        return new Result(measured, dropped.sum(), endpointStats.snapshot(measured), scenarioStats.snapshot(measured));
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
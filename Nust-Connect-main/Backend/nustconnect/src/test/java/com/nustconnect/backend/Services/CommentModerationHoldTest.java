@@ -0,0 +1,103 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.PostVisibility;
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Enums.UserRole;
+import com.nustconnect.backend.Models.Comment;
+import com.nustconnect.backend.Models.Post;
+import com.nustconnect.backend.Models.Report;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.Projections.CommentView;
+import com.nustconnect.backend.Repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentModerationHoldTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private User reader;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void createHeldComment() {
+        User admin = newUser("admin");
+        admin.setRole(UserRole.ADMIN);
+        userRepository.save(admin);
+        author = userRepository.save(newUser("author"));
+        reader = userRepository.save(newUser("reader"));
+
+        post = postService.createPost(reader.getUserId(), Post.builder()
+                .contentText("Study group at the library tonight")
+                .visibility(PostVisibility.PUBLIC)
+                .build());
+        comment = commentService.createComment(author.getUserId(), post.getPostId(), "Crypto giveaway, link in bio");
+    }
+
+    @Test
+    void heldCommentIsShownToItsAuthorOnly() {
+        assertTrue(commentService.getCommentById(comment.getCommentId()).getHiddenPendingReview());
+        assertFalse(commentsContain(reader.getEmail()));
+        assertFalse(commentsContain(null));
+        assertTrue(commentsContain(author.getEmail()));
+        assertEquals(0, postService.getPostById(post.getPostId()).getCommentCount());
+    }
+
+    @Test
+    void dismissingTheScreeningReportReleasesComment() {
+        List<Report> reports = reportService.getReportsByTarget(ReportTargetType.COMMENT, comment.getCommentId());
+        assertEquals(1, reports.size());
+        Report report = reports.get(0);
+
+        reportService.dismissReport(report.getId(), report.getReportedBy().getUserId(), "Fine");
+
+        assertFalse(commentService.getCommentById(comment.getCommentId()).getHiddenPendingReview());
+        assertTrue(commentsContain(reader.getEmail()));
+        assertEquals(1, postService.getPostById(post.getPostId()).getCommentCount());
+    }
+
+    @Test
+    void deletingHeldCommentLeavesCountAlone() {
+        commentService.deleteComment(comment.getCommentId());
+
+        assertEquals(0, postService.getPostById(post.getPostId()).getCommentCount());
+    }
+
+    private boolean commentsContain(String viewerEmail) {
+        return commentService.getCommentViewsByPost(post.getPostId(), viewerEmail).stream()
+                .map(CommentView::getCommentId)
+                .anyMatch(comment.getCommentId()::equals);
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "-" + UUID.randomUUID() + "@nust.edu.pk")
+                .passwordHash("hash")
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.ScreeningAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentScreeningServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private ContentScreeningService service;
+
+    @BeforeEach
+    void loadTerms() throws IOException {
+        Path terms = Files.writeString(directory.resolve("terms.txt"), """
+                # test list
+                BLOCK idiot
+                HIDE buy followers
+                FLAG scam*
+                """);
+        service = new ContentScreeningService(null, null);
+        ReflectionTestUtils.setField(service, "termsFile", terms.toString());
+        service.reload();
+    }
+
+    @Test
+    void foldsCaseAndCharacterSwaps() {
+        assertEquals(ScreeningAction.HIDE, service.screen("BUY Followers here").action());
+        assertEquals(ScreeningAction.BLOCK, service.screen("what an 1d10t").action());
+    }
+
+    @Test
+    void matchesWholeWordsOnly() {
+        assertEquals(ScreeningAction.ALLOW, service.screen("idiots").action());
+        assertEquals(ScreeningAction.ALLOW, service.screen("rebuy followers").action());
+        assertEquals(ScreeningAction.ALLOW, service.screen("buy followersx").action());
+        assertEquals(ScreeningAction.HIDE, service.screen("(buy followers!)").action());
+    }
+
+    @Test
+    void prefixTermsMatchLongerWords() {
+        assertEquals(ScreeningAction.FLAG, service.screen("Scammers everywhere").action());
+        assertEquals(ScreeningAction.ALLOW, service.screen("unscammable").action());
+    }
+
+    @Test
+    void strongestActionWinsAndEveryTermIsReported() {
+        ContentScreeningService.ScreeningResult result = service.screen("scam alert, idiot");
+
+        assertEquals(ScreeningAction.BLOCK, result.action());
+        assertEquals(List.of("scam", "idiot"), result.matchedTerms());
+    }
+
+    @Test
+    void cleanTextIsAllowed() {
+        assertEquals(ScreeningAction.ALLOW, service.screen("Study group at the library tonight").action());
+        assertEquals(ScreeningAction.ALLOW, service.screen("").action());
+    }
+}
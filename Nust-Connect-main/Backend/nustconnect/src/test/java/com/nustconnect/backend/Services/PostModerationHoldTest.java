@@ -0,0 +1,97 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Enums.PostVisibility;
+import com.nustconnect.backend.Enums.ReportTargetType;
+import com.nustconnect.backend.Enums.UserRole;
+import com.nustconnect.backend.Models.Post;
+import com.nustconnect.backend.Models.Report;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.Projections.PostListView;
+import com.nustconnect.backend.Repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PostModerationHoldTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private User reader;
+    private Post post;
+
+    @BeforeEach
+    void createHeldPost() {
+        User admin = newUser("admin");
+        admin.setRole(UserRole.ADMIN);
+        userRepository.save(admin);
+        author = userRepository.save(newUser("author"));
+        reader = userRepository.save(newUser("reader"));
+
+        post = postService.createPost(author.getUserId(), Post.builder()
+                .contentText("Want to buy followers? DM me")
+                .visibility(PostVisibility.PUBLIC)
+                .build());
+    }
+
+    @Test
+    void authorCannotRepublishHeldPost() {
+        postService.updatePostVisibility(post.getPostId(), PostVisibility.PUBLIC);
+
+        assertTrue(postService.getPostById(post.getPostId()).getHiddenPendingReview());
+        assertFalse(postService.canUserViewPost(post.getPostId(), reader.getUserId()));
+        assertTrue(postService.canUserViewPost(post.getPostId(), author.getUserId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> postService.getVisiblePostById(post.getPostId(), reader.getEmail()));
+        assertFalse(feedContains(reader.getEmail()));
+        assertTrue(feedContains(author.getEmail()));
+        assertTrue(postService.getPostViewsByUser(author.getUserId(), reader.getEmail()).isEmpty());
+    }
+
+    @Test
+    void dismissingTheScreeningReportReleasesPost() {
+        List<Report> reports = reportService.getReportsByTarget(ReportTargetType.POST, post.getPostId());
+        assertEquals(1, reports.size());
+        Report report = reports.get(0);
+
+        reportService.dismissReport(report.getId(), report.getReportedBy().getUserId(), "Fine");
+
+        assertFalse(postService.getPostById(post.getPostId()).getHiddenPendingReview());
+        assertTrue(postService.canUserViewPost(post.getPostId(), reader.getUserId()));
+        assertTrue(feedContains(reader.getEmail()));
+    }
+
+    private boolean feedContains(String viewerEmail) {
+        return postService.getActivePostViews(viewerEmail, PageRequest.of(0, 100)).stream()
+                .map(PostListView::getPostId)
+                .anyMatch(post.getPostId()::equals);
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "-" + UUID.randomUUID() + "@nust.edu.pk")
+                .passwordHash("hash")
+                .build();
+    }
+}
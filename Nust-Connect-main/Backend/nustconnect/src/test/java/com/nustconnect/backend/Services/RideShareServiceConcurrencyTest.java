@@ -0,0 +1,110 @@
+package com.nustconnect.backend.Services;
+
+import com.nustconnect.backend.Models.RideRequest;
+import com.nustconnect.backend.Models.RideShare;
+import com.nustconnect.backend.Models.User;
+import com.nustconnect.backend.Repositories.RideRequestRepository;
+import com.nustconnect.backend.Repositories.RideShareRepository;
+import com.nustconnect.backend.Repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RideShareServiceConcurrencyTest {
+
+    private static final int SEATS = 5;
+    private static final int PASSENGERS = 24;
+
+    @Autowired
+    private RideShareService rideShareService;
+
+    @Autowired
+    private RideShareRepository rideRepository;
+
+    @Autowired
+    private RideRequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentAcceptsNeverOverbookRide() throws Exception {
+        User driver = userRepository.save(newUser("driver"));
+        RideShare ride = rideRepository.save(RideShare.builder()
+                .driver(driver)
+                .pickupLocation("NUST H-12")
+                .destination("F-7 Markaz")
+                .departureTime(LocalDateTime.now().plusDays(1))
+                .availableSeats(SEATS)
+                .build());
+
+        List<Long> requestIds = new ArrayList<>();
+        for (int i = 0; i < PASSENGERS; i++) {
+            User passenger = userRepository.save(newUser("passenger" + i));
+            RideRequest request = requestRepository.save(RideRequest.builder()
+                    .ride(ride)
+                    .passenger(passenger)
+                    .seatsRequested(i % 3 == 0 ? 2 : 1)
+                    .build());
+            requestIds.add(request.getRequestId());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long requestId : requestIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    rideShareService.acceptRequest(requestId);
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        RideShare reloaded = rideRepository.findById(ride.getRideId()).orElseThrow();
+        int acceptedSeats = requestRepository.findByRideRideIdAndStatus(ride.getRideId(), "ACCEPTED").stream()
+                .mapToInt(RideRequest::getSeatsRequested)
+                .sum();
+
+        assertTrue(reloaded.getAvailableSeats() >= 0, "available seats went negative");
+        assertEquals(SEATS - acceptedSeats, reloaded.getAvailableSeats());
+        assertTrue(rejected.get() > 0, "expected some accepts to be refused");
+        if (reloaded.getAvailableSeats() == 0) {
+            assertEquals("FULL", reloaded.getStatus());
+        }
+    }
+
+    private User newUser(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "-" + UUID.randomUUID() + "@nust.edu.pk")
+                .passwordHash("hash")
+                .build();
+    }
+}
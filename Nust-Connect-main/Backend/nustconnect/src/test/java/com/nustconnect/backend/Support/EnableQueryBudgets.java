@@ -0,0 +1,19 @@
+package com.nustconnect.backend.Support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Records the SQL of every MockMvc request and checks it against @QueryBudget after each test.
+// Use with @SpringBootTest, @AutoConfigureMockMvc (filters on) and the test profile, which
+// turns on sql.capture.enabled.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryBudgetConfiguration.class)
+public @interface EnableQueryBudgets {
+}
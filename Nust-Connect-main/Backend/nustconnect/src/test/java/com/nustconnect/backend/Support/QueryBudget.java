@@ -0,0 +1,15 @@
+package com.nustconnect.backend.Support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maximum SQL statements any single MockMvc request in the test may run. On a class it applies
+// to every test method that does not declare its own. Needs @EnableQueryBudgets on the class.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int max();
+}
@@ -0,0 +1,14 @@
+package com.nustconnect.backend.Support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class QueryBudgetConfiguration {
+
+    @Bean
+    public MockMvcBuilderCustomizer queryBudgetRecorder() {
+        return builder -> builder.alwaysDo(QueryBudgetRecorder::record);
+    }
+}
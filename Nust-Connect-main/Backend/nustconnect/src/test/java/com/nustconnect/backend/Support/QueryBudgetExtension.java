@@ -0,0 +1,65 @@
+package com.nustconnect.backend.Support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryBudgetRecorder.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<QueryBudgetRecorder.RecordedRequest> requests = QueryBudgetRecorder.stop();
+        Optional<QueryBudget> budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class));
+        if (budget.isEmpty() || context.getExecutionException().isPresent()) {
+            return;
+        }
+        int max = budget.get().max();
+        if (requests.isEmpty()) {
+            throw new AssertionError("@QueryBudget declared but no MockMvc request was recorded; "
+                    + "is the RequestMetricsFilter in the MockMvc filter chain?");
+        }
+
+        StringBuilder failures = new StringBuilder();
+        for (QueryBudgetRecorder.RecordedRequest request : requests) {
+            int executed = Math.max(request.statements(), request.sql().size());
+            if (executed <= max) {
+                continue;
+            }
+            failures.append("\n").append(request.request()).append(" ran ").append(executed)
+                    .append(" SQL statements, budget is ").append(max).append(":");
+            if (request.sql().isEmpty()) {
+                failures.append("\n    (statement text not captured; set sql.capture.enabled=true)");
+            }
+            for (Map.Entry<String, Integer> statement : group(request.sql()).entrySet()) {
+                failures.append("\n    ").append(statement.getValue()).append(" x ").append(statement.getKey());
+            }
+            if (request.truncated()) {
+                failures.append("\n    ... (capture truncated)");
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("Query budget exceeded" + failures);
+        }
+    }
+
+    // Identical statements are listed once with a count, which makes N+1 loops obvious
+    private static Map<String, Integer> group(List<String> sql) {
+        Map<String, Integer> grouped = new LinkedHashMap<>();
+        for (String statement : sql) {
+            grouped.merge(statement.replaceAll("\\s+", " ").strip(), 1, Integer::sum);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,47 @@
+package com.nustconnect.backend.Support;
+
+import com.nustconnect.backend.Config.RequestQueryStats;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// MockMvc runs requests on the test thread, so a thread-local list is enough
+public final class QueryBudgetRecorder {
+
+    private static final ThreadLocal<List<RecordedRequest>> REQUESTS = new ThreadLocal<>();
+
+    public record RecordedRequest(String request, int statements, List<String> sql, boolean truncated) {
+    }
+
+    private QueryBudgetRecorder() {
+    }
+
+    static void start() {
+        REQUESTS.set(new ArrayList<>());
+    }
+
+    static List<RecordedRequest> stop() {
+        List<RecordedRequest> requests = REQUESTS.get();
+        REQUESTS.remove();
+        return requests != null ? requests : List.of();
+    }
+
+    // The requests recorded so far in the current test, for assertions on a single call
+    public static List<RecordedRequest> getRequests() {
+        List<RecordedRequest> requests = REQUESTS.get();
+        return requests != null ? List.copyOf(requests) : List.of();
+    }
+
+    static void record(MvcResult result) {
+        List<RecordedRequest> requests = REQUESTS.get();
+        HttpServletRequest request = result.getRequest();
+        if (requests == null || !(request.getAttribute(RequestQueryStats.ATTRIBUTE) instanceof RequestQueryStats stats)) {
+            return;
+        }
+        String query = request.getQueryString() != null ? "?" + request.getQueryString() : "";
+        requests.add(new RecordedRequest(request.getMethod() + " " + request.getRequestURI() + query,
+                stats.getStatements(), List.copyOf(stats.getCapturedSql()), stats.isCaptureTruncated()));
+    }
+}
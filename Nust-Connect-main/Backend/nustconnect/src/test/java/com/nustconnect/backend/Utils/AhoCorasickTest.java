@@ -0,0 +1,104 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickTest {
+
+    @Test
+    void findsOverlappingMatches() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("he", "she", "his", "hers"));
+
+        assertEquals(Set.of(
+                new AhoCorasick.Match(1, 1, 4),
+                new AhoCorasick.Match(0, 2, 4),
+                new AhoCorasick.Match(3, 2, 6)), new HashSet<>(automaton.findAll("ushers")));
+    }
+
+    @Test
+    void findsNestedMatchesThroughFailureLinks() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("abcd", "bc", "c", "abc"));
+
+        assertEquals(Set.of(
+                new AhoCorasick.Match(3, 0, 3),
+                new AhoCorasick.Match(1, 1, 3),
+                new AhoCorasick.Match(2, 2, 3),
+                new AhoCorasick.Match(0, 0, 4)), new HashSet<>(automaton.findAll("abcd")));
+    }
+
+    @Test
+    void findsEveryOccurrenceOfARepeatedPattern() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("aa"));
+
+        assertEquals(List.of(
+                new AhoCorasick.Match(0, 0, 2),
+                new AhoCorasick.Match(0, 1, 3),
+                new AhoCorasick.Match(0, 2, 4)), automaton.findAll("aaaa"));
+    }
+
+    // Boundaries and case are the caller's job (see ContentScreeningService); the automaton is exact
+    @Test
+    void matchesExactCharactersOnly() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("spam"));
+
+        assertTrue(automaton.findAll("SPAM").isEmpty());
+        assertEquals(List.of(new AhoCorasick.Match(0, 2, 6)), automaton.findAll("myspamming"));
+    }
+
+    @Test
+    void emptyPatternListMatchesNothing() {
+        assertTrue(AhoCorasick.build(List.of()).findAll("anything").isEmpty());
+    }
+
+    @Test
+    void visitorCanStopTheScan() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("a"));
+        List<Integer> starts = new ArrayList<>();
+
+        automaton.scan("aaaa", (pattern, start, end) -> {
+            starts.add(start);
+            return starts.size() < 2;
+        });
+
+        assertEquals(List.of(0, 1), starts);
+    }
+
+    @Test
+    void agreesWithNaiveSearch() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                patterns.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            String text = randomText(random, 60);
+
+            Set<AhoCorasick.Match> expected = new HashSet<>();
+            for (int p = 0; p < patterns.size(); p++) {
+                String pattern = patterns.get(p);
+                for (int start = text.indexOf(pattern); start >= 0; start = text.indexOf(pattern, start + 1)) {
+                    expected.add(new AhoCorasick.Match(p, start, start + pattern.length()));
+                }
+            }
+
+            assertEquals(expected, new HashSet<>(AhoCorasick.build(patterns).findAll(text)), "patterns " + patterns);
+        }
+    }
+
+    // A three-letter alphabet so patterns overlap and share prefixes often
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BkTreeTest {
+
+    @Test
+    void searchReturnsExactlyTheHashesWithinRadius() {
+        Random random = new Random(11);
+        long[] hashes = new long[2_000];
+        BkTree tree = new BkTree();
+        for (int id = 0; id < hashes.length; id++) {
+            // Half random, half a few bits away from a shared base, so both near and far branches are walked
+            hashes[id] = id % 2 == 0 ? random.nextLong() : flipBits(0x0F0F_F0F0_0F0F_F0F0L, random, random.nextInt(16));
+            tree.add(hashes[id], id);
+        }
+
+        for (int radius : new int[]{0, 4, 10, 20}) {
+            long query = flipBits(0x0F0F_F0F0_0F0F_F0F0L, random, 3);
+            Set<Long> expected = new HashSet<>();
+            for (int id = 0; id < hashes.length; id++) {
+                if (PerceptualHash.distance(query, hashes[id]) <= radius) {
+                    expected.add((long) id);
+                }
+            }
+
+            assertTrue(radius == 0 || !expected.isEmpty(), "radius " + radius + " should find something");
+            List<BkTree.Match> matches = tree.search(query, radius);
+
+            assertEquals(expected, matches.stream().map(BkTree.Match::id).collect(Collectors.toSet()), "radius " + radius);
+            assertEquals(expected.size(), matches.size());
+            for (BkTree.Match match : matches) {
+                assertEquals(PerceptualHash.distance(query, match.hash()), match.distance());
+            }
+        }
+    }
+
+    @Test
+    void keepsEveryIdForADuplicateHash() {
+        BkTree tree = new BkTree();
+        tree.add(0xABCDL, 1);
+        tree.add(0xABCDL, 2);
+        tree.add(0xABCDL, 2);
+
+        assertEquals(2, tree.size());
+        assertEquals(Set.of(1L, 2L), tree.search(0xABCDL, 0).stream().map(BkTree.Match::id).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void removedIdsAreNoLongerFoundButOthersStillRoute() {
+        BkTree tree = new BkTree();
+        tree.add(0L, 1);
+        tree.add(0b1L, 2);
+        tree.add(0b11L, 3);
+
+        assertTrue(tree.remove(0L, 1));
+        assertFalse(tree.remove(0L, 1));
+
+        assertEquals(Set.of(2L, 3L), tree.search(0L, 2).stream().map(BkTree.Match::id).collect(Collectors.toSet()));
+        assertEquals(2, tree.size());
+    }
+
+    private static long flipBits(long hash, Random random, int count) {
+        List<Integer> positions = new ArrayList<>();
+        for (int bit = 0; bit < 64; bit++) {
+            positions.add(bit);
+        }
+        Collections.shuffle(positions, random);
+        for (int i = 0; i < count; i++) {
+            hash ^= 1L << positions.get(i);
+        }
+        return hash;
+    }
+}
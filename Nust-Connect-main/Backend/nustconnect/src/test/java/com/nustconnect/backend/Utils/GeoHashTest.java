@@ -0,0 +1,89 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoHashTest {
+
+    private static final double[][] POINTS = {
+            {33.6425, 72.9930},     // NUST H-12
+            {57.64911, 10.40744},
+            {-33.8688, 151.2093},
+            {40.7128, -74.0060},
+            {0.0, 0.0},
+            {-89.9, -179.9},
+            {89.9, 179.9}
+    };
+
+    @Test
+    void encodesKnownHash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("u4pru", GeoHash.encode(57.64911, 10.40744, 5));
+    }
+
+    @Test
+    void decodeReturnsCellContainingOriginalPoint() {
+        for (int precision = 1; precision <= 9; precision++) {
+            double halfHeight = GeoHash.cellHeightDegrees(precision) / 2;
+            double halfWidth = GeoHash.cellWidthDegrees(precision) / 2;
+            for (double[] point : POINTS) {
+                String hash = GeoHash.encode(point[0], point[1], precision);
+                GeoPoint centre = GeoHash.decode(hash);
+
+                assertEquals(point[0], centre.latitude(), halfHeight, hash);
+                assertEquals(point[1], centre.longitude(), halfWidth, hash);
+                assertEquals(hash, GeoHash.encode(centre.latitude(), centre.longitude(), precision));
+            }
+        }
+    }
+
+    @Test
+    void rejectsCharactersOutsideTheAlphabet() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.decode("u4pa"));
+    }
+
+    @Test
+    void coveringCellsIncludeNeighboursAcrossCellEdges() {
+        int precision = 6;
+        double width = GeoHash.cellWidthDegrees(precision);
+        double height = GeoHash.cellHeightDegrees(precision);
+        GeoPoint centre = GeoHash.decode(GeoHash.encode(33.6425, 72.9930, precision));
+        double eastEdge = centre.longitude() + width / 2;
+        double northEdge = centre.latitude() + height / 2;
+
+        // Just inside the north-east corner of the cell; the neighbours just over each edge must be covered
+        double lat = northEdge - 1e-7;
+        double lon = eastEdge - 1e-7;
+        Set<String> cells = GeoHash.coveringCells(lat, lon, precision);
+
+        assertEquals(9, cells.size());
+        assertTrue(cells.contains(GeoHash.encode(lat, lon, precision)));
+        assertTrue(cells.contains(GeoHash.encode(lat, eastEdge + 1e-7, precision)));
+        assertTrue(cells.contains(GeoHash.encode(northEdge + 1e-7, lon, precision)));
+        assertTrue(cells.contains(GeoHash.encode(northEdge + 1e-7, eastEdge + 1e-7, precision)));
+    }
+
+    @Test
+    void coveringCellsWrapAroundTheAntimeridian() {
+        Set<String> cells = GeoHash.coveringCells(10.0, 179.999, 5);
+
+        assertTrue(cells.contains(GeoHash.encode(10.0, -179.999, 5)));
+    }
+
+    @Test
+    void precisionForRadiusKeepsCellsAtLeastRadiusWide() {
+        double radiusKm = 2.0;
+        int precision = GeoHash.precisionForRadius(radiusKm, 33.6425, 9);
+        double kmPerDegree = 111.32;
+
+        assertTrue(GeoHash.cellHeightDegrees(precision) * kmPerDegree >= radiusKm);
+        assertTrue(GeoHash.cellWidthDegrees(precision) * kmPerDegree * Math.cos(Math.toRadians(33.6425)) >= radiusKm);
+        assertTrue(GeoHash.cellHeightDegrees(precision + 1) * kmPerDegree < radiusKm
+                || GeoHash.cellWidthDegrees(precision + 1) * kmPerDegree * Math.cos(Math.toRadians(33.6425)) < radiusKm);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HyperLogLogTest {
+
+    // Three standard errors at the default precision (~2.3% each)
+    private static final double TOLERANCE = 0.07;
+
+    @Test
+    void estimatesTenThousandDistinctValues() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("user:" + i);
+        }
+
+        assertWithinTolerance(10_000, sketch.estimate());
+    }
+
+    @Test
+    void repeatedValuesCountOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("user:42");
+        }
+
+        assertEquals(1, sketch.estimate());
+    }
+
+    @Test
+    void smallSparseCountsAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 40; i++) {
+            sketch.add("ip:10.0.0." + i);
+        }
+
+        assertEquals(40, sketch.estimate(), 1);
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void mergeCountsTheUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 6_000; i++) {
+            first.add("user:" + i);
+        }
+        for (int i = 4_000; i < 10_000; i++) {
+            second.add("user:" + i);
+        }
+
+        first.merge(second);
+
+        assertWithinTolerance(10_000, first.estimate());
+    }
+
+    @Test
+    void mergeOfSparseSketchesMatchesOneSketch() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog both = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            (i % 2 == 0 ? first : second).add(i);
+            both.add(i);
+        }
+
+        first.merge(second);
+
+        assertEquals(both.estimate(), first.estimate());
+    }
+
+    @Test
+    void survivesSerialization() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add(i);
+        }
+
+        assertEquals(sketch.estimate(), HyperLogLog.fromBytes(sketch.toBytes()).estimate());
+    }
+
+    @Test
+    void rejectsMergeAcrossPrecisions() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(12)));
+    }
+
+    private static void assertWithinTolerance(long expected, long actual) {
+        assertEquals(expected, actual, expected * TOLERANCE, "estimate " + actual);
+    }
+}
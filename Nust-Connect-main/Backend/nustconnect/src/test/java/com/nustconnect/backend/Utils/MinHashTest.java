@@ -0,0 +1,72 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    // Same banding as lost and found matching
+    private final MinHash minHash = new MinHash(32, 2, 0x4c6f7374L);
+
+    @Test
+    void similarSetsShareABucket() {
+        // Jaccard 90 / 110 ~ 0.82
+        long[] first = minHash.signature(shingles(0, 100));
+        long[] second = minHash.signature(shingles(10, 110));
+
+        assertTrue(shareBucket(first, second));
+        assertEquals(0.82, MinHash.similarity(first, second), 0.15);
+    }
+
+    @Test
+    void disjointSetsDoNotShareABucket() {
+        long[] first = minHash.signature(shingles(0, 100));
+        long[] second = minHash.signature(shingles(1_000, 1_100));
+
+        assertFalse(shareBucket(first, second));
+        assertEquals(0.0, MinHash.similarity(first, second), 0.05);
+    }
+
+    @Test
+    void identicalSetsHaveIdenticalKeys() {
+        long[] first = minHash.signature(shingles(0, 20));
+        long[] second = minHash.signature(shingles(0, 20));
+
+        assertEquals(1.0, MinHash.similarity(first, second));
+        assertArrayEquals(minHash.bandKeys(first), minHash.bandKeys(second));
+    }
+
+    @Test
+    void emptySetsAreNotSimilar() {
+        long[] empty = minHash.signature(List.of());
+
+        assertEquals(0.0, MinHash.similarity(empty, empty));
+        assertEquals(64, minHash.getSignatureLength());
+        assertEquals(32, minHash.bandKeys(empty).length);
+    }
+
+    private boolean shareBucket(long[] first, long[] second) {
+        long[] firstKeys = minHash.bandKeys(first);
+        long[] secondKeys = minHash.bandKeys(second);
+        for (int band = 0; band < firstKeys.length; band++) {
+            if (firstKeys[band] == secondKeys[band]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> shingles(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "w:" + i).collect(Collectors.toCollection(HashSet::new));
+    }
+}
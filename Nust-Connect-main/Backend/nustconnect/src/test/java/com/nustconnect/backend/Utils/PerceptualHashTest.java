@@ -0,0 +1,75 @@
+package com.nustconnect.backend.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerceptualHashTest {
+
+    @Test
+    void rescaledAndBrightenedCopiesStayClose() {
+        BufferedImage photo = scene(400, 300, 0);
+        long hash = PerceptualHash.dHash(photo);
+
+        assertTrue(PerceptualHash.distance(hash, PerceptualHash.dHash(resize(photo, 160, 120))) <= 4);
+        assertTrue(PerceptualHash.distance(hash, PerceptualHash.dHash(scene(400, 300, 40))) <= 4);
+    }
+
+    @Test
+    void differentImagesAreFarApart() {
+        long hash = PerceptualHash.dHash(scene(400, 300, 0));
+        long mirrored = PerceptualHash.dHash(mirror(scene(400, 300, 0)));
+
+        assertTrue(PerceptualHash.distance(hash, mirrored) > 20);
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertEquals(0, PerceptualHash.distance(0x1234L, 0x1234L));
+        assertEquals(64, PerceptualHash.distance(0L, -1L));
+        assertEquals(3, PerceptualHash.distance(0b1011L, 0b0000L));
+    }
+
+    // A dark-to-light gradient with a few shapes on it; brightness shifts every pixel up evenly
+    private static BufferedImage scene(int width, int height, int brightness) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            int level = Math.min(255, x * 200 / width + brightness);
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, new Color(level, level, level).getRGB());
+            }
+        }
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(Math.min(255, 230 + brightness / 4), 40, 40));
+        g.fillRect(width / 8, height / 4, width / 5, height / 2);
+        g.setColor(new Color(20, 20, Math.min(255, 120 + brightness)));
+        g.fillOval(width * 5 / 8, height / 8, width / 4, height / 3);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return resized;
+    }
+
+    private static BufferedImage mirror(BufferedImage source) {
+        BufferedImage mirrored = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < source.getWidth(); x++) {
+            for (int y = 0; y < source.getHeight(); y++) {
+                mirrored.setRGB(source.getWidth() - 1 - x, y, source.getRGB(x, y));
+            }
+        }
+        return mirrored;
+    }
+}
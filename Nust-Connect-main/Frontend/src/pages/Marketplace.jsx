@@ -318,8 +318,8 @@ const Marketplace = () => {
                         >
                             <div className={`aspect-square bg-gradient-to-br ${getImageGradient(item.categoryName?.toLowerCase() || 'other')} relative overflow-hidden`}>
                                 <div className="absolute inset-0 bg-black/10 group-hover:bg-black/0 transition-colors" />
-                                {item.imageUrls && item.imageUrls.length > 0 ? (
-                                    <img src={item.imageUrls[0]} alt={item.title} className="w-full h-full object-cover" />
+                                {item.thumbnailUrl ? (
+                                    <img src={item.thumbnailUrl} alt={item.title} className="w-full h-full object-cover" />
                                 ) : (
                                     <div className="absolute inset-0 flex items-center justify-center">
                                         <ShoppingBag size={64} className="text-white/30" />